@@ -0,0 +1,139 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.BatchRunner;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ColabFolder;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyColabFolder;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonColabFolderStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Runs commands from a file or standard input against the data file, without starting the JavaFX UI.
+ * Usage: {@code java -jar CoLAB.jar --batch[=FILE] [--checkpoint=N] [--config=PATH]}.
+ * Unlike the UI, the config and user prefs files are only read, and a data file that cannot be read stops the run
+ * instead of being replaced with an empty CoLAB folder.
+ */
+public class BatchApp {
+
+    public static final String BATCH_PARAMETER = "--batch";
+    public static final String CHECKPOINT_PARAMETER = "--checkpoint=";
+    public static final String CONFIG_PARAMETER = "--config=";
+    public static final String MESSAGE_NOT_RUN = "Batch could not be run: ";
+
+    /** Exit status when every command succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+    /** Exit status when some commands failed. */
+    public static final int EXIT_COMMANDS_FAILED = 1;
+    /** Exit status when the batch could not be run at all. */
+    public static final int EXIT_NOT_RUN = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BatchApp.class);
+
+    /**
+     * Returns true if {@code args} ask for the application to run in batch mode.
+     */
+    public static boolean isBatch(String[] args) {
+        for (String arg : args) {
+            if (arg.equals(BATCH_PARAMETER) || arg.startsWith(BATCH_PARAMETER + "=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs the batch described by {@code args} and returns the exit status.
+     */
+    public static int run(String[] args) {
+        PrintWriter output = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        try {
+            return run(args, output);
+        } finally {
+            output.flush();
+        }
+    }
+
+    private static int run(String[] args, PrintWriter output) {
+        Path commandsPath = null;
+        int checkpointInterval = 0;
+        Path configPath = Config.DEFAULT_CONFIG_FILE;
+        try {
+            for (String arg : args) {
+                if (arg.startsWith(BATCH_PARAMETER + "=")) {
+                    commandsPath = parsePath(arg.substring(BATCH_PARAMETER.length() + 1));
+                } else if (arg.startsWith(CHECKPOINT_PARAMETER)) {
+                    checkpointInterval = Integer.parseInt(arg.substring(CHECKPOINT_PARAMETER.length()));
+                } else if (arg.startsWith(CONFIG_PARAMETER)) {
+                    configPath = parsePath(arg.substring(CONFIG_PARAMETER.length()));
+                }
+            }
+
+            Config config = ConfigUtil.readConfig(configPath).orElse(new Config());
+            LogsCenter.init(config);
+            UserPrefs userPrefs = new JsonUserPrefsStorage(config.getUserPrefsFilePath()).readUserPrefs()
+                    .orElse(new UserPrefs());
+            Storage storage = new StorageManager(new JsonColabFolderStorage(userPrefs.getColabFolderFilePath()),
+                    new JsonUserPrefsStorage(config.getUserPrefsFilePath()));
+            Optional<ReadOnlyColabFolder> colabFolder = storage.readColabFolder();
+            if (colabFolder.isEmpty()) {
+                logger.info("Data file not found. Will be starting with an empty CoLAB Folder");
+            }
+
+            Logic logic = new LogicManager(new ModelManager(colabFolder.orElseGet(ColabFolder::new), userPrefs),
+                    storage);
+            BatchRunner batchRunner = new BatchRunner(logic, checkpointInterval);
+            int failedCount;
+            try (BufferedReader commands = openCommands(commandsPath)) {
+                failedCount = batchRunner.run(commands, output);
+            } finally {
+                logic.shutdown();
+            }
+            return failedCount == 0 ? EXIT_SUCCESS : EXIT_COMMANDS_FAILED;
+        } catch (IllegalArgumentException | DataConversionException | IOException e) {
+            logger.severe(MESSAGE_NOT_RUN + e);
+            BatchRunner.writeError(output, MESSAGE_NOT_RUN + e.getMessage());
+            return EXIT_NOT_RUN;
+        }
+    }
+
+    private static Path parsePath(String path) {
+        if (!FileUtil.isValidPath(path)) {
+            throw new IllegalArgumentException("Invalid path " + path);
+        }
+        return Paths.get(path);
+    }
+
+    /**
+     * Opens the commands at {@code commandsPath}, or standard input if {@code commandsPath} is null.
+     */
+    private static BufferedReader openCommands(Path commandsPath) throws IOException {
+        if (commandsPath == null) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(commandsPath, StandardCharsets.UTF_8);
+    }
+}
@@ -17,9 +17,15 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Main also runs commands without the UI when given {@code --batch}. See {@link BatchApp}.
  */
 public class Main {
     public static void main(String[] args) {
+        // batch mode never touches the JavaFX toolkit, so it starts quickly and runs without a display
+        if (BatchApp.isBatch(args)) {
+            System.exit(BatchApp.run(args));
+        }
         Application.launch(MainApp.class, args);
     }
 }
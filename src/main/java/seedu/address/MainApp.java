@@ -2,12 +2,16 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DayRolloverScheduler;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -21,6 +25,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyColabFolder;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.reminder.ReminderService;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.ColabFolderStorage;
 import seedu.address.storage.JsonColabFolderStorage;
@@ -38,13 +43,21 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 4, 1, true);
 
+    private static final int API_THREAD_COUNT = 4;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    // the one clock every part of the app takes the date of today from, so they agree on it
+    private final Clock clock = Clock.systemDefaultZone();
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected DayRolloverScheduler dayRolloverScheduler;
+    protected ApiServer apiServer;
+    protected ReminderService reminderService;
 
     @Override
     public void init() throws Exception {
@@ -63,9 +76,51 @@ public class MainApp extends Application {
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, LogicManager.DEFAULT_FOLDER_CACHE_BUDGET, Platform::runLater);
 
         ui = new UiManager(logic);
+
+        dayRolloverScheduler = new DayRolloverScheduler(clock,
+                () -> Platform.runLater(logic::refreshDate));
+
+        apiServer = initApiServer(config, logic);
+
+        reminderService = initReminderService(config, logic);
+    }
+
+    /**
+     * Returns a {@code ReminderService} over the projects of {@code logic} with the reminder lead times of
+     * {@code config}, or null if the lead times are invalid.
+     */
+    private ReminderService initReminderService(Config config, Logic logic) {
+        try {
+            return new ReminderService(logic.getColabFolder().getProjectsList(), clock,
+                    config.getDeadlineReminderLeadTimes(), config.getEventReminderLeadTimes(),
+                    reminders -> Platform.runLater(() -> ui.showReminders(reminders)));
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid reminder lead times in the config file. Reminders will be off. "
+                    + StringUtil.getDetails(e));
+            return null;
+        }
+    }
+
+    /**
+     * Returns an {@code ApiServer} for {@code logic} on the API port of {@code config}, or null if the API is
+     * turned off or the port could not be opened.
+     */
+    private ApiServer initApiServer(Config config, Logic logic) {
+        if (config.getApiPort() == 0) {
+            return null;
+        }
+
+        try {
+            return new ApiServer(logic, Platform::runLater, clock, config.getApiPort(),
+                    API_THREAD_COUNT);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Could not open port " + config.getApiPort() + " for the API. The API will be off. "
+                    + StringUtil.getDetails(e));
+            return null;
+        }
     }
 
     /**
@@ -91,7 +146,7 @@ public class MainApp extends Application {
             initialColabFolderData = new ColabFolder();
         }
 
-        return new ModelManager(initialColabFolderData, userPrefs);
+        return new ModelManager(initialColabFolderData, userPrefs, clock);
     }
 
     private void initLogging(Config config) {
@@ -170,11 +225,26 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting CoLAB " + MainApp.VERSION);
         ui.start(primaryStage);
+        dayRolloverScheduler.start();
+        if (apiServer != null) {
+            apiServer.start();
+        }
+        if (reminderService != null) {
+            reminderService.start();
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping CoLAB ] =============================");
+        dayRolloverScheduler.stop();
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        if (reminderService != null) {
+            reminderService.stop();
+        }
+        logic.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
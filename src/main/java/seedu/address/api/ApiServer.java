@@ -0,0 +1,437 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyColabFolder;
+import seedu.address.model.agenda.AgendaEntry;
+import seedu.address.model.agenda.AgendaRange;
+import seedu.address.model.search.GlobalSearchIndex;
+
+/**
+ * Serves CoLAB's data as JSON over HTTP to tools on the same machine, and runs commands sent by them.
+ * The server only listens on the loopback interface.
+ *
+ * Reads are served concurrently by a pool of threads from the latest snapshot published by the model, so they see
+ * the data as it was after some command, and never wait for or block the thread that changes the model. Commands are
+ * run on the model executor, the thread the UI runs its commands on, and are answered once the data has been saved.
+ *
+ * Endpoints:
+ * <ul>
+ *     <li>{@code GET /api/contacts} lists the contacts.</li>
+ *     <li>{@code GET /api/projects} lists the projects with their events, deadlines, todos and groupmates.</li>
+ *     <li>{@code GET /api/agenda?from=DATE&to=DATE&limit=N} lists the event occurrences and deadlines from
+ *     {@code from} (today by default) to {@code to} (a week later by default), in time order.</li>
+ *     <li>{@code GET /api/search?q=TEXT} lists the items of all projects whose name or description contains
+ *     {@code TEXT}.</li>
+ *     <li>{@code POST /api/commands} with a JSON body {@code {"command": "COMMAND"}} runs a command.</li>
+ * </ul>
+ */
+public class ApiServer {
+
+    public static final String CONTACTS_PATH = "/api/contacts";
+    public static final String PROJECTS_PATH = "/api/projects";
+    public static final String AGENDA_PATH = "/api/agenda";
+    public static final String SEARCH_PATH = "/api/search";
+    public static final String COMMANDS_PATH = "/api/commands";
+
+    public static final int STATUS_OK = 200;
+    public static final int STATUS_BAD_REQUEST = 400;
+    public static final int STATUS_FORBIDDEN = 403;
+    public static final int STATUS_NOT_FOUND = 404;
+    public static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    public static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    public static final int STATUS_INTERNAL_ERROR = 500;
+    public static final int STATUS_UNAVAILABLE = 503;
+
+    public static final int DEFAULT_AGENDA_DAYS = 7;
+    public static final int DEFAULT_AGENDA_LIMIT = 100;
+    public static final int MAX_AGENDA_LIMIT = 1000;
+
+    public static final String MESSAGE_NOT_FOUND = "There is no endpoint at %1$s.";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s only accepts %2$s requests.";
+    public static final String MESSAGE_FORBIDDEN_HOST = "Requests must be addressed to localhost.";
+    public static final String MESSAGE_JSON_REQUIRED = "Commands must be sent as application/json.";
+    public static final String MESSAGE_INVALID_COMMAND_REQUEST = "The body must be a JSON object with a \"command\" "
+            + "string, such as {\"command\": \"listC\"}.";
+    public static final String MESSAGE_INVALID_DATE = "Dates must be given as YYYY-MM-DD: %1$s";
+    public static final String MESSAGE_INVALID_LIMIT = "The limit must be a number from 1 to " + MAX_AGENDA_LIMIT
+            + ": %1$s";
+    public static final String MESSAGE_MISSING_QUERY = "A search needs a q parameter.";
+    public static final String MESSAGE_COMMAND_TIMED_OUT = "The command did not finish in time.";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be handled: %1$s";
+
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final long COMMAND_TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    static {
+        // the JDK server writes the headers and body of a response separately, so without TCP_NODELAY every
+        // response waits for the client's delayed acknowledgement of the headers, about 40 ms
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final Logic logic;
+    private final Executor modelExecutor;
+    private final Clock clock;
+    private final HttpServer server;
+    private final ExecutorService handlers;
+
+    // the search index of the latest snapshot that was searched, built on the first search of each snapshot
+    private SearchableSnapshot searchableSnapshot;
+
+    /**
+     * Creates an {@code ApiServer} that listens on {@code port} of the loopback interface, or on any free port if
+     * {@code port} is 0. The server does not accept requests until it is started.
+     *
+     * @param logic The {@code Logic} whose data is served and which runs the commands.
+     * @param modelExecutor Runs tasks on the thread that changes the model.
+     * @param clock The {@code Clock} giving the date of the default agenda.
+     * @param port The port to listen on.
+     * @param threadCount The number of requests that can be handled at the same time.
+     * @throws IOException If the port could not be opened.
+     */
+    public ApiServer(Logic logic, Executor modelExecutor, Clock clock, int port, int threadCount) throws IOException {
+        requireAllNonNull(logic, modelExecutor, clock);
+        checkArgument(threadCount > 0, "An API server needs at least one thread.");
+
+        this.logic = logic;
+        this.modelExecutor = modelExecutor;
+        this.clock = clock;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        handlers = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "colab-api-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(handlers);
+        server.createContext("/", exchange -> handle(exchange, null, ApiServer::notFound));
+        server.createContext(CONTACTS_PATH, exchange -> handle(exchange, GET, this::getContacts));
+        server.createContext(PROJECTS_PATH, exchange -> handle(exchange, GET, this::getProjects));
+        server.createContext(AGENDA_PATH, exchange -> handle(exchange, GET, this::getAgenda));
+        server.createContext(SEARCH_PATH, exchange -> handle(exchange, GET, this::search));
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, POST, this::runCommand));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("API listening on http://localhost:" + getPort());
+    }
+
+    /**
+     * Stops accepting requests, waiting up to a second for the requests being handled. The server cannot be
+     * restarted once stopped.
+     */
+    public void stop() {
+        server.stop(1);
+        handlers.shutdownNow();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // Endpoints
+
+    private static Object notFound(HttpExchange exchange) throws ApiException {
+        throw new ApiException(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, exchange.getRequestURI().getPath()));
+    }
+
+    private Object getContacts(HttpExchange exchange) {
+        return ApiViews.indexed(logic.getColabFolderSnapshot().getContactList(), ApiViews.ContactView::new);
+    }
+
+    private Object getProjects(HttpExchange exchange) {
+        return ApiViews.indexed(logic.getColabFolderSnapshot().getProjectsList(), ApiViews.ProjectView::new);
+    }
+
+    private Object getAgenda(HttpExchange exchange) throws ApiException {
+        Map<String, String> query = parseQuery(exchange);
+        LocalDate from = parseDate(query.get("from"), LocalDate.now(clock));
+        LocalDate to = parseDate(query.get("to"), from.plusDays(DEFAULT_AGENDA_DAYS - 1));
+        int limit = parseLimit(query.get("limit"));
+        if (!AgendaRange.isValidRange(from, to)) {
+            throw new ApiException(STATUS_BAD_REQUEST, AgendaRange.MESSAGE_CONSTRAINTS);
+        }
+
+        // entries are produced lazily, so only the ones sent are created
+        Iterator<AgendaEntry> entries = new AgendaRange(from, to)
+                .iterator(logic.getColabFolderSnapshot().getProjectsList());
+        List<ApiViews.AgendaEntryView> views = new ArrayList<>();
+        while (entries.hasNext() && views.size() < limit) {
+            views.add(new ApiViews.AgendaEntryView(entries.next()));
+        }
+        return views;
+    }
+
+    private Object search(HttpExchange exchange) throws ApiException {
+        String text = parseQuery(exchange).get("q");
+        if (text == null || text.isBlank()) {
+            throw new ApiException(STATUS_BAD_REQUEST, MESSAGE_MISSING_QUERY);
+        }
+
+        SearchableSnapshot searchable = getSearchableSnapshot(logic.getColabFolderSnapshot());
+        List<ApiViews.SearchHitView> views = new ArrayList<>();
+        searchable.index.search(text.trim(), searchable.snapshot.getProjectsList())
+                .forEach(hit -> views.add(new ApiViews.SearchHitView(hit)));
+        return views;
+    }
+
+    /**
+     * Returns {@code snapshot} with its search index, building the index if this is the first search of it.
+     * Snapshots never change, so the index is only built once and can then be searched by many threads at once.
+     */
+    private synchronized SearchableSnapshot getSearchableSnapshot(ReadOnlyColabFolder snapshot) {
+        if (searchableSnapshot == null || searchableSnapshot.snapshot != snapshot) {
+            searchableSnapshot = new SearchableSnapshot(snapshot);
+        }
+        return searchableSnapshot;
+    }
+
+    private Object runCommand(HttpExchange exchange) throws ApiException, IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        // browsers cannot send JSON to another site without its consent, so a web page cannot run commands
+        if (contentType == null || !contentType.toLowerCase().startsWith(JSON_CONTENT_TYPE)) {
+            throw new ApiException(STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_JSON_REQUIRED);
+        }
+
+        String commandText = parseCommandText(exchange.getRequestBody());
+        try {
+            CommandResult commandResult = execute(commandText).get(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return new ApiViews.CommandResultView(commandResult.getFeedbackToUser());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof CommandException || cause instanceof ParseException) {
+                throw new ApiException(STATUS_BAD_REQUEST, cause.getMessage());
+            }
+            throw new ApiException(STATUS_INTERNAL_ERROR, String.format(MESSAGE_INTERNAL_ERROR, cause));
+        } catch (TimeoutException e) {
+            throw new ApiException(STATUS_UNAVAILABLE, MESSAGE_COMMAND_TIMED_OUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(STATUS_UNAVAILABLE, MESSAGE_COMMAND_TIMED_OUT);
+        }
+    }
+
+    /**
+     * Executes {@code commandText} on the model executor, in the same way as a command typed into the UI, and
+     * returns a future of the result that completes once the data has been saved.
+     */
+    private CompletableFuture<CommandResult> execute(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        modelExecutor.execute(() -> {
+            try {
+                logic.executeAsync(commandText).whenComplete((commandResult, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                        return;
+                    }
+                    result.complete(commandResult);
+                });
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    // Parsing requests
+
+    private static String parseCommandText(InputStream body) throws ApiException, IOException {
+        Map<?, ?> request;
+        try {
+            request = JsonUtil.fromJsonString(new String(body.readAllBytes(), StandardCharsets.UTF_8), Map.class);
+        } catch (JsonProcessingException e) {
+            throw new ApiException(STATUS_BAD_REQUEST, MESSAGE_INVALID_COMMAND_REQUEST);
+        }
+        Object commandText = request == null ? null : request.get("command");
+        if (!(commandText instanceof String)) {
+            throw new ApiException(STATUS_BAD_REQUEST, MESSAGE_INVALID_COMMAND_REQUEST);
+        }
+        return (String) commandText;
+    }
+
+    private static Map<String, String> parseQuery(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            String name = separator == -1 ? parameter : parameter.substring(0, separator);
+            String value = separator == -1 ? "" : parameter.substring(separator + 1);
+            parameters.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static LocalDate parseDate(String date, LocalDate defaultDate) throws ApiException {
+        if (date == null) {
+            return defaultDate;
+        }
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_DATE, date));
+        }
+    }
+
+    private static int parseLimit(String limit) throws ApiException {
+        if (limit == null) {
+            return DEFAULT_AGENDA_LIMIT;
+        }
+        int parsedLimit;
+        try {
+            parsedLimit = Integer.parseInt(limit);
+        } catch (NumberFormatException e) {
+            parsedLimit = 0;
+        }
+        if (parsedLimit <= 0 || parsedLimit > MAX_AGENDA_LIMIT) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_LIMIT, limit));
+        }
+        return parsedLimit;
+    }
+
+    /**
+     * Returns true if {@code host}, the Host header of a request, names this machine by its loopback address.
+     * Other host names are refused, so a web page cannot read the data by pointing its own domain at 127.0.0.1.
+     */
+    private static boolean isLoopbackHost(String host) {
+        if (host == null) {
+            return false;
+        }
+        String hostName = host.startsWith("[") ? host.substring(0, host.indexOf(']') + 1)
+                : host.split(":", 2)[0];
+        return hostName.equalsIgnoreCase("localhost") || hostName.equals("127.0.0.1") || hostName.equals("[::1]");
+    }
+
+    // Handling requests
+
+    /**
+     * Handles {@code exchange} with {@code endpoint}, which only accepts requests of {@code method}, or any method if
+     * {@code method} is null, and sends what it returns as JSON.
+     */
+    private void handle(HttpExchange exchange, String method, Endpoint endpoint) throws IOException {
+        try {
+            int status = STATUS_OK;
+            Object response;
+            try {
+                if (!isLoopbackHost(exchange.getRequestHeaders().getFirst("Host"))) {
+                    throw new ApiException(STATUS_FORBIDDEN, MESSAGE_FORBIDDEN_HOST);
+                }
+                if (!exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath())) {
+                    notFound(exchange);
+                }
+                if (method != null && !method.equals(exchange.getRequestMethod())) {
+                    exchange.getResponseHeaders().set("Allow", method);
+                    throw new ApiException(STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                            exchange.getRequestURI().getPath(), method));
+                }
+                response = endpoint.handle(exchange);
+            } catch (ApiException e) {
+                status = e.status;
+                response = new ApiViews.ErrorView(e.getMessage());
+            } catch (RuntimeException e) {
+                logger.warning("API request " + exchange.getRequestURI() + " failed: " + e);
+                status = STATUS_INTERNAL_ERROR;
+                response = new ApiViews.ErrorView(String.format(MESSAGE_INTERNAL_ERROR, e));
+            }
+
+            byte[] body = JsonUtil.toJsonLine(response).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE + "; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Handles the requests to one path, returning the Jackson-friendly object to send back.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        Object handle(HttpExchange exchange) throws ApiException, IOException;
+    }
+
+    /**
+     * A request that cannot be answered, with the HTTP status to answer it with.
+     */
+    private static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     * A snapshot of the CoLAB folder with a search index over its projects.
+     */
+    private static class SearchableSnapshot {
+        private final ReadOnlyColabFolder snapshot;
+        private final GlobalSearchIndex index;
+
+        SearchableSnapshot(ReadOnlyColabFolder snapshot) {
+            requireNonNull(snapshot);
+            this.snapshot = snapshot;
+            this.index = GlobalSearchIndex.ofUnchanging(snapshot.getProjectsList());
+        }
+    }
+}
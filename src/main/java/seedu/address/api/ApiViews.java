@@ -0,0 +1,214 @@
+package seedu.address.api;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.agenda.AgendaEntry;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.groupmate.Groupmate;
+import seedu.address.model.project.Project;
+import seedu.address.model.search.SearchHit;
+import seedu.address.model.task.CompletableDeadline;
+import seedu.address.model.task.CompletableTodo;
+import seedu.address.model.task.repeatable.Event;
+
+/**
+ * Jackson-friendly views of the model that are sent by the {@code ApiServer}.
+ * Items are listed in the order the app displays them, together with the one-based index that commands use to
+ * refer to them. Dates and times are ISO-8601 strings.
+ */
+class ApiViews {
+
+    private ApiViews() {}
+
+    /**
+     * Returns the views of {@code items}, each created from its one-based index and the item.
+     */
+    static <T, V> List<V> indexed(List<T> items, BiFunction<Integer, T, V> toView) {
+        List<V> views = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            views.add(toView.apply(i + 1, items.get(i)));
+        }
+        return views;
+    }
+
+    private static String toIsoString(LocalTime time) {
+        return time == null ? null : time.toString();
+    }
+
+    /**
+     * A contact in the contact list.
+     */
+    static class ContactView {
+        private final int index;
+        private final String name;
+        private final String phone;
+        private final String email;
+        private final String address;
+        private final List<String> tags;
+
+        ContactView(int index, Contact contact) {
+            this.index = index;
+            name = contact.getName().fullName;
+            phone = contact.getPhone().value;
+            email = contact.getEmail().value;
+            address = contact.getAddress().value;
+            tags = contact.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * A project, with all of its events, deadlines, todos and groupmates.
+     */
+    static class ProjectView {
+        private final int index;
+        private final String name;
+        private final List<EventView> events;
+        private final List<DeadlineView> deadlines;
+        private final List<TodoView> todos;
+        private final List<GroupmateView> groupmates;
+
+        ProjectView(int index, Project project) {
+            this.index = index;
+            name = project.getProjectName().toString();
+            events = indexed(project.getSortedEvents(), EventView::new);
+            deadlines = indexed(project.getSortedDeadlines(), DeadlineView::new);
+            todos = indexed(project.getSortedTodos(), TodoView::new);
+            groupmates = indexed(project.getSortedGroupmates(), GroupmateView::new);
+        }
+    }
+
+    /**
+     * An event of a project.
+     */
+    static class EventView {
+        private final int index;
+        private final String description;
+        private final String date;
+        private final String time;
+        private final String endTime;
+        private final String repetition;
+
+        EventView(int index, Event event) {
+            this.index = index;
+            description = event.getDescription();
+            date = event.getDate().toString();
+            time = toIsoString(event.getTime());
+            endTime = toIsoString(event.getEndTime().orElse(null));
+            repetition = event.getRecurrence().isRepeating() ? event.getRecurrence().describe(event.getDate()) : null;
+        }
+    }
+
+    /**
+     * A deadline of a project.
+     */
+    static class DeadlineView {
+        private final int index;
+        private final String description;
+        private final String by;
+        private final boolean isDone;
+
+        DeadlineView(int index, CompletableDeadline deadline) {
+            this.index = index;
+            description = deadline.getDescription();
+            by = deadline.getBy().toString();
+            isDone = deadline.getIsDone();
+        }
+    }
+
+    /**
+     * A todo of a project.
+     */
+    static class TodoView {
+        private final int index;
+        private final String description;
+        private final boolean isDone;
+
+        TodoView(int index, CompletableTodo todo) {
+            this.index = index;
+            description = todo.getDescription();
+            isDone = todo.getIsDone();
+        }
+    }
+
+    /**
+     * A groupmate of a project.
+     */
+    static class GroupmateView {
+        private final int index;
+        private final String name;
+        private final List<String> roles;
+
+        GroupmateView(int index, Groupmate groupmate) {
+            this.index = index;
+            name = groupmate.getName().fullName;
+            roles = groupmate.getRoles().stream().map(role -> role.roleName).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * An event occurrence or deadline in the agenda.
+     */
+    static class AgendaEntryView {
+        private final String type;
+        private final String date;
+        private final String time;
+        private final String project;
+        private final String description;
+        private final boolean isDone;
+
+        AgendaEntryView(AgendaEntry entry) {
+            type = entry.isDeadline() ? "deadline" : "event";
+            date = entry.getDate().toString();
+            time = toIsoString(entry.getTime().orElse(null));
+            project = entry.getProjectName().toString();
+            description = entry.getDescription();
+            isDone = entry.getIsDone();
+        }
+    }
+
+    /**
+     * An item found by a search across projects.
+     */
+    static class SearchHitView {
+        private final String type;
+        private final int projectIndex;
+        private final String project;
+        private final Integer itemIndex;
+        private final String text;
+
+        SearchHitView(SearchHit hit) {
+            type = hit.getType().toString().toLowerCase();
+            projectIndex = hit.getProjectIndex().getOneBased();
+            project = hit.getProjectName().toString();
+            itemIndex = hit.getItemIndex().map(Index::getOneBased).orElse(null);
+            text = hit.getText();
+        }
+    }
+
+    /**
+     * The feedback of a command that succeeded.
+     */
+    static class CommandResultView {
+        private final String feedback;
+
+        CommandResultView(String feedback) {
+            this.feedback = feedback;
+        }
+    }
+
+    /**
+     * The reason a request failed.
+     */
+    static class ErrorView {
+        private final String error;
+
+        ErrorView(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -2,8 +2,11 @@ package seedu.address.commons.core;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
 
 /**
  * Config values used by the app
@@ -15,6 +18,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int apiPort = 0;
+    private List<Integer> deadlineReminderMinutes = List.of(24 * 60);
+    private List<Integer> eventReminderMinutes = List.of(60);
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +38,49 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the port of the local HTTP API, or 0 if the API is turned off.
+     */
+    public int getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(int apiPort) {
+        this.apiPort = apiPort;
+    }
+
+    /**
+     * Returns how long before a deadline is due to remind of it. A deadline is due at the end of its date.
+     */
+    public List<Duration> getDeadlineReminderLeadTimes() {
+        return toDurations(deadlineReminderMinutes);
+    }
+
+    public void setDeadlineReminderLeadTimes(List<Duration> leadTimes) {
+        deadlineReminderMinutes = toMinutes(leadTimes);
+    }
+
+    /**
+     * Returns how long before an event occurrence starts to remind of it.
+     */
+    public List<Duration> getEventReminderLeadTimes() {
+        return toDurations(eventReminderMinutes);
+    }
+
+    public void setEventReminderLeadTimes(List<Duration> leadTimes) {
+        eventReminderMinutes = toMinutes(leadTimes);
+    }
+
+    private static List<Duration> toDurations(List<Integer> minutes) {
+        return minutes == null
+                ? List.of()
+                : minutes.stream().map(Duration::ofMinutes).collect(Collectors.toList());
+    }
+
+    private static List<Integer> toMinutes(List<Duration> leadTimes) {
+        return leadTimes.stream().map(leadTime -> (int) leadTime.toMinutes()).collect(Collectors.toList());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +93,15 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && apiPort == o.apiPort
+                && Objects.equals(deadlineReminderMinutes, o.deadlineReminderMinutes)
+                && Objects.equals(eventReminderMinutes, o.eventReminderMinutes);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, apiPort, deadlineReminderMinutes, eventReminderMinutes);
     }
 
     @Override
@@ -57,6 +109,9 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nAPI port : " + (apiPort == 0 ? "off" : apiPort));
+        sb.append("\nDeadline reminders (minutes before) : " + deadlineReminderMinutes);
+        sb.append("\nEvent reminders (minutes before) : " + eventReminderMinutes);
         return sb.toString();
     }
 
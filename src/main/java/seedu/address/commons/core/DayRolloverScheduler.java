@@ -0,0 +1,81 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Runs a task at the start of every new day, as given by a {@code Clock}.
+ * The task runs on a background daemon thread.
+ */
+public class DayRolloverScheduler {
+    private static final Logger logger = LogsCenter.getLogger(DayRolloverScheduler.class);
+
+    private final Clock clock;
+    private final Runnable task;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates a {@code DayRolloverScheduler} that runs {@code task} at every midnight of {@code clock}.
+     *
+     * @param clock The {@code Clock} providing the current date and time.
+     * @param task The task to run at the start of every new day.
+     */
+    public DayRolloverScheduler(Clock clock, Runnable task) {
+        requireAllNonNull(clock, task);
+
+        this.clock = clock;
+        this.task = task;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "day-rollover");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts running the task at every midnight.
+     */
+    public void start() {
+        scheduleNext();
+    }
+
+    /**
+     * Stops running the task. The scheduler cannot be restarted once stopped.
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the time left until the start of the next day.
+     */
+    public Duration getDelayToNextDay() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime startOfNextDay = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+        return Duration.between(now, startOfNextDay);
+    }
+
+    private void scheduleNext() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.schedule(this::runAndScheduleNext, getDelayToNextDay().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void runAndScheduleNext() {
+        logger.fine("Day rolled over to " + ZonedDateTime.now(clock).toLocalDate());
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            logger.warning("Day rollover task failed: " + e);
+        }
+        scheduleNext();
+    }
+}
@@ -41,6 +41,7 @@ public class Messages {
 
     public static final String MESSAGE_MARK_DEADLINE_SUCCESS = "Marked deadline as done: %1$s";
     public static final String MESSAGE_MARK_TODO_SUCCESS = "Marked todo as done: %1$s";
+    public static final String MESSAGE_NO_INDEXES = "At least one index must be given.";
 
     public static final String MESSAGE_UI_PROJECT_NOT_DISPLAYED = "No project displayed. Display a project using the "
             + ViewProjectCommand.COMMAND_WORD + " command.";
@@ -51,6 +52,19 @@ public class Messages {
     public static final String MESSAGE_PARSER_WEEKLY_CONSTRAINTS =
             "Repeat Weekly should be one of: 'Y', 'N', 'y' or 'n'";
 
+    public static final String MESSAGE_PARSER_RECURRENCE_CONSTRAINTS =
+            "Repetition should be a period of day, week or month, optionally preceded by a positive number and for "
+                    + "months followed by 'by weekday', e.g. 'day', '2 weeks', 'month by weekday'";
+
+    public static final String MESSAGE_PARSER_RECURRENCE_LIMITS =
+            "An end date, number of times or dates to skip can only be given with a repetition (every/)";
+
+    public static final String MESSAGE_PARSER_RECURRENCE_COUNT_CONSTRAINTS =
+            "Number of times should be a positive integer";
+
+    public static final String MESSAGE_PARSER_WEEKLY_AND_RECURRENCE =
+            "Give either Repeat Weekly (w/) or a repetition (every/), not both";
+
     public static final String MESSAGE_PARSER_DATE_CONSTRAINTS =
                     "Date should be a valid date and in one of the following formats:\n"
                     + "24-11-2021\n"
@@ -1,5 +1,8 @@
 package seedu.address.commons.core.index;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Represents a zero-based or one-based index.
  *
@@ -45,6 +48,22 @@ public class Index {
         return new Index(oneBasedIndex - 1);
     }
 
+    /**
+     * Returns the zero-based values of {@code indexes}.
+     */
+    public static List<Integer> toZeroBased(List<Index> indexes) {
+        return indexes.stream().map(Index::getZeroBased).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the one-based values of {@code indexes}, separated by commas.
+     */
+    public static String toOneBasedString(List<Index> indexes) {
+        return indexes.stream()
+                .map(index -> String.valueOf(index.getOneBased()))
+                .collect(Collectors.joining(", "));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
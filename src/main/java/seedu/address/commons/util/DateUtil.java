@@ -8,6 +8,8 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import seedu.address.commons.exceptions.DateConversionException;
 
@@ -20,6 +22,15 @@ public class DateUtil {
         Java uses uuuu for years (yyyy is year-of-era).
         However, yyyy is the more commonly accepted symbol for year and will be more intuitive for users.
      */
+    private static final int DAYS_PER_PAGE = 1024;
+
+    // only days in these years are kept, so that far-off dates cannot make the pages grow without bound
+    private static final long FIRST_CACHED_EPOCH_DAY = LocalDate.of(1900, 1, 1).toEpochDay();
+    private static final long LAST_CACHED_EPOCH_DAY = LocalDate.of(2199, 12, 31).toEpochDay();
+
+    // the dates handed out for epoch days, in pages made when first needed, as the dates in use are close together
+    private static final Map<Integer, LocalDate[]> datePages = new ConcurrentHashMap<>();
+
     private static DateTimeFormatter dateFormat1 = DateTimeFormatter.ofPattern("dd-MM-uuuu");
     private static DateTimeFormatter dateFormat2 = DateTimeFormatter.ofPattern("ddMMuuuu");
     private static DateTimeFormatter dateFormat3 = DateTimeFormatter.ofPattern("dd/MM/uuuu");
@@ -34,6 +45,28 @@ public class DateUtil {
                     .toFormatter()
                     .withResolverStyle(ResolverStyle.STRICT);
 
+    /**
+     * Returns the date of {@code epochDay}.
+     * Every call for the same day from 1900 to 2199 returns the same instance, so dates packed into epoch days can be
+     * read without creating a new object each time. Other days get a new instance.
+     */
+    public static LocalDate dateOfEpochDay(int epochDay) {
+        if (epochDay < FIRST_CACHED_EPOCH_DAY || epochDay > LAST_CACHED_EPOCH_DAY) {
+            return LocalDate.ofEpochDay(epochDay);
+        }
+
+        LocalDate[] page = datePages.computeIfAbsent(Math.floorDiv(epochDay, DAYS_PER_PAGE),
+                unused -> new LocalDate[DAYS_PER_PAGE]);
+        int offset = Math.floorMod(epochDay, DAYS_PER_PAGE);
+        LocalDate date = page[offset];
+        if (date == null) {
+            // a LocalDate is immutable, so a thread reading the page at the same time sees no date or a whole one
+            date = LocalDate.ofEpochDay(epochDay);
+            page[offset] = date;
+        }
+        return date;
+    }
+
     /**
      * Encodes a date passed as a String into a LocalDate.
      *
@@ -0,0 +1,42 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value type.
+ * Equal values interned through the same pool share one instance. The pool only holds weak references,
+ * so values that are no longer used elsewhere can be garbage collected.
+ *
+ * @param <T> The immutable value type, which must implement {@code equals} and {@code hashCode}.
+ */
+public class InternPool<T> {
+
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}.
+     * {@code value} itself becomes the canonical instance if there is none yet.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+
+        WeakReference<T> reference = pool.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical == null) {
+            pool.put(value, new WeakReference<>(value));
+            canonical = value;
+        }
+        return canonical;
+    }
+
+    /**
+     * Returns the number of values currently in the pool.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Merges several sorted iterators into one sorted iterator.
+ * Elements are only taken from the source iterators as they are needed, so the sources may be lazy or unbounded.
+ *
+ * @param <T> The type of the elements.
+ */
+public class MergingIterator<T> implements Iterator<T> {
+
+    private final PriorityQueue<Source<T>> sources;
+
+    /**
+     * Creates a {@code MergingIterator} over {@code iterators}, each of which must be sorted by {@code comparator}.
+     * Equal elements from different iterators are returned in the order of their iterators in {@code iterators}.
+     */
+    public MergingIterator(List<? extends Iterator<? extends T>> iterators, Comparator<? super T> comparator) {
+        requireAllNonNull(iterators, comparator);
+
+        Comparator<Source<T>> sourceComparator = (first, second) -> comparator.compare(first.head, second.head);
+        sources = new PriorityQueue<>(Math.max(iterators.size(), 1),
+                sourceComparator.thenComparingInt(source -> source.order));
+        for (int i = 0; i < iterators.size(); i++) {
+            Iterator<? extends T> iterator = iterators.get(i);
+            if (iterator.hasNext()) {
+                sources.add(new Source<>(iterator, i));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !sources.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        Source<T> source = sources.poll();
+        if (source == null) {
+            throw new NoSuchElementException();
+        }
+
+        T next = source.head;
+        if (source.advance()) {
+            sources.add(source);
+        }
+        return next;
+    }
+
+    /**
+     * A source iterator together with its next element.
+     */
+    private static class Source<T> {
+        private final Iterator<? extends T> iterator;
+        private final int order;
+        private T head;
+
+        Source(Iterator<? extends T> iterator, int order) {
+            this.iterator = iterator;
+            this.order = order;
+            this.head = iterator.next();
+        }
+
+        /**
+         * Moves to the next element of the iterator. Returns false if there is none.
+         */
+        boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            head = iterator.next();
+            return true;
+        }
+    }
+}
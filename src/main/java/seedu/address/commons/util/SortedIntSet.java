@@ -0,0 +1,179 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of ints stored as a sorted array, supporting linear-time intersection, union and difference.
+ * Adding ints in increasing order is amortized constant time.
+ */
+public class SortedIntSet {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] values;
+    private int size;
+
+    /**
+     * Creates an empty {@code SortedIntSet}.
+     */
+    public SortedIntSet() {
+        this(new int[INITIAL_CAPACITY], 0);
+    }
+
+    private SortedIntSet(int[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Adds {@code value} to the set. Returns true if the set did not already contain it.
+     */
+    public boolean add(int value) {
+        int position = size > 0 && values[size - 1] < value ? -size - 1 : Arrays.binarySearch(values, 0, size, value);
+        if (position >= 0) {
+            return false;
+        }
+
+        int insertAt = -position - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+        values[insertAt] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes {@code value} from the set. Returns true if the set contained it.
+     */
+    public boolean remove(int value) {
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position < 0) {
+            return false;
+        }
+
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns true if the set contains {@code value}.
+     */
+    public boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Performs {@code action} on every int in the set, in increasing order.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < size; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    /**
+     * Returns the ints in both {@code first} and {@code second}.
+     */
+    public static SortedIntSet intersection(SortedIntSet first, SortedIntSet second) {
+        int[] result = new int[Math.max(Math.min(first.size, second.size), INITIAL_CAPACITY)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.size && j < second.size) {
+            int compare = Integer.compare(first.values[i], second.values[j]);
+            if (compare == 0) {
+                result[count++] = first.values[i];
+                i++;
+                j++;
+            } else if (compare < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return new SortedIntSet(result, count);
+    }
+
+    /**
+     * Returns the ints in {@code first} or {@code second}.
+     */
+    public static SortedIntSet union(SortedIntSet first, SortedIntSet second) {
+        int[] result = new int[Math.max(first.size + second.size, INITIAL_CAPACITY)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.size || j < second.size) {
+            if (j == second.size || (i < first.size && first.values[i] < second.values[j])) {
+                result[count++] = first.values[i++];
+            } else if (i == first.size || second.values[j] < first.values[i]) {
+                result[count++] = second.values[j++];
+            } else {
+                result[count++] = first.values[i];
+                i++;
+                j++;
+            }
+        }
+        return new SortedIntSet(result, count);
+    }
+
+    /**
+     * Returns the ints in {@code first} but not in {@code second}.
+     */
+    public static SortedIntSet difference(SortedIntSet first, SortedIntSet second) {
+        int[] result = new int[Math.max(first.size, INITIAL_CAPACITY)];
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < first.size; i++) {
+            while (j < second.size && second.values[j] < first.values[i]) {
+                j++;
+            }
+            if (j == second.size || second.values[j] != first.values[i]) {
+                result[count++] = first.values[i];
+            }
+        }
+        return new SortedIntSet(result, count);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SortedIntSet)) {
+            return false;
+        }
+
+        SortedIntSet otherSet = (SortedIntSet) other;
+        return Arrays.equals(values, 0, size, otherSet.values, 0, otherSet.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(values, size));
+    }
+}
@@ -8,6 +8,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.stream.IntStream;
 
 import seedu.address.commons.exceptions.TimeConversionException;
 
@@ -16,6 +17,13 @@ import seedu.address.commons.exceptions.TimeConversionException;
  */
 public class TimeUtil {
 
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    // every time to the minute, so that times packed into minutes of the day can be read without creating objects
+    private static final LocalTime[] timesOfMinutes = IntStream.range(0, MINUTES_PER_DAY)
+            .mapToObj(minute -> LocalTime.of(minute / 60, minute % 60))
+            .toArray(LocalTime[]::new);
+
     private static DateTimeFormatter timeFormat1 = DateTimeFormatter.ofPattern("HHmm");
     private static DateTimeFormatter timeFormat2 = DateTimeFormatter.ofPattern("HH:mm");
 
@@ -26,6 +34,14 @@ public class TimeUtil {
                     .toFormatter()
                     .withResolverStyle(ResolverStyle.STRICT);
 
+    /**
+     * Returns the time {@code minuteOfDay} minutes after midnight, which must be within a day.
+     */
+    public static LocalTime timeOfMinute(int minuteOfDay) {
+        assert minuteOfDay >= 0 && minuteOfDay < MINUTES_PER_DAY : "time should be within a day!";
+        return timesOfMinutes[minuteOfDay];
+    }
+
     /**
      * Encodes a time passed as a String into a LocalTime.
      *
@@ -0,0 +1,166 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.uicommands.ExitUiCommand;
+
+/**
+ * Runs commands read line by line through a {@code Logic}, without the UI, and writes the outcome of each command
+ * as a line of JSON.
+ * The data is saved once at the end, and also after every {@code checkpointInterval} successful commands if the
+ * interval is positive. Blank lines and lines starting with {@code #} are skipped, and an {@code exit} command stops
+ * the run early.
+ * Commands are not added to the undo history, as each entry is a full copy of the CoLAB folder.
+ */
+public class BatchRunner {
+
+    public static final String STATUS_OK = "ok";
+    public static final String STATUS_ERROR = "error";
+    public static final String STATUS_SAVED = "saved";
+    public static final String STATUS_DONE = "done";
+
+    public static final String MESSAGE_INVALID_CHECKPOINT_INTERVAL = "The checkpoint interval cannot be negative.";
+    public static final String MESSAGE_SAVED = "Saved after %1$d commands";
+    public static final String MESSAGE_DONE = "%1$d commands succeeded, %2$d failed";
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private final Logic logic;
+    private final int checkpointInterval;
+
+    private int lineNumber;
+    private int succeededCount;
+    private int failedCount;
+    private int unsavedCount;
+
+    /**
+     * Creates a {@code BatchRunner} that runs commands through {@code logic}, saving after every
+     * {@code checkpointInterval} successful commands, or only at the end if {@code checkpointInterval} is 0.
+     */
+    public BatchRunner(Logic logic, int checkpointInterval) {
+        requireNonNull(logic);
+        checkArgument(checkpointInterval >= 0, MESSAGE_INVALID_CHECKPOINT_INTERVAL);
+
+        this.logic = logic;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Runs every command from {@code commands} and writes the outcomes to {@code output}, followed by a summary.
+     * The outcomes are flushed at every save.
+     *
+     * @return the number of commands that failed, including a failed save.
+     * @throws IOException If the commands could not be read.
+     */
+    public int run(BufferedReader commands, PrintWriter output) throws IOException {
+        requireNonNull(commands);
+        requireNonNull(output);
+
+        lineNumber = 0;
+        succeededCount = 0;
+        failedCount = 0;
+        unsavedCount = 0;
+        String commandText;
+        while ((commandText = commands.readLine()) != null) {
+            lineNumber++;
+            commandText = commandText.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            CommandResult commandResult = execute(commandText, output);
+            boolean isSaveDue = checkpointInterval > 0 && unsavedCount >= checkpointInterval;
+            if (isSaveDue && !save(output)) {
+                output.flush();
+                return failedCount;
+            }
+            if (commandResult != null && commandResult.getUiCommand() instanceof ExitUiCommand) {
+                break;
+            }
+        }
+
+        if (unsavedCount > 0) {
+            save(output);
+        }
+        write(output, new Outcome(null, STATUS_DONE, String.format(MESSAGE_DONE, succeededCount, failedCount)));
+        output.flush();
+        return failedCount;
+    }
+
+    /**
+     * Executes {@code commandText} and writes its outcome, returning its result, or null if it failed.
+     */
+    private CommandResult execute(String commandText, PrintWriter output) throws IOException {
+        try {
+            CommandResult commandResult = logic.executeWithoutSaving(commandText);
+            succeededCount++;
+            unsavedCount++;
+            write(output, new Outcome(lineNumber, STATUS_OK, commandResult.getFeedbackToUser()));
+            return commandResult;
+        } catch (CommandException | ParseException e) {
+            failedCount++;
+            write(output, new Outcome(lineNumber, STATUS_ERROR, e.getMessage()));
+            return null;
+        }
+    }
+
+    /**
+     * Saves the data and writes the outcome, returning true if the data was saved.
+     */
+    private boolean save(PrintWriter output) throws IOException {
+        try {
+            logic.save();
+            write(output, new Outcome(lineNumber, STATUS_SAVED, String.format(MESSAGE_SAVED, succeededCount)));
+            output.flush();
+            unsavedCount = 0;
+            return true;
+        } catch (CommandException e) {
+            failedCount++;
+            write(output, new Outcome(lineNumber, STATUS_ERROR, e.getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * Writes an error that is not the outcome of any line, such as a batch that could not be started.
+     */
+    public static void writeError(PrintWriter output, String message) {
+        requireAllNonNull(output, message);
+
+        try {
+            write(output, new Outcome(null, STATUS_ERROR, message));
+        } catch (IOException e) {
+            // a string can always be written as JSON
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void write(PrintWriter output, Outcome outcome) throws IOException {
+        output.println(JsonUtil.toJsonLine(outcome));
+    }
+
+    /**
+     * Jackson-friendly outcome of a line of the batch.
+     */
+    private static class Outcome {
+        private final Integer line;
+        private final String status;
+        private final String message;
+
+        Outcome(Integer line, String status, String message) {
+            this.line = line;
+            this.status = status;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import seedu.address.model.ResidentFolder;
+
+/**
+ * The CoLAB folders kept in memory while another folder is open, keyed by the normalised absolute path of their
+ * data file. Folders are kept in the order they were last put in, and the least recently used folders are evicted
+ * once the estimated size of all of them goes over the memory budget. An evicted folder is handed to the flusher
+ * first, so its data is saved before it and its history are dropped.
+ * Not thread-safe.
+ */
+class FolderCache {
+
+    private final long memoryBudget;
+    private final BiConsumer<Path, ResidentFolder> flusher;
+    private final LinkedHashMap<Path, CachedFolder> folders = new LinkedHashMap<>();
+    private long estimatedSize;
+
+    /**
+     * Creates an empty {@code FolderCache}.
+     *
+     * @param memoryBudget The estimated size in bytes the resident folders may take up.
+     * @param flusher Saves an evicted folder to its data file.
+     */
+    FolderCache(long memoryBudget, BiConsumer<Path, ResidentFolder> flusher) {
+        requireNonNull(flusher);
+        checkArgument(memoryBudget >= 0, "The memory budget cannot be negative.");
+
+        this.memoryBudget = memoryBudget;
+        this.flusher = flusher;
+    }
+
+    /**
+     * Removes and returns the folder saved in {@code path}, if it is resident.
+     */
+    Optional<ResidentFolder> take(Path path) {
+        CachedFolder cachedFolder = folders.remove(toKey(path));
+        if (cachedFolder == null) {
+            return Optional.empty();
+        }
+
+        estimatedSize -= cachedFolder.size;
+        return Optional.of(cachedFolder.folder);
+    }
+
+    /**
+     * Keeps {@code folder}, saved in {@code path}, as the most recently used folder, then evicts the least recently
+     * used folders until the resident folders fit in the memory budget. A folder that does not fit in the budget on
+     * its own is evicted at once.
+     */
+    void put(Path path, ResidentFolder folder) {
+        requireAllNonNull(path, folder);
+
+        take(path);
+        CachedFolder cachedFolder = new CachedFolder(folder, folder.estimateSize());
+        folders.put(toKey(path), cachedFolder);
+        estimatedSize += cachedFolder.size;
+
+        Iterator<Map.Entry<Path, CachedFolder>> leastRecentlyUsed = folders.entrySet().iterator();
+        while (estimatedSize > memoryBudget && leastRecentlyUsed.hasNext()) {
+            Map.Entry<Path, CachedFolder> evicted = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            estimatedSize -= evicted.getValue().size;
+            flusher.accept(evicted.getKey(), evicted.getValue().folder);
+        }
+    }
+
+    /**
+     * Returns true if the folder saved in {@code path} is resident.
+     */
+    boolean contains(Path path) {
+        return folders.containsKey(toKey(path));
+    }
+
+    /**
+     * Returns the number of resident folders.
+     */
+    int size() {
+        return folders.size();
+    }
+
+    /**
+     * Returns the estimated size in bytes of all the resident folders.
+     */
+    long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    private static Path toKey(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    /**
+     * A resident folder with its estimated size when it was put in the cache.
+     */
+    private static class CachedFolder {
+        private final ResidentFolder folder;
+        private final long size;
+
+        CachedFolder(ResidentFolder folder, long size) {
+            this.folder = folder;
+            this.size = size;
+        }
+    }
+}
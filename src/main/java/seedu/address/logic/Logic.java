@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,6 +11,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyColabFolder;
+import seedu.address.model.agenda.AgendaIndex;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.project.Project;
 
@@ -26,6 +28,38 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command and returns a future of the result, which completes once the data has been saved.
+     * Saving happens in the background, one save at a time in the order the commands were executed. A command that
+     * changes the data is committed to the undo history before this returns, unless a CoLAB folder that is not in
+     * memory is being opened, in which case the command runs in that folder once it has been read.
+     * @param commandText The command as entered by the user.
+     * @return a future of the result of the command execution, which fails with a {@code CommandException} or
+     *     {@code ParseException} if an error occurs during parsing, execution or saving.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Executes the command and returns the result, without saving the data.
+     * The data is saved by a later call to {@link #save()}, so many commands can share a single save.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException;
+
+    /**
+     * Saves the data, after any save still being done in the background.
+     * @throws CommandException If the data could not be saved.
+     */
+    void save() throws CommandException;
+
+    /**
+     * Waits for any data still being saved and stops saving in the background.
+     */
+    void shutdown();
+
     /**
      * Returns the ColabFolder.
      *
@@ -33,6 +67,13 @@ public interface Logic {
      */
     ReadOnlyColabFolder getColabFolder();
 
+    /**
+     * Returns the latest published snapshot of the ColabFolder, which is safe to read from any thread.
+     *
+     * @see Model#getColabFolderSnapshot()
+     */
+    ReadOnlyColabFolder getColabFolderSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of contacts */
     ObservableList<Contact> getFilteredContactList();
 
@@ -45,6 +86,20 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of projects */
     ObservableList<Project> getFilteredProjectsList();
 
+    /**
+     * Returns the live agenda of events and deadlines across all projects.
+     *
+     * @see Model#getAgendaIndex()
+     */
+    AgendaIndex getAgendaIndex();
+
+    /**
+     * Brings date-dependent data up to date with the current date.
+     *
+     * @see Model#refreshDate()
+     */
+    void refreshDate();
+
     /**
      * Updates the filtered contact list with the new {@code Predicate<Contact>}.
      *
@@ -61,9 +116,4 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
-
-    /**
-     * Commits the current {@code ColabFolder} state to {@code ColabFolderHistory}.
-     */
-    void commitState(CommandResult commandResult);
 }
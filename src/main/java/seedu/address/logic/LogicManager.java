@@ -2,58 +2,289 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ColabParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ColabFolder;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyColabFolder;
+import seedu.address.model.ResidentFolder;
+import seedu.address.model.agenda.AgendaIndex;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.project.Project;
 import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Saving the {@code ColabFolder} after a command is done by a single background writer thread, so saves happen one
+ * at a time and in the order of the commands. Commands themselves run on the calling thread, as the UI observes the
+ * model and must only see it change on the JavaFX Application Thread. A command is committed to the undo history
+ * right after it runs, before its save is queued, so commands from the UI and from the API never interleave in it.
+ * CoLAB folders that were switched away from stay in memory with their history, up to a memory budget, so switching
+ * back to them does not read the file again. A folder that is not in memory is read on the writer thread, and the
+ * switch is finished on the model thread once it is read.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String FILE_READ_ERROR_MESSAGE = "Could not read data from file: ";
+    /** The default estimated size in bytes of the CoLAB folders kept in memory while another folder is open. */
+    public static final long DEFAULT_FOLDER_CACHE_BUDGET = 64L * 1024 * 1024;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final ColabParser colabParser;
+    private final ExecutorService writer;
+    private final Executor modelExecutor;
+    private final FolderCache folderCache;
+    private Path colabFolderFilePath;
+    private CompletableFuture<Void> folderOpened = CompletableFuture.completedFuture(null);
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, DEFAULT_FOLDER_CACHE_BUDGET);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which keeps CoLAB folders
+     * that were switched away from in memory up to an estimated {@code folderCacheBudget} bytes.
+     */
+    public LogicManager(Model model, Storage storage, long folderCacheBudget) {
+        this(model, storage, folderCacheBudget, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which keeps CoLAB folders
+     * that were switched away from in memory up to an estimated {@code folderCacheBudget} bytes, and changes the
+     * model from the background through {@code modelExecutor}, which runs tasks on the thread that runs commands.
+     */
+    public LogicManager(Model model, Storage storage, long folderCacheBudget, Executor modelExecutor) {
         this.model = model;
+        this.modelExecutor = modelExecutor;
         this.storage = storage;
         colabParser = new ColabParser();
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "colab-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        folderCache = new FolderCache(folderCacheBudget, this::flush);
+        colabFolderFilePath = storage.getColabFolderFilePath();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        try {
+            return executeAsync(commandText).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new CommandException(cause.getMessage(), cause);
+        }
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        if (folderOpened.isDone()) {
+            folderOpened = run(commandText, result);
+        } else {
+            // a command entered while a CoLAB folder is being read runs in that folder once it is open
+            folderOpened = folderOpened.handleAsync((unused, e) -> run(commandText, result), modelExecutor)
+                    .thenCompose(Function.identity());
+        }
+        return result;
+    }
+
+    /**
+     * Runs the command, then completes {@code result} once it is committed and saved.
+     * Returns a future that completes once the CoLAB folder the command opens, if any, is open.
+     */
+    private CompletableFuture<Void> run(String commandText, CompletableFuture<CommandResult> result) {
         CommandResult commandResult;
+        CompletableFuture<Void> opened = CompletableFuture.completedFuture(null);
+        try {
+            commandResult = colabParser.parseCommand(commandText).execute(model, storage);
+            Optional<Path> folderToOpen = commandResult.getFolderToOpen();
+            if (folderToOpen.isPresent()) {
+                Path path = folderToOpen.get();
+                Optional<ResidentFolder> residentFolder = folderCache.take(path);
+                if (residentFolder.isPresent()) {
+                    openFolder(path, residentFolder.get());
+                } else {
+                    opened = readFolderAsync(path).thenAcceptAsync(folder -> openFolder(path, folder),
+                            modelExecutor);
+                }
+            }
+        } catch (CommandException | ParseException | RuntimeException e) {
+            // the caller may be waiting on the result, so it must complete however the command fails
+            result.completeExceptionally(e);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        opened.thenCompose(unused -> commitAndSave(commandResult)).whenComplete((savedResult, e) -> {
+            if (e == null) {
+                result.complete(savedResult);
+            } else {
+                result.completeExceptionally(e);
+            }
+        });
+        return opened;
+    }
+
+    /**
+     * Commits {@code commandResult} to the undo history unless it is to be ignored, and saves the model on the
+     * writer thread.
+     */
+    private CompletableFuture<CommandResult> commitAndSave(CommandResult commandResult) {
+        if (!commandResult.isIgnoreHistory()) {
+            model.commitState(commandResult);
+        }
+        return saveAsync().thenApply(unused -> commandResult);
+    }
+
+    @Override
+    public CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException {
+        // commands run without saving usually come in bulk, so they are only logged in detail
+        logger.fine("----------------[USER COMMAND][" + commandText + "]");
+
+        return parseAndExecute(commandText);
+    }
+
+    private CommandResult parseAndExecute(String commandText) throws CommandException, ParseException {
         Command command = colabParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandResult commandResult = command.execute(model, storage);
+        if (commandResult.getFolderToOpen().isPresent()) {
+            switchFolder(commandResult.getFolderToOpen().get());
+        }
+        return commandResult;
+    }
+
+    /**
+     * Opens the CoLAB folder saved in {@code path}, keeping the folder that was open in memory.
+     * A folder that is not in memory is read from its file, or is empty if the file does not exist.
+     */
+    private void switchFolder(Path path) throws CommandException {
+        Optional<ResidentFolder> residentFolder = folderCache.take(path);
+        if (residentFolder.isPresent()) {
+            openFolder(path, residentFolder.get());
+            return;
+        }
 
         try {
-            storage.saveColabFolder(model.getColabFolder());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            openFolder(path, readFolderAsync(path).join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            }
+            throw e;
         }
+    }
 
-        return commandResult;
+    /**
+     * Opens {@code folder}, which is saved in {@code path}, keeping the folder that was open in memory.
+     */
+    private void openFolder(Path path, ResidentFolder folder) {
+        ResidentFolder previousFolder = model.switchColabFolder(path, folder);
+        folderCache.put(colabFolderFilePath, previousFolder);
+        colabFolderFilePath = path;
+    }
+
+    /**
+     * Reads the CoLAB folder saved in {@code path} on the writer thread, after the saves already queued, as the
+     * folder may have been evicted from memory a moment ago.
+     */
+    private CompletableFuture<ResidentFolder> readFolderAsync(Path path) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return new ResidentFolder(storage.readColabFolder(path).orElseGet(ColabFolder::new));
+            } catch (DataConversionException | IOException e) {
+                throw new CompletionException(new CommandException(FILE_READ_ERROR_MESSAGE + e, e));
+            }
+        }, writer);
+    }
+
+    /**
+     * Saves a CoLAB folder that is evicted from memory on the writer thread, after the saves already queued, and
+     * closes its file in the storage.
+     */
+    private void flush(Path path, ResidentFolder folder) {
+        writer.execute(() -> {
+            try {
+                storage.saveColabFolder(folder.getColabFolder(), path);
+            } catch (IOException ioe) {
+                logger.warning(FILE_OPS_ERROR_MESSAGE + ioe);
+            }
+            storage.closeColabFolder(path);
+        });
+    }
+
+    @Override
+    public void save() throws CommandException {
+        try {
+            saveAsync().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the model and saves it on the writer thread.
+     */
+    private CompletableFuture<Void> saveAsync() {
+        // the writer saves the published snapshot, so the model can keep changing while it is written
+        ReadOnlyColabFolder snapshot = model.publishSnapshot();
+        Path path = colabFolderFilePath;
+        return CompletableFuture.runAsync(() -> {
+            try {
+                storage.saveColabFolder(snapshot, path);
+            } catch (IOException ioe) {
+                throw new CompletionException(new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe));
+            }
+        }, writer);
+    }
+
+    @Override
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for data to be saved");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     @Override
@@ -61,6 +292,11 @@ public class LogicManager implements Logic {
         return model.getColabFolder();
     }
 
+    @Override
+    public ReadOnlyColabFolder getColabFolderSnapshot() {
+        return model.getColabFolderSnapshot();
+    }
+
     @Override
     public ObservableList<Contact> getFilteredContactList() {
         return model.getFilteredContactList();
@@ -76,6 +312,16 @@ public class LogicManager implements Logic {
         return model.getFilteredProjectList();
     }
 
+    @Override
+    public AgendaIndex getAgendaIndex() {
+        return model.getAgendaIndex();
+    }
+
+    @Override
+    public void refreshDate() {
+        model.refreshDate();
+    }
+
     @Override
     public void updateFilteredContactList(Predicate<Contact> predicate) {
         model.updateFilteredContactList(predicate);
@@ -90,11 +336,4 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
-
-    @Override
-    public void commitState(CommandResult commandResult) {
-        if (!commandResult.isIgnoreHistory()) {
-            model.commitState(commandResult);
-        }
-    }
 }
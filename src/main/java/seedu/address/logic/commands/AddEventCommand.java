@@ -4,7 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_EVERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_EXCEPT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_TIMES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_UNTIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_WEEKLY;
 
 import java.util.List;
@@ -30,12 +35,24 @@ public class AddEventCommand extends Command {
             + PREFIX_DESCRIPTION + "DESCRIPTION "
             + PREFIX_EVENT_DATE + "DATE "
             + PREFIX_EVENT_TIME + "TIME "
-            + PREFIX_EVENT_WEEKLY + "REPEATS_WEEKLY\n"
+            + "[" + PREFIX_EVENT_END_TIME + "END_TIME] "
+            + PREFIX_EVENT_WEEKLY + "REPEATS_WEEKLY or "
+            + PREFIX_EVENT_EVERY + "REPETITION "
+            + "[" + PREFIX_EVENT_UNTIL + "END_DATE] "
+            + "[" + PREFIX_EVENT_TIMES + "NUMBER_OF_TIMES] "
+            + "[" + PREFIX_EVENT_EXCEPT + "SKIPPED_DATE]...\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_DESCRIPTION + "Project meeting "
             + PREFIX_EVENT_DATE + "24-04-2021 "
             + PREFIX_EVENT_TIME + "1730 "
-            + PREFIX_EVENT_WEEKLY + "Y";
+            + PREFIX_EVENT_END_TIME + "1830 "
+            + PREFIX_EVENT_WEEKLY + "Y\n"
+            + "Example: " + COMMAND_WORD + " 1 "
+            + PREFIX_DESCRIPTION + "Lab session "
+            + PREFIX_EVENT_DATE + "06-04-2021 "
+            + PREFIX_EVENT_TIME + "1400 "
+            + PREFIX_EVENT_EVERY + "2 weeks "
+            + PREFIX_EVENT_TIMES + "6";
 
     private final Index index;
     private final Event toAdd;
@@ -72,7 +89,8 @@ public class AddEventCommand extends Command {
 
         model.updateFilteredProjectList(Model.PREDICATE_SHOW_ALL_PROJECTS);
         return new CommandResult(String.format(Messages.MESSAGE_ADD_EVENT_SUCCESS, toAdd,
-                projectToEdit.getProjectName()), new ViewProjectAndOverviewUiCommand(index));
+                projectToEdit.getProjectName()) + ClashesCommand.describeClashes(model.getEventClashes(toAdd)),
+                new ViewProjectAndOverviewUiCommand(index));
     }
 
     @Override
@@ -0,0 +1,131 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Objects;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.agenda.AgendaEntry;
+import seedu.address.model.agenda.AgendaRange;
+
+/**
+ * Lists every event occurrence and deadline across all projects within a range of days, one page at a time.
+ */
+public class AgendaCommand extends Command {
+
+    public static final String COMMAND_WORD = "agenda";
+    public static final String COMMAND_WORD_WEEK = "week";
+    public static final String COMMAND_WORD_MONTH = "month";
+
+    public static final int PAGE_SIZE = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists every event occurrence and deadline of all "
+            + "projects from the start date to the end date (inclusive), in time order, "
+            + PAGE_SIZE + " entries per page.\n"
+            + "Parameters: " + PREFIX_FROM_DATE + "DATE " + PREFIX_TO_DATE + "DATE [" + PREFIX_PAGE + "PAGE]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM_DATE + "01-08-2021 " + PREFIX_TO_DATE + "30-11-2021 "
+            + PREFIX_PAGE + "2\n"
+            + COMMAND_WORD_WEEK + " and " + COMMAND_WORD_MONTH + " list the agenda of the 7 days or the month "
+            + "starting today.\n"
+            + "Parameters: [" + PREFIX_PAGE + "PAGE]\n"
+            + "Example: " + COMMAND_WORD_WEEK;
+
+    public static final String MESSAGE_EMPTY_AGENDA = "Nothing on the agenda from %1$s to %2$s.";
+    public static final String MESSAGE_AGENDA_PAGE = "Agenda from %1$s to %2$s, page %3$d:";
+    public static final String MESSAGE_MORE_ENTRIES = "Use " + PREFIX_PAGE + "%1$d to see more.";
+    public static final String MESSAGE_INVALID_PAGE = "There is no page %1$d of the agenda from %2$s to %3$s.";
+
+    /**
+     * A range of days relative to the current date.
+     */
+    public enum Span {
+        WEEK,
+        MONTH;
+
+        /**
+         * Returns the range of days covered by this span when the current date is {@code today}.
+         */
+        public AgendaRange getRange(LocalDate today) {
+            requireNonNull(today);
+            LocalDate end = this == WEEK ? today.plusWeeks(1) : today.plusMonths(1);
+            return new AgendaRange(today, end.minusDays(1));
+        }
+    }
+
+    private final AgendaRange range;
+    private final Span span;
+    private final int page;
+
+    /**
+     * Creates an {@code AgendaCommand} to list the given {@code page} of the agenda over {@code range}.
+     */
+    public AgendaCommand(AgendaRange range, int page) {
+        requireNonNull(range);
+        this.range = range;
+        this.span = null;
+        this.page = page;
+    }
+
+    /**
+     * Creates an {@code AgendaCommand} to list the given {@code page} of the agenda over {@code span} from the
+     * current date.
+     */
+    public AgendaCommand(Span span, int page) {
+        requireNonNull(span);
+        this.range = null;
+        this.span = span;
+        this.page = page;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        AgendaRange agendaRange = range != null ? range : span.getRange(model.getAgendaIndex().getDate());
+        String start = DateUtil.decodeDate(agendaRange.getStart());
+        String end = DateUtil.decodeDate(agendaRange.getEnd());
+
+        Iterator<AgendaEntry> entries = model.getAgenda(agendaRange);
+        for (int skipped = 0; skipped < (page - 1) * PAGE_SIZE && entries.hasNext(); skipped++) {
+            entries.next();
+        }
+
+        if (!entries.hasNext()) {
+            if (page == 1) {
+                return new CommandResult(String.format(MESSAGE_EMPTY_AGENDA, start, end)).setIgnoreHistory(true);
+            }
+            throw new CommandException(String.format(MESSAGE_INVALID_PAGE, page, start, end));
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_AGENDA_PAGE, start, end, page));
+        for (int shown = 0; shown < PAGE_SIZE && entries.hasNext(); shown++) {
+            feedback.append("\n").append(entries.next());
+        }
+        if (entries.hasNext()) {
+            feedback.append("\n").append(String.format(MESSAGE_MORE_ENTRIES, page + 1));
+        }
+        return new CommandResult(feedback.toString()).setIgnoreHistory(true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AgendaCommand)) {
+            return false;
+        }
+
+        AgendaCommand otherCommand = (AgendaCommand) other;
+        return Objects.equals(range, otherCommand.range)
+                && span == otherCommand.span
+                && page == otherCommand.page;
+    }
+}
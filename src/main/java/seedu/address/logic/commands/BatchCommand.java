@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.uicommands.UiCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyColabFolder;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.project.Project;
+
+/**
+ * Runs a list of commands as a single transaction.
+ * If any of the commands fails, the CoLAB folder and the filters of its lists are restored to their state before the
+ * batch. Otherwise the batch is a single command to the rest of the app, so it is saved once and undone as a whole.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+    public static final String COMMAND_SEPARATOR = ";";
+    public static final String ESCAPED_COMMAND_SEPARATOR = "\\" + COMMAND_SEPARATOR;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs commands separated by "
+            + COMMAND_SEPARATOR + " one after another. If any of them fails, none of them are applied.\n"
+            + "Parameters: COMMAND " + COMMAND_SEPARATOR + " COMMAND [" + COMMAND_SEPARATOR + " COMMAND]...\n"
+            + "Write " + ESCAPED_COMMAND_SEPARATOR + " for a " + COMMAND_SEPARATOR + " inside a command.\n"
+            + "Example: " + COMMAND_WORD + " addP n/CS2103T Team Project " + COMMAND_SEPARATOR
+            + " addT 1 d/Set up repository " + COMMAND_SEPARATOR + " addD 1 d/Submit proposal by/20-04-2021";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands:";
+    public static final String MESSAGE_COMMAND_FAILED = "Command %1$d of the batch failed, so no changes were made: "
+            + "%2$s";
+    public static final String MESSAGE_EMPTY_BATCH = "A batch must contain at least one command.";
+
+    private final List<Command> commands;
+
+    /**
+     * Creates a {@code BatchCommand} that runs {@code commands} in order.
+     */
+    public BatchCommand(List<Command> commands) {
+        requireNonNull(commands);
+        checkArgument(!commands.isEmpty(), MESSAGE_EMPTY_BATCH);
+
+        this.commands = new ArrayList<>(commands);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // the snapshot published after the last command is already the state before the batch, so nothing is copied
+        // unless the folder changed since, and only the changed projects are copied then
+        ReadOnlyColabFolder rollbackState = model.publishSnapshot();
+        Predicate<Contact> contactPredicate = model.getContactPredicate();
+        Comparator<Contact> contactComparator = model.getContactComparator();
+        Predicate<Project> projectPredicate = model.getProjectPredicate();
+        Runnable rollback = () -> {
+            model.setColabFolder(rollbackState);
+            if (contactComparator == null) {
+                model.updateFilteredContactList(contactPredicate);
+            } else {
+                model.updateFilteredContactList(contactPredicate, contactComparator);
+            }
+            model.updateFilteredProjectList(projectPredicate);
+        };
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, commands.size()));
+        UiCommand uiCommand = null;
+        boolean isIgnoreHistory = true;
+        for (int i = 0; i < commands.size(); i++) {
+            CommandResult result;
+            try {
+                result = commands.get(i).execute(model);
+            } catch (CommandException e) {
+                rollback.run();
+                throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, i + 1, e.getMessage()), e);
+            } catch (RuntimeException e) {
+                rollback.run();
+                throw e;
+            }
+
+            feedback.append('\n').append(result.getFeedbackToUser().trim());
+            if (result.hasUiCommand()) {
+                uiCommand = result.getUiCommand();
+            }
+            isIgnoreHistory &= result.isIgnoreHistory();
+        }
+
+        return new CommandResult(feedback.toString(), uiCommand).setIgnoreHistory(isIgnoreHistory);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && commands.equals(((BatchCommand) other).commands));
+    }
+}
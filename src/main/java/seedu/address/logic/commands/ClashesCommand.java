@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.agenda.EventClash;
+
+/**
+ * Lists the pairs of events, across all projects, whose times overlap.
+ */
+public class ClashesCommand extends Command {
+
+    public static final String COMMAND_WORD = "clashes";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the pairs of events, across all projects, "
+            + "whose times overlap from today onwards, or within the next 7 days or month only.\n"
+            + "Parameters: [" + AgendaCommand.COMMAND_WORD_WEEK + " | " + AgendaCommand.COMMAND_WORD_MONTH + "]\n"
+            + "Example: " + COMMAND_WORD + " " + AgendaCommand.COMMAND_WORD_WEEK;
+
+    public static final String MESSAGE_NO_CLASHES = "There are no clashing events.";
+    public static final String MESSAGE_CLASHES = "%1$d pair(s) of clashing events:";
+    public static final String MESSAGE_CLASH_WARNING = "Warning: this event clashes with %1$d other event(s):";
+
+    private final AgendaCommand.Span span;
+
+    /**
+     * Creates a {@code ClashesCommand} to list every clash from the current date onwards.
+     */
+    public ClashesCommand() {
+        this.span = null;
+    }
+
+    /**
+     * Creates a {@code ClashesCommand} to list the clashes over {@code span} from the current date.
+     */
+    public ClashesCommand(AgendaCommand.Span span) {
+        requireNonNull(span);
+        this.span = span;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<EventClash> clashes = span == null
+                ? model.getUpcomingEventClashes()
+                : model.getEventClashes(span.getRange(model.getAgendaIndex().getDate()));
+
+        if (clashes.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CLASHES).setIgnoreHistory(true);
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_CLASHES, clashes.size()));
+        for (EventClash clash : clashes) {
+            feedback.append("\n").append(clash);
+        }
+        return new CommandResult(feedback.toString()).setIgnoreHistory(true);
+    }
+
+    /**
+     * Returns a warning listing {@code clashes}, the clashes of a newly added or updated event, to be appended to
+     * the feedback of the command. Returns an empty string if there are none.
+     */
+    public static String describeClashes(List<EventClash> clashes) {
+        requireNonNull(clashes);
+
+        if (clashes.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder warning = new StringBuilder("\n").append(String.format(MESSAGE_CLASH_WARNING, clashes.size()));
+        for (EventClash clash : clashes) {
+            warning.append("\n").append(clash);
+        }
+        return warning.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClashesCommand // instanceof handles nulls
+                && span == ((ClashesCommand) other).span); // state check
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.storage.ProjectDeltaStorage;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +18,18 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command with access to where project deltas are stored, and returns the result message.
+     * Only commands that exchange deltas need the storage, so this executes the command on {@code model} alone
+     * unless it is overridden.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param deltaStorage {@code ProjectDeltaStorage} which the command may read deltas from and save deltas to.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult execute(Model model, ProjectDeltaStorage deltaStorage) throws CommandException {
+        return execute(model);
+    }
+
 }
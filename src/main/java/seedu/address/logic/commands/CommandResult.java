@@ -2,7 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.logic.uicommands.UiCommand;
 
@@ -19,6 +21,9 @@ public class CommandResult {
     /** Setting this boolean flag to true will ignore history **/
     private boolean ignoreHistory = false;
 
+    /** The file path of the CoLAB folder to open after the command, if any **/
+    private Path folderToOpen = null;
+
     /**
      * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} and {@code uiCommand}.
      * All other fields are set to their default value.
@@ -71,6 +76,22 @@ public class CommandResult {
         return this;
     }
 
+    public Optional<Path> getFolderToOpen() {
+        return Optional.ofNullable(folderToOpen);
+    }
+
+    /**
+     * Sets the file path of the CoLAB folder to open after the command.
+     *
+     * @param folderToOpen file path of the CoLAB folder to open.
+     * @return this, for method chaining.
+     */
+    public CommandResult setFolderToOpen(Path folderToOpen) {
+        requireNonNull(folderToOpen);
+        this.folderToOpen = folderToOpen;
+        return this;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -83,6 +104,9 @@ public class CommandResult {
         }
 
         CommandResult otherCommandResult = (CommandResult) other;
+        if (!Objects.equals(folderToOpen, otherCommandResult.folderToOpen)) {
+            return false;
+        }
 
         if (uiCommand == null || otherCommandResult.getUiCommand() == null) {
             return feedbackToUser.equals(otherCommandResult.feedbackToUser)
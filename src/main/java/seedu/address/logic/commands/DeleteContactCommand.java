@@ -1,8 +1,11 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_NO_INDEXES;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -12,23 +15,33 @@ import seedu.address.model.Model;
 import seedu.address.model.contact.Contact;
 
 /**
- * Deletes a Contact identified using it's displayed index from the contact list.
+ * Deletes Contacts identified using their displayed indexes from the contact list.
  */
 public class DeleteContactCommand extends Command {
 
     public static final String COMMAND_WORD = "deleteC";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the contact identified by the index number used in the displayed contact list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the contacts identified by the index numbers used in the displayed contact list.\n"
+            + "Parameters: INDEXES (one or more positive integers or ranges separated by commas)\n"
+            + "Example: " + COMMAND_WORD + " 1,3-4";
 
     public static final String MESSAGE_DELETE_CONTACT_SUCCESS = "Deleted contact: %1$s";
 
-    private final Index targetIndex;
+    private final List<Index> targetIndexes;
 
     public DeleteContactCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex));
+    }
+
+    /**
+     * Creates a DeleteContactCommand to delete every contact at {@code targetIndexes}.
+     */
+    public DeleteContactCommand(List<Index> targetIndexes) {
+        requireNonNull(targetIndexes);
+        checkArgument(!targetIndexes.isEmpty(), MESSAGE_NO_INDEXES);
+
+        this.targetIndexes = List.copyOf(targetIndexes);
     }
 
     @Override
@@ -36,13 +49,18 @@ public class DeleteContactCommand extends Command {
         requireNonNull(model);
         List<Contact> lastShownList = model.getFilteredContactList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+        if (targetIndexes.stream().anyMatch(index -> index.getZeroBased() >= lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX);
         }
 
-        Contact contactToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteContact(contactToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_CONTACT_SUCCESS, contactToDelete),
+        // the contacts are found before any is deleted, as each deletion shifts the displayed list
+        List<Contact> contactsToDelete = targetIndexes.stream()
+                .map(index -> lastShownList.get(index.getZeroBased()))
+                .collect(Collectors.toList());
+        model.deleteContacts(contactsToDelete);
+
+        String deletedContacts = contactsToDelete.stream().map(Contact::toString).collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_DELETE_CONTACT_SUCCESS, deletedContacts),
                 new ShowContactsUiCommand());
     }
 
@@ -50,6 +68,6 @@ public class DeleteContactCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteContactCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteContactCommand) other).targetIndex)); // state check
+                && targetIndexes.equals(((DeleteContactCommand) other).targetIndexes)); // state check
     }
 }
@@ -1,6 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_NO_INDEXES;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 
 import java.util.List;
@@ -15,32 +18,47 @@ import seedu.address.model.Model;
 import seedu.address.model.project.Project;
 
 /**
- * Deletes a Deadline identified using it's displayed index from CoLAB.
+ * Deletes Deadlines identified using their displayed indexes from CoLAB.
  */
 public class DeleteDeadlineCommand extends Command {
 
     public static final String COMMAND_WORD = "deleteD";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the deadline identified by the index number used within a displayed project.\n"
+            + ": Deletes the deadlines identified by the index numbers used within a displayed project.\n"
             + "Parameters: PROJECT_INDEX "
-            + PREFIX_INDEX + "DEADLINE_INDEX \n"
+            + PREFIX_INDEX + "DEADLINE_INDEXES \n"
+            + "DEADLINE_INDEXES is one or more indexes or ranges of indexes separated by commas, such as 1,3,5-9.\n"
             + "Example: " + COMMAND_WORD + " 1 "
-            + PREFIX_INDEX + " 1";
+            + PREFIX_INDEX + "1,3-4";
 
     private final Index projectIndex;
-    private final Index targetDeadlineIndex;
+    private final List<Index> targetDeadlineIndexes;
 
     private final Logger logger = LogsCenter.getLogger(DeleteDeadlineCommand.class);
 
     /**
      * Creates a DeleteDeadlineCommand to delete the specified {@code Deadline} from {@code Project}.
+     *
      * @param projectIndex Index of project that {@code Deadline} is to be deleted from.
-     * @param targetDeadlineIndex Index of Deadline that is to be deleted form {@code Project}.
+     * @param targetDeadlineIndex Index of deadline that is to be deleted from {@code Project}.
      */
     public DeleteDeadlineCommand(Index projectIndex, Index targetDeadlineIndex) {
+        this(projectIndex, List.of(targetDeadlineIndex));
+    }
+
+    /**
+     * Creates a DeleteDeadlineCommand to delete the specified {@code Deadline}s from {@code Project}.
+     *
+     * @param projectIndex Index of project that the {@code Deadline}s are to be deleted from.
+     * @param targetDeadlineIndexes Indexes of deadlines that are to be deleted from {@code Project}.
+     */
+    public DeleteDeadlineCommand(Index projectIndex, List<Index> targetDeadlineIndexes) {
+        requireAllNonNull(projectIndex, targetDeadlineIndexes);
+        checkArgument(!targetDeadlineIndexes.isEmpty(), MESSAGE_NO_INDEXES);
+
         this.projectIndex = projectIndex;
-        this.targetDeadlineIndex = targetDeadlineIndex;
+        this.targetDeadlineIndexes = List.copyOf(targetDeadlineIndexes);
     }
 
     @Override
@@ -53,20 +71,21 @@ public class DeleteDeadlineCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
         }
 
-        if (targetDeadlineIndex.getZeroBased() >= lastShownList.get(projectIndex.getZeroBased())
-                .getDeadlines().getSortedDeadlineList().size()) {
+        Project projectToEdit = lastShownList.get(projectIndex.getZeroBased());
+        requireNonNull(projectToEdit);
+
+        // every index is checked before any deadline is deleted, so a failed command changes nothing
+        int deadlineCount = projectToEdit.getDeadlines().getSortedDeadlineList().size();
+        if (targetDeadlineIndexes.stream().anyMatch(index -> index.getZeroBased() >= deadlineCount)) {
             logger.info("----------------[DeleteDeadlineCommand][Invalid Deadline Index]");
             throw new CommandException(Messages.MESSAGE_INVALID_DEADLINE_DISPLAYED_INDEX);
         }
 
-        Project projectToEdit = lastShownList.get(projectIndex.getZeroBased());
-        requireNonNull(projectToEdit);
-
-        projectToEdit.deleteDeadline(targetDeadlineIndex.getZeroBased());
+        projectToEdit.deleteDeadlines(Index.toZeroBased(targetDeadlineIndexes));
         model.updateFilteredProjectList(Model.PREDICATE_SHOW_ALL_PROJECTS);
 
         return new CommandResult(String.format(Messages.MESSAGE_DELETE_DEADLINE_SUCCESS,
-                targetDeadlineIndex.getOneBased(), projectToEdit.getProjectName()),
+                Index.toOneBasedString(targetDeadlineIndexes), projectToEdit.getProjectName()),
                 new ViewProjectAndOverviewUiCommand(projectIndex));
     }
 
@@ -75,7 +94,7 @@ public class DeleteDeadlineCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof DeleteDeadlineCommand // instanceof handles nulls
                 && projectIndex.equals(((DeleteDeadlineCommand) other).projectIndex))
-                && targetDeadlineIndex.equals(((DeleteDeadlineCommand) other).targetDeadlineIndex); // state check
+                && targetDeadlineIndexes.equals(((DeleteDeadlineCommand) other).targetDeadlineIndexes); // state check
     }
 
 }
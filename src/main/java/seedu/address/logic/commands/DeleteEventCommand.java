@@ -1,6 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_NO_INDEXES;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 
 import java.util.List;
@@ -15,21 +18,22 @@ import seedu.address.model.Model;
 import seedu.address.model.project.Project;
 
 /**
- * Deletes a Event identified using it's displayed index from CoLAB.
+ * Deletes Events identified using their displayed indexes from CoLAB.
  */
 public class DeleteEventCommand extends Command {
 
     public static final String COMMAND_WORD = "deleteE";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the event identified by the index number used within the displayed project.\n"
+            + ": Deletes the events identified by the index numbers used within the displayed project.\n"
             + "Parameters: PROJECT_INDEX "
-            + PREFIX_INDEX + "EVENT_INDEX \n"
+            + PREFIX_INDEX + "EVENT_INDEXES \n"
+            + "EVENT_INDEXES is one or more indexes or ranges of indexes separated by commas, such as 1,3,5-9.\n"
             + "Example: " + COMMAND_WORD + " 1 "
-            + PREFIX_INDEX + " 1";
+            + PREFIX_INDEX + "1,3-4";
 
     private final Index projectIndex;
-    private final Index targetEventIndex;
+    private final List<Index> targetEventIndexes;
 
     private final Logger logger = LogsCenter.getLogger(DeleteEventCommand.class);
 
@@ -37,11 +41,24 @@ public class DeleteEventCommand extends Command {
      * Creates a DeleteEventCommand to delete the specified {@code Event} from {@code Project}.
      *
      * @param projectIndex Index of project that {@code Event} is to be deleted from.
-     * @param targetEventIndex Index of event that is to be deleted form {@code Project}.
+     * @param targetEventIndex Index of event that is to be deleted from {@code Project}.
      */
     public DeleteEventCommand(Index projectIndex, Index targetEventIndex) {
+        this(projectIndex, List.of(targetEventIndex));
+    }
+
+    /**
+     * Creates a DeleteEventCommand to delete the specified {@code Event}s from {@code Project}.
+     *
+     * @param projectIndex Index of project that the {@code Event}s are to be deleted from.
+     * @param targetEventIndexes Indexes of events that are to be deleted from {@code Project}.
+     */
+    public DeleteEventCommand(Index projectIndex, List<Index> targetEventIndexes) {
+        requireAllNonNull(projectIndex, targetEventIndexes);
+        checkArgument(!targetEventIndexes.isEmpty(), MESSAGE_NO_INDEXES);
+
         this.projectIndex = projectIndex;
-        this.targetEventIndex = targetEventIndex;
+        this.targetEventIndexes = List.copyOf(targetEventIndexes);
     }
 
     @Override
@@ -54,20 +71,22 @@ public class DeleteEventCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
         }
 
-        if (targetEventIndex.getZeroBased() >= lastShownList.get(projectIndex.getZeroBased())
-                .getEvents().getSortedEventList().size()) {
+        Project projectToEdit = lastShownList.get(projectIndex.getZeroBased());
+        requireNonNull(projectToEdit);
+
+        // every index is checked before any event is deleted, so a failed command changes nothing
+        int eventCount = projectToEdit.getEvents().getSortedEventList().size();
+        if (targetEventIndexes.stream().anyMatch(index -> index.getZeroBased() >= eventCount)) {
             logger.info("----------------[DeleteEventCommand][Invalid Event Index]");
             throw new CommandException(Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX);
         }
 
-        Project projectToEdit = lastShownList.get(projectIndex.getZeroBased());
-        requireNonNull(projectToEdit);
-
-        projectToEdit.deleteEvent(targetEventIndex.getZeroBased());
+        projectToEdit.deleteEvents(Index.toZeroBased(targetEventIndexes));
         model.updateFilteredProjectList(Model.PREDICATE_SHOW_ALL_PROJECTS);
 
-        return new CommandResult(String.format(Messages.MESSAGE_DELETE_EVENT_SUCCESS, targetEventIndex.getOneBased(),
-                projectToEdit.getProjectName()), new ViewProjectAndOverviewUiCommand(projectIndex));
+        return new CommandResult(String.format(Messages.MESSAGE_DELETE_EVENT_SUCCESS,
+                Index.toOneBasedString(targetEventIndexes), projectToEdit.getProjectName()),
+                new ViewProjectAndOverviewUiCommand(projectIndex));
     }
 
     @Override
@@ -75,7 +94,7 @@ public class DeleteEventCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof DeleteEventCommand // instanceof handles nulls
                 && projectIndex.equals(((DeleteEventCommand) other).projectIndex))
-                && targetEventIndex.equals(((DeleteEventCommand) other).targetEventIndex); // state check
+                && targetEventIndexes.equals(((DeleteEventCommand) other).targetEventIndexes); // state check
     }
 
 }
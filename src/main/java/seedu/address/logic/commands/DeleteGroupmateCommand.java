@@ -2,40 +2,54 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_DELETE_GROUPMATE_SUCCESS;
+import static seedu.address.commons.core.Messages.MESSAGE_NO_INDEXES;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.uicommands.ViewProjectAndOverviewUiCommand;
 import seedu.address.model.Model;
-import seedu.address.model.groupmate.Groupmate;
 import seedu.address.model.project.Project;
 
 /**
- * Deletes a project identified using it's displayed index from the project list.
+ * Deletes groupmates identified using their displayed indexes from a project.
  */
 public class DeleteGroupmateCommand extends Command {
 
     public static final String COMMAND_WORD = "deleteG";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the groupmate identified by the index number used within the displayed project.\n"
+            + ": Deletes the groupmates identified by the index numbers used within the displayed project.\n"
             + "Parameters: PROJECT_INDEX "
-            + PREFIX_INDEX + "GROUPMATE_INDEX \n"
-            + "Example: " + COMMAND_WORD + " 1" + PREFIX_INDEX + " 1";
+            + PREFIX_INDEX + "GROUPMATE_INDEXES \n"
+            + "GROUPMATE_INDEXES is one or more indexes or ranges of indexes separated by commas, such as 1,3,5-9.\n"
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_INDEX + "1,3-4";
 
     private final Index targetProjectIndex;
-    private final Index targetGroupmateIndex;
+    private final List<Index> targetGroupmateIndexes;
 
     /**
      * Constructs a new DeleteGroupmateCommand with the given indexes.
      */
     public DeleteGroupmateCommand(Index targetProjectIndex, Index targetGroupmateIndex) {
+        this(targetProjectIndex, List.of(targetGroupmateIndex));
+    }
+
+    /**
+     * Constructs a new DeleteGroupmateCommand that deletes every groupmate at {@code targetGroupmateIndexes}.
+     */
+    public DeleteGroupmateCommand(Index targetProjectIndex, List<Index> targetGroupmateIndexes) {
+        requireAllNonNull(targetProjectIndex, targetGroupmateIndexes);
+        checkArgument(!targetGroupmateIndexes.isEmpty(), MESSAGE_NO_INDEXES);
+
         this.targetProjectIndex = targetProjectIndex;
-        this.targetGroupmateIndex = targetGroupmateIndex;
+        this.targetGroupmateIndexes = List.copyOf(targetGroupmateIndexes);
     }
 
     @Override
@@ -48,16 +62,20 @@ public class DeleteGroupmateCommand extends Command {
         }
         Project projectToEdit = lastShownList.get(targetProjectIndex.getZeroBased());
 
-        if (targetGroupmateIndex.getZeroBased() >= projectToEdit.getGroupmates().size()) {
+        // every index is checked before any groupmate is deleted, so a failed command changes nothing
+        int groupmateCount = projectToEdit.getGroupmates().size();
+        if (targetGroupmateIndexes.stream().anyMatch(index -> index.getZeroBased() >= groupmateCount)) {
             throw new CommandException(Messages.MESSAGE_INVALID_GROUPMATE_DISPLAYED_INDEX);
         }
-        Groupmate groupmateToDelete = projectToEdit.getGroupmate(targetGroupmateIndex.getZeroBased());
+        String groupmateNames = targetGroupmateIndexes.stream()
+                .map(index -> projectToEdit.getGroupmate(index.getZeroBased()).getName().toString())
+                .collect(Collectors.joining(", "));
 
-        projectToEdit.deleteGroupmate(targetGroupmateIndex.getZeroBased());
+        projectToEdit.deleteGroupmates(Index.toZeroBased(targetGroupmateIndexes));
         model.updateFilteredProjectList(Model.PREDICATE_SHOW_ALL_PROJECTS);
 
         return new CommandResult(String.format(MESSAGE_DELETE_GROUPMATE_SUCCESS,
-                groupmateToDelete.getName(), projectToEdit.getProjectName()),
+                groupmateNames, projectToEdit.getProjectName()),
                 new ViewProjectAndOverviewUiCommand(targetProjectIndex));
     }
 
@@ -66,6 +84,6 @@ public class DeleteGroupmateCommand extends Command {
         return other == this //short circuit if same project
                 || (other instanceof DeleteGroupmateCommand // instanceof handles nulls
                 && targetProjectIndex.equals(((DeleteGroupmateCommand) other).targetProjectIndex)
-                && targetGroupmateIndex.equals(((DeleteGroupmateCommand) other).targetGroupmateIndex));
+                && targetGroupmateIndexes.equals(((DeleteGroupmateCommand) other).targetGroupmateIndexes));
     }
 }
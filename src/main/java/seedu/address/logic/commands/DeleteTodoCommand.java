@@ -1,6 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_NO_INDEXES;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 
 import java.util.List;
@@ -13,31 +16,45 @@ import seedu.address.model.Model;
 import seedu.address.model.project.Project;
 
 /**
- * Deletes a Todo identified using it's displayed index from CoLAB.
+ * Deletes Todos identified using their displayed indexes from CoLAB.
  */
 public class DeleteTodoCommand extends Command {
 
     public static final String COMMAND_WORD = "deleteT";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the todo identified by the index number used within the displayed project.\n"
-            + "Parameters: PROJECT_INDEX"
-            + PREFIX_INDEX + "TODO_INDEX\n"
+            + ": Deletes the todos identified by the index numbers used within the displayed project.\n"
+            + "Parameters: PROJECT_INDEX "
+            + PREFIX_INDEX + "TODO_INDEXES \n"
+            + "TODO_INDEXES is one or more indexes or ranges of indexes separated by commas, such as 1,3,5-9.\n"
             + "Example: " + COMMAND_WORD + " 1 "
-            + PREFIX_INDEX + " 1";
+            + PREFIX_INDEX + "1,3-4";
 
     private final Index projectIndex;
-    private final Index targetTodoIndex;
+    private final List<Index> targetTodoIndexes;
 
     /**
      * Creates a DeleteTodoCommand to delete the specified {@code Todo} from {@code Project}.
      *
      * @param projectIndex Index of project that {@code Todo} is to be deleted from.
-     * @param targetTodoIndex Index of todo that is to be deleted form {@code Project}.
+     * @param targetTodoIndex Index of todo that is to be deleted from {@code Project}.
      */
     public DeleteTodoCommand(Index projectIndex, Index targetTodoIndex) {
+        this(projectIndex, List.of(targetTodoIndex));
+    }
+
+    /**
+     * Creates a DeleteTodoCommand to delete the specified {@code Todo}s from {@code Project}.
+     *
+     * @param projectIndex Index of project that the {@code Todo}s are to be deleted from.
+     * @param targetTodoIndexes Indexes of todos that are to be deleted from {@code Project}.
+     */
+    public DeleteTodoCommand(Index projectIndex, List<Index> targetTodoIndexes) {
+        requireAllNonNull(projectIndex, targetTodoIndexes);
+        checkArgument(!targetTodoIndexes.isEmpty(), MESSAGE_NO_INDEXES);
+
         this.projectIndex = projectIndex;
-        this.targetTodoIndex = targetTodoIndex;
+        this.targetTodoIndexes = List.copyOf(targetTodoIndexes);
     }
 
     @Override
@@ -49,19 +66,21 @@ public class DeleteTodoCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
         }
 
-        if (targetTodoIndex.getZeroBased() >= lastShownList.get(projectIndex.getZeroBased())
-                .getTodos().getSortedTodos().size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TODO_DISPLAYED_INDEX);
-        }
-
         Project projectToEdit = lastShownList.get(projectIndex.getZeroBased());
         requireNonNull(projectToEdit);
 
-        projectToEdit.deleteTodo(targetTodoIndex.getZeroBased());
+        // every index is checked before any todo is deleted, so a failed command changes nothing
+        int todoCount = projectToEdit.getTodos().getSortedTodos().size();
+        if (targetTodoIndexes.stream().anyMatch(index -> index.getZeroBased() >= todoCount)) {
+            throw new CommandException(Messages.MESSAGE_INVALID_TODO_DISPLAYED_INDEX);
+        }
+
+        projectToEdit.deleteTodos(Index.toZeroBased(targetTodoIndexes));
         model.updateFilteredProjectList(Model.PREDICATE_SHOW_ALL_PROJECTS);
 
-        return new CommandResult(String.format(Messages.MESSAGE_DELETE_TODO_SUCCESS, targetTodoIndex.getOneBased(),
-                projectToEdit.getProjectName()), new ViewProjectAndTodosUiCommand(projectIndex));
+        return new CommandResult(String.format(Messages.MESSAGE_DELETE_TODO_SUCCESS,
+                Index.toOneBasedString(targetTodoIndexes), projectToEdit.getProjectName()),
+                new ViewProjectAndTodosUiCommand(projectIndex));
     }
 
     @Override
@@ -69,7 +88,7 @@ public class DeleteTodoCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof DeleteTodoCommand // instanceof handles nulls
                 && projectIndex.equals(((DeleteTodoCommand) other).projectIndex))
-                && targetTodoIndex.equals(((DeleteTodoCommand) other).targetTodoIndex); // state check
+                && targetTodoIndexes.equals(((DeleteTodoCommand) other).targetTodoIndexes); // state check
     }
 
 }
@@ -0,0 +1,117 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPLY_TO;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.project.Project;
+import seedu.address.model.sync.ProjectDelta;
+import seedu.address.storage.ProjectDeltaStorage;
+
+/**
+ * Saves the changes to a project that a teammate's replica of it may not have received to a delta file.
+ * The teammate is known by a delta file they sent, or is taken to have received nothing if there is none.
+ */
+public class ExportDeltaCommand extends Command {
+
+    public static final String COMMAND_WORD = "exportDelta";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves the changes to the events, todos, deadlines "
+            + "and groupmates of the project identified by the index number used in the side panel to a delta "
+            + "file. Given a delta file from a teammate, only the changes since their copy of the project last "
+            + "received them are saved; otherwise every change is saved.\n"
+            + "Parameters: PROJECT_INDEX " + PREFIX_FILE + "DELTA_FILE [" + PREFIX_REPLY_TO + "TEAMMATE_DELTA_FILE]\n"
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_FILE + "alice-to-bob.json " + PREFIX_REPLY_TO
+            + "bob-to-alice.json";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d change(s) to project %2$s to %3$s";
+    public static final String MESSAGE_DELTA_STORAGE_NEEDED = "Deltas can only be exported by a command run on "
+            + "its own.";
+    public static final String MESSAGE_WRITE_ERROR = "Could not save the delta to file: ";
+    public static final String MESSAGE_OTHER_PROJECT = "The delta in %1$s is for project %2$s, not %3$s";
+
+    private final Index index;
+    private final Path deltaFile;
+    private final Path teammateDeltaFile;
+
+    /**
+     * Creates an {@code ExportDeltaCommand} that saves every change to the project at {@code index} to
+     * {@code deltaFile}.
+     */
+    public ExportDeltaCommand(Index index, Path deltaFile) {
+        requireNonNull(index);
+        requireNonNull(deltaFile);
+        this.index = index;
+        this.deltaFile = deltaFile;
+        teammateDeltaFile = null;
+    }
+
+    /**
+     * Creates an {@code ExportDeltaCommand} that saves the changes to the project at {@code index} that the teammate
+     * who sent the delta in {@code teammateDeltaFile} has not received to {@code deltaFile}.
+     */
+    public ExportDeltaCommand(Index index, Path deltaFile, Path teammateDeltaFile) {
+        requireNonNull(index);
+        requireNonNull(deltaFile);
+        requireNonNull(teammateDeltaFile);
+        this.index = index;
+        this.deltaFile = deltaFile;
+        this.teammateDeltaFile = teammateDeltaFile;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_DELTA_STORAGE_NEEDED);
+    }
+
+    @Override
+    public CommandResult execute(Model model, ProjectDeltaStorage deltaStorage) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(deltaStorage);
+        List<Project> lastShownList = model.getFilteredProjectList();
+
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
+        }
+
+        Project project = lastShownList.get(index.getZeroBased());
+        ProjectDelta delta;
+        if (teammateDeltaFile == null) {
+            delta = project.getSyncLog().exportDelta(project.getProjectName());
+        } else {
+            ProjectDelta teammateDelta = ImportDeltaCommand.readDelta(deltaStorage, teammateDeltaFile);
+            if (!teammateDelta.getProjectName().equals(project.getProjectName())) {
+                throw new CommandException(String.format(MESSAGE_OTHER_PROJECT, teammateDeltaFile,
+                        teammateDelta.getProjectName(), project.getProjectName()));
+            }
+            delta = project.getSyncLog().exportDelta(project.getProjectName(), teammateDelta.getReplicaId());
+        }
+        try {
+            deltaStorage.saveProjectDelta(delta, deltaFile);
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_WRITE_ERROR + e, e);
+        }
+
+        // the project is not changed, so there is nothing to undo
+        return new CommandResult(String.format(MESSAGE_SUCCESS, delta.getChanges().size(), project.getProjectName(),
+                deltaFile)).setIgnoreHistory(true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportDeltaCommand // instanceof handles nulls
+                && index.equals(((ExportDeltaCommand) other).index)
+                && deltaFile.equals(((ExportDeltaCommand) other).deltaFile)
+                && Objects.equals(teammateDeltaFile, ((ExportDeltaCommand) other).teammateDeltaFile));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.uicommands.ShowContactsUiCommand;
+import seedu.address.model.Model;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.TagQuery;
+
+/**
+ * Filters the contact list to the contacts whose tags satisfy a {@code TagQuery}.
+ * Tag matching is case insensitive.
+ */
+public class FilterContactCommand extends Command {
+
+    public static final String COMMAND_WORD = "filterC";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays the contacts whose tags satisfy every "
+            + "tag condition (case-insensitive). A condition of tags separated by | is satisfied by any of the tags, "
+            + "and a condition starting with ! is satisfied by none of them.\n"
+            + "Parameters: " + PREFIX_TAG + "[!]TAG[|TAG]... [" + PREFIX_TAG + "[!]TAG[|TAG]...]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "friends|family " + PREFIX_TAG + "!owesMoney";
+
+    private final TagQuery query;
+
+    /**
+     * Creates a {@code FilterContactCommand} to filter the contacts by {@code query}.
+     */
+    public FilterContactCommand(TagQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Contact> matches = model.searchContacts(query);
+        model.updateFilteredContactList(matches::contains);
+        return new CommandResult(Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW,
+                new ShowContactsUiCommand()).setIgnoreHistory(true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterContactCommand // instanceof handles nulls
+                && query.equals(((FilterContactCommand) other).query)); // state check
+    }
+}
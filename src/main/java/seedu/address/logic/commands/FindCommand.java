@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.search.SearchHit;
+
+/**
+ * Finds all projects, groupmates, events, deadlines and todos whose name or description contains the given text.
+ * Matching is case insensitive.
+ */
+public class FindCommand extends Command {
+
+    public static final String COMMAND_WORD = "find";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all projects, groupmates, events, deadlines "
+            + "and todos whose name or description contains the specified text (case-insensitive), "
+            + "and lists them with their project and item index numbers.\n"
+            + "Parameters: TEXT\n"
+            + "Example: " + COMMAND_WORD + " report";
+
+    public static final String MESSAGE_NO_MATCHES = "No matches found for \"%1$s\".";
+    public static final String MESSAGE_MATCHES_FOUND = "Found %1$d match(es) for \"%2$s\":";
+
+    private final String query;
+
+    /**
+     * Creates a {@code FindCommand} to find the items containing {@code query}.
+     */
+    public FindCommand(String query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<SearchHit> hits = model.searchProjects(query);
+
+        if (hits.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_MATCHES, query)).setIgnoreHistory(true);
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_MATCHES_FOUND, hits.size(), query));
+        for (SearchHit hit : hits) {
+            feedback.append("\n").append(hit);
+        }
+        return new CommandResult(feedback.toString()).setIgnoreHistory(true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindCommand // instanceof handles nulls
+                && query.equals(((FindCommand) other).query)); // state check
+    }
+}
@@ -1,35 +1,54 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.uicommands.ShowContactsUiCommand;
 import seedu.address.model.Model;
-import seedu.address.model.contact.NameContainsKeywordsPredicate;
+import seedu.address.model.contact.ContactQuery;
+import seedu.address.model.contact.ContactSearchResult;
 
 /**
- * Finds and lists all Contacts in the contact list whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all Contacts in the contact list that match the given keywords and field-qualified terms,
+ * with the most relevant contacts first.
+ * Keyword matching is case insensitive, and fuzzy keywords tolerate a few typos in the name.
  */
 public class FindContactCommand extends Command {
 
     public static final String COMMAND_WORD = "findC";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all contacts whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
-
-    private final NameContainsKeywordsPredicate predicate;
-
-    public FindContactCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all contacts containing any of "
+            + "the specified keywords (case-insensitive) in any field, and every specified term in its given field, "
+            + "and displays them as a list with index numbers, most relevant first. "
+            + "Keywords starting with ~ also match names with a few typos.\n"
+            + "Parameters: [[~]KEYWORD]... "
+            + "[" + PREFIX_NAME + "NAME]... "
+            + "[" + PREFIX_PHONE + "PHONE]... "
+            + "[" + PREFIX_EMAIL + "EMAIL]... "
+            + "[" + PREFIX_ADDRESS + "ADDRESS]... "
+            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " alice ~jonh " + PREFIX_TAG + "friends";
+
+    private final ContactQuery query;
+
+    /**
+     * Creates a {@code FindContactCommand} to find the contacts matching {@code query}.
+     */
+    public FindContactCommand(ContactQuery query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredContactList(predicate);
+        ContactSearchResult result = model.searchContacts(query);
+        model.updateFilteredContactList(result, result.getComparator());
         return new CommandResult(
                 String.format(Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW),
                 new ShowContactsUiCommand()).setIgnoreHistory(true);
@@ -39,6 +58,6 @@ public class FindContactCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindContactCommand // instanceof handles nulls
-                && predicate.equals(((FindContactCommand) other).predicate)); // state check
+                && query.equals(((FindContactCommand) other).query)); // state check
     }
 }
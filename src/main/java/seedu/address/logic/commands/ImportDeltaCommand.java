@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.uicommands.ViewProjectAndOverviewUiCommand;
+import seedu.address.model.Model;
+import seedu.address.model.project.Project;
+import seedu.address.model.sync.ProjectDelta;
+import seedu.address.model.sync.SyncLog;
+import seedu.address.storage.ProjectDeltaStorage;
+
+/**
+ * Applies the changes in a delta file exported from another replica of a project to the project of the same name.
+ */
+public class ImportDeltaCommand extends Command {
+
+    public static final String COMMAND_WORD = "importDelta";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Applies the changes in a delta file exported by a "
+            + "teammate to the project of the same name, creating the project if there is none. If you and your "
+            + "teammate both changed an item, the later change is kept.\n"
+            + "Parameters: " + PREFIX_FILE + "DELTA_FILE\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "bob-to-alice.json";
+
+    public static final String MESSAGE_SUCCESS = "Imported changes to project %1$s: %2$d applied, %3$d conflicting "
+            + "change(s) resolved, %4$d already known";
+    public static final String MESSAGE_DELTA_NOT_FOUND = "There is no delta file at %1$s";
+    public static final String MESSAGE_DELTA_STORAGE_NEEDED = "Deltas can only be imported by a command run on "
+            + "its own.";
+    public static final String MESSAGE_READ_ERROR = "Could not read the delta from file: ";
+
+    private final Path deltaFile;
+
+    /**
+     * Creates an {@code ImportDeltaCommand} that applies the changes in {@code deltaFile}.
+     */
+    public ImportDeltaCommand(Path deltaFile) {
+        requireNonNull(deltaFile);
+        this.deltaFile = deltaFile;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_DELTA_STORAGE_NEEDED);
+    }
+
+    @Override
+    public CommandResult execute(Model model, ProjectDeltaStorage deltaStorage) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(deltaStorage);
+
+        ProjectDelta delta = readDelta(deltaStorage, deltaFile);
+        Project project = findProject(model, delta).orElseGet(() -> new Project(delta.getProjectName()));
+        if (delta.getReplicaId().equals(project.getSyncLog().getReplicaId())) {
+            throw new CommandException(SyncLog.MESSAGE_OWN_DELTA);
+        }
+        if (!model.hasProject(project)) {
+            model.addProject(project);
+        }
+
+        SyncLog.ImportResult result = project.getSyncLog().importDelta(delta);
+        model.updateFilteredProjectList(Model.PREDICATE_SHOW_ALL_PROJECTS);
+        Index index = Index.fromZeroBased(model.getFilteredProjectList().indexOf(project));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, project.getProjectName(), result.getAppliedCount(),
+                result.getConflictCount(), result.getSkippedCount()), new ViewProjectAndOverviewUiCommand(index));
+    }
+
+    /**
+     * Returns the delta in {@code deltaFile}.
+     */
+    static ProjectDelta readDelta(ProjectDeltaStorage deltaStorage, Path deltaFile) throws CommandException {
+        Optional<ProjectDelta> delta;
+        try {
+            delta = deltaStorage.readProjectDelta(deltaFile);
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(MESSAGE_READ_ERROR + e, e);
+        }
+        return delta.orElseThrow(() -> new CommandException(String.format(MESSAGE_DELTA_NOT_FOUND, deltaFile)));
+    }
+
+    private static Optional<Project> findProject(Model model, ProjectDelta delta) {
+        List<Project> projects = model.getColabFolder().getProjectsList();
+        return projects.stream()
+                .filter(project -> project.getProjectName().equals(delta.getProjectName()))
+                .findFirst();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportDeltaCommand // instanceof handles nulls
+                && deltaFile.equals(((ImportDeltaCommand) other).deltaFile));
+    }
+}
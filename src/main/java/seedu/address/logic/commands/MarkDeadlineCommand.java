@@ -1,6 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_NO_INDEXES;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MARK_TASK_INDEX;
 
 import java.util.List;
@@ -11,25 +14,27 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.uicommands.ViewProjectAndOverviewUiCommand;
 import seedu.address.model.Model;
 import seedu.address.model.project.Project;
+import seedu.address.model.task.CompletableDeadline;
 
 /**
- * Marks a Deadline as done. The Deadline is identified using it's displayed index from CoLAB.
+ * Marks Deadlines as done. The Deadlines are identified using their displayed indexes from CoLAB.
  */
 public class MarkDeadlineCommand extends Command {
 
     public static final String COMMAND_WORD = "markD";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Marks the deadline identified by the index number used within the displayed project as done.\n"
-            + "Parameters: PROJECT_INDEX"
-            + PREFIX_MARK_TASK_INDEX + "DEADLINE_INDEX \n"
+            + ": Marks the deadlines identified by the index numbers used within the displayed project as done.\n"
+            + "Parameters: PROJECT_INDEX "
+            + PREFIX_MARK_TASK_INDEX + "DEADLINE_INDEXES \n"
+            + "DEADLINE_INDEXES is one or more indexes or ranges of indexes separated by commas, such as 1,3,5-9.\n"
             + "Example: " + COMMAND_WORD + " 1 "
-            + PREFIX_MARK_TASK_INDEX + " 1";
+            + PREFIX_MARK_TASK_INDEX + "1,3";
 
     public static final String MESSAGE_ALREADY_MARKED_DEADLINE = "This deadline has already been marked as done.";
 
     private final Index projectIndex;
-    private final Index targetDeadlineIndex;
+    private final List<Index> targetDeadlineIndexes;
 
     /**
      * Creates a MarkDeadlineCommand to mark the specified {@code Deadline} from {@code Project} as done.
@@ -38,8 +43,21 @@ public class MarkDeadlineCommand extends Command {
      * @param targetDeadlineIndex Index of deadline in {@code Project} that is to be marked as done.
      */
     public MarkDeadlineCommand(Index projectIndex, Index targetDeadlineIndex) {
+        this(projectIndex, List.of(targetDeadlineIndex));
+    }
+
+    /**
+     * Creates a MarkDeadlineCommand to mark the specified {@code Deadline}s from {@code Project} as done.
+     *
+     * @param projectIndex Index of project in which the {@code Deadline}s are to be marked as done.
+     * @param targetDeadlineIndexes Indexes of deadlines in {@code Project} that are to be marked as done.
+     */
+    public MarkDeadlineCommand(Index projectIndex, List<Index> targetDeadlineIndexes) {
+        requireAllNonNull(projectIndex, targetDeadlineIndexes);
+        checkArgument(!targetDeadlineIndexes.isEmpty(), MESSAGE_NO_INDEXES);
+
         this.projectIndex = projectIndex;
-        this.targetDeadlineIndex = targetDeadlineIndex;
+        this.targetDeadlineIndexes = List.copyOf(targetDeadlineIndexes);
     }
 
     @Override
@@ -51,23 +69,25 @@ public class MarkDeadlineCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
         }
 
-        if (targetDeadlineIndex.getZeroBased() >= lastShownList.get(projectIndex.getZeroBased())
-                .getSortedDeadlines().size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_DEADLINE_DISPLAYED_INDEX);
-        }
-
         Project projectToEdit = lastShownList.get(projectIndex.getZeroBased());
         requireNonNull(projectToEdit);
-
-        if (projectToEdit.getSortedDeadlines().get(targetDeadlineIndex.getZeroBased()).getIsDone()) {
-            throw new CommandException(MESSAGE_ALREADY_MARKED_DEADLINE);
+        List<CompletableDeadline> deadlines = projectToEdit.getSortedDeadlines();
+
+        // every deadline is checked before any is marked, so a failed command changes nothing
+        for (Index targetDeadlineIndex : targetDeadlineIndexes) {
+            if (targetDeadlineIndex.getZeroBased() >= deadlines.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_DEADLINE_DISPLAYED_INDEX);
+            }
+            if (deadlines.get(targetDeadlineIndex.getZeroBased()).getIsDone()) {
+                throw new CommandException(MESSAGE_ALREADY_MARKED_DEADLINE);
+            }
         }
 
-        projectToEdit.markDeadline(targetDeadlineIndex.getZeroBased());
+        projectToEdit.markDeadlines(Index.toZeroBased(targetDeadlineIndexes));
         model.updateFilteredProjectList(Model.PREDICATE_SHOW_ALL_PROJECTS);
 
-        return new CommandResult(String.format(Messages.MESSAGE_MARK_DEADLINE_SUCCESS, targetDeadlineIndex
-                .getOneBased()), new ViewProjectAndOverviewUiCommand(projectIndex));
+        return new CommandResult(String.format(Messages.MESSAGE_MARK_DEADLINE_SUCCESS,
+                Index.toOneBasedString(targetDeadlineIndexes)), new ViewProjectAndOverviewUiCommand(projectIndex));
     }
 
     @Override
@@ -75,7 +95,7 @@ public class MarkDeadlineCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof MarkDeadlineCommand // instanceof handles nulls
                 && projectIndex.equals(((MarkDeadlineCommand) other).projectIndex))
-                && targetDeadlineIndex.equals(((MarkDeadlineCommand) other).targetDeadlineIndex); // state check
+                && targetDeadlineIndexes.equals(((MarkDeadlineCommand) other).targetDeadlineIndexes); // state check
     }
 
 }
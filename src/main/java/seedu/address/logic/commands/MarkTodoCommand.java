@@ -1,6 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_NO_INDEXES;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MARK_TASK_INDEX;
 
 import java.util.List;
@@ -11,25 +14,27 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.uicommands.ViewProjectAndTodosUiCommand;
 import seedu.address.model.Model;
 import seedu.address.model.project.Project;
+import seedu.address.model.task.CompletableTodo;
 
 /**
- * Marks a Todo as done. The Todo is identified using it's displayed index from CoLAB.
+ * Marks Todos as done. The Todos are identified using their displayed indexes from CoLAB.
  */
 public class MarkTodoCommand extends Command {
 
     public static final String COMMAND_WORD = "markT";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Marks the todo identified by the index number used within the displayed project as done.\n"
-            + "Parameters: PROJECT_INDEX"
-            + PREFIX_MARK_TASK_INDEX + "TODO_INDEX \n"
+            + ": Marks the todos identified by the index numbers used within the displayed project as done.\n"
+            + "Parameters: PROJECT_INDEX "
+            + PREFIX_MARK_TASK_INDEX + "TODO_INDEXES \n"
+            + "TODO_INDEXES is one or more indexes or ranges of indexes separated by commas, such as 1,3,5-9.\n"
             + "Example: " + COMMAND_WORD + " 1 "
-            + PREFIX_MARK_TASK_INDEX + " 2";
+            + PREFIX_MARK_TASK_INDEX + "2,4-6";
 
     public static final String MESSAGE_ALREADY_MARKED_TODO = "This todo has already been marked as done.";
 
     private final Index projectIndex;
-    private final Index targetTodoIndex;
+    private final List<Index> targetTodoIndexes;
 
     /**
      * Creates a MarkTodoCommand to mark the specified {@code Todo} from {@code Project} as done.
@@ -38,8 +43,21 @@ public class MarkTodoCommand extends Command {
      * @param targetTodoIndex Index of todo in {@code Project} that is to be marked as done.
      */
     public MarkTodoCommand(Index projectIndex, Index targetTodoIndex) {
+        this(projectIndex, List.of(targetTodoIndex));
+    }
+
+    /**
+     * Creates a MarkTodoCommand to mark the specified {@code Todo}s from {@code Project} as done.
+     *
+     * @param projectIndex Index of project in which the {@code Todo}s are to be marked as done.
+     * @param targetTodoIndexes Indexes of todos in {@code Project} that are to be marked as done.
+     */
+    public MarkTodoCommand(Index projectIndex, List<Index> targetTodoIndexes) {
+        requireAllNonNull(projectIndex, targetTodoIndexes);
+        checkArgument(!targetTodoIndexes.isEmpty(), MESSAGE_NO_INDEXES);
+
         this.projectIndex = projectIndex;
-        this.targetTodoIndex = targetTodoIndex;
+        this.targetTodoIndexes = List.copyOf(targetTodoIndexes);
     }
 
     @Override
@@ -51,23 +69,25 @@ public class MarkTodoCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
         }
 
-        if (targetTodoIndex.getZeroBased() >= lastShownList.get(projectIndex.getZeroBased())
-                .getSortedTodos().size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TODO_DISPLAYED_INDEX);
-        }
-
         Project projectToEdit = lastShownList.get(projectIndex.getZeroBased());
         requireNonNull(projectToEdit);
-
-        if (projectToEdit.getSortedTodos().get(targetTodoIndex.getZeroBased()).getIsDone()) {
-            throw new CommandException(MESSAGE_ALREADY_MARKED_TODO);
+        List<CompletableTodo> todos = projectToEdit.getSortedTodos();
+
+        // every todo is checked before any is marked, so a failed command changes nothing
+        for (Index targetTodoIndex : targetTodoIndexes) {
+            if (targetTodoIndex.getZeroBased() >= todos.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_TODO_DISPLAYED_INDEX);
+            }
+            if (todos.get(targetTodoIndex.getZeroBased()).getIsDone()) {
+                throw new CommandException(MESSAGE_ALREADY_MARKED_TODO);
+            }
         }
 
-        projectToEdit.markTodo(targetTodoIndex.getZeroBased());
+        projectToEdit.markTodos(Index.toZeroBased(targetTodoIndexes));
         model.updateFilteredProjectList(Model.PREDICATE_SHOW_ALL_PROJECTS);
 
-        return new CommandResult(String.format(Messages.MESSAGE_MARK_TODO_SUCCESS, targetTodoIndex.getOneBased()),
-                new ViewProjectAndTodosUiCommand(projectIndex));
+        return new CommandResult(String.format(Messages.MESSAGE_MARK_TODO_SUCCESS,
+                Index.toOneBasedString(targetTodoIndexes)), new ViewProjectAndTodosUiCommand(projectIndex));
     }
 
     @Override
@@ -75,7 +95,7 @@ public class MarkTodoCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof MarkTodoCommand // instanceof handles nulls
                 && projectIndex.equals(((MarkTodoCommand) other).projectIndex))
-                && targetTodoIndex.equals(((MarkTodoCommand) other).targetTodoIndex); // state check
+                && targetTodoIndexes.equals(((MarkTodoCommand) other).targetTodoIndexes); // state check
     }
 
 }
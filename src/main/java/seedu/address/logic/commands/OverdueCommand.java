@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.search.SearchHit;
+
+/**
+ * Lists the overdue deadlines across all displayed projects.
+ */
+public class OverdueCommand extends Command {
+
+    public static final String COMMAND_WORD = "overdue";
+
+    public static final String MESSAGE_NO_OVERDUE = "There are no overdue deadlines.";
+    public static final String MESSAGE_OVERDUE = "%1$d overdue deadline(s):";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<SearchHit> deadlines = model.getOverdueDeadlines();
+
+        if (deadlines.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_OVERDUE).setIgnoreHistory(true);
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_OVERDUE, deadlines.size()));
+        for (SearchHit deadline : deadlines) {
+            feedback.append("\n").append(deadline);
+        }
+        return new CommandResult(feedback.toString()).setIgnoreHistory(true);
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.Model;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectProgress;
+
+/**
+ * Lists the progress of all displayed projects, optionally sorted by completion.
+ */
+public class ProgressCommand extends Command {
+
+    public static final String COMMAND_WORD = "progress";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the done and overdue tasks and the next event "
+            + "of every project, in the order of the side panel or sorted by the percentage of tasks done.\n"
+            + "Parameters: [asc|desc]\n"
+            + "Example: " + COMMAND_WORD + " asc";
+
+    public static final String MESSAGE_NO_PROJECTS = "There are no projects.";
+    public static final String MESSAGE_PROGRESS = "Progress of %1$d project(s):";
+    public static final String MESSAGE_PROJECT_PROGRESS = "%1$d. %2$s: %3$d%% done (todos %4$d/%5$d, "
+            + "deadlines %6$d/%7$d, %8$d overdue), next event: %9$s";
+    public static final String MESSAGE_NO_NEXT_EVENT = "none";
+
+    /**
+     * The order to list projects in.
+     */
+    public enum Order {
+        /** The order of the side panel. */
+        DISPLAYED,
+        /** Least done projects first. */
+        ASCENDING,
+        /** Most done projects first. */
+        DESCENDING
+    }
+
+    private final Order order;
+
+    /**
+     * Creates a {@code ProgressCommand} that lists projects in the given {@code order}.
+     */
+    public ProgressCommand(Order order) {
+        requireNonNull(order);
+        this.order = order;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Project> lastShownList = model.getFilteredProjectList();
+
+        if (lastShownList.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_PROJECTS).setIgnoreHistory(true);
+        }
+
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < lastShownList.size(); i++) {
+            positions.add(i);
+        }
+        Comparator<Integer> byCompletion = Comparator.comparingInt(i ->
+                lastShownList.get(i).getProgress().getCompletionPercentage());
+        if (order == Order.ASCENDING) {
+            positions.sort(byCompletion);
+        } else if (order == Order.DESCENDING) {
+            positions.sort(byCompletion.reversed());
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_PROGRESS, lastShownList.size()));
+        for (int i : positions) {
+            feedback.append("\n").append(describe(i + 1, lastShownList.get(i)));
+        }
+        return new CommandResult(feedback.toString()).setIgnoreHistory(true);
+    }
+
+    private static String describe(int displayedIndex, Project project) {
+        ProjectProgress progress = project.getProgress();
+        String nextEvent = progress.getNextEvent()
+                .map(event -> event.getDescription() + " on "
+                        + DateUtil.decodeDate(event.getNextOccurrence(progress.getToday()).get()))
+                .orElse(MESSAGE_NO_NEXT_EVENT);
+        return String.format(MESSAGE_PROJECT_PROGRESS, displayedIndex, project.getProjectName(),
+                progress.getCompletionPercentage(), progress.getDoneTodoCount(), progress.getTodoCount(),
+                progress.getDoneDeadlineCount(), progress.getDeadlineCount(), progress.getOverdueDeadlineCount(),
+                nextEvent);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ProgressCommand // instanceof handles nulls
+                && order == ((ProgressCommand) other).order); // state check
+    }
+}
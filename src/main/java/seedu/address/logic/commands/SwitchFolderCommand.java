@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.uicommands.ShowTodayUiCommand;
+import seedu.address.model.Model;
+
+/**
+ * Opens another CoLAB folder, or lists the recently opened CoLAB folders.
+ * The folder is opened by {@code Logic} once the command is done, as reading it needs the storage.
+ */
+public class SwitchFolderCommand extends Command {
+
+    public static final String COMMAND_WORD = "switch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Opens the CoLAB folder saved in the given data "
+            + "file, creating it if it does not exist. Without a data file, lists the recently opened CoLAB "
+            + "folders.\n"
+            + "Parameters: [" + PREFIX_FILE + "DATA_FILE]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "data/cs2103t.json";
+
+    public static final String MESSAGE_SUCCESS = "Opened CoLAB folder: %1$s";
+    public static final String MESSAGE_RECENT_FOLDERS = "Recently opened CoLAB folders:";
+    public static final String MESSAGE_OPEN_FOLDER = " (open)";
+    public static final String MESSAGE_FOLDER_ALREADY_OPEN = "This CoLAB folder is already open.";
+
+    private final Path folderToOpen;
+
+    /**
+     * Creates a {@code SwitchFolderCommand} that lists the recently opened CoLAB folders.
+     */
+    public SwitchFolderCommand() {
+        folderToOpen = null;
+    }
+
+    /**
+     * Creates a {@code SwitchFolderCommand} that opens the CoLAB folder saved in {@code folderToOpen}.
+     */
+    public SwitchFolderCommand(Path folderToOpen) {
+        requireNonNull(folderToOpen);
+        this.folderToOpen = folderToOpen;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Path openFolder = model.getColabFolderFilePath();
+        if (folderToOpen == null) {
+            StringBuilder feedback = new StringBuilder(MESSAGE_RECENT_FOLDERS);
+            feedback.append("\n1. ").append(openFolder).append(MESSAGE_OPEN_FOLDER);
+            int count = 1;
+            for (Path folder : model.getUserPrefs().getRecentColabFolderFilePaths()) {
+                if (!isSameFile(folder, openFolder)) {
+                    feedback.append('\n').append(++count).append(". ").append(folder);
+                }
+            }
+            return new CommandResult(feedback.toString()).setIgnoreHistory(true);
+        }
+
+        if (isSameFile(folderToOpen, openFolder)) {
+            throw new CommandException(MESSAGE_FOLDER_ALREADY_OPEN);
+        }
+        // each folder keeps its own history, so the switch itself cannot be undone
+        return new CommandResult(String.format(MESSAGE_SUCCESS, folderToOpen), new ShowTodayUiCommand())
+                .setIgnoreHistory(true)
+                .setFolderToOpen(folderToOpen);
+    }
+
+    /**
+     * Returns true if both paths lead to the same file, whether given as relative or absolute paths.
+     */
+    public static boolean isSameFile(Path path, Path otherPath) {
+        return path.toAbsolutePath().normalize().equals(otherPath.toAbsolutePath().normalize());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SwitchFolderCommand // instanceof handles nulls
+                && Objects.equals(folderToOpen, ((SwitchFolderCommand) other).folderToOpen));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.search.SearchHit;
+import seedu.address.model.task.query.TaskQuery;
+import seedu.address.model.task.query.TaskQueryPlan;
+
+/**
+ * Lists the todos and deadlines of all displayed projects that match a {@code TaskQuery}.
+ */
+public class TasksCommand extends Command {
+
+    public static final String COMMAND_WORD = "tasks";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the todos and deadlines of all projects "
+            + "matching every given filter, with their project and item index numbers.\n"
+            + "Filters: done:true|false type:todo|deadline due<DATE due<=DATE due>DATE due>=DATE due:DATE "
+            + "project:TEXT text:TEXT\n"
+            + "Example: " + COMMAND_WORD + " done:false due<20-05-2021 project:CS2103 text:report";
+
+    public static final String MESSAGE_NO_TASKS = "No tasks match the filters.";
+    public static final String MESSAGE_TASKS_FOUND = "Found %1$d task(s):";
+
+    private final TaskQuery query;
+    private final TaskQueryPlan plan;
+
+    /**
+     * Creates a {@code TasksCommand} to list the tasks matching {@code query}.
+     */
+    public TasksCommand(TaskQuery query) {
+        requireNonNull(query);
+        this.query = new TaskQuery(query);
+        this.plan = query.compile();
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<SearchHit> hits = plan.execute(model.getFilteredProjectList()).collect(Collectors.toList());
+
+        if (hits.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_TASKS).setIgnoreHistory(true);
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_TASKS_FOUND, hits.size()));
+        for (SearchHit hit : hits) {
+            feedback.append("\n").append(hit);
+        }
+        return new CommandResult(feedback.toString()).setIgnoreHistory(true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TasksCommand // instanceof handles nulls
+                && query.equals(((TasksCommand) other).query)); // state check
+    }
+}
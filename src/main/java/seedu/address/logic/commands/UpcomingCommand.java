@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.search.SearchHit;
+
+/**
+ * Lists the next deadlines that are not done across all displayed projects.
+ */
+public class UpcomingCommand extends Command {
+
+    public static final String COMMAND_WORD = "upcoming";
+
+    public static final int DEFAULT_COUNT = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the next deadlines that are not done across "
+            + "all projects, earliest first, with their project and deadline index numbers.\n"
+            + "Parameters: [n/COUNT] (must be a positive integer, " + DEFAULT_COUNT + " by default)\n"
+            + "Example: " + COMMAND_WORD + " n/10";
+
+    public static final String MESSAGE_NO_UPCOMING = "There are no upcoming deadlines.";
+    public static final String MESSAGE_UPCOMING = "Next %1$d upcoming deadline(s):";
+
+    private final int count;
+
+    /**
+     * Creates an {@code UpcomingCommand} to list the next {@code count} deadlines.
+     */
+    public UpcomingCommand(int count) {
+        checkArgument(count > 0);
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<SearchHit> deadlines = model.getUpcomingDeadlines(count);
+
+        if (deadlines.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_UPCOMING).setIgnoreHistory(true);
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_UPCOMING, deadlines.size()));
+        for (SearchHit deadline : deadlines) {
+            feedback.append("\n").append(deadline);
+        }
+        return new CommandResult(feedback.toString()).setIgnoreHistory(true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UpcomingCommand // instanceof handles nulls
+                && count == ((UpcomingCommand) other).count); // state check
+    }
+}
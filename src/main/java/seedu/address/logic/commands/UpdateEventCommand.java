@@ -4,7 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_EVERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_EXCEPT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_TIMES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_UNTIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_WEEKLY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 
@@ -21,6 +26,7 @@ import seedu.address.logic.uicommands.ViewProjectAndOverviewUiCommand;
 import seedu.address.model.Model;
 import seedu.address.model.project.EventList;
 import seedu.address.model.project.Project;
+import seedu.address.model.task.Recurrence;
 import seedu.address.model.task.repeatable.Event;
 
 /**
@@ -36,8 +42,13 @@ public class UpdateEventCommand extends Command {
             + PREFIX_INDEX + "EVENT_INDEX "
             + "[" + PREFIX_DESCRIPTION + "DESCRIPTION] "
             + "[" + PREFIX_EVENT_DATE + "DATE] "
-            + "[" + PREFIX_EVENT_TIME + "TIME]"
-            + "[" + PREFIX_EVENT_WEEKLY + "REPEATS_WEEKLY]\n"
+            + "[" + PREFIX_EVENT_TIME + "TIME] "
+            + "[" + PREFIX_EVENT_END_TIME + "END_TIME] "
+            + "[" + PREFIX_EVENT_WEEKLY + "REPEATS_WEEKLY] "
+            + "[" + PREFIX_EVENT_EVERY + "REPETITION "
+            + "[" + PREFIX_EVENT_UNTIL + "END_DATE] "
+            + "[" + PREFIX_EVENT_TIMES + "NUMBER_OF_TIMES] "
+            + "[" + PREFIX_EVENT_EXCEPT + "SKIPPED_DATE]...]\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_INDEX + "1 "
             + PREFIX_DESCRIPTION + "Project meeting "
@@ -48,7 +59,7 @@ public class UpdateEventCommand extends Command {
     public static final String MESSAGE_UPDATE_EVENT_SUCCESS = "Updated event: %1$s";
     public static final String MESSAGE_DUPLICATE_EVENT = "This event already exists in this project.";
     public static final String MESSAGE_UNCHANGED_EVENT = "This event already has this description, date,"
-            + " time and repeat weekly.";
+            + " time, end time and repeat weekly.";
 
     private final Index projectIndex;
     private final Index targetEventIndex;
@@ -87,6 +98,12 @@ public class UpdateEventCommand extends Command {
         }
 
         Event eventToUpdate = events.getEvent(targetEventIndex.getZeroBased());
+        LocalTime updatedTime = updateEventDescriptor.getTime().orElse(eventToUpdate.getTime());
+        Optional<LocalTime> updatedEndTime = updateEventDescriptor.getEndTime().or(eventToUpdate::getEndTime);
+        if (updatedEndTime.isPresent() && !Event.isValidEndTime(updatedTime, updatedEndTime.get())) {
+            throw new CommandException(Event.MESSAGE_CONSTRAINTS_END_TIME);
+        }
+
         Event updatedEvent = createUpdatedEvent(eventToUpdate, updateEventDescriptor);
 
         if (events.hasEvent(updatedEvent) && !eventToUpdate.equals(updatedEvent)) {
@@ -100,7 +117,8 @@ public class UpdateEventCommand extends Command {
         projectToUpdate.setEvent(targetEventIndex.getZeroBased(), updatedEvent);
 
         model.updateFilteredProjectList(Model.PREDICATE_SHOW_ALL_PROJECTS);
-        return new CommandResult(String.format(MESSAGE_UPDATE_EVENT_SUCCESS, updatedEvent),
+        return new CommandResult(String.format(MESSAGE_UPDATE_EVENT_SUCCESS, updatedEvent)
+                + ClashesCommand.describeClashes(model.getEventClashes(updatedEvent)),
                 new ViewProjectAndOverviewUiCommand(projectIndex));
     }
 
@@ -114,10 +132,11 @@ public class UpdateEventCommand extends Command {
         String updatedDescription = updateEventDescriptor.getDescription().orElse(eventToEdit.getDescription());
         LocalDate updatedDate = updateEventDescriptor.getDate().orElse(eventToEdit.getDate());
         LocalTime updatedTime = updateEventDescriptor.getTime().orElse(eventToEdit.getTime());
-        Boolean updatedIsWeekly = updateEventDescriptor.getIsWeekly().orElse(eventToEdit.getIsWeekly());
-
+        Recurrence updatedRecurrence = updateEventDescriptor.getRecurrence().orElse(eventToEdit.getRecurrence());
+        Optional<LocalTime> updatedEndTime = updateEventDescriptor.getEndTime().or(eventToEdit::getEndTime);
 
-        return new Event(updatedDescription, updatedDate, updatedTime, updatedIsWeekly);
+        return new Event(updatedDescription, updatedDate, updatedTime, updatedRecurrence,
+                updatedEndTime.orElse(null));
     }
 
     @Override
@@ -147,7 +166,8 @@ public class UpdateEventCommand extends Command {
         private String description;
         private LocalDate date;
         private LocalTime time;
-        private Boolean isWeekly;
+        private Recurrence recurrence;
+        private LocalTime endTime;
 
         public UpdateEventDescriptor() {}
 
@@ -159,14 +179,15 @@ public class UpdateEventCommand extends Command {
             setDescription(toCopy.description);
             setDate(toCopy.date);
             setTime(toCopy.time);
-            setIsWeekly(toCopy.isWeekly);
+            setRecurrence(toCopy.recurrence);
+            setEndTime(toCopy.endTime);
         }
 
         /**
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(description, date, time, isWeekly);
+            return CollectionUtil.isAnyNonNull(description, date, time, recurrence, endTime);
         }
 
         public void setDescription(String description) {
@@ -193,12 +214,27 @@ public class UpdateEventCommand extends Command {
             return Optional.ofNullable(time);
         }
 
+        /**
+         * Sets the {@code Event} to repeat every week without end if {@code isWeekly} is true, or to not repeat.
+         */
         public void setIsWeekly(Boolean isWeekly) {
-            this.isWeekly = isWeekly;
+            this.recurrence = isWeekly == null ? null : isWeekly ? Recurrence.WEEKLY : Recurrence.ONCE;
+        }
+
+        public void setRecurrence(Recurrence recurrence) {
+            this.recurrence = recurrence;
+        }
+
+        public Optional<Recurrence> getRecurrence() {
+            return Optional.ofNullable(recurrence);
+        }
+
+        public void setEndTime(LocalTime endTime) {
+            this.endTime = endTime;
         }
 
-        public Optional<Boolean> getIsWeekly() {
-            return Optional.ofNullable(isWeekly);
+        public Optional<LocalTime> getEndTime() {
+            return Optional.ofNullable(endTime);
         }
 
         @Override
@@ -219,7 +255,8 @@ public class UpdateEventCommand extends Command {
             return getDescription().equals(e.getDescription())
                     && getDate().equals(e.getDate())
                     && getTime().equals(e.getTime())
-                    && getIsWeekly().equals(e.getIsWeekly());
+                    && getRecurrence().equals(e.getRecurrence())
+                    && getEndTime().equals(e.getEndTime());
         }
     }
 }
@@ -11,12 +11,8 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.uicommands.ViewProjectAndOverviewUiCommand;
 import seedu.address.model.Model;
-import seedu.address.model.project.DeadlineList;
-import seedu.address.model.project.EventList;
-import seedu.address.model.project.GroupmateList;
 import seedu.address.model.project.Project;
 import seedu.address.model.project.ProjectName;
-import seedu.address.model.project.TodoList;
 
 /**
  * Updates the name of a project in the project list.
@@ -84,16 +80,13 @@ public class UpdateProjectCommand extends Command {
     /**
      * Creates and returns a {@code Project} with the details of {@code projectToEdit}
      * updated with {@code name}.
+     * The updated project is built on copies of the lists of {@code projectToEdit}, and keeps syncing as the same
+     * replica.
      */
     public static Project createUpdatedProject(Project projectToEdit, ProjectName name) {
         assert projectToEdit != null;
 
-        EventList currEventList = projectToEdit.getEvents();
-        TodoList currTodoList = projectToEdit.getTodos();
-        DeadlineList currDeadlineList = projectToEdit.getDeadlines();
-        GroupmateList currGroupmateList = projectToEdit.getGroupmates();
-
-        return new Project(name, currEventList, currTodoList, currDeadlineList, currGroupmateList);
+        return projectToEdit.withName(name);
     }
 
     @Override
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.search.SearchHit;
+
+/**
+ * Lists the projects that a Contact identified using it's displayed index is a groupmate in.
+ */
+public class WhoisCommand extends Command {
+
+    public static final String COMMAND_WORD = "whois";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the projects with a groupmate of the same name as the contact identified by the index number "
+            + "used in the displayed contact list.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_NO_PROJECTS = "%1$s is not a groupmate in any project.";
+    public static final String MESSAGE_PROJECTS_FOUND = "%1$s is a groupmate in %2$d project(s):";
+
+    private final Index targetIndex;
+
+    public WhoisCommand(Index targetIndex) {
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Contact> lastShownList = model.getFilteredContactList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX);
+        }
+
+        Contact contact = lastShownList.get(targetIndex.getZeroBased());
+        List<SearchHit> memberships = model.getMemberships(contact);
+        if (memberships.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_PROJECTS, contact.getName()))
+                    .setIgnoreHistory(true);
+        }
+
+        StringBuilder feedback = new StringBuilder(
+                String.format(MESSAGE_PROJECTS_FOUND, contact.getName(), memberships.size()));
+        for (SearchHit membership : memberships) {
+            feedback.append("\n").append(membership);
+        }
+        return new CommandResult(feedback.toString()).setIgnoreHistory(true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WhoisCommand // instanceof handles nulls
+                && targetIndex.equals(((WhoisCommand) other).targetIndex)); // state check
+    }
+}
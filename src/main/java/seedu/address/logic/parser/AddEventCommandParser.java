@@ -5,16 +5,25 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_EVERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_EXCEPT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_TIMES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_UNTIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_WEEKLY;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
+import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddEventCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.task.Recurrence;
 import seedu.address.model.task.repeatable.Event;
 
 /**
@@ -32,10 +41,12 @@ public class AddEventCommandParser implements Parser<AddEventCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_DESCRIPTION, PREFIX_EVENT_DATE,
-                        PREFIX_EVENT_TIME, PREFIX_EVENT_WEEKLY);
+                        PREFIX_EVENT_TIME, PREFIX_EVENT_WEEKLY, PREFIX_EVENT_END_TIME, PREFIX_EVENT_EVERY,
+                        PREFIX_EVENT_UNTIL, PREFIX_EVENT_TIMES, PREFIX_EVENT_EXCEPT);
 
-        if (!arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_EVENT_DATE, PREFIX_EVENT_TIME,
-                PREFIX_EVENT_WEEKLY)
+        if (!arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION, PREFIX_EVENT_DATE, PREFIX_EVENT_TIME)
+                || !(arePrefixesPresent(argMultimap, PREFIX_EVENT_WEEKLY)
+                        || arePrefixesPresent(argMultimap, PREFIX_EVENT_EVERY))
                 || argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddEventCommand.MESSAGE_USAGE));
         }
@@ -51,11 +62,46 @@ public class AddEventCommandParser implements Parser<AddEventCommand> {
         String description = ParserUtil.parseDescription(argMultimap.getValue(PREFIX_DESCRIPTION).get());
         LocalDate date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_EVENT_DATE).get());
         LocalTime time = ParserUtil.parseTime(argMultimap.getValue(PREFIX_EVENT_TIME).get());
-        Boolean isWeekly = ParserUtil.parseIsWeekly(argMultimap.getValue(PREFIX_EVENT_WEEKLY).get());
+        Recurrence recurrence = parseRecurrence(argMultimap).get();
 
-        Event event = new Event(description, date, time, isWeekly);
+        LocalTime endTime = null;
+        if (argMultimap.getValue(PREFIX_EVENT_END_TIME).isPresent()) {
+            endTime = ParserUtil.parseTime(argMultimap.getValue(PREFIX_EVENT_END_TIME).get());
+            if (!Event.isValidEndTime(time, endTime)) {
+                throw new ParseException(Event.MESSAGE_CONSTRAINTS_END_TIME);
+            }
+        }
+
+        return new AddEventCommand(projectIndex, new Event(description, date, time, recurrence, endTime));
+    }
 
-        return new AddEventCommand(projectIndex, event);
+    /**
+     * Parses how an event repeats from the Repeat Weekly and repetition prefixes of {@code argMultimap}. Returns an
+     * empty {@code Optional} if neither is given.
+     *
+     * @throws ParseException if both are given, if the end date, number of times or dates to skip are given without
+     *     a repetition, or if any of the values is invalid.
+     */
+    static Optional<Recurrence> parseRecurrence(ArgumentMultimap argMultimap) throws ParseException {
+        Optional<String> weekly = argMultimap.getValue(PREFIX_EVENT_WEEKLY);
+        Optional<String> every = argMultimap.getValue(PREFIX_EVENT_EVERY);
+        if (weekly.isPresent() && every.isPresent()) {
+            throw new ParseException(Messages.MESSAGE_PARSER_WEEKLY_AND_RECURRENCE);
+        }
+
+        Optional<String> until = argMultimap.getValue(PREFIX_EVENT_UNTIL);
+        Optional<String> times = argMultimap.getValue(PREFIX_EVENT_TIMES);
+        List<String> exceptions = argMultimap.getAllValues(PREFIX_EVENT_EXCEPT);
+        if (every.isEmpty()) {
+            if (until.isPresent() || times.isPresent() || !exceptions.isEmpty()) {
+                throw new ParseException(Messages.MESSAGE_PARSER_RECURRENCE_LIMITS);
+            }
+            if (weekly.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(ParserUtil.parseIsWeekly(weekly.get()) ? Recurrence.WEEKLY : Recurrence.ONCE);
+        }
+        return Optional.of(ParserUtil.parseRecurrence(every.get(), until, times, exceptions));
     }
 
     /**
@@ -0,0 +1,78 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.agenda.AgendaRange;
+
+/**
+ * Parses input arguments and creates a new AgendaCommand object
+ */
+public class AgendaCommandParser implements Parser<AgendaCommand> {
+
+    public static final String MESSAGE_INVALID_PAGE = "The page number should be a positive integer.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AgendaCommand
+     * and returns an AgendaCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AgendaCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args,
+                PREFIX_FROM_DATE, PREFIX_TO_DATE, PREFIX_PAGE);
+
+        Optional<String> from = argMultimap.getValue(PREFIX_FROM_DATE);
+        Optional<String> to = argMultimap.getValue(PREFIX_TO_DATE);
+        if (from.isEmpty() || to.isEmpty() || !argMultimap.getPreamble().trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate start = ParserUtil.parseDate(from.get());
+        LocalDate end = ParserUtil.parseDate(to.get());
+        if (!AgendaRange.isValidRange(start, end)) {
+            throw new ParseException(AgendaRange.MESSAGE_CONSTRAINTS);
+        }
+
+        return new AgendaCommand(new AgendaRange(start, end), parsePage(argMultimap));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments of a shortcut for the agenda over {@code span}
+     * and returns an AgendaCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AgendaCommand parse(AgendaCommand.Span span, String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_PAGE);
+
+        if (!argMultimap.getPreamble().trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+        }
+
+        return new AgendaCommand(span, parsePage(argMultimap));
+    }
+
+    /**
+     * Returns the page number given in {@code argMultimap}, or 1 if there is none.
+     * @throws ParseException if the page number is not a positive integer
+     */
+    private static int parsePage(ArgumentMultimap argMultimap) throws ParseException {
+        Optional<String> page = argMultimap.getValue(PREFIX_PAGE);
+        if (page.isEmpty()) {
+            return 1;
+        }
+
+        String trimmedPage = page.get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedPage)) {
+            throw new ParseException(MESSAGE_INVALID_PAGE);
+        }
+        return Integer.parseInt(trimmedPage);
+    }
+}
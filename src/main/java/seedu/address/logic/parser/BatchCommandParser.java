@@ -0,0 +1,92 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExportDeltaCommand;
+import seedu.address.logic.commands.ImportDeltaCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SwitchFolderCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "A batch cannot contain the batch, undo, redo, "
+            + "switch, exportDelta or importDelta commands.";
+    public static final String MESSAGE_INVALID_COMMAND = "Command %1$d of the batch is invalid: %2$s";
+
+    private final ColabParser colabParser;
+
+    /**
+     * Creates a {@code BatchCommandParser} that parses the commands of a batch with {@code colabParser}.
+     */
+    public BatchCommandParser(ColabParser colabParser) {
+        requireNonNull(colabParser);
+        this.colabParser = colabParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * Every command is parsed before any of them is run, so a batch with an invalid command changes nothing.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        List<Command> commands = new ArrayList<>();
+        for (String commandText : splitCommands(args)) {
+            if (commandText.isBlank()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+            }
+
+            Command command;
+            try {
+                command = colabParser.parseCommand(commandText);
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND, commands.size() + 1,
+                        pe.getMessage()), pe);
+            }
+            if (command instanceof BatchCommand || command instanceof UndoCommand
+                    || command instanceof RedoCommand || command instanceof SwitchFolderCommand
+                    || command instanceof ExportDeltaCommand || command instanceof ImportDeltaCommand) {
+                throw new ParseException(MESSAGE_COMMAND_NOT_ALLOWED);
+            }
+            commands.add(command);
+        }
+
+        return new BatchCommand(commands);
+    }
+
+    /**
+     * Splits {@code args} into the texts of its commands at every separator that is not escaped, and turns the
+     * escaped separators into plain ones.
+     */
+    private static List<String> splitCommands(String args) {
+        List<String> commandTexts = new ArrayList<>();
+        StringBuilder commandText = new StringBuilder();
+        int i = 0;
+        while (i < args.length()) {
+            if (args.startsWith(BatchCommand.ESCAPED_COMMAND_SEPARATOR, i)) {
+                commandText.append(BatchCommand.COMMAND_SEPARATOR);
+                i += BatchCommand.ESCAPED_COMMAND_SEPARATOR.length();
+            } else if (args.startsWith(BatchCommand.COMMAND_SEPARATOR, i)) {
+                commandTexts.add(commandText.toString());
+                commandText.setLength(0);
+                i += BatchCommand.COMMAND_SEPARATOR.length();
+            } else {
+                commandText.append(args.charAt(i));
+                i++;
+            }
+        }
+        commandTexts.add(commandText.toString());
+        return commandTexts;
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.commands.ClashesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ClashesCommand object
+ */
+public class ClashesCommandParser implements Parser<ClashesCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ClashesCommand
+     * and returns a ClashesCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ClashesCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+
+        if (trimmedArgs.isEmpty()) {
+            return new ClashesCommand();
+        } else if (trimmedArgs.equals(AgendaCommand.COMMAND_WORD_WEEK)) {
+            return new ClashesCommand(AgendaCommand.Span.WEEK);
+        } else if (trimmedArgs.equals(AgendaCommand.COMMAND_WORD_MONTH)) {
+            return new ClashesCommand(AgendaCommand.Span.MONTH);
+        }
+
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ClashesCommand.MESSAGE_USAGE));
+    }
+}
@@ -18,5 +18,16 @@ public class CliSyntax {
     public static final Prefix PREFIX_EVENT_DATE = new Prefix("on/");
     public static final Prefix PREFIX_EVENT_TIME = new Prefix("at/");
     public static final Prefix PREFIX_EVENT_WEEKLY = new Prefix("w/");
+    public static final Prefix PREFIX_EVENT_END_TIME = new Prefix("end/");
+    public static final Prefix PREFIX_EVENT_EVERY = new Prefix("every/");
+    public static final Prefix PREFIX_EVENT_UNTIL = new Prefix("until/");
+    public static final Prefix PREFIX_EVENT_TIMES = new Prefix("times/");
+    public static final Prefix PREFIX_EVENT_EXCEPT = new Prefix("except/");
     public static final Prefix PREFIX_MARK_TASK_INDEX = new Prefix("i/");
+    public static final Prefix PREFIX_FROM_DATE = new Prefix("from/");
+    public static final Prefix PREFIX_TO_DATE = new Prefix("to/");
+    public static final Prefix PREFIX_PAGE = new Prefix("pg/");
+    public static final Prefix PREFIX_COUNT = new Prefix("n/");
+    public static final Prefix PREFIX_FILE = new Prefix("f/");
+    public static final Prefix PREFIX_REPLY_TO = new Prefix("re/");
 }
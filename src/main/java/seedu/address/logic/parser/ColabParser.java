@@ -12,6 +12,9 @@ import seedu.address.logic.commands.AddEventCommand;
 import seedu.address.logic.commands.AddGroupmateCommand;
 import seedu.address.logic.commands.AddProjectCommand;
 import seedu.address.logic.commands.AddTodoCommand;
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.ClashesCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteContactCommand;
@@ -21,12 +24,21 @@ import seedu.address.logic.commands.DeleteGroupmateCommand;
 import seedu.address.logic.commands.DeleteProjectCommand;
 import seedu.address.logic.commands.DeleteTodoCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportDeltaCommand;
+import seedu.address.logic.commands.FilterContactCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindContactCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportDeltaCommand;
 import seedu.address.logic.commands.MarkDeadlineCommand;
 import seedu.address.logic.commands.MarkTodoCommand;
+import seedu.address.logic.commands.OverdueCommand;
+import seedu.address.logic.commands.ProgressCommand;
 import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SwitchFolderCommand;
+import seedu.address.logic.commands.TasksCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UpcomingCommand;
 import seedu.address.logic.commands.UpdateContactCommand;
 import seedu.address.logic.commands.UpdateDeadlineCommand;
 import seedu.address.logic.commands.UpdateEventCommand;
@@ -38,6 +50,7 @@ import seedu.address.logic.commands.ViewOverviewCommand;
 import seedu.address.logic.commands.ViewProjectCommand;
 import seedu.address.logic.commands.ViewTodayCommand;
 import seedu.address.logic.commands.ViewTodosCommand;
+import seedu.address.logic.commands.WhoisCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -91,6 +104,9 @@ public class ColabParser {
         case DeleteContactCommand.COMMAND_WORD:
             return new DeleteContactCommandParser().parse(arguments);
 
+        case WhoisCommand.COMMAND_WORD:
+            return new WhoisCommandParser().parse(arguments);
+
         case DeleteGroupmateCommand.COMMAND_WORD:
             return new DeleteGroupmateCommandParser().parse(arguments);
 
@@ -112,6 +128,18 @@ public class ColabParser {
         case FindContactCommand.COMMAND_WORD:
             return new FindContactCommandParser().parse(arguments);
 
+        case FilterContactCommand.COMMAND_WORD:
+            return new FilterContactCommandParser().parse(arguments);
+
+        case ProgressCommand.COMMAND_WORD:
+            return new ProgressCommandParser().parse(arguments);
+
+        case TasksCommand.COMMAND_WORD:
+            return new TasksCommandParser().parse(arguments);
+
+        case FindCommand.COMMAND_WORD:
+            return new FindCommandParser().parse(arguments);
+
         case ViewContactsCommand.COMMAND_WORD:
             return new ViewContactsCommand();
 
@@ -154,12 +182,42 @@ public class ColabParser {
         case ViewTodayCommand.COMMAND_WORD:
             return new ViewTodayCommand();
 
+        case UpcomingCommand.COMMAND_WORD:
+            return new UpcomingCommandParser().parse(arguments);
+
+        case OverdueCommand.COMMAND_WORD:
+            return new OverdueCommand();
+
+        case ClashesCommand.COMMAND_WORD:
+            return new ClashesCommandParser().parse(arguments);
+
+        case AgendaCommand.COMMAND_WORD:
+            return new AgendaCommandParser().parse(arguments);
+
+        case AgendaCommand.COMMAND_WORD_WEEK:
+            return new AgendaCommandParser().parse(AgendaCommand.Span.WEEK, arguments);
+
+        case AgendaCommand.COMMAND_WORD_MONTH:
+            return new AgendaCommandParser().parse(AgendaCommand.Span.MONTH, arguments);
+
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
         case RedoCommand.COMMAND_WORD:
             return new RedoCommand();
 
+        case BatchCommand.COMMAND_WORD:
+            return new BatchCommandParser(this).parse(arguments);
+
+        case SwitchFolderCommand.COMMAND_WORD:
+            return new SwitchFolderCommandParser().parse(arguments);
+
+        case ExportDeltaCommand.COMMAND_WORD:
+            return new ExportDeltaCommandParser().parse(arguments);
+
+        case ImportDeltaCommand.COMMAND_WORD:
+            return new ImportDeltaCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
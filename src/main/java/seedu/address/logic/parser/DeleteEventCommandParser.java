@@ -6,6 +6,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_EVENT_DISPLAYE
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
@@ -41,8 +42,8 @@ public class DeleteEventCommandParser implements Parser<DeleteEventCommand> {
         }
 
         try {
-            Index targetEventIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get());
-            return new DeleteEventCommand(projectIndex, targetEventIndex);
+            List<Index> targetEventIndexes = ParserUtil.parseIndexes(argMultimap.getValue(PREFIX_INDEX).get());
+            return new DeleteEventCommand(projectIndex, targetEventIndexes);
         } catch (ParseException pe) {
             throw new ParseException(MESSAGE_INVALID_EVENT_DISPLAYED_INDEX, pe);
         }
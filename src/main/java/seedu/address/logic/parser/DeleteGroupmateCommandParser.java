@@ -6,6 +6,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_GROUPMATE_DISP
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
@@ -42,8 +43,8 @@ public class DeleteGroupmateCommandParser implements Parser<DeleteGroupmateComma
         }
 
         try {
-            Index targetGroupmateIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get());
-            return new DeleteGroupmateCommand(projectIndex, targetGroupmateIndex);
+            List<Index> targetGroupmateIndexes = ParserUtil.parseIndexes(argMultimap.getValue(PREFIX_INDEX).get());
+            return new DeleteGroupmateCommand(projectIndex, targetGroupmateIndexes);
         } catch (ParseException pe) {
             throw new ParseException(MESSAGE_INVALID_GROUPMATE_DISPLAYED_INDEX, pe);
         }
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPLY_TO;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.ExportDeltaCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportDeltaCommand object
+ */
+public class ExportDeltaCommandParser implements Parser<ExportDeltaCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportDeltaCommand
+     * and returns an ExportDeltaCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportDeltaCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE, PREFIX_REPLY_TO);
+
+        if (argMultimap.getValue(PREFIX_FILE).isEmpty() || argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportDeltaCommand.MESSAGE_USAGE));
+        }
+
+        Index index;
+        try {
+            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX, pe);
+        }
+
+        Path deltaFile = ParserUtil.parseFilePath(argMultimap.getValue(PREFIX_FILE).get());
+        if (argMultimap.getValue(PREFIX_REPLY_TO).isEmpty()) {
+            return new ExportDeltaCommand(index, deltaFile);
+        }
+        Path teammateDeltaFile = ParserUtil.parseFilePath(argMultimap.getValue(PREFIX_REPLY_TO).get());
+        return new ExportDeltaCommand(index, deltaFile, teammateDeltaFile);
+    }
+}
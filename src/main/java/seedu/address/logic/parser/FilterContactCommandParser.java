@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.FilterContactCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.contact.TagQuery;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FilterContactCommand object
+ */
+public class FilterContactCommandParser implements Parser<FilterContactCommand> {
+
+    /** Separates tags of which any may be present. */
+    public static final String OR_SEPARATOR = "|";
+
+    /** Marks a condition whose tags must all be absent. */
+    public static final String NOT_MARKER = "!";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterContactCommand
+     * and returns a FilterContactCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterContactCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_TAG);
+
+        List<String> conditions = argMultimap.getAllValues(PREFIX_TAG);
+        if (!argMultimap.getPreamble().trim().isEmpty() || conditions.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterContactCommand.MESSAGE_USAGE));
+        }
+
+        List<List<String>> clauses = new ArrayList<>();
+        List<String> excludedTags = new ArrayList<>();
+        for (String condition : conditions) {
+            String trimmedCondition = condition.trim();
+            if (trimmedCondition.startsWith(NOT_MARKER)) {
+                excludedTags.addAll(parseTagNames(trimmedCondition.substring(NOT_MARKER.length())));
+            } else {
+                clauses.add(parseTagNames(trimmedCondition));
+            }
+        }
+
+        return new FilterContactCommand(new TagQuery(clauses, excludedTags));
+    }
+
+    /**
+     * Parses tag names separated by {@code OR_SEPARATOR}.
+     * @throws ParseException if any of the tag names is invalid
+     */
+    private static List<String> parseTagNames(String condition) throws ParseException {
+        List<String> tagNames = new ArrayList<>();
+        for (String tagName : condition.split("\\" + OR_SEPARATOR, -1)) {
+            String trimmedTagName = tagName.trim();
+            if (!Tag.isValidTagName(trimmedTagName)) {
+                throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tagNames.add(trimmedTagName);
+        }
+        return tagNames;
+    }
+}
@@ -1,33 +1,81 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.FindContactCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.contact.NameContainsKeywordsPredicate;
+import seedu.address.model.contact.ContactField;
+import seedu.address.model.contact.ContactQuery;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindContactCommandParser implements Parser<FindContactCommand> {
 
+    /** Marks a keyword that may be matched in the name with a few typos. */
+    public static final String FUZZY_MARKER = "~";
+
+    private static final Map<ContactField, Prefix> FIELD_PREFIXES = new EnumMap<>(Map.of(
+            ContactField.NAME, PREFIX_NAME,
+            ContactField.PHONE, PREFIX_PHONE,
+            ContactField.EMAIL, PREFIX_EMAIL,
+            ContactField.ADDRESS, PREFIX_ADDRESS,
+            ContactField.TAG, PREFIX_TAG));
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindContactCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args,
+                FIELD_PREFIXES.values().toArray(new Prefix[0]));
+
+        String preamble = argMultimap.getPreamble().trim();
+        List<String> keywords = new ArrayList<>();
+        List<String> fuzzyKeywords = new ArrayList<>();
+        for (String word : preamble.isEmpty() ? new String[0] : preamble.split("\\s+")) {
+            if (!word.startsWith(FUZZY_MARKER)) {
+                keywords.add(word);
+                continue;
+            }
+
+            String fuzzyKeyword = word.substring(FUZZY_MARKER.length());
+            if (fuzzyKeyword.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
+            }
+            fuzzyKeywords.add(fuzzyKeyword);
+        }
+
+        Map<ContactField, List<String>> fieldTerms = new EnumMap<>(ContactField.class);
+        for (Map.Entry<ContactField, Prefix> entry : FIELD_PREFIXES.entrySet()) {
+            List<String> terms = argMultimap.getAllValues(entry.getValue());
+            if (terms.stream().anyMatch(term -> term.trim().isEmpty())) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
+            }
+            if (!terms.isEmpty()) {
+                fieldTerms.put(entry.getKey(), terms);
+            }
+        }
+
+        if (keywords.isEmpty() && fuzzyKeywords.isEmpty() && fieldTerms.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
-
-        return new FindContactCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindContactCommand(new ContactQuery(keywords, fuzzyKeywords, fieldTerms));
     }
 
 }
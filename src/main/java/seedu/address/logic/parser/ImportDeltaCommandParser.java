@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import seedu.address.logic.commands.ImportDeltaCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportDeltaCommand object
+ */
+public class ImportDeltaCommandParser implements Parser<ImportDeltaCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportDeltaCommand
+     * and returns an ImportDeltaCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportDeltaCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_FILE);
+
+        if (!argMultimap.getPreamble().trim().isEmpty() || argMultimap.getValue(PREFIX_FILE).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportDeltaCommand.MESSAGE_USAGE));
+        }
+
+        return new ImportDeltaCommand(ParserUtil.parseFilePath(argMultimap.getValue(PREFIX_FILE).get()));
+    }
+}
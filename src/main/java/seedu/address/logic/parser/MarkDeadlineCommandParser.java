@@ -6,6 +6,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DEADLINE_DISPL
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MARK_TASK_INDEX;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
@@ -41,8 +42,9 @@ public class MarkDeadlineCommandParser implements Parser<MarkDeadlineCommand> {
         }
 
         try {
-            Index targetDeadlineIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_MARK_TASK_INDEX).get());
-            return new MarkDeadlineCommand(index, targetDeadlineIndex);
+            List<Index> targetDeadlineIndexes =
+                    ParserUtil.parseIndexes(argMultimap.getValue(PREFIX_MARK_TASK_INDEX).get());
+            return new MarkDeadlineCommand(index, targetDeadlineIndexes);
         } catch (ParseException pe) {
             throw new ParseException(MESSAGE_INVALID_DEADLINE_DISPLAYED_INDEX, pe);
         }
@@ -6,6 +6,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PROJECT_DISPLA
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_TODO_DISPLAYED_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MARK_TASK_INDEX;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
@@ -41,8 +42,8 @@ public class MarkTodoCommandParser implements Parser<MarkTodoCommand> {
         }
 
         try {
-            Index targetTodoIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_MARK_TASK_INDEX).get());
-            return new MarkTodoCommand(index, targetTodoIndex);
+            List<Index> targetTodoIndexes = ParserUtil.parseIndexes(argMultimap.getValue(PREFIX_MARK_TASK_INDEX).get());
+            return new MarkTodoCommand(index, targetTodoIndexes);
         } catch (ParseException pe) {
             throw new ParseException(MESSAGE_INVALID_TODO_DISPLAYED_INDEX, pe);
         }
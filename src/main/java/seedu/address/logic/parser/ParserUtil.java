@@ -1,12 +1,23 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -23,6 +34,7 @@ import seedu.address.model.contact.Phone;
 import seedu.address.model.groupmate.Role;
 import seedu.address.model.project.ProjectName;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Recurrence;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -31,6 +43,19 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "The index provided is invalid. "
             + "Index should be a non-negative integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "The index range %1$s is invalid. "
+            + "A range should go from a smaller index to a larger one, such as 5-9.";
+    public static final int MAX_INDEX_COUNT = 1000;
+    public static final String MESSAGE_TOO_MANY_INDEXES = "At most " + MAX_INDEX_COUNT
+            + " indexes can be given at once.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "The file path provided is invalid.";
+
+    private static final String INDEX_SEPARATOR = ",";
+    private static final String INDEX_RANGE_SEPARATOR = "-";
+
+    private static final Pattern RECURRENCE_FORMAT = Pattern.compile(
+            "(?:(?<interval>\\d+)\\s+)?(?<period>day|week|month)s?(?<byWeekday>\\s+by\\s+weekday)?",
+            Pattern.CASE_INSENSITIVE);
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -46,6 +71,43 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes}, a comma separated list of indexes and index ranges such as {@code 1,3,5-9},
+     * into a list of {@code Index} in ascending order without duplicates. Leading and trailing whitespaces around
+     * each index will be trimmed.
+     *
+     * @throws ParseException if any index or range is invalid, or if the indexes are too many.
+     */
+    public static List<Index> parseIndexes(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (String part : oneBasedIndexes.split(INDEX_SEPARATOR, -1)) {
+            int rangeSeparator = part.indexOf(INDEX_RANGE_SEPARATOR);
+            if (rangeSeparator == -1) {
+                indexes.add(parseIndex(part).getOneBased());
+            } else {
+                int start = parseIndex(part.substring(0, rangeSeparator)).getOneBased();
+                int end = parseIndex(part.substring(rangeSeparator + 1)).getOneBased();
+                if (start > end) {
+                    throw new ParseException(String.format(MESSAGE_INVALID_INDEX_RANGE, part.trim()));
+                }
+                if (end - start >= MAX_INDEX_COUNT) {
+                    throw new ParseException(MESSAGE_TOO_MANY_INDEXES);
+                }
+                for (int i = start; i <= end; i++) {
+                    indexes.add(i);
+                }
+            }
+
+            if (indexes.size() > MAX_INDEX_COUNT) {
+                throw new ParseException(MESSAGE_TOO_MANY_INDEXES);
+            }
+        }
+
+        return indexes.stream().map(Index::fromOneBased).collect(Collectors.toList());
+    }
+
     /**
      * Parses a {@code String name} into a {@code seedu.address.model.contact.Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -73,7 +135,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new seedu.address.model.groupmate.Name(trimmedName);
+        return seedu.address.model.groupmate.Name.of(trimmedName);
     }
 
     /**
@@ -133,7 +195,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -160,7 +222,7 @@ public class ParserUtil {
         if (!Role.isValidRoleName(trimmedRole)) {
             throw new ParseException(Role.MESSAGE_CONSTRAINTS);
         }
-        return new Role(trimmedRole);
+        return Role.of(trimmedRole);
     }
 
     /**
@@ -221,6 +283,25 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is empty or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        try {
+            return Paths.get(trimmedFilePath);
+        } catch (InvalidPathException e) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+    }
+
     /**
      * Parses a {@code String isWeekly} into a {@code Boolean}.
      * {@code String isWeekly} should be one of: 'Y', 'N', 'y' or 'n'.
@@ -241,6 +322,60 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a repetition such as {@code 2 weeks} or {@code month by weekday}, with the optional {@code until} date,
+     * number of {@code times} and dates to skip in {@code exceptions}, into a {@code Recurrence}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if any of the given values is invalid.
+     */
+    public static Recurrence parseRecurrence(String every, Optional<String> until, Optional<String> times,
+            Collection<String> exceptions) throws ParseException {
+        requireAllNonNull(every, until, times, exceptions);
+        Matcher matcher = RECURRENCE_FORMAT.matcher(every.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(Messages.MESSAGE_PARSER_RECURRENCE_CONSTRAINTS);
+        }
+
+        int interval = 1;
+        if (matcher.group("interval") != null) {
+            if (!StringUtil.isNonZeroUnsignedInteger(matcher.group("interval"))) {
+                throw new ParseException(Messages.MESSAGE_PARSER_RECURRENCE_CONSTRAINTS);
+            }
+            interval = Integer.parseInt(matcher.group("interval"));
+        }
+
+        Recurrence.Frequency frequency;
+        String period = matcher.group("period").toLowerCase();
+        if (matcher.group("byWeekday") != null && !period.equals("month")) {
+            throw new ParseException(Messages.MESSAGE_PARSER_RECURRENCE_CONSTRAINTS);
+        }
+        if (period.equals("day")) {
+            frequency = Recurrence.Frequency.DAILY;
+        } else if (period.equals("week")) {
+            frequency = Recurrence.Frequency.WEEKLY;
+        } else if (matcher.group("byWeekday") != null) {
+            frequency = Recurrence.Frequency.MONTHLY_BY_WEEKDAY;
+        } else {
+            frequency = Recurrence.Frequency.MONTHLY_BY_DATE;
+        }
+
+        LocalDate untilDate = until.isPresent() ? parseDate(until.get()) : null;
+        Integer count = null;
+        if (times.isPresent()) {
+            String trimmedTimes = times.get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(trimmedTimes)) {
+                throw new ParseException(Messages.MESSAGE_PARSER_RECURRENCE_COUNT_CONSTRAINTS);
+            }
+            count = Integer.parseInt(trimmedTimes);
+        }
+        List<LocalDate> exceptionDates = new ArrayList<>();
+        for (String exception : exceptions) {
+            exceptionDates.add(parseDate(exception));
+        }
+        return new Recurrence(frequency, interval, untilDate, count, exceptionDates);
+    }
+
     /**
      * Parses a {@code String time} into a {@code LocalTime}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ProgressCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ProgressCommand object
+ */
+public class ProgressCommandParser implements Parser<ProgressCommand> {
+
+    public static final String ORDER_ASCENDING = "asc";
+    public static final String ORDER_DESCENDING = "desc";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ProgressCommand
+     * and returns a ProgressCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ProgressCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+
+        if (trimmedArgs.isEmpty()) {
+            return new ProgressCommand(ProgressCommand.Order.DISPLAYED);
+        } else if (trimmedArgs.equalsIgnoreCase(ORDER_ASCENDING)) {
+            return new ProgressCommand(ProgressCommand.Order.ASCENDING);
+        } else if (trimmedArgs.equalsIgnoreCase(ORDER_DESCENDING)) {
+            return new ProgressCommand(ProgressCommand.Order.DESCENDING);
+        }
+
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProgressCommand.MESSAGE_USAGE));
+    }
+}
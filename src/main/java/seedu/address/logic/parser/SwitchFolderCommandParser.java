@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.SwitchFolderCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SwitchFolderCommand object
+ */
+public class SwitchFolderCommandParser implements Parser<SwitchFolderCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SwitchFolderCommand
+     * and returns a SwitchFolderCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SwitchFolderCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_FILE);
+
+        if (!argMultimap.getPreamble().trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchFolderCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> filePath = argMultimap.getValue(PREFIX_FILE);
+        if (filePath.isEmpty()) {
+            return new SwitchFolderCommand();
+        }
+        return new SwitchFolderCommand(ParserUtil.parseFilePath(filePath.get()));
+    }
+}
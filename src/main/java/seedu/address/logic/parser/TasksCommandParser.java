@@ -0,0 +1,133 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.TasksCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.task.query.TaskQuery;
+
+/**
+ * Parses input arguments and creates a new TasksCommand object
+ */
+public class TasksCommandParser implements Parser<TasksCommand> {
+
+    public static final String MESSAGE_INVALID_FILTER = "\"%1$s\" is not a valid filter.\n%2$s";
+
+    /** A filter is a key, an operator and a value, e.g. {@code due<=20-05-2021}. */
+    private static final Pattern FILTER_FORMAT = Pattern.compile("(?<key>[a-zA-Z]+)(?<operator><=|>=|<|>|:)"
+            + "(?<value>\\S+)");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TasksCommand
+     * and returns a TasksCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TasksCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        TaskQuery query = new TaskQuery();
+        if (trimmedArgs.isEmpty()) {
+            return new TasksCommand(query);
+        }
+
+        for (String filter : trimmedArgs.split("\\s+")) {
+            Matcher matcher = FILTER_FORMAT.matcher(filter);
+            if (!matcher.matches()) {
+                throw invalidFilter(filter);
+            }
+            applyFilter(query, filter, matcher.group("key"), matcher.group("operator"), matcher.group("value"));
+        }
+        return new TasksCommand(query);
+    }
+
+    private static void applyFilter(TaskQuery query, String filter, String key, String operator, String value)
+            throws ParseException {
+        boolean isEquality = operator.equals(":");
+        switch (key.toLowerCase()) {
+        case "done":
+            if (!isEquality || !(value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false"))) {
+                throw invalidFilter(filter);
+            }
+            query.setIsDone(Boolean.parseBoolean(value.toLowerCase()));
+            break;
+
+        case "type":
+            if (!isEquality) {
+                throw invalidFilter(filter);
+            }
+            query.setType(parseType(filter, value));
+            break;
+
+        case "project":
+            if (!isEquality) {
+                throw invalidFilter(filter);
+            }
+            query.addProjectTerm(value);
+            break;
+
+        case "text":
+            if (!isEquality) {
+                throw invalidFilter(filter);
+            }
+            query.addTextTerm(value);
+            break;
+
+        case "due":
+            applyDueFilter(query, operator, ParserUtil.parseDate(value));
+            break;
+
+        default:
+            throw invalidFilter(filter);
+        }
+    }
+
+    /**
+     * Narrows the due date bounds of {@code query} by the condition {@code operator date}.
+     */
+    private static void applyDueFilter(TaskQuery query, String operator, LocalDate date) {
+        LocalDate from = null;
+        LocalDate to = null;
+        switch (operator) {
+        case "<":
+            to = date.minusDays(1);
+            break;
+        case "<=":
+            to = date;
+            break;
+        case ">":
+            from = date.plusDays(1);
+            break;
+        case ">=":
+            from = date;
+            break;
+        default:
+            from = date;
+            to = date;
+            break;
+        }
+
+        if (from != null && query.getDueFrom().map(from::isAfter).orElse(true)) {
+            query.setDueFrom(from);
+        }
+        if (to != null && query.getDueTo().map(to::isBefore).orElse(true)) {
+            query.setDueTo(to);
+        }
+    }
+
+    private static TaskQuery.TaskType parseType(String filter, String value) throws ParseException {
+        for (TaskQuery.TaskType type : TaskQuery.TaskType.values()) {
+            if (type.name().equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        throw invalidFilter(filter);
+    }
+
+    private static ParseException invalidFilter(String filter) {
+        return new ParseException(String.format(MESSAGE_INVALID_FILTER, filter,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, TasksCommand.MESSAGE_USAGE)));
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.UpcomingCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UpcomingCommand object
+ */
+public class UpcomingCommandParser implements Parser<UpcomingCommand> {
+
+    public static final String MESSAGE_INVALID_COUNT = "The count should be a positive integer.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UpcomingCommand
+     * and returns an UpcomingCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UpcomingCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_COUNT);
+
+        if (!argMultimap.getPreamble().trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> count = argMultimap.getValue(PREFIX_COUNT);
+        if (count.isEmpty()) {
+            return new UpcomingCommand(UpcomingCommand.DEFAULT_COUNT);
+        }
+
+        String trimmedCount = count.get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return new UpcomingCommand(Integer.parseInt(trimmedCount));
+    }
+}
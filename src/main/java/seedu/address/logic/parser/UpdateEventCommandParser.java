@@ -7,7 +7,12 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PROJECT_DISPLA
 import static seedu.address.commons.core.Messages.MESSAGE_NOT_UPDATED;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_EVERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_EXCEPT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_TIMES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_UNTIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_WEEKLY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 
@@ -31,7 +36,8 @@ public class UpdateEventCommandParser implements Parser<UpdateEventCommand> {
     public UpdateEventCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_INDEX, PREFIX_DESCRIPTION,
-                PREFIX_EVENT_DATE, PREFIX_EVENT_TIME, PREFIX_EVENT_WEEKLY);
+                PREFIX_EVENT_DATE, PREFIX_EVENT_TIME, PREFIX_EVENT_WEEKLY, PREFIX_EVENT_END_TIME, PREFIX_EVENT_EVERY,
+                PREFIX_EVENT_UNTIL, PREFIX_EVENT_TIMES, PREFIX_EVENT_EXCEPT);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_INDEX) || argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpdateEventCommand.MESSAGE_USAGE));
@@ -65,9 +71,10 @@ public class UpdateEventCommandParser implements Parser<UpdateEventCommand> {
         if (argMultimap.getValue(PREFIX_EVENT_TIME).isPresent()) {
             updateEventDescriptor.setTime(ParserUtil.parseTime(argMultimap.getValue(PREFIX_EVENT_TIME).get()));
         }
-        if (argMultimap.getValue(PREFIX_EVENT_WEEKLY).isPresent()) {
-            updateEventDescriptor.setIsWeekly(
-                    ParserUtil.parseIsWeekly(argMultimap.getValue(PREFIX_EVENT_WEEKLY).get()));
+        AddEventCommandParser.parseRecurrence(argMultimap).ifPresent(updateEventDescriptor::setRecurrence);
+        if (argMultimap.getValue(PREFIX_EVENT_END_TIME).isPresent()) {
+            updateEventDescriptor.setEndTime(
+                    ParserUtil.parseTime(argMultimap.getValue(PREFIX_EVENT_END_TIME).get()));
         }
 
         if (!updateEventDescriptor.isAnyFieldEdited()) {
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.WhoisCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new WhoisCommand object
+ */
+public class WhoisCommandParser implements Parser<WhoisCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the WhoisCommand
+     * and returns a WhoisCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public WhoisCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new WhoisCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, WhoisCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
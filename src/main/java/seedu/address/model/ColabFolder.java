@@ -2,11 +2,16 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactQuery;
+import seedu.address.model.contact.ContactSearchResult;
+import seedu.address.model.contact.TagQuery;
 import seedu.address.model.contact.UniqueContactList;
 import seedu.address.model.project.Project;
 import seedu.address.model.project.UniqueProjectList;
@@ -111,6 +116,28 @@ public class ColabFolder implements ReadOnlyColabFolder {
         contacts.remove(key);
     }
 
+    /**
+     * Removes {@code keys} from this {@code ColabFolder} in one go.
+     * Every one of {@code keys} must exist in the {@code ColabFolder}.
+     */
+    public void removeContacts(Collection<Contact> keys) {
+        contacts.removeAll(keys);
+    }
+
+    /**
+     * Returns the contacts in the {@code ColabFolder} matching {@code query}.
+     */
+    public ContactSearchResult searchContacts(ContactQuery query) {
+        return contacts.search(query);
+    }
+
+    /**
+     * Returns the contacts in the {@code ColabFolder} matching {@code query}, compared by identity.
+     */
+    public Set<Contact> searchContacts(TagQuery query) {
+        return contacts.search(query);
+    }
+
     // project-level operations
 
     /**
@@ -0,0 +1,62 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.project.Project;
+
+/**
+ * The state of a CoLAB folder at one point in time, which can be read from any thread.
+ * Its lists cannot be changed. Its projects are copies that must never be changed either, as a copy is shared by
+ * every later snapshot, and by the undo history, until the project it was copied from changes.
+ */
+public class ColabFolderSnapshot implements ReadOnlyColabFolder {
+
+    private final ObservableList<Contact> contacts;
+    private final ObservableList<Project> projects;
+
+    /**
+     * Creates a {@code ColabFolderSnapshot} of {@code contacts} and of {@code projects}, which must not be changed
+     * afterwards.
+     */
+    ColabFolderSnapshot(List<Contact> contacts, List<Project> projects) {
+        requireAllNonNull(contacts, projects);
+
+        this.contacts = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(contacts));
+        this.projects = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(projects));
+    }
+
+    @Override
+    public ObservableList<Contact> getContactList() {
+        return contacts;
+    }
+
+    @Override
+    public ObservableList<Project> getProjectsList() {
+        return projects;
+    }
+
+    @Override
+    public String toString() {
+        return "Snapshot of CoLAB Folder Containing " + contacts.size() + " contacts and " + projects.size()
+                + " projects";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ColabFolderSnapshot // instanceof handles nulls
+                && contacts.equals(((ColabFolderSnapshot) other).contacts)
+                && projects.equals(((ColabFolderSnapshot) other).projects));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contacts, projects);
+    }
+}
@@ -1,16 +1,29 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.agenda.AgendaEntry;
+import seedu.address.model.agenda.AgendaIndex;
+import seedu.address.model.agenda.AgendaRange;
+import seedu.address.model.agenda.EventClash;
 import seedu.address.model.colabfolderhistory.SavedState;
 import seedu.address.model.colabfolderhistory.exceptions.NoRedoableStateException;
 import seedu.address.model.colabfolderhistory.exceptions.NoUndoableStateException;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactQuery;
+import seedu.address.model.contact.ContactSearchResult;
+import seedu.address.model.contact.TagQuery;
 import seedu.address.model.project.Project;
+import seedu.address.model.search.SearchHit;
+import seedu.address.model.task.repeatable.Event;
 
 /**
  * The API of the Model component.
@@ -64,6 +77,28 @@ public interface Model {
     /** Returns the ColabFolder */
     ReadOnlyColabFolder getColabFolder();
 
+    /**
+     * Replaces the open CoLAB folder and its history with {@code folder}, stored at {@code colabFolderFilePath},
+     * and returns the folder that was open together with its history.
+     * Both folders become the most recently opened folders, all filters are cleared and a snapshot of the new folder
+     * is published.
+     */
+    ResidentFolder switchColabFolder(Path colabFolderFilePath, ResidentFolder folder);
+
+    /**
+     * Publishes the current CoLAB folder as the latest snapshot and returns it.
+     * Only the projects changed since the last snapshot are copied, and the last snapshot is returned if nothing
+     * changed. Must be called on the thread that changes the model, after a change is complete.
+     */
+    ReadOnlyColabFolder publishSnapshot();
+
+    /**
+     * Returns the latest published snapshot of the CoLAB folder.
+     * The snapshot never changes once published, so it may be read from any thread without locking while the model
+     * keeps changing.
+     */
+    ReadOnlyColabFolder getColabFolderSnapshot();
+
     /**
      * Returns true if a Contact with the same identity as {@code contact} exists in the CoLAB folder.
      */
@@ -75,6 +110,12 @@ public interface Model {
      */
     void deleteContact(Contact target);
 
+    /**
+     * Deletes the given Contacts in one go.
+     * Every Contact must exist in the CoLAB folder.
+     */
+    void deleteContacts(List<Contact> targets);
+
     /**
      * Adds the given Contact.
      * {@code contact} must not already exist in the CoLAB folder.
@@ -86,9 +127,20 @@ public interface Model {
      * {@code target} must exist in the CoLAB folder.
      * The Contact identity of {@code editedContact} must not be the same as
      * another existing contact in the CoLAB folder.
+     * If the name changes, groupmates with the old name of {@code target} are renamed too.
      */
     void setContact(Contact target, Contact editedContact);
 
+    /**
+     * Returns the contacts in the CoLAB folder matching {@code query}.
+     */
+    ContactSearchResult searchContacts(ContactQuery query);
+
+    /**
+     * Returns the contacts in the CoLAB folder matching {@code query}, compared by identity.
+     */
+    Set<Contact> searchContacts(TagQuery query);
+
     //=========== Filtered Contact List Accessors =============================================================
 
     /** Returns an unmodifiable view of the filtered contact list */
@@ -100,6 +152,19 @@ public interface Model {
      */
     void updateFilteredContactList(Predicate<Contact> predicate);
 
+    /**
+     * Updates the filter of the filtered contact list to filter by the given {@code predicate}, and orders the
+     * filtered contact list by the given {@code comparator}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredContactList(Predicate<Contact> predicate, Comparator<Contact> comparator);
+
+    /** Returns the predicate that the filtered contact list is filtered by. */
+    Predicate<Contact> getContactPredicate();
+
+    /** Returns the comparator that the filtered contact list is ordered by, or null if it is not reordered. */
+    Comparator<Contact> getContactComparator();
+
     //=========== Projects File ==============================================================================
 
     /**
@@ -138,6 +203,67 @@ public interface Model {
      */
     void updateFilteredProjectList(Predicate<Project> predicate);
 
+    /** Returns the predicate that the filtered projects list is filtered by. */
+    Predicate<Project> getProjectPredicate();
+
+    //=========== Search =====================================================================================
+
+    /**
+     * Returns the projects, groupmates, events, deadlines and todos whose name or description contains
+     * {@code query}, ignoring case. Only items of projects in the filtered project list are returned.
+     */
+    List<SearchHit> searchProjects(String query);
+
+    /**
+     * Returns the groupmates with the same name as {@code contact}, ignoring case.
+     * Only groupmates of projects in the filtered project list are returned.
+     */
+    List<SearchHit> getMemberships(Contact contact);
+
+    //=========== Agenda =====================================================================================
+
+    /** Returns the live agenda of events and deadlines across all projects */
+    AgendaIndex getAgendaIndex();
+
+    /**
+     * Returns the event occurrences and deadlines of all projects within {@code range}, in time order.
+     * Entries are produced lazily as the iterator is read.
+     */
+    Iterator<AgendaEntry> getAgenda(AgendaRange range);
+
+    /**
+     * Returns up to {@code count} deadlines that are not done and are due today or later, earliest first.
+     * Only deadlines of projects in the filtered project list are returned.
+     */
+    List<SearchHit> getUpcomingDeadlines(int count);
+
+    /**
+     * Returns the deadlines that are not done and were due before today, earliest first.
+     * Only deadlines of projects in the filtered project list are returned.
+     */
+    List<SearchHit> getOverdueDeadlines();
+
+    /**
+     * Returns the clashes between {@code event}, which must be an event of a project, and the events of all
+     * projects, earliest first.
+     */
+    List<EventClash> getEventClashes(Event event);
+
+    /**
+     * Returns every pair of events of all projects that clash on a date in {@code range}.
+     */
+    List<EventClash> getEventClashes(AgendaRange range);
+
+    /**
+     * Returns every pair of events of all projects that clash today or later.
+     */
+    List<EventClash> getUpcomingEventClashes();
+
+    /**
+     * Brings date-dependent data, such as the sort order of events and the agenda, up to date with the current date.
+     */
+    void refreshDate();
+
     //=========== Colab Folder History ======================================================================
 
     /**
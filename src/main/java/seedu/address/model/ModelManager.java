@@ -4,47 +4,105 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.agenda.AgendaEntry;
+import seedu.address.model.agenda.AgendaIndex;
+import seedu.address.model.agenda.AgendaRange;
+import seedu.address.model.agenda.DeadlineQueue;
+import seedu.address.model.agenda.EventClash;
+import seedu.address.model.agenda.EventClashIndex;
 import seedu.address.model.colabfolderhistory.ColabFolderHistory;
 import seedu.address.model.colabfolderhistory.SavedState;
 import seedu.address.model.colabfolderhistory.exceptions.NoRedoableStateException;
 import seedu.address.model.colabfolderhistory.exceptions.NoUndoableStateException;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactQuery;
+import seedu.address.model.contact.ContactSearchResult;
+import seedu.address.model.contact.TagQuery;
+import seedu.address.model.membership.MembershipIndex;
 import seedu.address.model.project.Project;
+import seedu.address.model.search.GlobalSearchIndex;
+import seedu.address.model.search.SearchHit;
+import seedu.address.model.task.repeatable.Event;
 
 /**
  * Represents the in-memory model of the CoLAB folder data.
+ * The model is changed and read on the JavaFX Application Thread only. Other threads read the latest snapshot, a
+ * {@code ColabFolderSnapshot} published through a volatile field, so they neither block nor see a change half done.
+ * A snapshot shares the copies of the projects that did not change since the last one, and the undo history keeps
+ * snapshots too.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final ColabFolderHistory colabFolderHistory;
+    private ColabFolderHistory colabFolderHistory;
     private final ColabFolder colabFolder;
     private final UserPrefs userPrefs;
+    private final Clock clock;
     private final FilteredList<Contact> filteredContacts;
+    private final SortedList<Contact> sortedContacts;
     private final FilteredList<Project> filteredProjects;
+    private final AgendaIndex agendaIndex;
+    private final DeadlineQueue deadlineQueue;
+    private final EventClashIndex eventClashIndex;
+    private final GlobalSearchIndex globalSearchIndex;
+    private final MembershipIndex membershipIndex;
+    private volatile ColabFolderSnapshot snapshot;
+    private Map<Project, ProjectCopy> projectCopies = new IdentityHashMap<>();
+    private boolean isFolderChanged = true;
 
     /**
      * Initializes a ModelManager with the given colabFolder and userPrefs.
      */
     public ModelManager(ReadOnlyColabFolder colabFolder, ReadOnlyUserPrefs userPrefs) {
+        this(colabFolder, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given colabFolder and userPrefs, which takes the date of today from
+     * {@code clock}.
+     */
+    public ModelManager(ReadOnlyColabFolder colabFolder, ReadOnlyUserPrefs userPrefs, Clock clock) {
         super();
-        requireAllNonNull(colabFolder, userPrefs);
+        requireAllNonNull(colabFolder, userPrefs, clock);
 
         logger.fine("Initializing with CoLAB folder: " + colabFolder + " and user prefs " + userPrefs);
 
         this.colabFolderHistory = new ColabFolderHistory(colabFolder);
         this.colabFolder = new ColabFolder(colabFolder);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.clock = clock;
         filteredContacts = new FilteredList<>(this.colabFolder.getContactList());
+        sortedContacts = new SortedList<>(filteredContacts);
         filteredProjects = new FilteredList<>(this.colabFolder.getProjectsList());
+        agendaIndex = new AgendaIndex(this.colabFolder.getProjectsList(), LocalDate.now(clock));
+        deadlineQueue = new DeadlineQueue(this.colabFolder.getProjectsList());
+        eventClashIndex = new EventClashIndex(this.colabFolder.getProjectsList());
+        globalSearchIndex = new GlobalSearchIndex(this.colabFolder.getProjectsList());
+        membershipIndex = new MembershipIndex(this.colabFolder.getContactList(), this.colabFolder.getProjectsList());
+        this.colabFolder.getContactList().addListener((ListChangeListener<Contact>) change -> isFolderChanged = true);
+        this.colabFolder.getProjectsList().addListener((ListChangeListener<Project>) change -> isFolderChanged = true);
+        // the events of the projects are sorted relative to the date of their own clock until now
+        refreshDate();
+        publishSnapshot();
     }
 
     public ModelManager() {
@@ -67,7 +125,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return colabFolder.equals(other.colabFolder)
                 && userPrefs.equals(other.userPrefs)
-                && filteredContacts.equals(other.filteredContacts)
+                && sortedContacts.equals(other.sortedContacts)
                 && filteredProjects.equals(other.filteredProjects);
     }
 
@@ -114,6 +172,7 @@ public class ModelManager implements Model {
     @Override
     public void setColabFolder(ReadOnlyColabFolder colabFolder) {
         this.colabFolder.resetData(colabFolder);
+        refreshDate();
     }
 
     @Override
@@ -121,6 +180,52 @@ public class ModelManager implements Model {
         return colabFolder;
     }
 
+    @Override
+    public ResidentFolder switchColabFolder(Path colabFolderFilePath, ResidentFolder folder) {
+        requireAllNonNull(colabFolderFilePath, folder);
+
+        ResidentFolder previousFolder = new ResidentFolder(publishSnapshot(), colabFolderHistory);
+        userPrefs.addRecentColabFolderFilePath(userPrefs.getColabFolderFilePath());
+        userPrefs.addRecentColabFolderFilePath(colabFolderFilePath);
+        userPrefs.setColabFolderFilePath(colabFolderFilePath);
+
+        colabFolder.resetData(folder.getColabFolder());
+        colabFolderHistory = folder.getColabFolderHistory();
+        refreshDate();
+        updateFilteredContactList(PREDICATE_SHOW_ALL_CONTACTS);
+        updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
+        publishSnapshot();
+        return previousFolder;
+    }
+
+    @Override
+    public ReadOnlyColabFolder publishSnapshot() {
+        boolean isChanged = isFolderChanged;
+        Map<Project, ProjectCopy> copies = new IdentityHashMap<>();
+        List<Project> projects = new ArrayList<>();
+        for (Project project : colabFolder.getProjectsList()) {
+            ProjectCopy copy = projectCopies.get(project);
+            if (copy == null || !copy.isCopyOf(project)) {
+                copy = new ProjectCopy(project);
+                isChanged = true;
+            }
+            copies.put(project, copy);
+            projects.add(copy.copy);
+        }
+
+        if (isChanged || snapshot == null) {
+            snapshot = new ColabFolderSnapshot(colabFolder.getContactList(), projects);
+            projectCopies = copies;
+            isFolderChanged = false;
+        }
+        return snapshot;
+    }
+
+    @Override
+    public ReadOnlyColabFolder getColabFolderSnapshot() {
+        return snapshot;
+    }
+
     @Override
     public boolean hasContact(Contact contact) {
         requireNonNull(contact);
@@ -135,6 +240,13 @@ public class ModelManager implements Model {
         colabFolder.removeContact(target);
     }
 
+    @Override
+    public void deleteContacts(List<Contact> targets) {
+        requireNonNull(targets);
+
+        colabFolder.removeContacts(targets);
+    }
+
     @Override
     public void addContact(Contact contact) {
         colabFolder.addContact(contact);
@@ -146,6 +258,21 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedContact);
 
         colabFolder.setContact(target, editedContact);
+        membershipIndex.renameGroupmates(target, editedContact);
+    }
+
+    @Override
+    public ContactSearchResult searchContacts(ContactQuery query) {
+        requireNonNull(query);
+
+        return colabFolder.searchContacts(query);
+    }
+
+    @Override
+    public Set<Contact> searchContacts(TagQuery query) {
+        requireNonNull(query);
+
+        return colabFolder.searchContacts(query);
     }
 
     @Override
@@ -166,6 +293,7 @@ public class ModelManager implements Model {
     public void addProject(Project project) {
         requireNonNull(project);
 
+        alignDate(project);
         colabFolder.addProject(project);
         updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
     }
@@ -174,9 +302,19 @@ public class ModelManager implements Model {
     public void setProject(Project target, Project editedProject) {
         requireAllNonNull(target, editedProject);
 
+        alignDate(editedProject);
         colabFolder.setProject(target, editedProject);
     }
 
+    /**
+     * Sorts the events of {@code project} relative to the date of today of this model, as projects made outside
+     * of the model take it from their own clock.
+     */
+    private void alignDate(Project project) {
+        project.getEvents().refreshSortOrder(agendaIndex.getDate());
+        project.getProgress().setToday(agendaIndex.getDate());
+    }
+
     //=========== Filtered Contact List Accessors =============================================================
 
     /**
@@ -185,7 +323,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Contact> getFilteredContactList() {
-        return filteredContacts;
+        return sortedContacts;
     }
 
     @Override
@@ -193,6 +331,30 @@ public class ModelManager implements Model {
         requireNonNull(predicate);
 
         filteredContacts.setPredicate(predicate);
+        sortedContacts.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredContactList(Predicate<Contact> predicate, Comparator<Contact> comparator) {
+        requireAllNonNull(predicate, comparator);
+
+        filteredContacts.setPredicate(predicate);
+        sortedContacts.setComparator(comparator);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Predicate<Contact> getContactPredicate() {
+        // only predicates of contacts are ever set
+        Predicate<Contact> predicate = (Predicate<Contact>) filteredContacts.getPredicate();
+        return predicate == null ? PREDICATE_SHOW_ALL_CONTACTS : predicate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Comparator<Contact> getContactComparator() {
+        // only comparators of contacts are ever set
+        return (Comparator<Contact>) sortedContacts.getComparator();
     }
 
     //=========== Filtered Projects List Accessors ==========================================================
@@ -213,6 +375,83 @@ public class ModelManager implements Model {
         filteredProjects.setPredicate(predicate);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Predicate<Project> getProjectPredicate() {
+        // only predicates of projects are ever set
+        Predicate<Project> predicate = (Predicate<Project>) filteredProjects.getPredicate();
+        return predicate == null ? PREDICATE_SHOW_ALL_PROJECTS : predicate;
+    }
+
+    //=========== Search =====================================================================================
+
+    @Override
+    public List<SearchHit> searchProjects(String query) {
+        requireNonNull(query);
+
+        return globalSearchIndex.search(query, filteredProjects);
+    }
+
+    @Override
+    public List<SearchHit> getMemberships(Contact contact) {
+        requireNonNull(contact);
+
+        return membershipIndex.getMemberships(contact, filteredProjects);
+    }
+
+    //=========== Agenda =====================================================================================
+
+    @Override
+    public AgendaIndex getAgendaIndex() {
+        return agendaIndex;
+    }
+
+    @Override
+    public Iterator<AgendaEntry> getAgenda(AgendaRange range) {
+        requireNonNull(range);
+
+        return range.iterator(colabFolder.getProjectsList());
+    }
+
+    @Override
+    public List<SearchHit> getUpcomingDeadlines(int count) {
+        return deadlineQueue.getUpcoming(agendaIndex.getDate(), count, filteredProjects);
+    }
+
+    @Override
+    public List<SearchHit> getOverdueDeadlines() {
+        return deadlineQueue.getOverdue(agendaIndex.getDate(), filteredProjects);
+    }
+
+    @Override
+    public List<EventClash> getEventClashes(Event event) {
+        requireNonNull(event);
+
+        return eventClashIndex.getClashes(event);
+    }
+
+    @Override
+    public List<EventClash> getEventClashes(AgendaRange range) {
+        requireNonNull(range);
+
+        return eventClashIndex.getClashes(range);
+    }
+
+    @Override
+    public List<EventClash> getUpcomingEventClashes() {
+        return eventClashIndex.getUpcomingClashes(agendaIndex.getDate());
+    }
+
+    @Override
+    public void refreshDate() {
+        LocalDate today = LocalDate.now(clock);
+        for (Project project : colabFolder.getProjectsList()) {
+            project.getEvents().refreshSortOrder(today);
+            project.getProgress().setToday(today);
+        }
+        agendaIndex.setDate(today);
+    }
+
     //=========== Colab Folder History ======================================================================
 
     @Override
@@ -231,6 +470,7 @@ public class ModelManager implements Model {
         CommandResult commandResult = savedState.getCommandResult();
         ReadOnlyColabFolder readOnlyColabFolder = savedState.getColabFolder();
         colabFolder.resetData(readOnlyColabFolder);
+        refreshDate();
         return commandResult;
     }
 
@@ -240,14 +480,32 @@ public class ModelManager implements Model {
         CommandResult commandResult = savedState.getCommandResult();
         ReadOnlyColabFolder readOnlyColabFolder = savedState.getColabFolder();
         colabFolder.resetData(readOnlyColabFolder);
+        refreshDate();
         return commandResult;
     }
 
     @Override
     public void commitState(CommandResult commandResult) {
-        ReadOnlyColabFolder colabFolder = getColabFolder();
-        ColabFolder colabFolderCopy = new ColabFolder();
-        colabFolderCopy.resetData(colabFolder);
-        colabFolderHistory.commit(colabFolderCopy, commandResult);
+        // the snapshot is never changed, so the history keeps it as it is
+        colabFolderHistory.commit(publishSnapshot(), commandResult);
+    }
+
+    /**
+     * A copy of a project, taken when the project was at the revision and the date of today in the copy.
+     */
+    private static class ProjectCopy {
+        private final Project copy;
+        private final long revision;
+        private final LocalDate today;
+
+        ProjectCopy(Project project) {
+            copy = project.getCopy();
+            revision = project.getRevision();
+            today = project.getEvents().getToday();
+        }
+
+        boolean isCopyOf(Project project) {
+            return revision == project.getRevision() && today.equals(project.getEvents().getToday());
+        }
     }
 }
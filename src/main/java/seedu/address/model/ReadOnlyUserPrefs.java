@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,4 +14,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getColabFolderFilePath();
 
+    /**
+     * Returns the file paths of the recently opened CoLAB folders, most recent first.
+     */
+    List<Path> getRecentColabFolderFilePaths();
+
 }
@@ -0,0 +1,55 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.colabfolderhistory.ColabFolderHistory;
+import seedu.address.model.project.Project;
+
+/**
+ * A CoLAB folder kept in memory while it is not the open folder, together with its undo history.
+ */
+public class ResidentFolder {
+
+    /** A rough estimate of the memory taken by a contact, project or task in a single state of a folder. */
+    public static final long ESTIMATED_BYTES_PER_ITEM = 1024;
+
+    private final ReadOnlyColabFolder colabFolder;
+    private final ColabFolderHistory colabFolderHistory;
+
+    /**
+     * Creates a {@code ResidentFolder} of {@code colabFolder} with {@code colabFolderHistory} as its history.
+     */
+    public ResidentFolder(ReadOnlyColabFolder colabFolder, ColabFolderHistory colabFolderHistory) {
+        requireAllNonNull(colabFolder, colabFolderHistory);
+
+        this.colabFolder = colabFolder;
+        this.colabFolderHistory = colabFolderHistory;
+    }
+
+    /**
+     * Creates a {@code ResidentFolder} of {@code colabFolder} with no history, such as a folder just read from file.
+     */
+    public ResidentFolder(ReadOnlyColabFolder colabFolder) {
+        this(colabFolder, new ColabFolderHistory(colabFolder));
+    }
+
+    public ReadOnlyColabFolder getColabFolder() {
+        return colabFolder;
+    }
+
+    public ColabFolderHistory getColabFolderHistory() {
+        return colabFolderHistory;
+    }
+
+    /**
+     * Returns a rough estimate of the memory taken by the folder, counting every state in its history as a full copy.
+     */
+    public long estimateSize() {
+        long itemCount = colabFolder.getContactList().size();
+        for (Project project : colabFolder.getProjectsList()) {
+            itemCount += 1 + project.getSortedEvents().size() + project.getSortedDeadlines().size()
+                    + project.getSortedTodos().size() + project.getSortedGroupmates().size();
+        }
+        return itemCount * (1 + colabFolderHistory.getStateCount()) * ESTIMATED_BYTES_PER_ITEM;
+    }
+}
@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -13,8 +16,12 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** The number of recently opened CoLAB folders that are remembered. */
+    public static final int MAX_RECENT_COLAB_FOLDERS = 10;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path colabFolderFilePath = Paths.get("data" , "colab.json");
+    private List<Path> recentColabFolderFilePaths = new ArrayList<>();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +44,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         setGuiSettings(newUserPrefs.getGuiSettings());
         setColabFolderFilePath(newUserPrefs.getColabFolderFilePath());
+        setRecentColabFolderFilePaths(newUserPrefs.getRecentColabFolderFilePaths());
     }
 
     public GuiSettings getGuiSettings() {
@@ -59,6 +67,37 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.colabFolderFilePath = colabFolderFilePath;
     }
 
+    public List<Path> getRecentColabFolderFilePaths() {
+        return Collections.unmodifiableList(recentColabFolderFilePaths);
+    }
+
+    /**
+     * Replaces the recently opened CoLAB folders with {@code recentColabFolderFilePaths}, most recent first.
+     * Only the first {@code MAX_RECENT_COLAB_FOLDERS} of them are kept.
+     */
+    public void setRecentColabFolderFilePaths(List<Path> recentColabFolderFilePaths) {
+        requireNonNull(recentColabFolderFilePaths);
+
+        this.recentColabFolderFilePaths = new ArrayList<>(recentColabFolderFilePaths.subList(0,
+                Math.min(recentColabFolderFilePaths.size(), MAX_RECENT_COLAB_FOLDERS)));
+    }
+
+    /**
+     * Moves {@code colabFolderFilePath} to the front of the recently opened CoLAB folders, dropping the least
+     * recently opened folder if there are more than {@code MAX_RECENT_COLAB_FOLDERS} of them.
+     * A recent path that leads to the same file, given as a relative or absolute path, is replaced.
+     */
+    public void addRecentColabFolderFilePath(Path colabFolderFilePath) {
+        requireNonNull(colabFolderFilePath);
+
+        Path normalizedPath = colabFolderFilePath.toAbsolutePath().normalize();
+        recentColabFolderFilePaths.removeIf(path -> path.toAbsolutePath().normalize().equals(normalizedPath));
+        recentColabFolderFilePaths.add(0, colabFolderFilePath);
+        if (recentColabFolderFilePaths.size() > MAX_RECENT_COLAB_FOLDERS) {
+            recentColabFolderFilePaths.remove(MAX_RECENT_COLAB_FOLDERS);
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -71,12 +110,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && colabFolderFilePath.equals(o.colabFolderFilePath);
+                && colabFolderFilePath.equals(o.colabFolderFilePath)
+                && recentColabFolderFilePaths.equals(o.recentColabFolderFilePaths);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, colabFolderFilePath);
+        return Objects.hash(guiSettings, colabFolderFilePath, recentColabFolderFilePaths);
     }
 
     @Override
@@ -84,6 +124,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal CoLAB data file location : " + colabFolderFilePath);
+        sb.append("\nRecent CoLAB data files : " + recentColabFolderFilePaths);
         return sb.toString();
     }
 
@@ -0,0 +1,124 @@
+package seedu.address.model.agenda;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.commons.util.TimeUtil;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.task.CompletableDeadline;
+import seedu.address.model.task.Repeatable;
+
+/**
+ * A single occurrence of an event, or a deadline, on a particular day of an agenda.
+ * Guarantees: immutable.
+ */
+public class AgendaEntry {
+
+    /**
+     * Orders entries by date, with the deadlines of a day before its events, then by time, project name and
+     * description.
+     */
+    public static final Comparator<AgendaEntry> COMPARATOR = Comparator
+            .comparing(AgendaEntry::getDate)
+            .thenComparing(entry -> entry.time, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(entry -> entry.projectName.toString())
+            .thenComparing(AgendaEntry::getDescription);
+
+    private static final String DONE_MARKER = " ✔";
+
+    private final LocalDate date;
+    private final LocalTime time;
+    private final ProjectName projectName;
+    private final String description;
+    private final boolean isDone;
+
+    private AgendaEntry(LocalDate date, LocalTime time, ProjectName projectName, String description,
+            boolean isDone) {
+        this.date = date;
+        this.time = time;
+        this.projectName = projectName;
+        this.description = description;
+        this.isDone = isDone;
+    }
+
+    /**
+     * Returns the entry for the occurrence of {@code event} on {@code date}.
+     */
+    public static AgendaEntry ofEvent(Repeatable event, LocalDate date, ProjectName projectName) {
+        requireAllNonNull(event, date, projectName);
+        return new AgendaEntry(date, event.getTime(), projectName, event.getDescription(), false);
+    }
+
+    /**
+     * Returns the entry for {@code deadline}, on the day it is due.
+     */
+    public static AgendaEntry ofDeadline(CompletableDeadline deadline, ProjectName projectName) {
+        requireAllNonNull(deadline, projectName);
+        return new AgendaEntry(deadline.getBy(), null, projectName, deadline.getDescription(),
+                deadline.getIsDone());
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Returns the time of the event occurrence, or an empty {@code Optional} if the entry is a deadline.
+     */
+    public Optional<LocalTime> getTime() {
+        return Optional.ofNullable(time);
+    }
+
+    public boolean isDeadline() {
+        return time == null;
+    }
+
+    public ProjectName getProjectName() {
+        return projectName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean getIsDone() {
+        return isDone;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AgendaEntry)) {
+            return false;
+        }
+
+        AgendaEntry otherEntry = (AgendaEntry) other;
+        return date.equals(otherEntry.date)
+                && Objects.equals(time, otherEntry.time)
+                && projectName.equals(otherEntry.projectName)
+                && description.equals(otherEntry.description)
+                && isDone == otherEntry.isDone;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, time, projectName, description, isDone);
+    }
+
+    @Override
+    public String toString() {
+        String when = time == null
+                ? DateUtil.decodeDateWithDay(date) + " (due)"
+                : DateUtil.decodeDateWithDay(date) + " " + TimeUtil.decodeTime(time);
+        return when + ": " + description + " [" + projectName + "]" + (isDone ? DONE_MARKER : "");
+    }
+}
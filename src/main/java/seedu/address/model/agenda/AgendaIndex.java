@@ -0,0 +1,267 @@
+package seedu.address.model.agenda;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import seedu.address.model.project.Project;
+import seedu.address.model.task.CompletableDeadline;
+import seedu.address.model.task.Repeatable;
+import seedu.address.model.task.deadline.DeadlineWithProject;
+import seedu.address.model.task.repeatable.Event;
+import seedu.address.model.task.repeatable.EventWithProject;
+
+/**
+ * A live agenda of the events and deadlines of all projects, for each {@code AgendaPeriod}.
+ * The agenda subscribes to the projects list and to the events and deadlines of every project. When a project's
+ * events or deadlines change, only the agenda entries of that project are recomputed, so reading the agenda
+ * never requires going through every project.
+ */
+public class AgendaIndex {
+
+    private final ObservableList<Project> projects;
+    private final ObjectProperty<LocalDate> date;
+
+    private final Map<Project, ProjectEntries> projectEntries = new IdentityHashMap<>();
+    private final Map<AgendaPeriod, ObservableList<EventWithProject>> events = new EnumMap<>(AgendaPeriod.class);
+    private final Map<AgendaPeriod, ObservableList<DeadlineWithProject>> deadlines =
+            new EnumMap<>(AgendaPeriod.class);
+    private final Map<AgendaPeriod, SortedList<EventWithProject>> sortedEvents = new EnumMap<>(AgendaPeriod.class);
+    private final Map<AgendaPeriod, SortedList<DeadlineWithProject>> sortedDeadlines =
+            new EnumMap<>(AgendaPeriod.class);
+
+    /**
+     * Creates an {@code AgendaIndex} over {@code projects} for the given current {@code date}.
+     *
+     * @param projects The projects whose events and deadlines are indexed.
+     * @param date The current date.
+     */
+    public AgendaIndex(ObservableList<Project> projects, LocalDate date) {
+        requireAllNonNull(projects, date);
+
+        this.projects = projects;
+        this.date = new SimpleObjectProperty<>(date);
+
+        Comparator<EventWithProject> eventComparator = Comparator
+                .comparingLong((EventWithProject event) -> nextOccurrenceOf(event))
+                .thenComparingInt(EventWithProject::getMinuteOfDay)
+                .thenComparing(EventWithProject::getDescription);
+        Comparator<DeadlineWithProject> deadlineComparator = Comparator
+                .comparingInt(DeadlineWithProject::getByEpochDay)
+                .thenComparing(DeadlineWithProject::getDescription);
+
+        for (AgendaPeriod period : AgendaPeriod.values()) {
+            ObservableList<EventWithProject> periodEvents = FXCollections.observableArrayList();
+            ObservableList<DeadlineWithProject> periodDeadlines = FXCollections.observableArrayList();
+            events.put(period, periodEvents);
+            deadlines.put(period, periodDeadlines);
+            sortedEvents.put(period, new SortedList<>(periodEvents, eventComparator));
+            sortedDeadlines.put(period, new SortedList<>(periodDeadlines, deadlineComparator));
+        }
+
+        projects.forEach(this::track);
+        projects.addListener(this::onProjectsChanged);
+    }
+
+    /**
+     * Returns the epoch day of the next occurrence of {@code event} on or after the current date, which is after
+     * every other day if the event does not occur again.
+     */
+    private long nextOccurrenceOf(Repeatable event) {
+        long epochDay = event.getNextOccurrenceEpochDay(getDate().toEpochDay());
+        return epochDay == Repeatable.NO_OCCURRENCE ? Long.MAX_VALUE : epochDay;
+    }
+
+    /**
+     * Returns the current date of the agenda.
+     */
+    public LocalDate getDate() {
+        return date.get();
+    }
+
+    /**
+     * Returns the current date of the agenda as a read-only property.
+     */
+    public ReadOnlyObjectProperty<LocalDate> dateProperty() {
+        return date;
+    }
+
+    /**
+     * Moves the agenda to a new current date. All entries are recomputed if the date changed.
+     *
+     * @param newDate The new current date.
+     */
+    public void setDate(LocalDate newDate) {
+        requireNonNull(newDate);
+
+        if (newDate.equals(getDate())) {
+            return;
+        }
+
+        date.set(newDate);
+        projectEntries.values().forEach(entries -> {
+            entries.refreshEvents();
+            entries.refreshDeadlines();
+        });
+    }
+
+    /**
+     * Returns an unmodifiable view of the events in {@code period}, sorted by date and time.
+     */
+    public ObservableList<EventWithProject> getEvents(AgendaPeriod period) {
+        requireNonNull(period);
+        return sortedEvents.get(period);
+    }
+
+    /**
+     * Returns an unmodifiable view of the deadlines in {@code period}, sorted by date and description.
+     */
+    public ObservableList<DeadlineWithProject> getDeadlines(AgendaPeriod period) {
+        requireNonNull(period);
+        return sortedDeadlines.get(period);
+    }
+
+    private void onProjectsChanged(ListChangeListener.Change<? extends Project> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+
+            change.getRemoved().forEach(this::untrack);
+            change.getAddedSubList().forEach(this::track);
+        }
+    }
+
+    private void track(Project project) {
+        ProjectEntries entries = new ProjectEntries(project);
+        projectEntries.put(project, entries);
+        entries.attach();
+    }
+
+    private void untrack(Project project) {
+        ProjectEntries entries = projectEntries.remove(project);
+        if (entries != null) {
+            entries.detach();
+        }
+    }
+
+    /**
+     * Replaces {@code oldEntries} in {@code entries} with {@code newEntries}.
+     * Entries are matched by identity, as events of different projects may be equal.
+     */
+    private static <T> void replaceEntries(ObservableList<T> entries, List<T> oldEntries, List<T> newEntries) {
+        if (!oldEntries.isEmpty()) {
+            Set<T> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+            toRemove.addAll(oldEntries);
+            for (int i = entries.size() - 1; i >= 0 && !toRemove.isEmpty(); i--) {
+                if (toRemove.remove(entries.get(i))) {
+                    entries.remove(i);
+                }
+            }
+        }
+
+        entries.addAll(newEntries);
+    }
+
+    /**
+     * The agenda entries contributed by a single project.
+     */
+    private class ProjectEntries {
+        private final Project project;
+        private final Map<AgendaPeriod, List<EventWithProject>> events = new EnumMap<>(AgendaPeriod.class);
+        private final Map<AgendaPeriod, List<DeadlineWithProject>> deadlines = new EnumMap<>(AgendaPeriod.class);
+        private final ListChangeListener<Event> eventsListener = change -> refreshEvents();
+        private final ListChangeListener<CompletableDeadline> deadlinesListener = change -> refreshDeadlines();
+
+        ProjectEntries(Project project) {
+            this.project = project;
+            for (AgendaPeriod period : AgendaPeriod.values()) {
+                events.put(period, Collections.emptyList());
+                deadlines.put(period, Collections.emptyList());
+            }
+        }
+
+        void attach() {
+            project.getSortedEvents().addListener(eventsListener);
+            project.getSortedDeadlines().addListener(deadlinesListener);
+            refreshEvents();
+            refreshDeadlines();
+        }
+
+        void detach() {
+            project.getSortedEvents().removeListener(eventsListener);
+            project.getSortedDeadlines().removeListener(deadlinesListener);
+            for (AgendaPeriod period : AgendaPeriod.values()) {
+                replaceEntries(AgendaIndex.this.events.get(period), events.get(period), Collections.emptyList());
+                replaceEntries(AgendaIndex.this.deadlines.get(period), deadlines.get(period),
+                        Collections.emptyList());
+            }
+        }
+
+        void refreshEvents() {
+            Map<AgendaPeriod, List<EventWithProject>> updated = new EnumMap<>(AgendaPeriod.class);
+            for (AgendaPeriod period : AgendaPeriod.values()) {
+                updated.put(period, new ArrayList<>());
+            }
+
+            for (Event event : project.getSortedEvents()) {
+                EventWithProject eventWithProject = null;
+                for (AgendaPeriod period : AgendaPeriod.values()) {
+                    Optional<LocalDate> occurrence = event.getNextOccurrence(period.getStart(getDate()));
+                    if (occurrence.isPresent() && period.contains(getDate(), occurrence.get())) {
+                        if (eventWithProject == null) {
+                            eventWithProject = new EventWithProject(event, project.getProjectName());
+                        }
+                        updated.get(period).add(eventWithProject);
+                    }
+                }
+            }
+
+            for (AgendaPeriod period : AgendaPeriod.values()) {
+                replaceEntries(AgendaIndex.this.events.get(period), events.get(period), updated.get(period));
+                events.put(period, updated.get(period));
+            }
+        }
+
+        void refreshDeadlines() {
+            Map<AgendaPeriod, List<DeadlineWithProject>> updated = new EnumMap<>(AgendaPeriod.class);
+            for (AgendaPeriod period : AgendaPeriod.values()) {
+                updated.put(period, new ArrayList<>());
+            }
+
+            for (CompletableDeadline deadline : project.getSortedDeadlines()) {
+                DeadlineWithProject deadlineWithProject = null;
+                for (AgendaPeriod period : AgendaPeriod.values()) {
+                    if (period.contains(getDate(), deadline.getBy())) {
+                        if (deadlineWithProject == null) {
+                            deadlineWithProject = new DeadlineWithProject(deadline, project.getProjectName());
+                        }
+                        updated.get(period).add(deadlineWithProject);
+                    }
+                }
+            }
+
+            for (AgendaPeriod period : AgendaPeriod.values()) {
+                replaceEntries(AgendaIndex.this.deadlines.get(period), deadlines.get(period), updated.get(period));
+                deadlines.put(period, updated.get(period));
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.agenda;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+
+/**
+ * Represents a range of days, relative to the current date, covered by the {@code AgendaIndex}.
+ */
+public enum AgendaPeriod {
+    TODAY(0, 0),
+    TOMORROW(1, 1),
+    THIS_WEEK(0, 6);
+
+    private final int startOffset;
+    private final int endOffset;
+
+    AgendaPeriod(int startOffset, int endOffset) {
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+    }
+
+    /**
+     * Returns the first day of this period when the current date is {@code date}.
+     */
+    public LocalDate getStart(LocalDate date) {
+        requireNonNull(date);
+        return date.plusDays(startOffset);
+    }
+
+    /**
+     * Returns the last day (inclusive) of this period when the current date is {@code date}.
+     */
+    public LocalDate getEnd(LocalDate date) {
+        requireNonNull(date);
+        return date.plusDays(endOffset);
+    }
+
+    /**
+     * Returns true if {@code day} falls within this period when the current date is {@code date}.
+     */
+    public boolean contains(LocalDate date, LocalDate day) {
+        requireNonNull(day);
+        return !day.isBefore(getStart(date)) && !day.isAfter(getEnd(date));
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.model.agenda;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.MergingIterator;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.task.Repeatable;
+
+/**
+ * Represents a range of days, from a start date to an end date (inclusive), over which an agenda is listed.
+ * Guarantees: immutable; the start date is not after the end date.
+ */
+public class AgendaRange {
+
+    public static final String MESSAGE_CONSTRAINTS = "The start date of an agenda should not be after its end date.";
+
+    private final LocalDate start;
+    private final LocalDate end;
+
+    /**
+     * Creates an {@code AgendaRange} from {@code start} to {@code end}, inclusive.
+     */
+    public AgendaRange(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        checkArgument(isValidRange(start, end), MESSAGE_CONSTRAINTS);
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns true if a range from {@code start} to {@code end} is valid.
+     */
+    public static boolean isValidRange(LocalDate start, LocalDate end) {
+        return !start.isAfter(end);
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public LocalDate getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns true if {@code date} is within this range.
+     */
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(start) && !date.isAfter(end);
+    }
+
+    /**
+     * Returns the event occurrences and deadlines of {@code projects} within this range, sorted by
+     * {@code AgendaEntry#COMPARATOR}.
+     * The entries of each project are merged from one lazy stream per event, and the projects are then merged
+     * with each other, so only the entries actually read are ever created.
+     */
+    public Iterator<AgendaEntry> iterator(List<Project> projects) {
+        requireAllNonNull(projects);
+
+        List<Iterator<AgendaEntry>> projectEntries = new ArrayList<>();
+        for (Project project : projects) {
+            projectEntries.add(iteratorOf(project));
+        }
+        return new MergingIterator<>(projectEntries, AgendaEntry.COMPARATOR);
+    }
+
+    private Iterator<AgendaEntry> iteratorOf(Project project) {
+        ProjectName projectName = project.getProjectName();
+
+        List<Iterator<AgendaEntry>> sources = new ArrayList<>();
+        sources.add(project.getSortedDeadlines().stream()
+                .filter(deadline -> contains(deadline.getBy()))
+                .map(deadline -> AgendaEntry.ofDeadline(deadline, projectName))
+                .sorted(AgendaEntry.COMPARATOR)
+                .collect(Collectors.toList())
+                .iterator());
+        for (Repeatable event : project.getSortedEvents()) {
+            sources.add(new OccurrenceIterator(event, projectName));
+        }
+        return new MergingIterator<>(sources, AgendaEntry.COMPARATOR);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AgendaRange // instanceof handles nulls
+                && start.equals(((AgendaRange) other).start)
+                && end.equals(((AgendaRange) other).end)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return start.hashCode() * 31 + end.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return start + " to " + end;
+    }
+
+    /**
+     * Lazily lists the occurrences of an event within the range, in date order.
+     */
+    private class OccurrenceIterator implements Iterator<AgendaEntry> {
+        private final Repeatable event;
+        private final ProjectName projectName;
+        private LocalDate next;
+
+        OccurrenceIterator(Repeatable event, ProjectName projectName) {
+            this.event = event;
+            this.projectName = projectName;
+            Optional<LocalDate> first = event.getNextOccurrence(start);
+            this.next = first.filter(AgendaRange.this::contains).orElse(null);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public AgendaEntry next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+
+            AgendaEntry entry = AgendaEntry.ofEvent(event, next, projectName);
+            next = event.getNextOccurrence(next.plusDays(1)).filter(AgendaRange.this::contains).orElse(null);
+            return entry;
+        }
+    }
+}
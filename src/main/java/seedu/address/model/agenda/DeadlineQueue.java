@@ -0,0 +1,198 @@
+package seedu.address.model.agenda;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.project.Project;
+import seedu.address.model.search.SearchHit;
+import seedu.address.model.search.SearchHitType;
+import seedu.address.model.task.CompletableDeadline;
+
+/**
+ * A live ordered set of the deadlines of all projects that are not done, keyed on their due date.
+ * The set subscribes to the projects list and to the deadlines of every project, and only the added and removed
+ * deadlines of a change are looked at. As the current date is only used to split the set when it is read, moving
+ * to a new day does not change the set.
+ */
+public class DeadlineQueue {
+
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator
+            .comparing((Entry entry) -> entry.by)
+            .thenComparing(entry -> entry.description)
+            .thenComparingLong(entry -> entry.sequenceNumber);
+
+    private final NavigableSet<Entry> entries = new TreeSet<>(ENTRY_ORDER);
+    private final Map<CompletableDeadline, Entry> entriesByDeadline = new IdentityHashMap<>();
+    private final Map<Project, ListChangeListener<CompletableDeadline>> listeners = new IdentityHashMap<>();
+    private long nextSequenceNumber;
+
+    /**
+     * Creates a {@code DeadlineQueue} over the deadlines of {@code projects}.
+     */
+    public DeadlineQueue(ObservableList<Project> projects) {
+        requireNonNull(projects);
+
+        projects.forEach(this::track);
+        projects.addListener(this::onProjectsChanged);
+    }
+
+    /**
+     * Returns the number of deadlines that are not done.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns up to {@code count} deadlines that are not done and are due on or after {@code today}, earliest first.
+     * Only deadlines of projects in {@code shownProjects} are returned, with project indexes relative to it.
+     */
+    public List<SearchHit> getUpcoming(LocalDate today, int count, List<Project> shownProjects) {
+        requireAllNonNull(today, shownProjects);
+
+        return collect(entries.tailSet(bound(today), true), count, shownProjects);
+    }
+
+    /**
+     * Returns the deadlines that are not done and were due before {@code today}, earliest first.
+     * Only deadlines of projects in {@code shownProjects} are returned, with project indexes relative to it.
+     */
+    public List<SearchHit> getOverdue(LocalDate today, List<Project> shownProjects) {
+        requireAllNonNull(today, shownProjects);
+
+        return collect(entries.headSet(bound(today), false), Integer.MAX_VALUE, shownProjects);
+    }
+
+    private List<SearchHit> collect(NavigableSet<Entry> range, int count, List<Project> shownProjects) {
+        Map<Project, Index> projectIndexes = new IdentityHashMap<>();
+        for (int i = 0; i < shownProjects.size(); i++) {
+            projectIndexes.put(shownProjects.get(i), Index.fromZeroBased(i));
+        }
+
+        List<SearchHit> hits = new ArrayList<>();
+        for (Entry entry : range) {
+            if (hits.size() >= count) {
+                break;
+            }
+            Index projectIndex = projectIndexes.get(entry.project);
+            if (projectIndex != null) {
+                hits.add(entry.toHit(projectIndex));
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Returns a key that sorts before every entry due on {@code date}.
+     */
+    private static Entry bound(LocalDate date) {
+        return new Entry(null, null, date, "", Long.MIN_VALUE);
+    }
+
+    private void onProjectsChanged(ListChangeListener.Change<? extends Project> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+
+            change.getRemoved().forEach(this::untrack);
+            change.getAddedSubList().forEach(this::track);
+        }
+    }
+
+    private void track(Project project) {
+        ListChangeListener<CompletableDeadline> listener = change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(deadline -> add(project, deadline));
+            }
+        };
+        listeners.put(project, listener);
+        project.getSortedDeadlines().forEach(deadline -> add(project, deadline));
+        project.getSortedDeadlines().addListener(listener);
+    }
+
+    private void untrack(Project project) {
+        ListChangeListener<CompletableDeadline> listener = listeners.remove(project);
+        if (listener != null) {
+            project.getSortedDeadlines().removeListener(listener);
+            project.getSortedDeadlines().forEach(this::remove);
+        }
+    }
+
+    private void add(Project project, CompletableDeadline deadline) {
+        // deadlines are marked as done in place, so only deadlines that are not done yet are kept
+        if (deadline.getIsDone()) {
+            return;
+        }
+
+        Entry entry = new Entry(project, deadline, deadline.getBy(), deadline.getDescription(),
+                nextSequenceNumber++);
+        entries.add(entry);
+        entriesByDeadline.put(deadline, entry);
+    }
+
+    private void remove(CompletableDeadline deadline) {
+        Entry entry = entriesByDeadline.remove(deadline);
+        if (entry != null) {
+            entries.remove(entry);
+        }
+    }
+
+    /**
+     * A deadline that is not done, with the key it was inserted with.
+     */
+    private static class Entry {
+        private final Project project;
+        private final CompletableDeadline deadline;
+        private final LocalDate by;
+        private final String description;
+        private final long sequenceNumber;
+
+        Entry(Project project, CompletableDeadline deadline, LocalDate by, String description, long sequenceNumber) {
+            this.project = project;
+            this.deadline = deadline;
+            this.by = by;
+            this.description = description;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        SearchHit toHit(Index projectIndex) {
+            // the deadlines of a project are sorted by due date, so only those due on the same date are compared
+            List<CompletableDeadline> deadlines = project.getSortedDeadlines();
+            int low = 0;
+            int high = deadlines.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (deadlines.get(middle).getBy().isBefore(by)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            int position = low;
+            while (deadlines.get(position) != deadline) {
+                position++;
+            }
+            return new SearchHit(SearchHitType.DEADLINE, projectIndex, project.getProjectName(),
+                    Index.fromZeroBased(position), description + " (by " + DateUtil.decodeDate(by) + ")");
+        }
+    }
+}
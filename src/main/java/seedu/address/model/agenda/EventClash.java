@@ -0,0 +1,93 @@
+package seedu.address.model.agenda;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.commons.util.TimeUtil;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.task.repeatable.Event;
+
+/**
+ * Two events, possibly of different projects, whose times overlap on a date.
+ */
+public class EventClash {
+
+    private final LocalDate date;
+    private final ProjectName firstProjectName;
+    private final Event first;
+    private final ProjectName secondProjectName;
+    private final Event second;
+
+    /**
+     * Creates an {@code EventClash} between {@code first} of the project named {@code firstProjectName} and
+     * {@code second} of the project named {@code secondProjectName}, which first overlap on {@code date}.
+     */
+    public EventClash(LocalDate date, ProjectName firstProjectName, Event first, ProjectName secondProjectName,
+            Event second) {
+        requireAllNonNull(date, firstProjectName, first, secondProjectName, second);
+
+        this.date = date;
+        this.firstProjectName = firstProjectName;
+        this.first = first;
+        this.secondProjectName = secondProjectName;
+        this.second = second;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public ProjectName getFirstProjectName() {
+        return firstProjectName;
+    }
+
+    public Event getFirst() {
+        return first;
+    }
+
+    public ProjectName getSecondProjectName() {
+        return secondProjectName;
+    }
+
+    public Event getSecond() {
+        return second;
+    }
+
+    private static String describe(Event event, ProjectName projectName) {
+        String endTime = event.getEndTime().map(time -> "-" + TimeUtil.decodeTime(time)).orElse("");
+        return event.getDescription() + " " + TimeUtil.decodeTime(event.getTime()) + endTime
+                + " (" + projectName + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof EventClash)) {
+            return false;
+        }
+
+        EventClash otherClash = (EventClash) other;
+        return date.equals(otherClash.date)
+                && firstProjectName.equals(otherClash.firstProjectName)
+                && first.equals(otherClash.first)
+                && secondProjectName.equals(otherClash.secondProjectName)
+                && second.equals(otherClash.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, firstProjectName, first, secondProjectName, second);
+    }
+
+    @Override
+    public String toString() {
+        return DateUtil.decodeDate(date) + ": " + describe(first, firstProjectName) + " and "
+                + describe(second, secondProjectName);
+    }
+}
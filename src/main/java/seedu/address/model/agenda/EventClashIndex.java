@@ -0,0 +1,357 @@
+package seedu.address.model.agenda;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.project.Project;
+import seedu.address.model.task.Recurrence;
+import seedu.address.model.task.repeatable.Event;
+
+/**
+ * A live index of the time slots of the events of all projects, for finding events whose times overlap.
+ * An event always ends on the day it starts, so only events occurring on the same day can clash. One-off events are
+ * bucketed by date and events repeating every week by day of week, each bucket sorted by start time, so the events
+ * that could clash with an event are found with a map lookup instead of by going through every event. All other
+ * repeating events are kept in one more bucket, and whether they occur on a date is checked from their
+ * {@code Recurrence}.
+ * An event without an end time is taken to last an instant, and clashes with events starting at the same time or
+ * running over its start time. Pairs of repeating events that are not both weekly are only checked for clashes up to
+ * a year after the later of them starts.
+ */
+public class EventClashIndex {
+
+    private static final Comparator<Slot> START_ORDER = Comparator.comparingInt(slot -> slot.start);
+    private static final int CLASH_HORIZON_YEARS = 1;
+
+    private final Map<DayOfWeek, NavigableMap<LocalDate, List<Slot>>> oneOffSlots = new EnumMap<>(DayOfWeek.class);
+    private final Map<DayOfWeek, List<Slot>> weeklySlots = new EnumMap<>(DayOfWeek.class);
+    private final List<Slot> otherSlots = new ArrayList<>();
+    private final Map<Event, Slot> slotsByEvent = new IdentityHashMap<>();
+    private final Map<Project, ListChangeListener<Event>> listeners = new IdentityHashMap<>();
+
+    /**
+     * Creates an {@code EventClashIndex} over the events of {@code projects}.
+     */
+    public EventClashIndex(ObservableList<Project> projects) {
+        requireNonNull(projects);
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            oneOffSlots.put(day, new TreeMap<>());
+            weeklySlots.put(day, new ArrayList<>());
+        }
+        projects.forEach(this::track);
+        projects.addListener(this::onProjectsChanged);
+    }
+
+    /**
+     * Returns the number of events in the index.
+     */
+    public int size() {
+        return slotsByEvent.size();
+    }
+
+    /**
+     * Returns the clashes between {@code event} and the other events in the index, earliest first, with
+     * {@code event} as the first event of each clash. Returns an empty list if {@code event} is not in the index.
+     */
+    public List<EventClash> getClashes(Event event) {
+        requireNonNull(event);
+
+        Slot slot = slotsByEvent.get(event);
+        if (slot == null) {
+            return Collections.emptyList();
+        }
+
+        List<Slot> candidates = new ArrayList<>();
+        if (slot.kind == Kind.ONE_OFF) {
+            DayOfWeek day = slot.date.getDayOfWeek();
+            candidates.addAll(overlapping(slot, oneOffSlots.get(day).getOrDefault(slot.date, List.of())));
+            candidates.addAll(overlapping(slot, weeklySlots.get(day)));
+        } else {
+            // a weekly event only meets events on its own day of week, other repeating events may meet any of them
+            List<DayOfWeek> days = slot.kind == Kind.WEEKLY
+                    ? List.of(slot.date.getDayOfWeek())
+                    : List.of(DayOfWeek.values());
+            for (DayOfWeek day : days) {
+                candidates.addAll(overlapping(slot, weeklySlots.get(day)));
+                for (List<Slot> others : oneOffSlots.get(day).tailMap(slot.date, true).values()) {
+                    candidates.addAll(overlapping(slot, others));
+                }
+            }
+        }
+        candidates.addAll(overlapping(slot, otherSlots));
+
+        List<EventClash> clashes = new ArrayList<>();
+        for (Slot other : candidates) {
+            getFirstCommonDate(slot, other).ifPresent(date -> clashes.add(slot.clashWith(other, date)));
+        }
+        clashes.sort(Comparator.comparing(EventClash::getDate));
+        return clashes;
+    }
+
+    /**
+     * Returns the first date on which the events of both {@code first} and {@code second} occur, if there is one.
+     */
+    private static Optional<LocalDate> getFirstCommonDate(Slot first, Slot second) {
+        if (first.kind == Kind.ONE_OFF || second.kind == Kind.ONE_OFF) {
+            LocalDate date = first.kind == Kind.ONE_OFF ? first.date : second.date;
+            return first.event.occursOn(date) && second.event.occursOn(date) ? Optional.of(date) : Optional.empty();
+        }
+
+        LocalDate from = first.date.isAfter(second.date) ? first.date : second.date;
+        LocalDate horizon = from.plusYears(CLASH_HORIZON_YEARS);
+        Iterator<LocalDate> occurrences = first.event.getOccurrences(from);
+        while (occurrences.hasNext()) {
+            LocalDate date = occurrences.next();
+            if (date.isAfter(horizon)) {
+                break;
+            }
+            if (second.event.occursOn(date)) {
+                return Optional.of(date);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns every pair of events that clash on a date in {@code range}, ordered by the first date in the range
+     * that they clash on. A pair of weekly events is only listed once.
+     */
+    public List<EventClash> getClashes(AgendaRange range) {
+        requireNonNull(range);
+
+        return sweep(range.getStart(), range.getEnd());
+    }
+
+    /**
+     * Returns every pair of events that clash on or after {@code today}, ordered by the first date that they clash on.
+     */
+    public List<EventClash> getUpcomingClashes(LocalDate today) {
+        requireNonNull(today);
+
+        // after the last one-off event, and a week after the last weekly event starts, no new pairs can clash
+        LocalDate last = today.plusDays(6);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            NavigableMap<LocalDate, List<Slot>> slots = oneOffSlots.get(day);
+            if (!slots.isEmpty() && slots.lastKey().isAfter(last)) {
+                last = slots.lastKey();
+            }
+            for (Slot slot : weeklySlots.get(day)) {
+                if (slot.date.plusDays(6).isAfter(last)) {
+                    last = slot.date.plusDays(6);
+                }
+            }
+        }
+        for (Slot slot : otherSlots) {
+            LocalDate from = slot.date.isAfter(today) ? slot.date : today;
+            if (from.plusYears(CLASH_HORIZON_YEARS).isAfter(last)) {
+                last = from.plusYears(CLASH_HORIZON_YEARS);
+            }
+        }
+        return sweep(today, last);
+    }
+
+    /**
+     * Sweeps through the events of each day from {@code start} to {@code end} in order of start time, keeping the
+     * events that have not ended yet, and pairs each event with every event that it overlaps.
+     */
+    private List<EventClash> sweep(LocalDate start, LocalDate end) {
+        Map<Slot, Set<Slot>> reported = new IdentityHashMap<>();
+        List<EventClash> clashes = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            List<Slot> active = new ArrayList<>();
+            for (Slot slot : getSlotsOn(date)) {
+                active.removeIf(other -> other.end <= slot.start && other.start < slot.start);
+                for (Slot other : active) {
+                    if (markReported(reported, other, slot)) {
+                        clashes.add(other.clashWith(slot, date));
+                    }
+                }
+                active.add(slot);
+            }
+        }
+        return clashes;
+    }
+
+    private static boolean markReported(Map<Slot, Set<Slot>> reported, Slot first, Slot second) {
+        boolean isNew = reported.computeIfAbsent(first, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                .add(second);
+        reported.computeIfAbsent(second, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(first);
+        return isNew;
+    }
+
+    /**
+     * Returns the slots of the events occurring on {@code date}, sorted by start time.
+     */
+    private List<Slot> getSlotsOn(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        List<Slot> slots = new ArrayList<>(oneOffSlots.get(day).getOrDefault(date, List.of()));
+        for (Slot slot : weeklySlots.get(day)) {
+            if (slot.event.occursOn(date)) {
+                slots.add(slot);
+            }
+        }
+        for (Slot slot : otherSlots) {
+            if (slot.event.occursOn(date)) {
+                slots.add(slot);
+            }
+        }
+        slots.sort(START_ORDER);
+        return slots;
+    }
+
+    /**
+     * Returns the slots in {@code others}, which is sorted by start time, that overlap {@code slot}.
+     */
+    private static List<Slot> overlapping(Slot slot, List<Slot> others) {
+        List<Slot> result = new ArrayList<>();
+        for (Slot other : others) {
+            if (other.start > slot.start && other.start >= slot.end) {
+                break;
+            }
+            if (other != slot && slot.overlaps(other)) {
+                result.add(other);
+            }
+        }
+        return result;
+    }
+
+    private void onProjectsChanged(ListChangeListener.Change<? extends Project> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+
+            change.getRemoved().forEach(this::untrack);
+            change.getAddedSubList().forEach(this::track);
+        }
+    }
+
+    private void track(Project project) {
+        ListChangeListener<Event> listener = change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(event -> add(project, event));
+            }
+        };
+        listeners.put(project, listener);
+        project.getSortedEvents().forEach(event -> add(project, event));
+        project.getSortedEvents().addListener(listener);
+    }
+
+    private void untrack(Project project) {
+        ListChangeListener<Event> listener = listeners.remove(project);
+        if (listener != null) {
+            project.getSortedEvents().removeListener(listener);
+            project.getSortedEvents().forEach(this::remove);
+        }
+    }
+
+    private void add(Project project, Event event) {
+        Slot slot = new Slot(project, event);
+        slotsByEvent.put(event, slot);
+
+        List<Slot> bucket = getBucket(slot);
+        int position = Collections.binarySearch(bucket, slot, START_ORDER);
+        bucket.add(position < 0 ? -position - 1 : position, slot);
+    }
+
+    private void remove(Event event) {
+        Slot slot = slotsByEvent.remove(event);
+        if (slot == null) {
+            return;
+        }
+
+        List<Slot> bucket = getBucket(slot);
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == slot) {
+                bucket.remove(i);
+                break;
+            }
+        }
+        if (slot.kind == Kind.ONE_OFF && bucket.isEmpty()) {
+            oneOffSlots.get(slot.date.getDayOfWeek()).remove(slot.date);
+        }
+    }
+
+    private List<Slot> getBucket(Slot slot) {
+        DayOfWeek day = slot.date.getDayOfWeek();
+        switch (slot.kind) {
+        case ONE_OFF:
+            return oneOffSlots.get(day).computeIfAbsent(slot.date, unused -> new ArrayList<>());
+        case WEEKLY:
+            return weeklySlots.get(day);
+        default:
+            return otherSlots;
+        }
+    }
+
+    /**
+     * The bucket that the slot of an event is kept in.
+     */
+    private enum Kind {
+        ONE_OFF,
+        WEEKLY,
+        OTHER
+    }
+
+    /**
+     * The time of day taken up by an event, in minutes, with the date it starts on.
+     */
+    private static class Slot {
+        private final Project project;
+        private final Event event;
+        private final LocalDate date;
+        private final Kind kind;
+        private final int start;
+        private final int end;
+
+        Slot(Project project, Event event) {
+            this.project = project;
+            this.event = event;
+            this.date = event.getDate();
+            this.kind = getKind(event.getRecurrence());
+            this.start = event.getTime().toSecondOfDay() / 60;
+            this.end = event.getEndTime().map(time -> time.toSecondOfDay() / 60).orElse(start);
+        }
+
+        private static Kind getKind(Recurrence recurrence) {
+            if (!recurrence.isRepeating()) {
+                return Kind.ONE_OFF;
+            }
+            // weekly events that end are still bucketed by day, as their occurrences are checked before reporting
+            boolean isEveryWeek = recurrence.getFrequency() == Recurrence.Frequency.WEEKLY
+                    && recurrence.getInterval() == 1 && recurrence.getExceptions().isEmpty();
+            return isEveryWeek ? Kind.WEEKLY : Kind.OTHER;
+        }
+
+        boolean overlaps(Slot other) {
+            return start == other.start || (start < other.end && other.start < end);
+        }
+
+        EventClash clashWith(Slot other, LocalDate clashDate) {
+            return new EventClash(clashDate, project.getProjectName(), event, other.project.getProjectName(),
+                    other.event);
+        }
+    }
+}
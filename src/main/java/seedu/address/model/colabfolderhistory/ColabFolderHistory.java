@@ -76,6 +76,13 @@ public class ColabFolderHistory {
         return currentStatePointer < savedStateList.size() - 1;
     }
 
+    /**
+     * Returns the number of {@code ColabFolder} states kept, including undone states.
+     */
+    public int getStateCount() {
+        return savedStateList.size();
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
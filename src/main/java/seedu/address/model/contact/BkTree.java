@@ -0,0 +1,178 @@
+package seedu.address.model.contact;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A BK-tree of words under the Levenshtein distance, for finding all words within a bounded edit distance of a
+ * query without comparing against every word.
+ * Removed words are only marked as removed, and the tree is rebuilt once most of its words have been removed.
+ */
+class BkTree {
+
+    private Node root;
+    private int liveCount;
+    private int removedCount;
+
+    /**
+     * Adds {@code word} to the tree. Does nothing if {@code word} is already in the tree.
+     */
+    void add(String word) {
+        requireNonNull(word);
+
+        if (root == null) {
+            root = new Node(word);
+            liveCount++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                if (node.isRemoved) {
+                    node.isRemoved = false;
+                    removedCount--;
+                    liveCount++;
+                }
+                return;
+            }
+
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                liveCount++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes {@code word} from the tree. Does nothing if {@code word} is not in the tree.
+     */
+    void remove(String word) {
+        requireNonNull(word);
+
+        Node node = root;
+        while (node != null) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                if (!node.isRemoved) {
+                    node.isRemoved = true;
+                    removedCount++;
+                    liveCount--;
+                    rebuildIfSparse();
+                }
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    /**
+     * Removes all words from the tree.
+     */
+    void clear() {
+        root = null;
+        liveCount = 0;
+        removedCount = 0;
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    int size() {
+        return liveCount;
+    }
+
+    /**
+     * Returns the words within {@code maxDistance} edits of {@code query}, mapped to their distance from it.
+     */
+    Map<String, Integer> search(String query, int maxDistance) {
+        requireNonNull(query);
+
+        Map<String, Integer> matches = new HashMap<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = distance(query, node.word);
+            if (distance <= maxDistance && !node.isRemoved) {
+                matches.put(node.word, distance);
+            }
+
+            // by the triangle inequality, only children at these distances can be close enough to the query
+            for (int i = Math.max(1, distance - maxDistance); i <= distance + maxDistance; i++) {
+                Node child = node.children.get(i);
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}.
+     */
+    static int distance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    private void rebuildIfSparse() {
+        if (removedCount <= liveCount) {
+            return;
+        }
+
+        List<String> words = new ArrayList<>();
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            if (!node.isRemoved) {
+                words.add(node.word);
+            }
+            node.children.values().forEach(toVisit::push);
+        }
+
+        clear();
+        words.forEach(this::add);
+    }
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private boolean isRemoved;
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.model.contact;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a searchable field of a {@code Contact}.
+ * Each field has a weight, which is used to rank contacts that match a search in that field.
+ */
+public enum ContactField {
+    NAME(3, contact -> List.of(contact.getName().fullName)),
+    PHONE(1, contact -> List.of(contact.getPhone().value)),
+    EMAIL(1, contact -> List.of(contact.getEmail().value)),
+    ADDRESS(1, contact -> List.of(contact.getAddress().value)),
+    TAG(2, contact -> contact.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()));
+
+    private final int weight;
+    private final Function<Contact, List<String>> valuesExtractor;
+
+    ContactField(int weight, Function<Contact, List<String>> valuesExtractor) {
+        this.weight = weight;
+        this.valuesExtractor = valuesExtractor;
+    }
+
+    /**
+     * Returns the weight of a match in this field.
+     */
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * Returns the values of this field in {@code contact}.
+     * Fields that hold many values, such as tags, return one value per element.
+     */
+    public List<String> getValues(Contact contact) {
+        return valuesExtractor.apply(contact);
+    }
+}
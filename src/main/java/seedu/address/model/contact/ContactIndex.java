@@ -0,0 +1,227 @@
+package seedu.address.model.contact;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * An inverted index from the normalized tokens of every {@code ContactField} to the contacts containing them.
+ * The distinct name tokens are also kept in a {@code BkTree} for typo-tolerant lookup.
+ * Contacts are tracked by identity, so the index must be updated whenever a contact is added or removed.
+ */
+public class ContactIndex {
+
+    /** The largest number of edits allowed between a fuzzy keyword and a name token. */
+    public static final int MAX_EDIT_DISTANCE = 2;
+
+    private final Map<ContactField, Map<String, Set<Contact>>> postings = new EnumMap<>(ContactField.class);
+    private final BkTree nameTokens = new BkTree();
+
+    /**
+     * Creates an empty {@code ContactIndex}.
+     */
+    public ContactIndex() {
+        for (ContactField field : ContactField.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds the tokens of {@code contact} to the index.
+     */
+    public void add(Contact contact) {
+        requireNonNull(contact);
+
+        for (ContactField field : ContactField.values()) {
+            Map<String, Set<Contact>> fieldPostings = postings.get(field);
+            for (String value : field.getValues(contact)) {
+                for (String token : tokenize(value)) {
+                    if (field == ContactField.NAME && !fieldPostings.containsKey(token)) {
+                        nameTokens.add(token);
+                    }
+                    fieldPostings.computeIfAbsent(token, unused -> newIdentitySet()).add(contact);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the tokens of {@code contact} from the index.
+     */
+    public void remove(Contact contact) {
+        requireNonNull(contact);
+
+        for (ContactField field : ContactField.values()) {
+            Map<String, Set<Contact>> fieldPostings = postings.get(field);
+            for (String value : field.getValues(contact)) {
+                for (String token : tokenize(value)) {
+                    Set<Contact> posting = fieldPostings.get(token);
+                    if (posting != null && posting.remove(contact) && posting.isEmpty()) {
+                        fieldPostings.remove(token);
+                        if (field == ContactField.NAME) {
+                            nameTokens.remove(token);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all contacts from the index.
+     */
+    public void clear() {
+        postings.values().forEach(Map::clear);
+        nameTokens.clear();
+    }
+
+    /**
+     * Returns the contacts matching {@code query}, scored by the weights of the fields they match in.
+     * Fuzzy keyword matches in the name score less the more edits they need.
+     */
+    public ContactSearchResult search(ContactQuery query) {
+        requireNonNull(query);
+
+        Map<Contact, Integer> scores = new IdentityHashMap<>();
+        Set<Contact> matches = null;
+
+        for (Map.Entry<ContactField, List<String>> entry : query.getFieldTerms().entrySet()) {
+            for (String term : entry.getValue()) {
+                Set<Contact> termMatches = lookup(entry.getKey(), term);
+                addScores(scores, termMatches, entry.getKey().getWeight());
+                matches = matches == null ? copyOf(termMatches) : intersect(matches, termMatches);
+            }
+        }
+
+        if (!query.getKeywords().isEmpty() || !query.getFuzzyKeywords().isEmpty()) {
+            Set<Contact> keywordMatches = newIdentitySet();
+            for (String keyword : query.getKeywords()) {
+                for (ContactField field : ContactField.values()) {
+                    Set<Contact> termMatches = lookup(field, keyword);
+                    addScores(scores, termMatches, field.getWeight());
+                    keywordMatches.addAll(termMatches);
+                }
+            }
+            for (String fuzzyKeyword : query.getFuzzyKeywords()) {
+                Map<Contact, Integer> distances = fuzzyLookup(fuzzyKeyword);
+                distances.forEach((contact, distance) -> scores.merge(contact, getFuzzyScore(distance),
+                        Integer::sum));
+                keywordMatches.addAll(distances.keySet());
+            }
+            matches = matches == null ? keywordMatches : intersect(matches, keywordMatches);
+        }
+
+        if (matches == null) {
+            return new ContactSearchResult(Collections.emptyMap());
+        }
+        scores.keySet().retainAll(matches);
+        return new ContactSearchResult(scores);
+    }
+
+    /**
+     * Returns the normalized tokens of {@code text}: its lower case runs of letters and digits.
+     */
+    public static List<String> tokenize(String text) {
+        requireNonNull(text);
+
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{Alnum}]+"))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the largest number of edits allowed between a name token and the fuzzy keyword token {@code token}.
+     * Short tokens allow fewer edits, as almost any short word is a few edits away from them.
+     */
+    public static int getMaxEditDistance(String token) {
+        requireNonNull(token);
+
+        if (token.length() <= 2) {
+            return 0;
+        }
+        return token.length() == 3 ? 1 : MAX_EDIT_DISTANCE;
+    }
+
+    /**
+     * Returns the score of a fuzzy name match needing {@code distance} edits.
+     * Every edit lowers the score by the weight of the name field, down to a minimum of that weight.
+     */
+    private static int getFuzzyScore(int distance) {
+        return ContactField.NAME.getWeight() * (MAX_EDIT_DISTANCE + 1 - Math.min(distance, MAX_EDIT_DISTANCE));
+    }
+
+    /**
+     * Returns the contacts whose name approximately contains all tokens of {@code term}, mapped to the total number
+     * of edits needed.
+     */
+    private Map<Contact, Integer> fuzzyLookup(String term) {
+        Map<Contact, Integer> result = null;
+        for (String token : tokenize(term)) {
+            Map<Contact, Integer> tokenDistances = new IdentityHashMap<>();
+            nameTokens.search(token, getMaxEditDistance(token)).forEach((nameToken, distance) -> {
+                for (Contact contact : postings.get(ContactField.NAME).get(nameToken)) {
+                    tokenDistances.merge(contact, distance, Math::min);
+                }
+            });
+
+            if (result == null) {
+                result = tokenDistances;
+            } else {
+                result.keySet().retainAll(tokenDistances.keySet());
+                result.replaceAll((contact, distance) -> distance + tokenDistances.get(contact));
+            }
+        }
+        return result == null ? Collections.emptyMap() : result;
+    }
+
+    /**
+     * Returns the contacts that contain all tokens of {@code term} in {@code field}.
+     * The returned set must not be modified.
+     */
+    private Set<Contact> lookup(ContactField field, String term) {
+        List<String> tokens = tokenize(term);
+        if (tokens.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Map<String, Set<Contact>> fieldPostings = postings.get(field);
+        Set<Contact> result = fieldPostings.getOrDefault(tokens.get(0), Collections.emptySet());
+        for (int i = 1; i < tokens.size() && !result.isEmpty(); i++) {
+            result = intersect(copyOf(result), fieldPostings.getOrDefault(tokens.get(i), Collections.emptySet()));
+        }
+        return result;
+    }
+
+    private static void addScores(Map<Contact, Integer> scores, Set<Contact> contacts, int weight) {
+        for (Contact contact : contacts) {
+            scores.merge(contact, weight, Integer::sum);
+        }
+    }
+
+    /**
+     * Retains in {@code target} only the contacts also in {@code other}, and returns {@code target}.
+     */
+    private static Set<Contact> intersect(Set<Contact> target, Set<Contact> other) {
+        target.retainAll(other);
+        return target;
+    }
+
+    private static Set<Contact> copyOf(Set<Contact> contacts) {
+        Set<Contact> copy = newIdentitySet();
+        copy.addAll(contacts);
+        return copy;
+    }
+
+    private static Set<Contact> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
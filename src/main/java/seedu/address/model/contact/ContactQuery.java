@@ -0,0 +1,80 @@
+package seedu.address.model.contact;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a search over the contacts.
+ * A contact matches if it contains every field-qualified term in the given field, and, when there are keywords or
+ * fuzzy keywords, at least one of the keywords in any field or one of the fuzzy keywords approximately in its name.
+ */
+public class ContactQuery {
+    private final List<String> keywords;
+    private final List<String> fuzzyKeywords;
+    private final Map<ContactField, List<String>> fieldTerms;
+
+    /**
+     * Creates a {@code ContactQuery}.
+     *
+     * @param keywords Keywords, any of which may appear in any field.
+     * @param fuzzyKeywords Keywords, any of which may appear in the name with a few typos.
+     * @param fieldTerms Terms which must all appear in their associated field.
+     */
+    public ContactQuery(List<String> keywords, List<String> fuzzyKeywords,
+            Map<ContactField, List<String>> fieldTerms) {
+        requireAllNonNull(keywords, fuzzyKeywords, fieldTerms);
+        this.keywords = List.copyOf(keywords);
+        this.fuzzyKeywords = List.copyOf(fuzzyKeywords);
+        this.fieldTerms = new EnumMap<>(ContactField.class);
+        fieldTerms.forEach((field, terms) -> this.fieldTerms.put(field, List.copyOf(terms)));
+    }
+
+    /**
+     * Creates a {@code ContactQuery} with keywords and field-qualified terms, but no fuzzy keywords.
+     */
+    public ContactQuery(List<String> keywords, Map<ContactField, List<String>> fieldTerms) {
+        this(keywords, Collections.emptyList(), fieldTerms);
+    }
+
+    /**
+     * Creates a {@code ContactQuery} with only keywords.
+     */
+    public ContactQuery(List<String> keywords) {
+        this(keywords, Collections.emptyMap());
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public List<String> getFuzzyKeywords() {
+        return fuzzyKeywords;
+    }
+
+    public Map<ContactField, List<String>> getFieldTerms() {
+        return Collections.unmodifiableMap(fieldTerms);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ContactQuery // instanceof handles nulls
+                && keywords.equals(((ContactQuery) other).keywords)
+                && fuzzyKeywords.equals(((ContactQuery) other).fuzzyKeywords)
+                && fieldTerms.equals(((ContactQuery) other).fieldTerms)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return (keywords.hashCode() * 31 + fuzzyKeywords.hashCode()) * 31 + fieldTerms.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "keywords: " + keywords + ", fuzzy keywords: " + fuzzyKeywords + ", terms: " + fieldTerms;
+    }
+}
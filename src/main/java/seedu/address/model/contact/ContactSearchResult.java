@@ -0,0 +1,51 @@
+package seedu.address.model.contact;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * The contacts matching a {@code ContactQuery}, each with a relevance score.
+ * Tests true for exactly the matching contacts.
+ */
+public class ContactSearchResult implements Predicate<Contact> {
+    private final Map<Contact, Integer> scores;
+
+    /**
+     * Creates a {@code ContactSearchResult}.
+     *
+     * @param scores The relevance score of every matching contact, keyed by identity.
+     */
+    ContactSearchResult(Map<Contact, Integer> scores) {
+        requireNonNull(scores);
+        this.scores = scores;
+    }
+
+    @Override
+    public boolean test(Contact contact) {
+        return scores.containsKey(contact);
+    }
+
+    /**
+     * Returns the relevance score of {@code contact}, or 0 if it does not match.
+     */
+    public int getScore(Contact contact) {
+        return scores.getOrDefault(contact, 0);
+    }
+
+    /**
+     * Returns the number of matching contacts.
+     */
+    public int size() {
+        return scores.size();
+    }
+
+    /**
+     * Returns a comparator that orders contacts from the most to the least relevant.
+     */
+    public Comparator<Contact> getComparator() {
+        return Comparator.comparingInt(this::getScore).reversed();
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.model.contact;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.SortedIntSet;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from tag names to the contacts with that tag, for evaluating {@code TagQuery}s.
+ * Every contact is given an int id, and the contacts of each tag are kept as a sorted set of ids, so queries are
+ * answered by merging sorted sets rather than by going through every contact.
+ * Contacts are tracked by identity, so the index must be updated whenever a contact is added or removed.
+ */
+public class TagIndex {
+
+    private final Map<Contact, Integer> ids = new IdentityHashMap<>();
+    private final List<Contact> contactsById = new ArrayList<>();
+    private final Map<String, SortedIntSet> postings = new HashMap<>();
+    private SortedIntSet liveIds = new SortedIntSet();
+
+    /**
+     * Adds the tags of {@code contact} to the index.
+     */
+    public void add(Contact contact) {
+        requireNonNull(contact);
+
+        int id = contactsById.size();
+        contactsById.add(contact);
+        ids.put(contact, id);
+        liveIds.add(id);
+        for (Tag tag : contact.getTags()) {
+            postings.computeIfAbsent(TagQuery.normalize(tag.tagName), unused -> new SortedIntSet()).add(id);
+        }
+    }
+
+    /**
+     * Removes the tags of {@code contact} from the index.
+     */
+    public void remove(Contact contact) {
+        requireNonNull(contact);
+
+        Integer id = ids.remove(contact);
+        if (id == null) {
+            return;
+        }
+
+        contactsById.set(id, null);
+        liveIds.remove(id);
+        for (Tag tag : contact.getTags()) {
+            String key = TagQuery.normalize(tag.tagName);
+            SortedIntSet posting = postings.get(key);
+            if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+        compactIfSparse();
+    }
+
+    /**
+     * Removes all contacts from the index.
+     */
+    public void clear() {
+        ids.clear();
+        contactsById.clear();
+        postings.clear();
+        liveIds = new SortedIntSet();
+    }
+
+    /**
+     * Returns the contacts matching {@code query}, compared by identity.
+     */
+    public Set<Contact> search(TagQuery query) {
+        requireNonNull(query);
+
+        List<SortedIntSet> clauseMatches = new ArrayList<>();
+        for (List<String> clause : query.getClauses()) {
+            clauseMatches.add(lookupAny(clause));
+        }
+        // intersecting the smallest sets first keeps the intermediate results small
+        clauseMatches.sort(Comparator.comparingInt(SortedIntSet::size));
+
+        SortedIntSet matches = liveIds;
+        for (SortedIntSet clauseMatch : clauseMatches) {
+            matches = SortedIntSet.intersection(matches, clauseMatch);
+        }
+        matches = SortedIntSet.difference(matches, lookupAny(query.getExcludedTags()));
+
+        Set<Contact> contacts = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.forEach(id -> contacts.add(contactsById.get(id)));
+        return contacts;
+    }
+
+    /**
+     * Returns the ids of the contacts with any of the tags named {@code tagNames}.
+     */
+    private SortedIntSet lookupAny(List<String> tagNames) {
+        SortedIntSet result = new SortedIntSet();
+        for (String tagName : tagNames) {
+            SortedIntSet posting = postings.get(tagName);
+            if (posting != null) {
+                result = SortedIntSet.union(result, posting);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reassigns ids to the contacts once most ids belong to removed contacts.
+     */
+    private void compactIfSparse() {
+        if (contactsById.size() <= 2 * ids.size()) {
+            return;
+        }
+
+        List<Contact> contacts = new ArrayList<>();
+        for (Contact contact : contactsById) {
+            if (contact != null) {
+                contacts.add(contact);
+            }
+        }
+        clear();
+        contacts.forEach(this::add);
+    }
+}
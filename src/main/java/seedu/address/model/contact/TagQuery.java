@@ -0,0 +1,66 @@
+package seedu.address.model.contact;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a boolean filter over the tags of contacts.
+ * A contact matches if, for every clause, it has at least one of the tags in the clause, and it has none of the
+ * excluded tags. Tag names are compared ignoring case.
+ */
+public class TagQuery {
+    private final List<List<String>> clauses;
+    private final List<String> excludedTags;
+
+    /**
+     * Creates a {@code TagQuery}.
+     *
+     * @param clauses Groups of tag names, each of which must have at least one tag present.
+     * @param excludedTags Tag names which must all be absent.
+     */
+    public TagQuery(List<List<String>> clauses, List<String> excludedTags) {
+        requireAllNonNull(clauses, excludedTags);
+        this.clauses = clauses.stream().map(TagQuery::normalize).collect(Collectors.toUnmodifiableList());
+        this.excludedTags = normalize(excludedTags);
+    }
+
+    public List<List<String>> getClauses() {
+        return clauses;
+    }
+
+    public List<String> getExcludedTags() {
+        return excludedTags;
+    }
+
+    /**
+     * Returns the key under which {@code tagName} is matched.
+     */
+    public static String normalize(String tagName) {
+        return tagName.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> normalize(List<String> tagNames) {
+        return tagNames.stream().map(TagQuery::normalize).collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagQuery // instanceof handles nulls
+                && clauses.equals(((TagQuery) other).clauses)
+                && excludedTags.equals(((TagQuery) other).excludedTags)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode() * 31 + excludedTags.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "clauses: " + clauses + ", excluded: " + excludedTags;
+    }
+}
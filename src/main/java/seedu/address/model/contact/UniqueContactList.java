@@ -3,10 +3,14 @@ package seedu.address.model.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.contact.exceptions.ContactNotFoundException;
 import seedu.address.model.contact.exceptions.DuplicateContactException;
@@ -18,7 +22,12 @@ import seedu.address.model.contact.exceptions.DuplicateContactException;
  * being added or updated is unique in terms of identity in the UniqueContactList. However, the removal of a contact
  * uses Contact#equals(Object) so as to ensure that the contact with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations, and keeps a {@code ContactIndex} and a {@code TagIndex} of its contacts
+ * for searching.
+ *
+ * Not thread-safe, as the indexes are updated along with the list: a {@code UniqueContactList} of the model must only
+ * be used on the JavaFX Application Thread. Other threads should read a snapshot from
+ * {@code Model#getColabFolderSnapshot()}. Contacts themselves are immutable and may be shared between threads.
  *
  * @see Contact#isSameContact(Contact)
  */
@@ -27,6 +36,15 @@ public class UniqueContactList implements Iterable<Contact> {
     private final ObservableList<Contact> internalList = FXCollections.observableArrayList();
     private final ObservableList<Contact> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final ContactIndex index = new ContactIndex();
+    private final TagIndex tagIndex = new TagIndex();
+
+    /**
+     * Creates an empty {@code UniqueContactList}.
+     */
+    public UniqueContactList() {
+        internalList.addListener(this::updateIndex);
+    }
 
     /**
      * Returns true if the list contains an equivalent Contact as the given argument.
@@ -79,6 +97,21 @@ public class UniqueContactList implements Iterable<Contact> {
         }
     }
 
+    /**
+     * Removes the equivalent Contacts of {@code toRemove} from the list in one go.
+     * Every Contact must exist in the list.
+     */
+    public void removeAll(Collection<Contact> toRemove) {
+        requireAllNonNull(toRemove);
+
+        // removed as a set, so the list is only gone through once
+        Set<Contact> contactsToRemove = new HashSet<>(toRemove);
+        if (!new HashSet<>(internalList).containsAll(contactsToRemove)) {
+            throw new ContactNotFoundException();
+        }
+        internalList.removeAll(contactsToRemove);
+    }
+
     public void setContacts(UniqueContactList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
@@ -97,6 +130,22 @@ public class UniqueContactList implements Iterable<Contact> {
         internalList.setAll(contacts);
     }
 
+    /**
+     * Returns the contacts in the list matching {@code query}.
+     */
+    public ContactSearchResult search(ContactQuery query) {
+        requireNonNull(query);
+        return index.search(query);
+    }
+
+    /**
+     * Returns the contacts in the list matching {@code query}, compared by identity.
+     */
+    public Set<Contact> search(TagQuery query) {
+        requireNonNull(query);
+        return tagIndex.search(query);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -121,6 +170,23 @@ public class UniqueContactList implements Iterable<Contact> {
         return internalList.hashCode();
     }
 
+    private void updateIndex(ListChangeListener.Change<? extends Contact> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+
+            change.getRemoved().forEach(contact -> {
+                index.remove(contact);
+                tagIndex.remove(contact);
+            });
+            change.getAddedSubList().forEach(contact -> {
+                index.add(contact);
+                tagIndex.add(contact);
+            });
+        }
+    }
+
     /**
      * Returns true if {@code contacts} contains only unique contacts.
      */
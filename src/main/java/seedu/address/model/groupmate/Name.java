@@ -3,6 +3,8 @@ package seedu.address.model.groupmate;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.InternPool;
+
 /**
  * Represents a Groupmate's name in the groupmate list.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,6 +20,8 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final InternPool<Name> POOL = new InternPool<>();
+
     public final String fullName;
 
     /**
@@ -31,6 +35,16 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Returns the canonical {@code Name} with the given name.
+     * Equal {@code Name}s obtained from this method are the same instance.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        return POOL.intern(new Name(name));
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
@@ -3,6 +3,8 @@ package seedu.address.model.groupmate;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.InternPool;
+
 /**
  * Represents a Role.
  * Guarantees: immutable; name is valid as declared in {@link #isValidRoleName(String)}
@@ -14,6 +16,8 @@ public class Role {
             + " (can have underscores and hyphens in the middle)";
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9][a-zA-Z0-9_-]*[a-zA-Z0-9]$";
 
+    private static final InternPool<Role> POOL = new InternPool<>();
+
     public final String roleName;
 
     /**
@@ -27,6 +31,16 @@ public class Role {
         this.roleName = roleName;
     }
 
+    /**
+     * Returns the canonical {@code Role} with the given role name.
+     * Equal {@code Role}s obtained from this method are the same instance.
+     *
+     * @param roleName A valid role name.
+     */
+    public static Role of(String roleName) {
+        return POOL.intern(new Role(roleName));
+    }
+
     /**
      * Returns true if a given string is a valid role name.
      */
@@ -0,0 +1,275 @@
+package seedu.address.model.membership;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.groupmate.Groupmate;
+import seedu.address.model.groupmate.Name;
+import seedu.address.model.project.Project;
+import seedu.address.model.search.SearchHit;
+import seedu.address.model.search.SearchHitType;
+
+/**
+ * A live index joining contacts to the groupmates of all projects that have the same name, ignoring case.
+ * The index subscribes to the contacts list, the projects list and the groupmates of every project, so looking up
+ * the projects of a contact, or the contacts of a groupmate, does not go through every project.
+ * The positions of the groupmates of a project are worked out when first needed after its groupmates change.
+ */
+public class MembershipIndex {
+
+    private static final Comparator<SearchHit> HIT_ORDER = Comparator
+            .comparing((SearchHit hit) -> hit.getProjectIndex().getZeroBased())
+            .thenComparing(hit -> hit.getItemIndex().map(Index::getZeroBased).orElse(-1));
+
+    private final Map<String, Set<Contact>> contactsByName = new HashMap<>();
+    private final Map<String, Set<Membership>> membershipsByName = new HashMap<>();
+    private final Map<Project, ProjectMemberships> projectMemberships = new IdentityHashMap<>();
+
+    /**
+     * Creates a {@code MembershipIndex} over {@code contacts} and the groupmates of {@code projects}.
+     */
+    public MembershipIndex(ObservableList<Contact> contacts, ObservableList<Project> projects) {
+        requireAllNonNull(contacts, projects);
+
+        contacts.forEach(this::addContact);
+        contacts.addListener(this::onContactsChanged);
+        projects.forEach(this::track);
+        projects.addListener(this::onProjectsChanged);
+    }
+
+    /**
+     * Returns the groupmates with the same name as {@code contact}, ordered by project and then by groupmate.
+     * Only groupmates of projects in {@code shownProjects} are returned, with project indexes relative to it.
+     *
+     * @param contact The contact to look up.
+     * @param shownProjects The projects as displayed to the user.
+     */
+    public List<SearchHit> getMemberships(Contact contact, List<Project> shownProjects) {
+        requireAllNonNull(contact, shownProjects);
+
+        Set<Membership> memberships = membershipsByName.get(keyOf(contact.getName().fullName));
+        if (memberships == null) {
+            return Collections.emptyList();
+        }
+
+        Map<Project, Index> projectIndexes = new IdentityHashMap<>();
+        for (int i = 0; i < shownProjects.size(); i++) {
+            projectIndexes.put(shownProjects.get(i), Index.fromZeroBased(i));
+        }
+
+        List<SearchHit> hits = new ArrayList<>();
+        for (Membership membership : memberships) {
+            Index projectIndex = projectIndexes.get(membership.project);
+            if (projectIndex != null) {
+                hits.add(membership.toHit(projectIndex));
+            }
+        }
+        hits.sort(HIT_ORDER);
+        return hits;
+    }
+
+    /**
+     * Returns the contacts with the same name as {@code groupmate}, compared by identity.
+     */
+    public Set<Contact> getContacts(Groupmate groupmate) {
+        requireNonNull(groupmate);
+
+        Set<Contact> contacts = contactsByName.get(keyOf(groupmate.getName().fullName));
+        return contacts == null ? Collections.emptySet() : Collections.unmodifiableSet(contacts);
+    }
+
+    /**
+     * Renames the groupmates joined to {@code target} after it was replaced by {@code editedContact}, and returns
+     * the number of groupmates renamed.
+     * Only the groupmates with the old name are visited. Nothing is renamed if the name is unchanged, or if another
+     * contact still has the old name, as the groupmates may then refer to that contact instead. A groupmate is not
+     * renamed if its project already has a groupmate with the new name.
+     */
+    public int renameGroupmates(Contact target, Contact editedContact) {
+        requireAllNonNull(target, editedContact);
+
+        String oldName = target.getName().fullName;
+        String newName = editedContact.getName().fullName;
+        boolean isOldNameShared = contactsByName.getOrDefault(keyOf(oldName), Collections.emptySet()).stream()
+                .anyMatch(contact -> contact != editedContact);
+        if (oldName.equals(newName) || isOldNameShared) {
+            return 0;
+        }
+
+        // renaming a groupmate updates the memberships of its project, so work on a copy
+        List<Membership> memberships = new ArrayList<>(
+                membershipsByName.getOrDefault(keyOf(oldName), Collections.emptySet()));
+        int renamedCount = 0;
+        for (Membership membership : memberships) {
+            Groupmate renamed = new Groupmate(Name.of(newName), membership.groupmate.getRoles());
+            if (membership.project.hasGroupmate(renamed)) {
+                continue;
+            }
+            membership.project.setGroupmate(membership.getPosition(), renamed);
+            renamedCount++;
+        }
+        return renamedCount;
+    }
+
+    private void onContactsChanged(ListChangeListener.Change<? extends Contact> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+
+            change.getRemoved().forEach(this::removeContact);
+            change.getAddedSubList().forEach(this::addContact);
+        }
+    }
+
+    private void onProjectsChanged(ListChangeListener.Change<? extends Project> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+
+            change.getRemoved().forEach(this::untrack);
+            change.getAddedSubList().forEach(this::track);
+        }
+    }
+
+    private void addContact(Contact contact) {
+        contactsByName.computeIfAbsent(keyOf(contact.getName().fullName),
+                unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(contact);
+    }
+
+    private void removeContact(Contact contact) {
+        removeFrom(contactsByName, keyOf(contact.getName().fullName), contact);
+    }
+
+    private void track(Project project) {
+        ProjectMemberships memberships = new ProjectMemberships(project);
+        projectMemberships.put(project, memberships);
+        memberships.attach();
+    }
+
+    private void untrack(Project project) {
+        ProjectMemberships memberships = projectMemberships.remove(project);
+        if (memberships != null) {
+            memberships.detach();
+        }
+    }
+
+    private static <T> void removeFrom(Map<String, Set<T>> map, String key, T value) {
+        Set<T> values = map.get(key);
+        if (values != null && values.remove(value) && values.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    private static String keyOf(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A groupmate of a project.
+     */
+    private static class Membership {
+        private final Project project;
+        private final Groupmate groupmate;
+        private final ProjectMemberships projectMemberships;
+
+        Membership(Project project, Groupmate groupmate, ProjectMemberships projectMemberships) {
+            this.project = project;
+            this.groupmate = groupmate;
+            this.projectMemberships = projectMemberships;
+        }
+
+        int getPosition() {
+            return projectMemberships.indexOf(groupmate);
+        }
+
+        SearchHit toHit(Index projectIndex) {
+            Index groupmateIndex = Index.fromZeroBased(getPosition());
+            return new SearchHit(SearchHitType.GROUPMATE, projectIndex, project.getProjectName(), groupmateIndex,
+                    groupmate.toString());
+        }
+    }
+
+    /**
+     * The memberships contributed by the groupmates of a single project.
+     */
+    private class ProjectMemberships {
+        private final Project project;
+        private final ListChangeListener<Groupmate> listener = this::onChanged;
+        private final Map<Groupmate, Membership> memberships = new IdentityHashMap<>();
+        // the positions of the groupmates, worked out when first needed after the groupmates change
+        private Map<Groupmate, Integer> positions;
+
+        ProjectMemberships(Project project) {
+            this.project = project;
+        }
+
+        void attach() {
+            project.getSortedGroupmates().addListener(listener);
+            project.getSortedGroupmates().forEach(this::add);
+        }
+
+        void detach() {
+            project.getSortedGroupmates().removeListener(listener);
+            memberships.forEach((groupmate, membership) ->
+                    removeFrom(membershipsByName, keyOf(groupmate.getName().fullName), membership));
+            memberships.clear();
+            positions = null;
+        }
+
+        /**
+         * Returns the position of {@code groupmate} in the groupmates of the project, comparing by identity.
+         */
+        int indexOf(Groupmate groupmate) {
+            if (positions == null) {
+                positions = new IdentityHashMap<>();
+                List<Groupmate> groupmates = project.getSortedGroupmates();
+                for (int i = 0; i < groupmates.size(); i++) {
+                    positions.put(groupmates.get(i), i);
+                }
+            }
+            return positions.getOrDefault(groupmate, -1);
+        }
+
+        private void onChanged(ListChangeListener.Change<? extends Groupmate> change) {
+            positions = null;
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        }
+
+        private void add(Groupmate groupmate) {
+            Membership membership = new Membership(project, groupmate, this);
+            membershipsByName.computeIfAbsent(keyOf(groupmate.getName().fullName),
+                    unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(membership);
+            memberships.put(groupmate, membership);
+        }
+
+        private void remove(Groupmate groupmate) {
+            Membership membership = memberships.remove(groupmate);
+            if (membership != null) {
+                removeFrom(membershipsByName, keyOf(groupmate.getName().fullName), membership);
+            }
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package seedu.address.model.project;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -20,12 +24,15 @@ import seedu.address.model.task.deadline.Deadline;
  * Represents a list of Deadlines.
  * Deadline list ensures that there are no duplicates.
  * Also maintains an internal list of sorted deadlines.
+ * Like the other lists of a {@code Project}, it is confined to the thread that changes the model. Deadlines are
+ * replaced rather than changed once added, so a copy of this list never sees later changes.
  */
 public class DeadlineList {
 
     private final ObservableList<CompletableDeadline> deadlines = FXCollections.observableArrayList();
     private final SortedList<CompletableDeadline> sortedDeadlines = new SortedList<>(deadlines,
-            Comparator.comparing(CompletableDeadline::getBy).thenComparing(CompletableDeadline::getDescription));
+            Comparator.comparingInt(CompletableDeadline::getByEpochDay)
+                    .thenComparing(CompletableDeadline::getDescription));
 
     /**
      * Constructs a empty {@code DeadlineList}.
@@ -99,8 +106,36 @@ public class DeadlineList {
      */
     public void deleteDeadline(Integer i) {
         requireNonNull(i);
-        int deadlinesIndex = sortedDeadlines.getSourceIndex(i);
-        this.deadlines.remove(deadlinesIndex);
+        deleteDeadlines(List.of(i));
+    }
+
+    /**
+     * Deletes deadlines from this {@code DeadlineList}.
+     * Every index refers to the sorted list before any of the deadlines is deleted.
+     *
+     * @param indexes Indexes of {@code Deadline} to be deleted in the sorted list.
+     */
+    public void deleteDeadlines(List<Integer> indexes) {
+        requireNonNull(indexes);
+
+        this.deadlines.removeAll(SortedListUtil.getItems(sortedDeadlines, indexes));
+    }
+
+    /**
+     * Replaces {@code oldDeadlines} in this {@code DeadlineList} with {@code newDeadlines}.
+     * None of {@code newDeadlines} may already be in the {@code DeadlineList} unless it is also in
+     * {@code oldDeadlines}.
+     *
+     * @param oldDeadlines {@code Deadline}s to be removed.
+     * @param newDeadlines {@code Deadline}s to be added.
+     */
+    public void replaceDeadlines(List<? extends CompletableDeadline> oldDeadlines,
+            List<? extends CompletableDeadline> newDeadlines) {
+        requireAllNonNull(oldDeadlines, newDeadlines);
+
+        // removed as a set, so the list is only gone through once
+        this.deadlines.removeAll(new HashSet<>(oldDeadlines));
+        this.deadlines.addAll(newDeadlines);
     }
 
     /**
@@ -110,12 +145,25 @@ public class DeadlineList {
      */
     public void markAsDone(Integer i) {
         requireNonNull(i);
-        CompletableDeadline deadline = sortedDeadlines.get(i);
-
-        deadline.markAsDone();
+        markAsDone(List.of(i));
+    }
 
-        // Force observable list to update
-        setDeadline(i, deadline);
+    /**
+     * Marks deadlines from this {@code DeadlineList} as done.
+     * Every index refers to the sorted list before any of the deadlines is marked.
+     *
+     * @param indexes Indexes of {@code Deadline} in the sorted list to be marked as done.
+     */
+    public void markAsDone(List<Integer> indexes) {
+        requireNonNull(indexes);
+
+        // replaced rather than changed, so copies of this list, such as snapshots, are unaffected
+        Set<CompletableDeadline> oldDeadlines = SortedListUtil.getItems(sortedDeadlines, indexes);
+        List<CompletableDeadline> newDeadlines = new ArrayList<>();
+        oldDeadlines.forEach(deadline ->
+                newDeadlines.add(new Deadline(deadline.getDescription(), deadline.getBy(), true)));
+        this.deadlines.removeAll(oldDeadlines);
+        this.deadlines.addAll(newDeadlines);
     }
 
     /**
@@ -135,7 +183,7 @@ public class DeadlineList {
      */
     public FilteredList<CompletableDeadline> getDeadlinesOnDate(LocalDate dateOfEvent) {
         requireNonNull(dateOfEvent);
-        Predicate<CompletableDeadline> predicate = deadline -> deadline.getBy().isEqual(dateOfEvent);
+        Predicate<CompletableDeadline> predicate = deadline -> deadline.isDueOn(dateOfEvent);
         return deadlines.filtered(predicate);
     }
 
@@ -3,8 +3,11 @@ package seedu.address.model.project;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -19,17 +22,22 @@ import seedu.address.model.task.repeatable.RepeatableComparator;
 /**
  * Represents a list of Events.
  * Event list ensures that there are no duplicates.
- * Also maintains an internal list of sorted events.
+ * Also maintains an internal list of sorted events, ordered relative to the date given by a {@code Clock}.
+ * Like the other lists of a {@code Project}, it is confined to the thread that changes the model.
  */
 public class EventList {
 
     private final ObservableList<Event> events = FXCollections.observableArrayList();
-    private final SortedList<Event> sortedEvents = new SortedList<>(events, new RepeatableComparator());
+    private final Clock clock;
+    private final SortedList<Event> sortedEvents;
+    private RepeatableComparator comparator;
 
     /**
      * Constructs an empty {@code EventList}.
      */
-    public EventList () {}
+    public EventList () {
+        this(List.of());
+    }
 
     /**
      * Constructs an {@code EventList}.
@@ -37,8 +45,21 @@ public class EventList {
      * @param events A list of {@code Event}.
      */
     public EventList (List<Event> events) {
-        requireNonNull(events);
+        this(events, Clock.systemDefaultZone());
+    }
 
+    /**
+     * Constructs an {@code EventList} that sorts its events relative to the date given by {@code clock}.
+     *
+     * @param events A list of {@code Event}.
+     * @param clock The {@code Clock} providing the current date.
+     */
+    public EventList (List<Event> events, Clock clock) {
+        requireAllNonNull(events, clock);
+
+        this.clock = clock;
+        this.comparator = new RepeatableComparator(LocalDate.now(clock));
+        this.sortedEvents = new SortedList<>(this.events, comparator);
         this.events.addAll(events);
     }
 
@@ -67,7 +88,8 @@ public class EventList {
         requireAllNonNull(event, i);
 
         int eventsIndex = sortedEvents.getSourceIndex(i);
-        this.events.set(eventsIndex, event);
+        Event oldEvent = this.events.set(eventsIndex, event);
+        comparator.evict(oldEvent);
     }
 
     /**
@@ -89,9 +111,69 @@ public class EventList {
      */
     public void deleteEvent(Integer i) {
         requireNonNull(i);
+        deleteEvents(List.of(i));
+    }
 
-        int eventsIndex = sortedEvents.getSourceIndex(i);
-        this.events.remove(eventsIndex);
+    /**
+     * Deletes events from this {@code EventList}.
+     * Every index refers to the sorted list before any of the events is deleted.
+     *
+     * @param indexes Indexes of {@code Event} in the sorted list to be deleted.
+     */
+    public void deleteEvents(List<Integer> indexes) {
+        requireNonNull(indexes);
+
+        Set<Event> removedEvents = SortedListUtil.getItems(sortedEvents, indexes);
+        this.events.removeAll(removedEvents);
+        removedEvents.forEach(comparator::evict);
+    }
+
+    /**
+     * Replaces {@code oldEvents} in this {@code EventList} with {@code newEvents}.
+     * None of {@code newEvents} may already be in the {@code EventList} unless it is also in {@code oldEvents}.
+     *
+     * @param oldEvents {@code Event}s to be removed.
+     * @param newEvents {@code Event}s to be added.
+     */
+    public void replaceEvents(List<? extends Event> oldEvents, List<? extends Event> newEvents) {
+        requireAllNonNull(oldEvents, newEvents);
+
+        // removed as a set, so the list is only gone through once
+        this.events.removeAll(new HashSet<>(oldEvents));
+        oldEvents.forEach(comparator::evict);
+        this.events.addAll(newEvents);
+    }
+
+    /**
+     * Re-sorts this {@code EventList} if the date given by its {@code Clock} has changed since it was last sorted.
+     *
+     * @return true if the events were re-sorted, false otherwise.
+     */
+    public boolean refreshSortOrder() {
+        return refreshSortOrder(LocalDate.now(clock));
+    }
+
+    /**
+     * Re-sorts this {@code EventList} relative to {@code today} if it is not already sorted relative to it.
+     *
+     * @return true if the events were re-sorted, false otherwise.
+     */
+    public boolean refreshSortOrder(LocalDate today) {
+        requireNonNull(today);
+        if (today.equals(comparator.getToday())) {
+            return false;
+        }
+
+        comparator = new RepeatableComparator(today);
+        sortedEvents.setComparator(comparator);
+        return true;
+    }
+
+    /**
+     * Returns the date that this {@code EventList} is currently sorted relative to.
+     */
+    public LocalDate getToday() {
+        return comparator.getToday();
     }
 
     /**
@@ -100,7 +182,7 @@ public class EventList {
      * @return A copy of this {@code EventList}
      */
     public EventList getCopy() {
-        return new EventList(getSortedEventList());
+        return new EventList(getSortedEventList(), clock);
     }
 
     /**
@@ -130,14 +212,7 @@ public class EventList {
     public FilteredList<Event> getEventsOnDate(LocalDate dateOfEvent) {
         requireNonNull(dateOfEvent);
 
-        Predicate<Event> predicate = event -> {
-            if (event.getIsWeekly()) {
-                return event.getDate().getDayOfWeek().equals(dateOfEvent.getDayOfWeek())
-                        && !event.getDate().isAfter(dateOfEvent);
-            } else {
-                return event.getDate().isEqual(dateOfEvent);
-            }
-        };
+        Predicate<Event> predicate = event -> event.occursOn(dateOfEvent);
 
         return events.filtered(predicate);
     }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -16,6 +17,7 @@ import seedu.address.model.groupmate.Groupmate;
  * Represents a list of Groupmates.
  * Groupmate list ensures that there are no duplicates.
  * Also maintains an internal list of sorted groupmates.
+ * Like the other lists of a {@code Project}, it is confined to the thread that changes the model.
  */
 public class GroupmateList {
 
@@ -76,9 +78,35 @@ public class GroupmateList {
      */
     public void delete(Integer i) {
         requireNonNull(i);
+        delete(List.of(i));
+    }
 
-        int groupmatesIndex = sortedGroupmates.getSourceIndex(i);
-        groupmates.remove(groupmatesIndex);
+    /**
+     * Deletes groupmates from this {@code GroupmateList}.
+     * Every index refers to the sorted list before any of the groupmates is deleted.
+     *
+     * @param indexes Indexes of {@code Groupmate} in the sorted list to be deleted.
+     */
+    public void delete(List<Integer> indexes) {
+        requireNonNull(indexes);
+
+        groupmates.removeAll(SortedListUtil.getItems(sortedGroupmates, indexes));
+    }
+
+    /**
+     * Replaces {@code oldGroupmates} in this {@code GroupmateList} with {@code newGroupmates}.
+     * None of {@code newGroupmates} may have the same name as a groupmate in the {@code GroupmateList}, unless that
+     * groupmate is in {@code oldGroupmates}.
+     *
+     * @param oldGroupmates {@code Groupmate}s to be removed.
+     * @param newGroupmates {@code Groupmate}s to be added.
+     */
+    public void replaceGroupmates(List<? extends Groupmate> oldGroupmates, List<? extends Groupmate> newGroupmates) {
+        requireAllNonNull(oldGroupmates, newGroupmates);
+
+        // removed as a set, so the list is only gone through once
+        groupmates.removeAll(new HashSet<>(oldGroupmates));
+        groupmates.addAll(newGroupmates);
     }
 
     /**
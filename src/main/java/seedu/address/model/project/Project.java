@@ -10,6 +10,8 @@ import java.util.Objects;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.model.groupmate.Groupmate;
+import seedu.address.model.sync.SyncLog;
+import seedu.address.model.sync.SyncState;
 import seedu.address.model.task.CompletableDeadline;
 import seedu.address.model.task.CompletableTodo;
 import seedu.address.model.task.deadline.Deadline;
@@ -30,6 +32,8 @@ public class Project {
     private final TodoList todos;
     private final DeadlineList deadlines;
     private final GroupmateList groupmates;
+    private final ProjectProgress progress;
+    private final SyncLog syncLog;
 
     /**
      * Constructs an empty {@code Project}.
@@ -43,6 +47,8 @@ public class Project {
         this.todos = new TodoList();
         this.deadlines = new DeadlineList();
         this.groupmates = new GroupmateList();
+        this.progress = createProgress();
+        this.syncLog = new SyncLog(events, todos, deadlines, groupmates, SyncState.newReplica());
     }
 
     /**
@@ -51,13 +57,43 @@ public class Project {
      */
     public Project(ProjectName projectName, EventList events, TodoList todos, DeadlineList deadlines,
                    GroupmateList groupmates) {
-        requireAllNonNull(projectName, events, todos, deadlines, groupmates);
+        this(projectName, events, todos, deadlines, groupmates, SyncState.newReplica());
+    }
+
+    /**
+     * Constructs a {@code Project} whose items were last synced as in {@code syncState}.
+     * Every field must be present and not null.
+     */
+    public Project(ProjectName projectName, EventList events, TodoList todos, DeadlineList deadlines,
+                   GroupmateList groupmates, SyncState syncState) {
+        requireAllNonNull(projectName, events, todos, deadlines, groupmates, syncState);
+
+        this.projectName = projectName;
+        this.events = events;
+        this.todos = todos;
+        this.deadlines = deadlines;
+        this.groupmates = groupmates;
+        this.progress = createProgress();
+        this.syncLog = new SyncLog(events, todos, deadlines, groupmates, syncState);
+    }
 
+    /**
+     * Constructs a copy of {@code source} named {@code projectName} from copies of its lists.
+     */
+    private Project(Project source, ProjectName projectName, EventList events, TodoList todos,
+                    DeadlineList deadlines, GroupmateList groupmates) {
         this.projectName = projectName;
         this.events = events;
         this.todos = todos;
         this.deadlines = deadlines;
         this.groupmates = groupmates;
+        this.progress = createProgress();
+        this.syncLog = source.syncLog.getCopy(events, todos, deadlines, groupmates);
+    }
+
+    private ProjectProgress createProgress() {
+        return new ProjectProgress(todos.getSortedTodos(), deadlines.getSortedDeadlineList(),
+                events.getSortedEventList(), events.getToday());
     }
 
     public ProjectName getProjectName() {
@@ -85,6 +121,33 @@ public class Project {
         return groupmates;
     }
 
+    public ProjectProgress getProgress() {
+        assert progress != null;
+        return progress;
+    }
+
+    /**
+     * Returns a count that goes up whenever this project changes, so a copy taken at one count stays the same as
+     * this project until the count changes.
+     */
+    public long getRevision() {
+        return syncLog.getRevision();
+    }
+
+    /**
+     * Returns true if {@code otherProject} is this project, or a copy of the same project, with the same items,
+     * without comparing the items. May return false for projects with the same items that were changed separately.
+     */
+    public boolean isSameVersionAs(Project otherProject) {
+        requireNonNull(otherProject);
+        return otherProject == this || syncLog.isSameVersionAs(otherProject.syncLog);
+    }
+
+    public SyncLog getSyncLog() {
+        assert syncLog != null;
+        return syncLog;
+    }
+
     /**
      * Returns all {@code Events} that fall on a specific {@code LocalDate}
      *
@@ -253,6 +316,66 @@ public class Project {
         this.todos.markAsDone(i);
     }
 
+    /**
+     * Deletes groupmates from {@code groupmates} field of this {@code Project}.
+     *
+     * @param indexes Indexes of {@code Groupmate} to be deleted, all referring to the list before any is deleted.
+     */
+    public void deleteGroupmates(List<Integer> indexes) {
+        requireNonNull(indexes);
+        this.groupmates.delete(indexes);
+    }
+
+    /**
+     * Deletes deadlines from {@code DeadlineList} field of this {@code Project}.
+     *
+     * @param indexes Indexes of {@code Deadline} to be deleted, all referring to the list before any is deleted.
+     */
+    public void deleteDeadlines(List<Integer> indexes) {
+        requireNonNull(indexes);
+        this.deadlines.deleteDeadlines(indexes);
+    }
+
+    /**
+     * Deletes events from {@code EventList} field of this {@code Project}.
+     *
+     * @param indexes Indexes of {@code Event} to be deleted, all referring to the list before any is deleted.
+     */
+    public void deleteEvents(List<Integer> indexes) {
+        requireNonNull(indexes);
+        this.events.deleteEvents(indexes);
+    }
+
+    /**
+     * Deletes todos from {@code TodoList} field of this {@code Project}.
+     *
+     * @param indexes Indexes of {@code Todo} to be deleted, all referring to the list before any is deleted.
+     */
+    public void deleteTodos(List<Integer> indexes) {
+        requireNonNull(indexes);
+        this.todos.deleteTodos(indexes);
+    }
+
+    /**
+     * Marks deadlines from {@code DeadlineList} field of this {@code Project} as done.
+     *
+     * @param indexes Indexes of {@code Deadline} to be marked as done.
+     */
+    public void markDeadlines(List<Integer> indexes) {
+        requireNonNull(indexes);
+        this.deadlines.markAsDone(indexes);
+    }
+
+    /**
+     * Marks todos from {@code TodoList} field of this {@code Project} as done.
+     *
+     * @param indexes Indexes of {@code Todo} to be marked as done.
+     */
+    public void markTodos(List<Integer> indexes) {
+        requireNonNull(indexes);
+        this.todos.markAsDone(indexes);
+    }
+
     /**
      * Returns true if both projects have the same name.
      * This defines a weaker notion of equality between two projects.
@@ -272,12 +395,22 @@ public class Project {
      * @return a copy of this project.
      */
     public Project getCopy() {
+        return withName(projectName);
+    }
+
+    /**
+     * Returns a copy of this project named {@code projectName}.
+     * The copy is the same replica of the project, so it keeps syncing with the replicas of teammates.
+     */
+    public Project withName(ProjectName projectName) {
+        requireNonNull(projectName);
+
         EventList eventList = this.events.getCopy();
         DeadlineList deadlineList = this.deadlines.getCopy();
         TodoList todoList = this.todos.getCopy();
         GroupmateList groupmateList = this.groupmates.getCopy();
 
-        return new Project(this.getProjectName(), eventList, todoList, deadlineList, groupmateList);
+        return new Project(this, projectName, eventList, todoList, deadlineList, groupmateList);
     }
 
     /**
@@ -318,7 +451,7 @@ public class Project {
 
     /**
      * Returns true if both projects have the same identity and data fields.
-     * This defines a stronger notion of equality between two projects.
+     * This defines a stronger notion of equality between two projects. How the items were synced is not compared.
      */
     @Override
     public boolean equals(Object other) {
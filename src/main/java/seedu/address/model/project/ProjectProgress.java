@@ -0,0 +1,208 @@
+package seedu.address.model.project;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.task.CompletableDeadline;
+import seedu.address.model.task.CompletableTodo;
+import seedu.address.model.task.repeatable.Event;
+
+/**
+ * Live counts of the done and overdue tasks of a project.
+ * The counts are updated from the changes to the task lists of the project, and only the added and removed tasks
+ * are looked at, so reading the counts never goes through the task lists.
+ * Listeners are notified whenever a count may have changed.
+ */
+public class ProjectProgress implements Observable {
+
+    private static final int DONE = 1;
+    private static final int OVERDUE = 2;
+
+    private final ObservableList<Event> sortedEvents;
+    private final List<InvalidationListener> listeners = new ArrayList<>();
+
+    // tasks are mutated in place when marked as done, so remember what each task was counted as
+    private final Map<CompletableTodo, Integer> todoFlags = new IdentityHashMap<>();
+    private final Map<CompletableDeadline, Integer> deadlineFlags = new IdentityHashMap<>();
+
+    private LocalDate today;
+    private int doneTodoCount;
+    private int doneDeadlineCount;
+    private int overdueDeadlineCount;
+
+    /**
+     * Creates a {@code ProjectProgress} over the given lists of a project.
+     *
+     * @param todos The todos of the project.
+     * @param deadlines The deadlines of the project.
+     * @param sortedEvents The events of the project, sorted by their next occurrence relative to {@code today}.
+     * @param today The date that deadlines are overdue relative to.
+     */
+    public ProjectProgress(ObservableList<CompletableTodo> todos, ObservableList<CompletableDeadline> deadlines,
+                           ObservableList<Event> sortedEvents, LocalDate today) {
+        requireAllNonNull(todos, deadlines, sortedEvents, today);
+
+        this.sortedEvents = sortedEvents;
+        this.today = today;
+        todos.forEach(this::addTodo);
+        deadlines.forEach(this::addDeadline);
+        todos.addListener(this::onTodosChanged);
+        deadlines.addListener(this::onDeadlinesChanged);
+        sortedEvents.addListener((ListChangeListener<Event>) change -> notifyListeners());
+    }
+
+    public int getTodoCount() {
+        return todoFlags.size();
+    }
+
+    public int getDoneTodoCount() {
+        return doneTodoCount;
+    }
+
+    public int getDeadlineCount() {
+        return deadlineFlags.size();
+    }
+
+    public int getDoneDeadlineCount() {
+        return doneDeadlineCount;
+    }
+
+    public int getOverdueDeadlineCount() {
+        return overdueDeadlineCount;
+    }
+
+    /**
+     * Returns the percentage of todos and deadlines that are done, rounded down.
+     * A project without todos and deadlines is 0% done.
+     */
+    public int getCompletionPercentage() {
+        int taskCount = getTodoCount() + getDeadlineCount();
+        return taskCount == 0 ? 0 : (doneTodoCount + doneDeadlineCount) * 100 / taskCount;
+    }
+
+    /**
+     * Returns the event of the project that occurs next, on or after today.
+     */
+    public Optional<Event> getNextEvent() {
+        // past events sort before all upcoming events, so the first upcoming event is found by binary search
+        int low = 0;
+        int high = sortedEvents.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedEvents.get(middle).getNextOccurrence(today).isPresent()) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low < sortedEvents.size() ? Optional.of(sortedEvents.get(low)) : Optional.empty();
+    }
+
+    /**
+     * Sets the date that deadlines are overdue relative to, recounting the overdue deadlines if it has changed.
+     */
+    public void setToday(LocalDate today) {
+        requireNonNull(today);
+
+        if (today.equals(this.today)) {
+            return;
+        }
+
+        this.today = today;
+        List<CompletableDeadline> deadlines = new ArrayList<>(deadlineFlags.keySet());
+        deadlines.forEach(this::removeDeadline);
+        deadlines.forEach(this::addDeadline);
+        notifyListeners();
+    }
+
+    public LocalDate getToday() {
+        return today;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void onTodosChanged(ListChangeListener.Change<? extends CompletableTodo> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+
+            change.getRemoved().forEach(this::removeTodo);
+            change.getAddedSubList().forEach(this::addTodo);
+        }
+        notifyListeners();
+    }
+
+    private void onDeadlinesChanged(ListChangeListener.Change<? extends CompletableDeadline> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+
+            change.getRemoved().forEach(this::removeDeadline);
+            change.getAddedSubList().forEach(this::addDeadline);
+        }
+        notifyListeners();
+    }
+
+    private void addTodo(CompletableTodo todo) {
+        int flags = todo.getIsDone() ? DONE : 0;
+        todoFlags.put(todo, flags);
+        doneTodoCount += flags & DONE;
+    }
+
+    private void removeTodo(CompletableTodo todo) {
+        Integer flags = todoFlags.remove(todo);
+        if (flags != null) {
+            doneTodoCount -= flags & DONE;
+        }
+    }
+
+    private void addDeadline(CompletableDeadline deadline) {
+        int flags = deadline.getIsDone() ? DONE : 0;
+        if (!deadline.getIsDone() && deadline.getBy().isBefore(today)) {
+            flags |= OVERDUE;
+        }
+        deadlineFlags.put(deadline, flags);
+        doneDeadlineCount += flags & DONE;
+        overdueDeadlineCount += (flags & OVERDUE) / OVERDUE;
+    }
+
+    private void removeDeadline(CompletableDeadline deadline) {
+        Integer flags = deadlineFlags.remove(deadline);
+        if (flags != null) {
+            doneDeadlineCount -= flags & DONE;
+            overdueDeadlineCount -= (flags & OVERDUE) / OVERDUE;
+        }
+    }
+
+    private void notifyListeners() {
+        // bindings listen weakly, so drop the listeners of bindings that no longer exist
+        listeners.removeIf(listener -> listener instanceof WeakListener
+                && ((WeakListener) listener).wasGarbageCollected());
+        for (InvalidationListener listener : new ArrayList<>(listeners)) {
+            listener.invalidated(this);
+        }
+    }
+}
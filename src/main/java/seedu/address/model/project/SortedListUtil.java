@@ -0,0 +1,25 @@
+package seedu.address.model.project;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.transformation.SortedList;
+
+/**
+ * Utility methods related to the sorted views of the lists in a {@code Project}.
+ */
+class SortedListUtil {
+
+    /**
+     * Returns the items at {@code indexes} of {@code sortedList} as a set compared by identity, so that removing
+     * them from the source list in one go removes only those items, even if equal items are at other indexes.
+     * All the indexes are resolved before the source list is changed.
+     */
+    static <T> Set<T> getItems(SortedList<T> sortedList, List<Integer> indexes) {
+        Set<T> items = Collections.newSetFromMap(new IdentityHashMap<>());
+        indexes.forEach(index -> items.add(sortedList.get(index)));
+        return items;
+    }
+}
@@ -1,9 +1,13 @@
 package seedu.address.model.project;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
@@ -11,11 +15,14 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.model.project.exceptions.DuplicateTodoException;
 import seedu.address.model.task.CompletableTodo;
+import seedu.address.model.task.todo.Todo;
 
 /**
  * Represents a list of Todos.
  * Todo list ensures that there are no duplicates.
  * Also maintains an internal list of sorted todos.
+ * Like the other lists of a {@code Project}, it is confined to the thread that changes the model. Todos are replaced
+ * rather than changed once added, so a copy of this list never sees later changes.
  */
 public class TodoList {
 
@@ -95,9 +102,34 @@ public class TodoList {
      */
     public void deleteTodo(Integer i) {
         requireNonNull(i);
+        deleteTodos(List.of(i));
+    }
 
-        int todoIndex = sortedTodos.getSourceIndex(i);
-        this.todos.remove(todoIndex);
+    /**
+     * Deletes todos from this {@code TodoList}.
+     * Every index refers to the sorted list before any of the todos is deleted.
+     *
+     * @param indexes Indexes of {@code Todo} to be deleted in the sorted list.
+     */
+    public void deleteTodos(List<Integer> indexes) {
+        requireNonNull(indexes);
+
+        this.todos.removeAll(SortedListUtil.getItems(sortedTodos, indexes));
+    }
+
+    /**
+     * Replaces {@code oldTodos} in this {@code TodoList} with {@code newTodos}.
+     * None of {@code newTodos} may already be in the {@code TodoList} unless it is also in {@code oldTodos}.
+     *
+     * @param oldTodos {@code Todo}s to be removed.
+     * @param newTodos {@code Todo}s to be added.
+     */
+    public void replaceTodos(List<? extends CompletableTodo> oldTodos, List<? extends CompletableTodo> newTodos) {
+        requireAllNonNull(oldTodos, newTodos);
+
+        // removed as a set, so the list is only gone through once
+        this.todos.removeAll(new HashSet<>(oldTodos));
+        this.todos.addAll(newTodos);
     }
 
     /**
@@ -107,12 +139,24 @@ public class TodoList {
      */
     public void markAsDone(Integer i) {
         requireNonNull(i);
-        CompletableTodo todo = sortedTodos.get(i);
-        todo.markAsDone();
+        markAsDone(List.of(i));
+    }
 
-        int todoIndex = sortedTodos.getSourceIndex(i);
-        // Force observable list to update
-        this.todos.set(todoIndex, todo);
+    /**
+     * Marks todos from this {@code TodoList} as done.
+     * Every index refers to the sorted list before any of the todos is marked.
+     *
+     * @param indexes Indexes of {@code Todo} in the sorted list to be marked as done.
+     */
+    public void markAsDone(List<Integer> indexes) {
+        requireNonNull(indexes);
+
+        // replaced rather than changed, so copies of this list, such as snapshots, are unaffected
+        Set<CompletableTodo> oldTodos = SortedListUtil.getItems(sortedTodos, indexes);
+        List<CompletableTodo> newTodos = new ArrayList<>();
+        oldTodos.forEach(todo -> newTodos.add(new Todo(todo.getDescription(), true)));
+        this.todos.removeAll(oldTodos);
+        this.todos.addAll(newTodos);
     }
 
     /**
@@ -21,6 +21,9 @@ import seedu.address.model.project.exceptions.ProjectNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Not thread-safe: a {@code UniqueProjectList} of the model, and the projects in it, must only be read and changed
+ * on the JavaFX Application Thread. Other threads should read a snapshot from {@code Model#getColabFolderSnapshot()}.
+ *
  * @see Project#isSameProject(Project)
  */
 public class UniqueProjectList implements Iterable<Project> {
@@ -0,0 +1,101 @@
+package seedu.address.model.reminder;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.commons.util.TimeUtil;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.task.CompletableDeadline;
+import seedu.address.model.task.Repeatable;
+
+/**
+ * A reminder of a deadline that is due soon, or of an event occurrence that starts soon.
+ * Guarantees: immutable.
+ */
+public class Reminder {
+
+    private final ProjectName projectName;
+    private final String description;
+    private final LocalDateTime dueAt;
+    private final boolean isDeadline;
+
+    private Reminder(ProjectName projectName, String description, LocalDateTime dueAt, boolean isDeadline) {
+        this.projectName = projectName;
+        this.description = description;
+        this.dueAt = dueAt;
+        this.isDeadline = isDeadline;
+    }
+
+    /**
+     * Returns the reminder of the occurrence of {@code event} on {@code date}, due when the occurrence starts.
+     */
+    public static Reminder ofEvent(Repeatable event, LocalDate date, ProjectName projectName) {
+        requireAllNonNull(event, date, projectName);
+        return new Reminder(projectName, event.getDescription(), date.atTime(event.getTime()), false);
+    }
+
+    /**
+     * Returns the reminder of {@code deadline}, due at the end of the day it is due on.
+     */
+    public static Reminder ofDeadline(CompletableDeadline deadline, ProjectName projectName) {
+        requireAllNonNull(deadline, projectName);
+        return new Reminder(projectName, deadline.getDescription(), deadline.getBy().plusDays(1).atStartOfDay(),
+                true);
+    }
+
+    public ProjectName getProjectName() {
+        return projectName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns when the deadline is due or the event occurrence starts.
+     */
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public boolean isDeadline() {
+        return isDeadline;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof Reminder)) {
+            return false;
+        }
+
+        Reminder otherReminder = (Reminder) other;
+        return projectName.equals(otherReminder.projectName)
+                && description.equals(otherReminder.description)
+                && dueAt.equals(otherReminder.dueAt)
+                && isDeadline == otherReminder.isDeadline;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(projectName, description, dueAt, isDeadline);
+    }
+
+    @Override
+    public String toString() {
+        if (isDeadline) {
+            return "Reminder: " + description + " [" + projectName + "] is due on "
+                    + DateUtil.decodeDateWithDay(dueAt.toLocalDate().minusDays(1)) + ".";
+        }
+        return "Reminder: " + description + " [" + projectName + "] starts on "
+                + DateUtil.decodeDateWithDay(dueAt.toLocalDate()) + " at " + TimeUtil.decodeTime(dueAt.toLocalTime())
+                + ".";
+    }
+}
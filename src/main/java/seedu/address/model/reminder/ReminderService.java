@@ -0,0 +1,339 @@
+package seedu.address.model.reminder;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.task.CompletableDeadline;
+import seedu.address.model.task.repeatable.Event;
+
+/**
+ * Reminds the user of deadlines and event occurrences a given lead time before they are due.
+ * The service subscribes to the projects list and to the events and deadlines of every project, and only the
+ * added and removed items of a change are scheduled or cancelled. Pending reminders are kept in a
+ * {@code TimerWheel} of one-minute ticks, so a tick only looks at the reminders due in that minute. Only the next
+ * occurrence of a repeating event is scheduled; the one after it is scheduled when it starts.
+ * Ticks run on a background daemon thread, and the handler is called on that thread.
+ */
+public class ReminderService {
+
+    /** The number of one-minute ticks in a turn of the wheel, about 17 hours. */
+    public static final int WHEEL_SIZE = 1024;
+
+    public static final String MESSAGE_INVALID_LEAD_TIME = "Reminder lead times cannot be negative.";
+
+    private static final long SECONDS_PER_TICK = 60;
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderService.class);
+
+    private final Clock clock;
+    private final List<Duration> deadlineLeadTimes;
+    private final List<Duration> eventLeadTimes;
+    private final Consumer<List<Reminder>> handler;
+    private final ScheduledExecutorService executor;
+
+    // guarded by this, as the projects are changed on the JavaFX Application Thread and ticks run on the executor
+    private final TimerWheel<Entry> wheel;
+    private final Map<Object, Item> items = new IdentityHashMap<>();
+    private final Map<Project, ProjectListeners> listeners = new IdentityHashMap<>();
+    private final List<Reminder> missedReminders = new ArrayList<>();
+
+    /**
+     * Creates a {@code ReminderService} over the events and deadlines of {@code projects}.
+     * Reminders whose time has passed but whose item is not due yet are handled as soon as the service starts.
+     *
+     * @param projects The projects whose events and deadlines are reminded of.
+     * @param clock The {@code Clock} providing the current date and time.
+     * @param deadlineLeadTimes How long before a deadline is due to remind of it.
+     * @param eventLeadTimes How long before an event occurrence starts to remind of it.
+     * @param handler Receives the reminders that are due, in the order they are due.
+     */
+    public ReminderService(ObservableList<Project> projects, Clock clock, List<Duration> deadlineLeadTimes,
+            List<Duration> eventLeadTimes, Consumer<List<Reminder>> handler) {
+        requireAllNonNull(projects, clock, deadlineLeadTimes, eventLeadTimes, handler);
+        checkArgument(deadlineLeadTimes.stream().noneMatch(Duration::isNegative), MESSAGE_INVALID_LEAD_TIME);
+        checkArgument(eventLeadTimes.stream().noneMatch(Duration::isNegative), MESSAGE_INVALID_LEAD_TIME);
+
+        this.clock = clock;
+        this.deadlineLeadTimes = longestFirst(deadlineLeadTimes);
+        this.eventLeadTimes = longestFirst(eventLeadTimes);
+        this.handler = handler;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        wheel = new TimerWheel<>(WHEEL_SIZE, toTick(clock.instant()));
+        synchronized (this) {
+            projects.forEach(project -> track(project, true));
+        }
+        projects.addListener(this::onProjectsChanged);
+    }
+
+    /**
+     * Hands over the reminders missed before the service was created, then starts ticking at the start of every
+     * minute.
+     */
+    public void start() {
+        List<Reminder> missed;
+        synchronized (this) {
+            missed = new ArrayList<>(missedReminders);
+            missedReminders.clear();
+        }
+        if (!missed.isEmpty()) {
+            executor.execute(() -> handler.accept(missed));
+        }
+
+        long millisToNextTick = SECONDS_PER_TICK * 1000 - clock.millis() % (SECONDS_PER_TICK * 1000);
+        executor.scheduleAtFixedRate(this::tick, millisToNextTick, SECONDS_PER_TICK * 1000, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops ticking. The service cannot be restarted once stopped.
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the number of reminders waiting to be due.
+     */
+    synchronized int getPendingCount() {
+        return (int) items.values().stream().flatMap(item -> item.timeouts.stream())
+                .filter(timeout -> timeout.getTask().reminder != null)
+                .count();
+    }
+
+    /**
+     * Hands the reminders that are due by the current time of the clock to the handler.
+     */
+    void runDueReminders() {
+        List<Reminder> dueReminders = new ArrayList<>();
+        synchronized (this) {
+            for (Entry entry : wheel.advanceTo(toTick(clock.instant()))) {
+                entry.item.timeouts.removeIf(timeout -> timeout.getTask() == entry);
+                if (entry.reminder != null) {
+                    dueReminders.add(entry.reminder);
+                } else {
+                    // the occurrence has started, so the next one is scheduled
+                    scheduleOccurrence(entry.item, entry.item.occurrence.plusDays(1), false);
+                }
+                if (entry.item.timeouts.isEmpty()) {
+                    items.remove(entry.item.key, entry.item);
+                }
+            }
+        }
+
+        if (!dueReminders.isEmpty()) {
+            handler.accept(dueReminders);
+        }
+    }
+
+    private void tick() {
+        try {
+            runDueReminders();
+        } catch (RuntimeException e) {
+            logger.warning("Reminder tick failed: " + e);
+        }
+    }
+
+    private void onProjectsChanged(ListChangeListener.Change<? extends Project> change) {
+        synchronized (this) {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+
+                change.getRemoved().forEach(this::untrack);
+                change.getAddedSubList().forEach(project -> track(project, false));
+            }
+        }
+    }
+
+    private void track(Project project, boolean isStarting) {
+        ProjectListeners projectListeners = new ProjectListeners(project);
+        listeners.put(project, projectListeners);
+        project.getSortedEvents().forEach(event -> addEvent(project, event, isStarting));
+        project.getSortedDeadlines().forEach(deadline -> addDeadline(project, deadline, isStarting));
+        project.getSortedEvents().addListener(projectListeners.eventsListener);
+        project.getSortedDeadlines().addListener(projectListeners.deadlinesListener);
+    }
+
+    private void untrack(Project project) {
+        ProjectListeners projectListeners = listeners.remove(project);
+        if (projectListeners != null) {
+            project.getSortedEvents().removeListener(projectListeners.eventsListener);
+            project.getSortedDeadlines().removeListener(projectListeners.deadlinesListener);
+            project.getSortedEvents().forEach(this::remove);
+            project.getSortedDeadlines().forEach(this::remove);
+        }
+    }
+
+    private void addDeadline(Project project, CompletableDeadline deadline, boolean isStarting) {
+        // deadlines are marked as done by replacing them, so a deadline that is done is never reminded of
+        if (deadline.getIsDone()) {
+            return;
+        }
+
+        Item item = new Item(deadline, project.getProjectName());
+        schedule(item, Reminder.ofDeadline(deadline, item.projectName), deadlineLeadTimes, isStarting);
+        if (!item.timeouts.isEmpty()) {
+            items.put(deadline, item);
+        }
+    }
+
+    private void addEvent(Project project, Event event, boolean isStarting) {
+        Item item = new Item(event, project.getProjectName());
+        scheduleOccurrence(item, LocalDate.ofInstant(clock.instant(), clock.getZone()), isStarting);
+        if (!item.timeouts.isEmpty()) {
+            items.put(event, item);
+        }
+    }
+
+    private void remove(Object key) {
+        Item item = items.remove(key);
+        if (item != null) {
+            item.timeouts.forEach(wheel::cancel);
+        }
+    }
+
+    /**
+     * Schedules the first occurrence of the event of {@code item} on or after {@code from} that has not started.
+     */
+    private void scheduleOccurrence(Item item, LocalDate from, boolean isStarting) {
+        Event event = (Event) item.key;
+        Optional<LocalDate> occurrence = event.getNextOccurrence(from);
+        if (occurrence.isPresent() && toTick(occurrence.get().atTime(event.getTime())) <= wheel.getCurrentTick()) {
+            occurrence = event.getNextOccurrence(occurrence.get().plusDays(1));
+        }
+        if (occurrence.isEmpty()) {
+            return;
+        }
+
+        item.occurrence = occurrence.get();
+        Reminder reminder = Reminder.ofEvent(event, item.occurrence, item.projectName);
+        schedule(item, reminder, eventLeadTimes, isStarting);
+        if (event.getRecurrence().isRepeating()) {
+            item.timeouts.add(wheel.schedule(toTick(reminder.getDueAt()), new Entry(item, null)));
+        }
+    }
+
+    /**
+     * Schedules {@code reminder} at each of {@code leadTimes} before it is due that has not passed.
+     * If the service is starting, a reminder whose time has passed but which is not due yet is kept as missed.
+     */
+    private void schedule(Item item, Reminder reminder, List<Duration> leadTimes, boolean isStarting) {
+        long dueTick = toTick(reminder.getDueAt());
+        boolean isMissed = false;
+        for (Duration leadTime : leadTimes) {
+            long reminderTick = toTick(reminder.getDueAt().minus(leadTime));
+            if (reminderTick > wheel.getCurrentTick()) {
+                item.timeouts.add(wheel.schedule(reminderTick, new Entry(item, reminder)));
+            } else if (isStarting && dueTick > wheel.getCurrentTick()) {
+                isMissed = true;
+            }
+        }
+
+        if (isMissed) {
+            missedReminders.add(reminder);
+        }
+    }
+
+    private long toTick(LocalDateTime dateTime) {
+        return toTick(dateTime.atZone(clock.getZone()).toInstant());
+    }
+
+    private static long toTick(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), SECONDS_PER_TICK);
+    }
+
+    private static List<Duration> longestFirst(List<Duration> leadTimes) {
+        return leadTimes.stream().distinct().sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+    }
+
+    /**
+     * A deadline or event with reminders waiting in the wheel.
+     */
+    private static class Item {
+        private final Object key;
+        private final ProjectName projectName;
+        private final List<TimerWheel.Timeout<Entry>> timeouts = new ArrayList<>();
+        private LocalDate occurrence;
+
+        Item(Object key, ProjectName projectName) {
+            this.key = key;
+            this.projectName = projectName;
+        }
+    }
+
+    /**
+     * A reminder waiting in the wheel, or the start of an occurrence of a repeating event if there is no reminder.
+     */
+    private static class Entry {
+        private final Item item;
+        private final Reminder reminder;
+
+        Entry(Item item, Reminder reminder) {
+            this.item = item;
+            this.reminder = reminder;
+        }
+    }
+
+    /**
+     * The listeners of the events and deadlines of a single project.
+     */
+    private class ProjectListeners {
+        private final ListChangeListener<Event> eventsListener;
+        private final ListChangeListener<CompletableDeadline> deadlinesListener;
+
+        ProjectListeners(Project project) {
+            eventsListener = change -> {
+                synchronized (ReminderService.this) {
+                    while (change.next()) {
+                        if (change.wasPermutated()) {
+                            continue;
+                        }
+
+                        change.getRemoved().forEach(ReminderService.this::remove);
+                        change.getAddedSubList().forEach(event -> addEvent(project, event, false));
+                    }
+                }
+            };
+            deadlinesListener = change -> {
+                synchronized (ReminderService.this) {
+                    while (change.next()) {
+                        if (change.wasPermutated()) {
+                            continue;
+                        }
+
+                        change.getRemoved().forEach(ReminderService.this::remove);
+                        change.getAddedSubList().forEach(deadline -> addDeadline(project, deadline, false));
+                    }
+                }
+            };
+        }
+    }
+}
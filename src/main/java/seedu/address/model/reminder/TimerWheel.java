@@ -0,0 +1,132 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A hashed timer wheel of tasks that are due at whole ticks.
+ * A task due at tick {@code t} is kept in bucket {@code t mod wheelSize}, so moving the wheel on by one tick only
+ * looks at the tasks of one bucket, however many tasks are pending. A task due more than one turn of the wheel
+ * away stays in its bucket until its turn comes round. Adding and cancelling a task take constant time.
+ * Not thread-safe.
+ *
+ * @param <T> The type of the tasks.
+ */
+class TimerWheel<T> {
+
+    private final List<Set<Timeout<T>>> buckets;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates an empty {@code TimerWheel} of {@code wheelSize} buckets, which has moved up to {@code currentTick}.
+     *
+     * @param wheelSize The number of buckets, a power of two.
+     * @param currentTick The last tick whose tasks are taken to be done.
+     */
+    TimerWheel(int wheelSize, long currentTick) {
+        checkArgument(wheelSize > 0 && Integer.bitCount(wheelSize) == 1, "The wheel size must be a power of two.");
+
+        buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new LinkedHashSet<>());
+        }
+        mask = wheelSize - 1;
+        this.currentTick = currentTick;
+    }
+
+    /**
+     * Returns the last tick the wheel has moved up to.
+     */
+    long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Returns the number of tasks that are waiting to be due.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code task}, due at {@code tick}. A task due at or before the current tick is due at the next tick.
+     *
+     * @return The {@code Timeout} that cancels the task.
+     */
+    Timeout<T> schedule(long tick, T task) {
+        requireNonNull(task);
+
+        Timeout<T> timeout = new Timeout<>(Math.max(tick, currentTick + 1), task);
+        bucketOf(timeout.tick).add(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Removes the task of {@code timeout} if it is still waiting. Does nothing if it is already due or cancelled.
+     */
+    void cancel(Timeout<T> timeout) {
+        requireNonNull(timeout);
+
+        if (bucketOf(timeout.tick).remove(timeout)) {
+            size--;
+        }
+    }
+
+    /**
+     * Moves the wheel on to {@code tick}, removing the tasks due up to it.
+     * Going through more than a full turn only looks at every bucket once.
+     *
+     * @return The tasks that are now due, in the order of the ticks they were due at.
+     */
+    List<T> advanceTo(long tick) {
+        long lastTick = Math.min(tick, currentTick + buckets.size());
+        List<Timeout<T>> dueTimeouts = new ArrayList<>();
+        for (long t = currentTick + 1; t <= lastTick; t++) {
+            Iterator<Timeout<T>> bucket = bucketOf(t).iterator();
+            while (bucket.hasNext()) {
+                Timeout<T> timeout = bucket.next();
+                if (timeout.tick <= tick) {
+                    bucket.remove();
+                    dueTimeouts.add(timeout);
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, tick);
+        size -= dueTimeouts.size();
+
+        dueTimeouts.sort((first, second) -> Long.compare(first.tick, second.tick));
+        List<T> dueTasks = new ArrayList<>(dueTimeouts.size());
+        dueTimeouts.forEach(timeout -> dueTasks.add(timeout.task));
+        return dueTasks;
+    }
+
+    private Set<Timeout<T>> bucketOf(long tick) {
+        return buckets.get((int) (tick & mask));
+    }
+
+    /**
+     * A task waiting in a {@code TimerWheel}.
+     */
+    static class Timeout<T> {
+        private final long tick;
+        private final T task;
+
+        private Timeout(long tick, T task) {
+            this.tick = tick;
+            this.task = task;
+        }
+
+        T getTask() {
+            return task;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.project.Project;
+import seedu.address.model.task.CompletableDeadline;
+import seedu.address.model.task.CompletableTodo;
+import seedu.address.model.task.repeatable.Event;
+
+/**
+ * A live substring index over the names of all projects, and the groupmate names and event, deadline and todo
+ * descriptions within them.
+ * The index subscribes to the projects list and to the lists of every project. When one of the lists of a project
+ * changes, only the items added to and removed from it are indexed and unindexed.
+ * The positions of the items in their lists, and of the projects in the list of shown projects, are worked out
+ * when first needed after a list changes, so looking them up for a hit takes constant time.
+ * Searches may run on other threads as long as the indexed lists do not change.
+ * An index of lists that never change, such as those of a snapshot, does not subscribe to them, so it does not stay
+ * reachable from projects that are shared with later snapshots.
+ */
+public class GlobalSearchIndex {
+
+    private static final Comparator<SearchHit> HIT_ORDER = Comparator
+            .comparing((SearchHit hit) -> hit.getProjectIndex().getZeroBased())
+            .thenComparing(SearchHit::getType)
+            .thenComparing(hit -> hit.getItemIndex().map(Index::getZeroBased).orElse(-1));
+
+    private final TrigramIndex<Entry> index = new TrigramIndex<>();
+    private final Map<Project, ProjectEntries> projectEntries = new IdentityHashMap<>();
+    private final boolean isLive;
+    private final ListChangeListener<Project> shownProjectsListener = change -> shownProjectIndexes = null;
+    private ObservableList<Project> shownProjects;
+    private Map<Project, Index> shownProjectIndexes;
+
+    /**
+     * Creates a {@code GlobalSearchIndex} over {@code projects}.
+     *
+     * @param projects The projects to index.
+     */
+    public GlobalSearchIndex(ObservableList<Project> projects) {
+        this(projects, true);
+    }
+
+    private GlobalSearchIndex(ObservableList<Project> projects, boolean isLive) {
+        requireNonNull(projects);
+
+        this.isLive = isLive;
+        projects.forEach(this::track);
+        if (isLive) {
+            projects.addListener(this::onProjectsChanged);
+        }
+    }
+
+    /**
+     * Returns a {@code GlobalSearchIndex} over {@code projects}, which must never change, and neither may the lists
+     * of the projects or the lists of shown projects searched. The index adds no listeners to any of them.
+     */
+    public static GlobalSearchIndex ofUnchanging(ObservableList<Project> projects) {
+        return new GlobalSearchIndex(projects, false);
+    }
+
+    /**
+     * Returns the items whose text contains {@code query}, ignoring case, ordered by project and then by list.
+     * Only items of projects in {@code shownProjects} are returned, with project indexes relative to it.
+     *
+     * @param query The text to search for.
+     * @param shownProjects The projects as displayed to the user.
+     */
+    public synchronized List<SearchHit> search(String query, ObservableList<Project> shownProjects) {
+        requireAllNonNull(query, shownProjects);
+
+        Map<Project, Index> projectIndexes = getShownProjectIndexes(shownProjects);
+        List<SearchHit> hits = new ArrayList<>();
+        for (Entry entry : index.search(query)) {
+            Index projectIndex = projectIndexes.get(entry.project);
+            if (projectIndex != null) {
+                hits.add(entry.toHit(projectIndex));
+            }
+        }
+        hits.sort(HIT_ORDER);
+        return hits;
+    }
+
+    /**
+     * Returns the positions of the projects in {@code shownProjects}, which are kept until the list changes or
+     * another list is searched.
+     */
+    private Map<Project, Index> getShownProjectIndexes(ObservableList<Project> shownProjects) {
+        if (shownProjects != this.shownProjects) {
+            if (this.shownProjects != null && isLive) {
+                this.shownProjects.removeListener(shownProjectsListener);
+            }
+            this.shownProjects = shownProjects;
+            if (isLive) {
+                shownProjects.addListener(shownProjectsListener);
+            }
+            shownProjectIndexes = null;
+        }
+
+        if (shownProjectIndexes == null) {
+            shownProjectIndexes = new IdentityHashMap<>();
+            for (int i = 0; i < shownProjects.size(); i++) {
+                shownProjectIndexes.put(shownProjects.get(i), Index.fromZeroBased(i));
+            }
+        }
+        return shownProjectIndexes;
+    }
+
+    private void onProjectsChanged(ListChangeListener.Change<? extends Project> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+
+            change.getRemoved().forEach(this::untrack);
+            change.getAddedSubList().forEach(this::track);
+        }
+    }
+
+    private void track(Project project) {
+        ProjectEntries entries = new ProjectEntries(project);
+        projectEntries.put(project, entries);
+        entries.attach();
+    }
+
+    private void untrack(Project project) {
+        ProjectEntries entries = projectEntries.remove(project);
+        if (entries != null) {
+            entries.detach();
+        }
+    }
+
+    /**
+     * An indexed item of a project.
+     */
+    private static class Entry {
+        private final Project project;
+        private final SearchHitType type;
+        private final ProjectEntries.ListEntries<?> listEntries;
+        private final Object item;
+        private final String text;
+
+        /**
+         * Creates an {@code Entry} for {@code item}, whose entries in its list of {@code project} are
+         * {@code listEntries}.
+         * {@code listEntries} and {@code item} are null for the entry of the project itself.
+         */
+        Entry(Project project, SearchHitType type, ProjectEntries.ListEntries<?> listEntries, Object item,
+                String text) {
+            this.project = project;
+            this.type = type;
+            this.listEntries = listEntries;
+            this.item = item;
+            this.text = text;
+        }
+
+        SearchHit toHit(Index projectIndex) {
+            Index itemIndex = listEntries == null ? null : Index.fromZeroBased(listEntries.indexOf(item));
+            return new SearchHit(type, projectIndex, project.getProjectName(), itemIndex, text);
+        }
+    }
+
+    /**
+     * The entries contributed by a single project.
+     */
+    private class ProjectEntries {
+        private final Project project;
+        private final Entry projectEntry;
+        private final List<ListEntries<?>> listEntries = new ArrayList<>();
+
+        ProjectEntries(Project project) {
+            this.project = project;
+            this.projectEntry = new Entry(project, SearchHitType.PROJECT, null, null,
+                    project.getProjectName().toString());
+            listEntries.add(new ListEntries<>(SearchHitType.GROUPMATE, project.getSortedGroupmates(),
+                    groupmate -> groupmate.getName().fullName));
+            listEntries.add(new ListEntries<>(SearchHitType.EVENT, project.getSortedEvents(), Event::getDescription));
+            listEntries.add(new ListEntries<>(SearchHitType.DEADLINE, project.getSortedDeadlines(),
+                    CompletableDeadline::getDescription));
+            listEntries.add(new ListEntries<>(SearchHitType.TODO, project.getSortedTodos(),
+                    CompletableTodo::getDescription));
+        }
+
+        void attach() {
+            index.add(projectEntry, projectEntry.text);
+            listEntries.forEach(ListEntries::attach);
+        }
+
+        void detach() {
+            index.remove(projectEntry);
+            listEntries.forEach(ListEntries::detach);
+        }
+
+        /**
+         * The entries of one list of the project.
+         */
+        private class ListEntries<T> {
+            private final SearchHitType type;
+            private final ObservableList<T> items;
+            private final Function<T, String> textOf;
+            private final ListChangeListener<T> listener = this::onChanged;
+            private final Map<T, Entry> entries = new IdentityHashMap<>();
+            // the positions of the items, worked out when first needed after the list changes
+            private Map<Object, Integer> positions;
+
+            ListEntries(SearchHitType type, ObservableList<T> items, Function<T, String> textOf) {
+                this.type = type;
+                this.items = items;
+                this.textOf = textOf;
+            }
+
+            void attach() {
+                if (isLive) {
+                    items.addListener(listener);
+                }
+                items.forEach(this::add);
+            }
+
+            void detach() {
+                if (isLive) {
+                    items.removeListener(listener);
+                }
+                entries.values().forEach(index::remove);
+                entries.clear();
+                positions = null;
+            }
+
+            private void onChanged(ListChangeListener.Change<? extends T> change) {
+                positions = null;
+                while (change.next()) {
+                    if (change.wasPermutated() || change.wasUpdated()) {
+                        continue;
+                    }
+
+                    change.getRemoved().forEach(this::remove);
+                    change.getAddedSubList().forEach(this::add);
+                }
+            }
+
+            private void add(T item) {
+                Entry entry = new Entry(project, type, this, item, textOf.apply(item));
+                index.add(entry, entry.text);
+                entries.put(item, entry);
+            }
+
+            private void remove(T item) {
+                Entry entry = entries.remove(item);
+                if (entry != null) {
+                    index.remove(entry);
+                }
+            }
+
+            /**
+             * Returns the position of {@code item} in the list, comparing by identity.
+             */
+            int indexOf(Object item) {
+                if (positions == null) {
+                    positions = new IdentityHashMap<>();
+                    for (int i = 0; i < items.size(); i++) {
+                        positions.put(items.get(i), i);
+                    }
+                }
+                return positions.getOrDefault(item, -1);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.project.ProjectName;
+
+/**
+ * An item found by a search across projects, with the displayed indexes needed to act on it.
+ * Guarantees: immutable.
+ */
+public class SearchHit {
+    private final SearchHitType type;
+    private final Index projectIndex;
+    private final ProjectName projectName;
+    private final Index itemIndex;
+    private final String text;
+
+    /**
+     * Creates a {@code SearchHit}.
+     *
+     * @param type The kind of item found.
+     * @param projectIndex The index of the project in the displayed project list.
+     * @param projectName The name of the project.
+     * @param itemIndex The index of the item within its list in the project, or null if the hit is the project.
+     * @param text The text of the item that matched.
+     */
+    public SearchHit(SearchHitType type, Index projectIndex, ProjectName projectName, Index itemIndex, String text) {
+        requireAllNonNull(type, projectIndex, projectName, text);
+        this.type = type;
+        this.projectIndex = projectIndex;
+        this.projectName = projectName;
+        this.itemIndex = itemIndex;
+        this.text = text;
+    }
+
+    public SearchHitType getType() {
+        return type;
+    }
+
+    public Index getProjectIndex() {
+        return projectIndex;
+    }
+
+    public ProjectName getProjectName() {
+        return projectName;
+    }
+
+    /**
+     * Returns the index of the item within its list in the project, or an empty {@code Optional} if the hit is the
+     * project itself.
+     */
+    public Optional<Index> getItemIndex() {
+        return Optional.ofNullable(itemIndex);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SearchHit)) {
+            return false;
+        }
+
+        SearchHit otherHit = (SearchHit) other;
+        return type == otherHit.type
+                && projectIndex.equals(otherHit.projectIndex)
+                && projectName.equals(otherHit.projectName)
+                && Objects.equals(itemIndex, otherHit.itemIndex)
+                && text.equals(otherHit.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, projectIndex.getZeroBased(), projectName,
+                itemIndex == null ? null : itemIndex.getZeroBased(), text);
+    }
+
+    @Override
+    public String toString() {
+        if (itemIndex == null) {
+            return type + " " + projectIndex.getOneBased() + ": " + text;
+        }
+        return type + " " + itemIndex.getOneBased() + " of project " + projectIndex.getOneBased()
+                + " (" + projectName + "): " + text;
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.model.search;
+
+/**
+ * Represents the kind of item found by a search across projects.
+ */
+public enum SearchHitType {
+    PROJECT("Project"),
+    GROUPMATE("Groupmate"),
+    EVENT("Event"),
+    DEADLINE("Deadline"),
+    TODO("Todo");
+
+    private final String label;
+
+    SearchHitType(String label) {
+        this.label = label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
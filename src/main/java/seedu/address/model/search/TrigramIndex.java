@@ -0,0 +1,115 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of items by the trigrams (substrings of three characters) of their text, for case-insensitive substring
+ * search. Items are tracked by identity.
+ *
+ * @param <T> The type of the indexed items.
+ */
+public class TrigramIndex<T> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<T, String> texts = new IdentityHashMap<>();
+    private final Map<String, Set<T>> postings = new HashMap<>();
+
+    /**
+     * Adds {@code item} with the given {@code text} to the index, replacing its previous text if any.
+     */
+    public void add(T item, String text) {
+        requireAllNonNull(item, text);
+
+        remove(item);
+        String normalizedText = normalize(text);
+        texts.put(item, normalizedText);
+        for (String trigram : trigramsOf(normalizedText)) {
+            postings.computeIfAbsent(trigram, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item} from the index, if it is in the index.
+     */
+    public void remove(T item) {
+        requireNonNull(item);
+
+        String normalizedText = texts.remove(item);
+        if (normalizedText == null) {
+            return;
+        }
+
+        for (String trigram : trigramsOf(normalizedText)) {
+            Set<T> posting = postings.get(trigram);
+            if (posting != null && posting.remove(item) && posting.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of items in the index.
+     */
+    public int size() {
+        return texts.size();
+    }
+
+    /**
+     * Returns the items whose text contains {@code query}, ignoring case, in no particular order.
+     */
+    public List<T> search(String query) {
+        requireNonNull(query);
+
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.length() < GRAM_LENGTH) {
+            return filter(texts.keySet(), normalizedQuery);
+        }
+
+        Set<T> smallest = null;
+        for (String trigram : trigramsOf(normalizedQuery)) {
+            Set<T> posting = postings.get(trigram);
+            if (posting == null) {
+                return new ArrayList<>();
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+
+        // every trigram of the query is in the text, but they may not be consecutive
+        return filter(smallest, normalizedQuery);
+    }
+
+    private List<T> filter(Set<T> candidates, String normalizedQuery) {
+        List<T> matches = new ArrayList<>();
+        for (T candidate : candidates) {
+            if (texts.get(candidate).contains(normalizedQuery)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> trigramsOf(String normalizedText) {
+        List<String> trigrams = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= normalizedText.length(); i++) {
+            trigrams.add(normalizedText.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
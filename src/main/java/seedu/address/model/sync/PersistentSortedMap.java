@@ -0,0 +1,196 @@
+package seedu.address.model.sync;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A sorted map that cannot be changed. Putting or removing a key returns a new map, which shares every node off the
+ * path to the key with this map, so both take time in the logarithm of the size of the map.
+ * Guarantees: immutable.
+ */
+class PersistentSortedMap<K extends Comparable<? super K>, V> {
+
+    private static final PersistentSortedMap<?, ?> EMPTY = new PersistentSortedMap<>(null);
+
+    private final Node<K, V> root;
+
+    private PersistentSortedMap(Node<K, V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty map.
+     */
+    @SuppressWarnings("unchecked")
+    static <K extends Comparable<? super K>, V> PersistentSortedMap<K, V> empty() {
+        return (PersistentSortedMap<K, V>) EMPTY;
+    }
+
+    int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if there is none.
+     */
+    V get(K key) {
+        requireNonNull(key);
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = key.compareTo(node.key);
+            if (comparison == 0) {
+                return node.value;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}, and the other keys as in this map.
+     */
+    PersistentSortedMap<K, V> put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        return new PersistentSortedMap<>(put(root, key, value));
+    }
+
+    /**
+     * Returns a map without {@code key}, and the other keys as in this map.
+     */
+    PersistentSortedMap<K, V> remove(K key) {
+        requireNonNull(key);
+        Node<K, V> newRoot = remove(root, key);
+        return newRoot == root ? this : new PersistentSortedMap<>(newRoot);
+    }
+
+    /**
+     * Returns the values of every key, in the order of the keys.
+     */
+    List<V> values() {
+        List<V> values = new ArrayList<>(size());
+        addValuesAfter(root, null, values);
+        return values;
+    }
+
+    /**
+     * Returns the values of the keys after {@code fromKey}, in the order of the keys.
+     * Only the nodes of those keys and their ancestors are visited.
+     */
+    List<V> valuesAfter(K fromKey) {
+        requireNonNull(fromKey);
+        List<V> values = new ArrayList<>();
+        addValuesAfter(root, fromKey, values);
+        return values;
+    }
+
+    private static <K extends Comparable<? super K>, V> void addValuesAfter(Node<K, V> node, K fromKey,
+            List<V> values) {
+        if (node == null) {
+            return;
+        }
+
+        boolean isAfter = fromKey == null || node.key.compareTo(fromKey) > 0;
+        if (isAfter) {
+            addValuesAfter(node.left, fromKey, values);
+            values.add(node.value);
+        }
+        addValuesAfter(node.right, fromKey, values);
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            return balance(node.key, node.value, put(node.left, key, value), node.right);
+        } else if (comparison > 0) {
+            return balance(node.key, node.value, node.left, put(node.right, key, value));
+        }
+        return new Node<>(key, value, node.left, node.right);
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> remove(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            Node<K, V> left = remove(node.left, key);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        } else if (comparison > 0) {
+            Node<K, V> right = remove(node.right, key);
+            return right == node.right ? node : balance(node.key, node.value, node.left, right);
+        }
+
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<K, V> next = node.right;
+        while (next.left != null) {
+            next = next.left;
+        }
+        return balance(next.key, next.value, node.left, remove(node.right, next.key));
+    }
+
+    /**
+     * Returns a node with {@code key} and {@code value} over {@code left} and {@code right}, rotated so that the
+     * heights of its subtrees differ by at most one. The heights of {@code left} and {@code right} must differ by at
+     * most two.
+     */
+    private static <K extends Comparable<? super K>, V> Node<K, V> balance(K key, V value, Node<K, V> left,
+            Node<K, V> right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            return new Node<>(left.right.key, left.right.value, new Node<>(left.key, left.value, left.left,
+                    left.right.left), new Node<>(key, value, left.right.right, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            return new Node<>(right.left.key, right.left.value, new Node<>(key, value, left, right.left.left),
+                    new Node<>(right.key, right.value, right.left.right, right.right));
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    private static int heightOf(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int sizeOf(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A node of the tree of a map, which is never changed once made.
+     */
+    private static class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int height;
+        private final int size;
+
+        Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            height = Math.max(heightOf(left), heightOf(right)) + 1;
+            size = sizeOf(left) + sizeOf(right) + 1;
+        }
+    }
+}
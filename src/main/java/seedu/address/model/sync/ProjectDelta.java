@@ -0,0 +1,176 @@
+package seedu.address.model.sync;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.model.project.ProjectName;
+
+/**
+ * The changes to the items of a {@code Project} that one replica sends to another.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class ProjectDelta {
+
+    private final ProjectName projectName;
+    private final String replicaId;
+    private final long upTo;
+    private final Map<String, Long> received;
+    private final List<Change> changes;
+
+    /**
+     * Constructs a {@code ProjectDelta}.
+     *
+     * @param projectName The name of the project.
+     * @param replicaId The id of the replica that sent the delta.
+     * @param upTo The stamp of the sending replica up to which the delta holds its changes.
+     * @param received For each replica, the stamp of that replica up to which the sending replica received its
+     *     changes.
+     * @param changes The changed records.
+     */
+    public ProjectDelta(ProjectName projectName, String replicaId, long upTo, Map<String, Long> received,
+            List<Change> changes) {
+        requireAllNonNull(projectName, replicaId, received, changes);
+
+        this.projectName = projectName;
+        this.replicaId = replicaId;
+        this.upTo = upTo;
+        this.received = Map.copyOf(received);
+        this.changes = List.copyOf(changes);
+    }
+
+    public ProjectName getProjectName() {
+        return projectName;
+    }
+
+    public String getReplicaId() {
+        return replicaId;
+    }
+
+    public long getUpTo() {
+        return upTo;
+    }
+
+    public Map<String, Long> getReceived() {
+        return received;
+    }
+
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ProjectDelta)) {
+            return false;
+        }
+
+        ProjectDelta otherDelta = (ProjectDelta) other;
+        return otherDelta.projectName.equals(projectName)
+                && otherDelta.replicaId.equals(replicaId)
+                && otherDelta.upTo == upTo
+                && otherDelta.received.equals(received)
+                && otherDelta.changes.equals(changes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(projectName, replicaId, upTo, received, changes);
+    }
+
+    /**
+     * The items of one kind that share an identity, as the sending replica keeps them. No items means that they were
+     * deleted.
+     */
+    public static class Change {
+
+        public static final String MESSAGE_CONSTRAINTS = "The items of a change must be distinct, of the kind of "
+                + "the change and have the identity of the change.";
+
+        private final RecordKind kind;
+        private final String identity;
+        private final VersionVector version;
+        private final String writer;
+        private final List<Object> items;
+
+        /**
+         * Constructs a {@code Change}.
+         *
+         * @param kind The kind of the items.
+         * @param identity The identity the items share.
+         * @param version The changes to the items that the sending replica has seen.
+         * @param writer The replica that made the change the sending replica keeps.
+         * @param items The items, which must be distinct and of {@code kind} with {@code identity}.
+         */
+        public Change(RecordKind kind, String identity, VersionVector version, String writer, List<?> items) {
+            requireAllNonNull(kind, identity, version, writer, items);
+            checkArgument(isValidItems(kind, identity, items), MESSAGE_CONSTRAINTS);
+
+            this.kind = kind;
+            this.identity = identity;
+            this.version = version;
+            this.writer = writer;
+            this.items = List.copyOf(items);
+        }
+
+        private static boolean isValidItems(RecordKind kind, String identity, List<?> items) {
+            try {
+                return new HashSet<>(items).size() == items.size()
+                        && items.stream().allMatch(item -> kind.identityOf(item).equals(identity));
+            } catch (ClassCastException e) {
+                return false;
+            }
+        }
+
+        public RecordKind getKind() {
+            return kind;
+        }
+
+        public String getIdentity() {
+            return identity;
+        }
+
+        public VersionVector getVersion() {
+            return version;
+        }
+
+        public String getWriter() {
+            return writer;
+        }
+
+        public List<Object> getItems() {
+            return items;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Change)) {
+                return false;
+            }
+
+            Change otherChange = (Change) other;
+            return otherChange.kind == kind
+                    && otherChange.identity.equals(identity)
+                    && otherChange.version.equals(version)
+                    && otherChange.writer.equals(writer)
+                    && otherChange.items.equals(items);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, identity, version, writer, items);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.sync;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.stream.Collectors;
+
+import seedu.address.model.groupmate.Groupmate;
+import seedu.address.model.groupmate.Role;
+import seedu.address.model.task.CompletableDeadline;
+import seedu.address.model.task.CompletableTodo;
+import seedu.address.model.task.repeatable.Event;
+
+/**
+ * The kinds of items of a {@code Project} that are synced.
+ * Items of a kind are grouped into records by their identity, which is what an update of the item usually keeps.
+ * An item whose identity changes is deleted from one record and added to another.
+ */
+public enum RecordKind {
+    EVENT, TODO, DEADLINE, GROUPMATE;
+
+    /**
+     * Returns the identity of {@code item}, which must be of this kind: the description of a task, or the name of
+     * a groupmate.
+     */
+    public String identityOf(Object item) {
+        requireNonNull(item);
+
+        switch (this) {
+        case EVENT:
+            return ((Event) item).getDescription();
+        case TODO:
+            return ((CompletableTodo) item).getDescription();
+        case DEADLINE:
+            return ((CompletableDeadline) item).getDescription();
+        default:
+            return ((Groupmate) item).getName().toString();
+        }
+    }
+
+    /**
+     * Returns every detail of {@code item}, which must be of this kind, in a form that is the same on every replica.
+     */
+    public String contentOf(Object item) {
+        requireNonNull(item);
+
+        switch (this) {
+        case EVENT:
+            Event event = (Event) item;
+            return event.getDescription() + "|" + event.getDate() + "|" + event.getTime() + "|"
+                    + event.getEndTime().map(Object::toString).orElse("") + "|" + event.getRecurrence();
+        case TODO:
+            CompletableTodo todo = (CompletableTodo) item;
+            return todo.getDescription() + "|" + todo.getIsDone();
+        case DEADLINE:
+            CompletableDeadline deadline = (CompletableDeadline) item;
+            return deadline.getDescription() + "|" + deadline.getBy() + "|" + deadline.getIsDone();
+        default:
+            Groupmate groupmate = (Groupmate) item;
+            return groupmate.getName() + "|" + groupmate.getRoles().stream().map(Role::toString).sorted()
+                    .collect(Collectors.joining(","));
+        }
+    }
+}
@@ -0,0 +1,486 @@
+package seedu.address.model.sync;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.project.DeadlineList;
+import seedu.address.model.project.EventList;
+import seedu.address.model.project.GroupmateList;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.project.TodoList;
+import seedu.address.model.sync.ProjectDelta.Change;
+
+/**
+ * Tracks the changes to the events, todos, deadlines and groupmates of a {@code Project}, so that they can be
+ * exchanged with another replica of the project as deltas.
+ * The items of a kind that share an identity form a record, which has a version vector. The log listens to the
+ * lists of the project and bumps the count of this replica in the vector of a record whenever its items change.
+ * Every record also has a stamp from the clock of this replica, and the records are kept in the order of their
+ * stamps, so a delta to another replica only looks at the records changed since it last received the changes of
+ * this one. The records are kept in persistent maps, which copies of the log share, so copying a log takes constant
+ * time and tracking a change takes time in the logarithm of the number of records, however often the log is copied.
+ * A change in a delta is applied if it has seen every change this replica has. If both replicas changed a record
+ * without seeing the change of the other, the later change wins, and the replica with the greater id breaks ties.
+ * The counts are taken from a clock that never goes back and never falls behind the time, so the counts of this
+ * replica keep going up even if an earlier state of the log is restored.
+ */
+public class SyncLog {
+
+    public static final String MESSAGE_OWN_DELTA = "A delta cannot be imported into the replica it came from.";
+
+    private static final String CONTENT_SEPARATOR = ":";
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    private final String replicaId;
+    private final Clock clock;
+    private final Map<RecordKind, TrackedItems<?>> trackedItems = new EnumMap<>(RecordKind.class);
+
+    // shared with the copies of this log, so they are replaced instead of changed
+    private long lastStamp;
+    private PersistentSortedMap<String, SyncRecord> records = PersistentSortedMap.empty();
+    private PersistentSortedMap<Long, SyncRecord> recordsByStamp = PersistentSortedMap.empty();
+    private Map<String, Long> received;
+    private Map<String, Long> acknowledged;
+
+    private boolean isApplying;
+    private long revision;
+
+    /**
+     * Constructs a {@code SyncLog} over the given lists of a project from its saved {@code state}.
+     * Changes to the items that were not tracked, such as changes made by editing the data file, are recorded as
+     * changes by this replica.
+     */
+    public SyncLog(EventList events, TodoList todos, DeadlineList deadlines, GroupmateList groupmates,
+            SyncState state) {
+        this(events, todos, deadlines, groupmates, state, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a {@code SyncLog} like {@link #SyncLog(EventList, TodoList, DeadlineList, GroupmateList,
+     * SyncState)}, which stamps changes with the time given by {@code clock}.
+     */
+    public SyncLog(EventList events, TodoList todos, DeadlineList deadlines, GroupmateList groupmates,
+            SyncState state, Clock clock) {
+        requireAllNonNull(events, todos, deadlines, groupmates, state, clock);
+
+        this.replicaId = state.getReplicaId();
+        this.clock = clock;
+        lastStamp = state.getClock();
+        state.getRecords().forEach(this::putRecord);
+        received = Map.copyOf(state.getReceived());
+        acknowledged = Map.copyOf(state.getAcknowledged());
+
+        track(events, todos, deadlines, groupmates);
+        trackedItems.values().forEach(TrackedItems::settleAll);
+    }
+
+    /**
+     * Constructs a copy of {@code source} over copies of the lists of its project.
+     */
+    private SyncLog(SyncLog source, EventList events, TodoList todos, DeadlineList deadlines,
+            GroupmateList groupmates) {
+        replicaId = source.replicaId;
+        clock = source.clock;
+        lastStamp = source.lastStamp;
+        records = source.records;
+        recordsByStamp = source.recordsByStamp;
+        received = source.received;
+        acknowledged = source.acknowledged;
+
+        track(events, todos, deadlines, groupmates);
+    }
+
+    private void track(EventList events, TodoList todos, DeadlineList deadlines, GroupmateList groupmates) {
+        trackedItems.put(RecordKind.EVENT, new TrackedItems<>(RecordKind.EVENT, events.getSortedEventList(),
+                events::replaceEvents));
+        trackedItems.put(RecordKind.TODO, new TrackedItems<>(RecordKind.TODO, todos.getSortedTodos(),
+                todos::replaceTodos));
+        trackedItems.put(RecordKind.DEADLINE, new TrackedItems<>(RecordKind.DEADLINE,
+                deadlines.getSortedDeadlineList(), deadlines::replaceDeadlines));
+        trackedItems.put(RecordKind.GROUPMATE, new TrackedItems<>(RecordKind.GROUPMATE,
+                groupmates.getSortedGroupmates(), groupmates::replaceGroupmates));
+    }
+
+    /**
+     * Returns a copy of this log over {@code events}, {@code todos}, {@code deadlines} and {@code groupmates}, which
+     * must hold the same items as the lists of this log.
+     * The logs share their records, which neither copies when it changes.
+     */
+    public SyncLog getCopy(EventList events, TodoList todos, DeadlineList deadlines, GroupmateList groupmates) {
+        requireAllNonNull(events, todos, deadlines, groupmates);
+        return new SyncLog(this, events, todos, deadlines, groupmates);
+    }
+
+    public String getReplicaId() {
+        return replicaId;
+    }
+
+    /**
+     * Returns a count that goes up whenever the items of the project or the state of this log change, including
+     * when the items are only reordered.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Returns true if {@code other} is this log, or a copy of it or of a log it was copied from, and neither has
+     * changed since the copy was taken. A change replaces the records of a log, so this takes constant time.
+     */
+    public boolean isSameVersionAs(SyncLog other) {
+        requireNonNull(other);
+        return records == other.records && received == other.received && acknowledged == other.acknowledged
+                && lastStamp == other.lastStamp;
+    }
+
+    /**
+     * Returns the record of the items of {@code kind} with {@code identity}, if they were ever tracked.
+     */
+    public Optional<SyncRecord> getRecord(RecordKind kind, String identity) {
+        requireAllNonNull(kind, identity);
+        return Optional.ofNullable(records.get(keyOf(kind, identity)));
+    }
+
+    /**
+     * Returns the state of this log to be saved.
+     */
+    public SyncState getState() {
+        return new SyncState(replicaId, lastStamp, recordsByStamp.values(), received, acknowledged);
+    }
+
+    /**
+     * Returns every change, for a replica this replica has not heard from.
+     */
+    public ProjectDelta exportDelta(ProjectName projectName) {
+        requireNonNull(projectName);
+        return exportDelta(projectName, 0);
+    }
+
+    /**
+     * Returns the changes that the replica with {@code targetReplicaId} has not told this replica it received,
+     * which are every change if this replica has not heard from it.
+     */
+    public ProjectDelta exportDelta(ProjectName projectName, String targetReplicaId) {
+        requireAllNonNull(projectName, targetReplicaId);
+        return exportDelta(projectName, acknowledged.getOrDefault(targetReplicaId, 0L));
+    }
+
+    private ProjectDelta exportDelta(ProjectName projectName, long since) {
+        List<Change> changes = new ArrayList<>();
+        for (SyncRecord record : recordsByStamp.valuesAfter(since)) {
+            changes.add(new Change(record.getKind(), record.getIdentity(), record.getVersion(), record.getWriter(),
+                    trackedItems.get(record.getKind()).getItems(record.getIdentity())));
+        }
+        return new ProjectDelta(projectName, replicaId, lastStamp, received, changes);
+    }
+
+    /**
+     * Applies the changes in {@code delta} that this replica has not seen.
+     * The items of each kind that change are replaced in one go, so the lists are only gone through once.
+     *
+     * @throws IllegalArgumentException if {@code delta} came from this replica.
+     */
+    public ImportResult importDelta(ProjectDelta delta) {
+        requireNonNull(delta);
+        checkArgument(!delta.getReplicaId().equals(replicaId), MESSAGE_OWN_DELTA);
+
+        revision++;
+        Map<RecordKind, List<Change>> changesToApply = new EnumMap<>(RecordKind.class);
+        int appliedCount = 0;
+        int conflictCount = 0;
+        for (Change change : delta.getChanges()) {
+            // an earlier state of this log may have been restored after the change was sent
+            lastStamp = Math.max(lastStamp, change.getVersion().get(replicaId));
+
+            SyncRecord record = records.get(keyOf(change.getKind(), change.getIdentity()));
+            VersionVector version = record == null ? VersionVector.EMPTY : record.getVersion();
+            switch (change.getVersion().compareTo(version)) {
+            case AFTER:
+                appliedCount++;
+                changesToApply.computeIfAbsent(change.getKind(), kind -> new ArrayList<>()).add(change);
+                putRecord(toRecord(change, change.getVersion()));
+                break;
+            case CONCURRENT:
+                conflictCount++;
+                VersionVector mergedVersion = version.merge(change.getVersion());
+                if (isLaterWrite(change, record)) {
+                    changesToApply.computeIfAbsent(change.getKind(), kind -> new ArrayList<>()).add(change);
+                    putRecord(toRecord(change, mergedVersion));
+                } else {
+                    // sent back with the merged version, so the other replica takes this change too
+                    putRecord(new SyncRecord(record.getKind(), record.getIdentity(), mergedVersion,
+                            record.getWriter(), nextStamp(), record.getFingerprint(), record.isDeleted()));
+                }
+                break;
+            default:
+                break;
+            }
+        }
+
+        changesToApply.forEach((kind, changes) -> trackedItems.get(kind).apply(changes));
+        received = withLatest(received, delta.getReplicaId(), delta.getUpTo());
+        acknowledged = withLatest(acknowledged, delta.getReplicaId(), delta.getReceived().getOrDefault(replicaId,
+                0L));
+        return new ImportResult(appliedCount, conflictCount, delta.getChanges().size() - appliedCount
+                - conflictCount);
+    }
+
+    private SyncRecord toRecord(Change change, VersionVector version) {
+        List<Object> items = change.getItems();
+        return new SyncRecord(change.getKind(), change.getIdentity(), version, change.getWriter(), nextStamp(),
+                fingerprintOf(change.getKind(), items), items.isEmpty());
+    }
+
+    /**
+     * Returns true if {@code change} was made after the change kept in {@code record}.
+     */
+    private static boolean isLaterWrite(Change change, SyncRecord record) {
+        long changeTime = change.getVersion().get(change.getWriter());
+        long recordTime = record.getVersion().get(record.getWriter());
+        if (changeTime != recordTime) {
+            return changeTime > recordTime;
+        }
+        return change.getWriter().compareTo(record.getWriter()) > 0;
+    }
+
+    /**
+     * Records a change by this replica to the items of {@code kind} with {@code identity}, which are now
+     * {@code items}, unless their content is the same as in the record.
+     */
+    private void settle(RecordKind kind, String identity, List<?> items) {
+        SyncRecord record = records.get(keyOf(kind, identity));
+        String fingerprint = fingerprintOf(kind, items);
+        boolean isDeleted = items.isEmpty();
+        if (record == null
+                ? isDeleted
+                : record.isDeleted() == isDeleted && record.getFingerprint().equals(fingerprint)) {
+            return;
+        }
+
+        long stamp = nextStamp();
+        VersionVector version = (record == null ? VersionVector.EMPTY : record.getVersion()).with(replicaId, stamp);
+        putRecord(new SyncRecord(kind, identity, version, replicaId, stamp, fingerprint, isDeleted));
+    }
+
+    private long nextStamp() {
+        lastStamp = Math.max(lastStamp + 1, clock.millis());
+        return lastStamp;
+    }
+
+    private void putRecord(SyncRecord record) {
+        String key = keyOf(record.getKind(), record.getIdentity());
+        SyncRecord oldRecord = records.get(key);
+        records = records.put(key, record);
+        if (oldRecord != null) {
+            recordsByStamp = recordsByStamp.remove(oldRecord.getStamp());
+        }
+        recordsByStamp = recordsByStamp.put(record.getStamp(), record);
+    }
+
+    /**
+     * Returns a copy of {@code stamps} with the stamp of {@code replicaId} raised to {@code stamp}.
+     * There is a stamp for each replica heard from, which are few, so the stamps are simply copied.
+     */
+    private static Map<String, Long> withLatest(Map<String, Long> stamps, String replicaId, long stamp) {
+        Map<String, Long> newStamps = new HashMap<>(stamps);
+        newStamps.merge(replicaId, stamp, Math::max);
+        return Collections.unmodifiableMap(newStamps);
+    }
+
+    private static String keyOf(RecordKind kind, String identity) {
+        return kind + ":" + identity;
+    }
+
+    /**
+     * Returns a SHA-256 digest of the content of {@code items}, in any order.
+     * Each content is prefixed with its length, so no two lists of contents are encoded the same.
+     */
+    private static String fingerprintOf(RecordKind kind, List<?> items) {
+        String encoding = items.stream().map(kind::contentOf).sorted()
+                .map(content -> content.length() + CONTENT_SEPARATOR + content)
+                .collect(Collectors.joining());
+        try {
+            byte[] digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM)
+                    .digest(encoding.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform must support SHA-256
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * The items of one kind of a project, grouped by their identity.
+     */
+    private class TrackedItems<T> {
+        private final RecordKind kind;
+        private final ObservableList<T> items;
+        private final BiConsumer<List<T>, List<T>> replacer;
+        // built when first needed, as most copies of a project are never changed
+        private Map<String, List<T>> itemsByIdentity;
+
+        TrackedItems(RecordKind kind, ObservableList<T> items, BiConsumer<List<T>, List<T>> replacer) {
+            this.kind = kind;
+            this.items = items;
+            this.replacer = replacer;
+            items.addListener((ListChangeListener<T>) this::onChanged);
+        }
+
+        private void onChanged(ListChangeListener.Change<? extends T> change) {
+            revision++;
+            boolean wasIndexed = itemsByIdentity != null;
+            ensureIndexed();
+
+            Set<String> changedIdentities = new LinkedHashSet<>();
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+
+                for (T item : change.getRemoved()) {
+                    String identity = kind.identityOf(item);
+                    changedIdentities.add(identity);
+                    if (wasIndexed) {
+                        List<T> sameIdentity = itemsByIdentity.get(identity);
+                        sameIdentity.remove(item);
+                        if (sameIdentity.isEmpty()) {
+                            itemsByIdentity.remove(identity);
+                        }
+                    }
+                }
+                for (T item : change.getAddedSubList()) {
+                    String identity = kind.identityOf(item);
+                    changedIdentities.add(identity);
+                    if (wasIndexed) {
+                        itemsByIdentity.computeIfAbsent(identity, unused -> new ArrayList<>(1)).add(item);
+                    }
+                }
+            }
+
+            if (!isApplying) {
+                changedIdentities.forEach(identity -> settle(kind, identity, getItems(identity)));
+            }
+        }
+
+        private void ensureIndexed() {
+            if (itemsByIdentity != null) {
+                return;
+            }
+
+            itemsByIdentity = new HashMap<>();
+            for (T item : items) {
+                itemsByIdentity.computeIfAbsent(kind.identityOf(item), unused -> new ArrayList<>(1)).add(item);
+            }
+        }
+
+        List<T> getItems(String identity) {
+            ensureIndexed();
+            return List.copyOf(itemsByIdentity.getOrDefault(identity, List.of()));
+        }
+
+        /**
+         * Records the items, and the items deleted since the records were saved, that were not tracked.
+         */
+        void settleAll() {
+            ensureIndexed();
+            itemsByIdentity.forEach((identity, sameIdentity) -> settle(kind, identity, sameIdentity));
+
+            List<SyncRecord> deletedRecords = records.values().stream()
+                    .filter(record -> record.getKind() == kind && !record.isDeleted()
+                            && !itemsByIdentity.containsKey(record.getIdentity()))
+                    .collect(Collectors.toList());
+            deletedRecords.forEach(record -> settle(kind, record.getIdentity(), List.of()));
+        }
+
+        /**
+         * Replaces the items of each of {@code changes} with the items of the change, without recording it as a
+         * change by this replica.
+         */
+        @SuppressWarnings("unchecked")
+        void apply(List<Change> changes) {
+            ensureIndexed();
+            List<T> oldItems = new ArrayList<>();
+            List<T> newItems = new ArrayList<>();
+            for (Change change : changes) {
+                oldItems.addAll(itemsByIdentity.getOrDefault(change.getIdentity(), List.of()));
+                newItems.addAll((List<T>) change.getItems());
+            }
+
+            isApplying = true;
+            try {
+                replacer.accept(oldItems, newItems);
+            } finally {
+                isApplying = false;
+            }
+        }
+    }
+
+    /**
+     * The outcome of importing a delta.
+     */
+    public static class ImportResult {
+        private final int appliedCount;
+        private final int conflictCount;
+        private final int skippedCount;
+
+        /**
+         * Constructs an {@code ImportResult}.
+         *
+         * @param appliedCount The number of changes applied that had seen every change of this replica.
+         * @param conflictCount The number of changes made at the same time as a change by this replica.
+         * @param skippedCount The number of changes this replica had already seen.
+         */
+        public ImportResult(int appliedCount, int conflictCount, int skippedCount) {
+            this.appliedCount = appliedCount;
+            this.conflictCount = conflictCount;
+            this.skippedCount = skippedCount;
+        }
+
+        public int getAppliedCount() {
+            return appliedCount;
+        }
+
+        public int getConflictCount() {
+            return conflictCount;
+        }
+
+        public int getSkippedCount() {
+            return skippedCount;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ImportResult // instanceof handles nulls
+                    && appliedCount == ((ImportResult) other).appliedCount
+                    && conflictCount == ((ImportResult) other).conflictCount
+                    && skippedCount == ((ImportResult) other).skippedCount);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(appliedCount, conflictCount, skippedCount);
+        }
+    }
+}
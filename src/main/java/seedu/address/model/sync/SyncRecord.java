@@ -0,0 +1,102 @@
+package seedu.address.model.sync;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * The sync state of the items of one kind that share an identity in a {@code Project}.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class SyncRecord {
+
+    private final RecordKind kind;
+    private final String identity;
+    private final VersionVector version;
+    private final String writer;
+    private final long stamp;
+    private final String fingerprint;
+    private final boolean isDeleted;
+
+    /**
+     * Constructs a {@code SyncRecord}.
+     *
+     * @param kind The kind of the items.
+     * @param identity The identity the items share.
+     * @param version The changes to the items that this replica has seen.
+     * @param writer The replica that made the change this replica keeps.
+     * @param stamp When this replica last changed the items or learnt of a change to them, in its own clock.
+     * @param fingerprint A digest of the content of the items, which differs whenever the content does.
+     * @param isDeleted Whether there are no items left.
+     */
+    public SyncRecord(RecordKind kind, String identity, VersionVector version, String writer, long stamp,
+            String fingerprint, boolean isDeleted) {
+        requireAllNonNull(kind, identity, version, writer, fingerprint);
+
+        this.kind = kind;
+        this.identity = identity;
+        this.version = version;
+        this.writer = writer;
+        this.stamp = stamp;
+        this.fingerprint = fingerprint;
+        this.isDeleted = isDeleted;
+    }
+
+    public RecordKind getKind() {
+        return kind;
+    }
+
+    public String getIdentity() {
+        return identity;
+    }
+
+    public VersionVector getVersion() {
+        return version;
+    }
+
+    public String getWriter() {
+        return writer;
+    }
+
+    public long getStamp() {
+        return stamp;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public boolean isDeleted() {
+        return isDeleted;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SyncRecord)) {
+            return false;
+        }
+
+        SyncRecord otherRecord = (SyncRecord) other;
+        return otherRecord.kind == kind
+                && otherRecord.identity.equals(identity)
+                && otherRecord.version.equals(version)
+                && otherRecord.writer.equals(writer)
+                && otherRecord.stamp == stamp
+                && otherRecord.fingerprint.equals(fingerprint)
+                && otherRecord.isDeleted == isDeleted;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, identity, version, writer, stamp, fingerprint, isDeleted);
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + identity + " " + version + (isDeleted ? " (deleted)" : "");
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.sync;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The sync state of a {@code Project} as it is saved: the replica the project is, the records of its items, and how
+ * far it is in step with the replicas it exchanged deltas with.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class SyncState {
+
+    private final String replicaId;
+    private final long clock;
+    private final List<SyncRecord> records;
+    private final Map<String, Long> received;
+    private final Map<String, Long> acknowledged;
+
+    /**
+     * Constructs a {@code SyncState}.
+     *
+     * @param replicaId The id of the replica.
+     * @param clock The last stamp the replica gave out.
+     * @param records The records of the items of the project, including the records of deleted items.
+     * @param received For each other replica, the stamp of that replica up to which its changes were received.
+     * @param acknowledged For each other replica, the stamp of this replica up to which that replica received the
+     *     changes of this replica.
+     */
+    public SyncState(String replicaId, long clock, List<SyncRecord> records, Map<String, Long> received,
+            Map<String, Long> acknowledged) {
+        requireAllNonNull(replicaId, records, received, acknowledged);
+
+        this.replicaId = replicaId;
+        this.clock = clock;
+        this.records = List.copyOf(records);
+        this.received = Map.copyOf(received);
+        this.acknowledged = Map.copyOf(acknowledged);
+    }
+
+    /**
+     * Returns the state of a new replica that has no records yet.
+     */
+    public static SyncState newReplica() {
+        return new SyncState(UUID.randomUUID().toString(), 0, List.of(), Map.of(), Map.of());
+    }
+
+    public String getReplicaId() {
+        return replicaId;
+    }
+
+    public long getClock() {
+        return clock;
+    }
+
+    public List<SyncRecord> getRecords() {
+        return records;
+    }
+
+    public Map<String, Long> getReceived() {
+        return received;
+    }
+
+    public Map<String, Long> getAcknowledged() {
+        return acknowledged;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SyncState)) {
+            return false;
+        }
+
+        SyncState otherState = (SyncState) other;
+        return otherState.replicaId.equals(replicaId)
+                && otherState.clock == clock
+                && otherState.records.equals(records)
+                && otherState.received.equals(received)
+                && otherState.acknowledged.equals(acknowledged);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(replicaId, clock, records, received, acknowledged);
+    }
+}
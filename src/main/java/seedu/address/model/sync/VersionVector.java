@@ -0,0 +1,129 @@
+package seedu.address.model.sync;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A version vector, which counts the changes to a record made by each replica that changed it.
+ * A replica that never changed the record has a count of 0. Guarantees: immutable, counts are positive.
+ */
+public class VersionVector {
+
+    public static final VersionVector EMPTY = new VersionVector(Map.of());
+
+    public static final String MESSAGE_CONSTRAINTS = "Version vector counts must be positive.";
+
+    /**
+     * How two version vectors are ordered.
+     */
+    public enum Ordering {
+        /** Both vectors have seen the same changes. */
+        EQUAL,
+        /** This vector has seen a subset of the changes of the other. */
+        BEFORE,
+        /** This vector has seen a superset of the changes of the other. */
+        AFTER,
+        /** Each vector has seen changes that the other has not. */
+        CONCURRENT
+    }
+
+    private final Map<String, Long> counts;
+
+    /**
+     * Constructs a {@code VersionVector} with the given count for each replica.
+     */
+    public VersionVector(Map<String, Long> counts) {
+        requireNonNull(counts);
+        checkArgument(counts.values().stream().allMatch(count -> count != null && count > 0), MESSAGE_CONSTRAINTS);
+
+        this.counts = Collections.unmodifiableMap(new TreeMap<>(counts));
+    }
+
+    /**
+     * Returns the count of {@code replicaId}, which is 0 if it never changed the record.
+     */
+    public long get(String replicaId) {
+        requireNonNull(replicaId);
+        return counts.getOrDefault(replicaId, 0L);
+    }
+
+    /**
+     * Returns the counts of the replicas that changed the record, in the order of their ids.
+     */
+    public Map<String, Long> getCounts() {
+        return counts;
+    }
+
+    /**
+     * Returns a copy of this vector with the count of {@code replicaId} set to {@code count}.
+     * The count must be higher than the current count of {@code replicaId}.
+     */
+    public VersionVector with(String replicaId, long count) {
+        requireNonNull(replicaId);
+        checkArgument(count > get(replicaId), "A version vector count can only go up.");
+
+        Map<String, Long> newCounts = new TreeMap<>(counts);
+        newCounts.put(replicaId, count);
+        return new VersionVector(newCounts);
+    }
+
+    /**
+     * Returns the vector that has seen the changes of both this vector and {@code other}.
+     */
+    public VersionVector merge(VersionVector other) {
+        requireNonNull(other);
+
+        Map<String, Long> newCounts = new TreeMap<>(counts);
+        other.counts.forEach((replicaId, count) -> newCounts.merge(replicaId, count, Math::max));
+        return new VersionVector(newCounts);
+    }
+
+    /**
+     * Returns how this vector is ordered relative to {@code other}.
+     */
+    public Ordering compareTo(VersionVector other) {
+        requireNonNull(other);
+
+        boolean hasMore = false;
+        boolean hasLess = false;
+        Set<String> replicaIds = new HashSet<>(counts.keySet());
+        replicaIds.addAll(other.counts.keySet());
+        for (String replicaId : replicaIds) {
+            long difference = Long.compare(get(replicaId), other.get(replicaId));
+            hasMore |= difference > 0;
+            hasLess |= difference < 0;
+        }
+
+        if (hasMore && hasLess) {
+            return Ordering.CONCURRENT;
+        } else if (hasMore) {
+            return Ordering.AFTER;
+        } else if (hasLess) {
+            return Ordering.BEFORE;
+        }
+        return Ordering.EQUAL;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof VersionVector // instanceof handles nulls
+                && counts.equals(((VersionVector) other).counts)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return counts.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return counts.toString();
+    }
+}
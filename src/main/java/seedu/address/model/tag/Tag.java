@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.InternPool;
+
 /**
  * Represents a Tag.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -14,6 +16,8 @@ public class Tag {
             + " (can have underscores and hyphens in the middle)";
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9][a-zA-Z0-9_-]*[a-zA-Z0-9]$";
 
+    private static final InternPool<Tag> POOL = new InternPool<>();
+
     public final String tagName;
 
     /**
@@ -27,6 +31,16 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} with the given tag name.
+     * Equal {@code Tag}s obtained from this method are the same instance.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return POOL.intern(new Tag(tagName));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
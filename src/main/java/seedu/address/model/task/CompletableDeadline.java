@@ -19,9 +19,13 @@ public abstract class CompletableDeadline {
      */
     public static final String DESCRIPTION_VALIDATION_REGEX = "[^\\s].*";
 
+    /*
+     * The date is kept as a primitive epoch day rather than as a LocalDate object, which keeps each
+     * CompletableDeadline small and lets date checks work on plain integers.
+     */
     protected String description;
-    protected Boolean isDone;
-    protected LocalDate by;
+    protected boolean isDone;
+    protected int byEpochDay;
 
     /**
      * Constructor for CompletableDeadline.
@@ -33,7 +37,7 @@ public abstract class CompletableDeadline {
         requireAllNonNull(description, by);
         checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS_DESCRIPTION);
         this.description = description;
-        this.by = by;
+        this.byEpochDay = Math.toIntExact(by.toEpochDay());
         this.isDone = false;
     }
 
@@ -48,7 +52,7 @@ public abstract class CompletableDeadline {
         requireAllNonNull(description, by, isDone);
         checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS_DESCRIPTION);
         this.description = description;
-        this.by = by;
+        this.byEpochDay = Math.toIntExact(by.toEpochDay());
         this.isDone = isDone;
     }
 
@@ -58,8 +62,24 @@ public abstract class CompletableDeadline {
      * @return A LocalDate representing the deadline of the Deadline.
      */
     public LocalDate getBy() {
-        assert this.by != null : "by should not be null!";
-        return this.by;
+        return DateUtil.dateOfEpochDay(byEpochDay);
+    }
+
+    /**
+     * Returns the deadline of the Deadline as a number of days from 1970-01-01.
+     */
+    public int getByEpochDay() {
+        return byEpochDay;
+    }
+
+    /**
+     * Returns true if the CompletableDeadline is due on the given date.
+     *
+     * @param date The date to check.
+     * @return True if the deadline is {@code date}.
+     */
+    public boolean isDueOn(LocalDate date) {
+        return date.toEpochDay() == byEpochDay;
     }
 
     /**
@@ -87,7 +107,6 @@ public abstract class CompletableDeadline {
      * @return A Boolean representing the CompletableDeadline's status.
      */
     public Boolean getIsDone() {
-        assert this.isDone != null;
         return this.isDone;
     }
 
@@ -104,8 +123,7 @@ public abstract class CompletableDeadline {
      * @return String representation of by date.
      */
     public String getStringByDate() {
-        assert this.by != null;
-        return DateUtil.decodeDateForStorage(by);
+        return DateUtil.decodeDateForStorage(getBy());
     };
 
     /**
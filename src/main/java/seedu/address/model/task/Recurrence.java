@@ -0,0 +1,355 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.DateUtil;
+
+/**
+ * Represents how a {@code Repeatable} repeats from its date: once, or every few days, weeks or months, optionally
+ * up to a date or for a number of times, and skipping some dates.
+ * The k-th occurrence is worked out directly from the date of the {@code Repeatable}, so checking whether a date is
+ * an occurrence takes constant time and occurrences are never listed out in advance.
+ * Monthly occurrences on a date missing from a month, such as the 31st, fall on the last day of that month instead,
+ * and monthly occurrences on the 5th weekday of a month fall on the last such weekday. Every period therefore has
+ * exactly one occurrence, and skipped dates still count towards the number of times.
+ */
+public class Recurrence {
+
+    /**
+     * How often a {@code Recurrence} repeats.
+     */
+    public enum Frequency {
+        ONCE,
+        DAILY,
+        WEEKLY,
+        MONTHLY_BY_DATE,
+        MONTHLY_BY_WEEKDAY
+    }
+
+    public static final String MESSAGE_CONSTRAINTS = "The interval and number of times of a repeating event should "
+            + "be positive, and an event that does not repeat cannot have an end date, a number of times or dates to "
+            + "skip.";
+
+    public static final Recurrence ONCE = new Recurrence(Frequency.ONCE, 1, null, null, Collections.emptyList());
+    public static final Recurrence WEEKLY = new Recurrence(Frequency.WEEKLY, 1, null, null, Collections.emptyList());
+
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int LAST_WEEK_OF_MONTH = 5;
+
+    private final Frequency frequency;
+    private final int interval;
+    private final LocalDate until;
+    private final Integer count;
+    private final SortedSet<LocalDate> exceptions;
+
+    /**
+     * Creates a {@code Recurrence} that repeats every {@code interval} periods of {@code frequency}, up to and
+     * including {@code until} and for at most {@code count} times when they are not null, skipping
+     * {@code exceptions}.
+     */
+    public Recurrence(Frequency frequency, int interval, LocalDate until, Integer count,
+            Collection<LocalDate> exceptions) {
+        requireAllNonNull(frequency, exceptions);
+        checkArgument(isValidRecurrence(frequency, interval, until, count, exceptions), MESSAGE_CONSTRAINTS);
+
+        this.frequency = frequency;
+        this.interval = interval;
+        this.until = until;
+        this.count = count;
+        this.exceptions = Collections.unmodifiableSortedSet(new TreeSet<>(exceptions));
+    }
+
+    /**
+     * Returns true if the given values make a valid {@code Recurrence}.
+     */
+    public static boolean isValidRecurrence(Frequency frequency, int interval, LocalDate until, Integer count,
+            Collection<LocalDate> exceptions) {
+        if (frequency == Frequency.ONCE) {
+            return interval == 1 && until == null && count == null && exceptions.isEmpty();
+        }
+        return interval > 0 && (count == null || count > 0);
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public Optional<LocalDate> getUntil() {
+        return Optional.ofNullable(until);
+    }
+
+    public Optional<Integer> getCount() {
+        return Optional.ofNullable(count);
+    }
+
+    /**
+     * Returns the dates that are skipped, in date order.
+     */
+    public SortedSet<LocalDate> getExceptions() {
+        return exceptions;
+    }
+
+    /**
+     * Returns true if this {@code Recurrence} repeats.
+     */
+    public boolean isRepeating() {
+        return frequency != Frequency.ONCE;
+    }
+
+    /**
+     * Returns true if this {@code Recurrence} repeats every week, without end and without skipping any dates.
+     */
+    public boolean isWeekly() {
+        return equals(WEEKLY);
+    }
+
+    /**
+     * Returns a copy of this {@code Recurrence} with the given end date, number of times and skipped dates.
+     */
+    public Recurrence withLimits(LocalDate until, Integer count, Collection<LocalDate> exceptions) {
+        return new Recurrence(frequency, interval, until, count, exceptions);
+    }
+
+    /**
+     * Returns true if {@code date} is an occurrence of a {@code Repeatable} that starts on {@code start}.
+     */
+    public boolean occursOn(LocalDate start, LocalDate date) {
+        requireAllNonNull(start, date);
+
+        long period = getPeriod(start, date);
+        return period >= 0 && isWithinLimits(period, date) && !exceptions.contains(date);
+    }
+
+    /**
+     * Returns the first occurrence on or after {@code from} of a {@code Repeatable} that starts on {@code start}.
+     */
+    public Optional<LocalDate> getNextOccurrence(LocalDate start, LocalDate from) {
+        requireAllNonNull(start, from);
+
+        if (frequency == Frequency.ONCE) {
+            return from.isAfter(start) ? Optional.empty() : Optional.of(start);
+        }
+
+        // only skipped dates make this loop more than once
+        for (long period = getFirstPeriodFrom(start, from); ; period++) {
+            LocalDate date = getOccurrence(start, period);
+            if (!isWithinLimits(period, date)) {
+                return Optional.empty();
+            }
+            if (!exceptions.contains(date)) {
+                return Optional.of(date);
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator over the occurrences on or after {@code from} of a {@code Repeatable} that starts on
+     * {@code start}, in date order. Occurrences are worked out as the iterator is read, so the iterator may be
+     * endless.
+     */
+    public Iterator<LocalDate> iterator(LocalDate start, LocalDate from) {
+        requireAllNonNull(start, from);
+
+        return new Iterator<>() {
+            private Optional<LocalDate> next = getNextOccurrence(start, from);
+
+            @Override
+            public boolean hasNext() {
+                return next.isPresent();
+            }
+
+            @Override
+            public LocalDate next() {
+                LocalDate current = next.orElseThrow(NoSuchElementException::new);
+                next = getNextOccurrence(start, current.plusDays(1));
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Returns the index of the period that {@code date} would be the occurrence of, or -1 if {@code date} does not
+     * fall on the pattern at all.
+     */
+    private long getPeriod(LocalDate start, LocalDate date) {
+        switch (frequency) {
+        case ONCE:
+            return date.equals(start) ? 0 : -1;
+        case DAILY:
+            return getPeriodOfDays(ChronoUnit.DAYS.between(start, date), interval);
+        case WEEKLY:
+            return getPeriodOfDays(ChronoUnit.DAYS.between(start, date), (long) interval * DAYS_PER_WEEK);
+        default:
+            long months = ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(date));
+            if (months < 0 || months % interval != 0) {
+                return -1;
+            }
+            long period = months / interval;
+            return getOccurrence(start, period).equals(date) ? period : -1;
+        }
+    }
+
+    private static long getPeriodOfDays(long days, long daysPerPeriod) {
+        return days >= 0 && days % daysPerPeriod == 0 ? days / daysPerPeriod : -1;
+    }
+
+    /**
+     * Returns the index of the first period whose occurrence is on or after {@code from}, ignoring the limits.
+     */
+    private long getFirstPeriodFrom(LocalDate start, LocalDate from) {
+        if (!from.isAfter(start)) {
+            return 0;
+        }
+
+        switch (frequency) {
+        case DAILY:
+            return ceilDiv(ChronoUnit.DAYS.between(start, from), interval);
+        case WEEKLY:
+            return ceilDiv(ChronoUnit.DAYS.between(start, from), (long) interval * DAYS_PER_WEEK);
+        default:
+            long period = ceilDiv(ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(from)), interval);
+            return getOccurrence(start, period).isBefore(from) ? period + 1 : period;
+        }
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    /**
+     * Returns the date of the occurrence in the given period, ignoring the limits.
+     */
+    private LocalDate getOccurrence(LocalDate start, long period) {
+        switch (frequency) {
+        case ONCE:
+            return start;
+        case DAILY:
+            return start.plusDays(period * interval);
+        case WEEKLY:
+            return start.plusWeeks(period * interval);
+        case MONTHLY_BY_DATE:
+            return start.plusMonths(period * interval);
+        default:
+            YearMonth month = YearMonth.from(start).plusMonths(period * interval);
+            int weekOfMonth = getWeekOfMonth(start);
+            if (weekOfMonth == LAST_WEEK_OF_MONTH) {
+                return month.atEndOfMonth().with(TemporalAdjusters.lastInMonth(start.getDayOfWeek()));
+            }
+            return month.atDay(1).with(TemporalAdjusters.dayOfWeekInMonth(weekOfMonth, start.getDayOfWeek()));
+        }
+    }
+
+    private static int getWeekOfMonth(LocalDate date) {
+        return (date.getDayOfMonth() - 1) / DAYS_PER_WEEK + 1;
+    }
+
+    private boolean isWithinLimits(long period, LocalDate date) {
+        return (count == null || period < count) && (until == null || !date.isAfter(until));
+    }
+
+    /**
+     * Returns a description of this {@code Recurrence} for a {@code Repeatable} that starts on {@code start}.
+     */
+    public String describe(LocalDate start) {
+        requireNonNull(start);
+
+        StringBuilder description = new StringBuilder(describePattern(start));
+        if (until != null) {
+            description.append(", until ").append(DateUtil.decodeDate(until));
+        }
+        if (count != null) {
+            description.append(", ").append(count).append(count == 1 ? " time" : " times");
+        }
+        if (!exceptions.isEmpty()) {
+            description.append(", except ")
+                    .append(exceptions.stream().map(DateUtil::decodeDate).collect(Collectors.joining(", ")));
+        }
+        return description.toString();
+    }
+
+    private String describePattern(LocalDate start) {
+        String day = DateUtil.decodeDateIntoDay(start);
+        switch (frequency) {
+        case ONCE:
+            return "Once";
+        case DAILY:
+            return interval == 1 ? "Every day" : "Every " + interval + " days";
+        case WEEKLY:
+            return interval == 1 ? "Every " + day : "Every " + interval + " weeks on " + day;
+        case MONTHLY_BY_DATE:
+            return describeMonths() + " on day " + start.getDayOfMonth();
+        default:
+            return describeMonths() + " on the " + describeWeekOfMonth(getWeekOfMonth(start)) + " " + day;
+        }
+    }
+
+    private static String describeWeekOfMonth(int weekOfMonth) {
+        switch (weekOfMonth) {
+        case 1:
+            return "1st";
+        case 2:
+            return "2nd";
+        case 3:
+            return "3rd";
+        case LAST_WEEK_OF_MONTH:
+            return "last";
+        default:
+            return weekOfMonth + "th";
+        }
+    }
+
+    private String describeMonths() {
+        return interval == 1 ? "Every month" : "Every " + interval + " months";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof Recurrence)) {
+            return false;
+        }
+
+        Recurrence otherRecurrence = (Recurrence) other;
+        return frequency == otherRecurrence.frequency
+                && interval == otherRecurrence.interval
+                && Objects.equals(until, otherRecurrence.until)
+                && Objects.equals(count, otherRecurrence.count)
+                && exceptions.equals(otherRecurrence.exceptions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, interval, until, count, exceptions);
+    }
+
+    @Override
+    public String toString() {
+        return frequency + " every " + interval
+                + getUntil().map(date -> " until " + date).orElse("")
+                + getCount().map(times -> " for " + times).orElse("")
+                + (exceptions.isEmpty() ? "" : " except " + exceptions);
+    }
+}
@@ -5,6 +5,11 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.Optional;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.commons.util.TimeUtil;
 
 public abstract class Repeatable {
 
@@ -17,10 +22,19 @@ public abstract class Repeatable {
      */
     public static final String DESCRIPTION_VALIDATION_REGEX = "[^\\s].*";
 
+    /** The epoch day returned when a Repeatable does not occur again. */
+    public static final long NO_OCCURRENCE = Long.MIN_VALUE;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    /*
+     * The date and time are kept as primitives rather than as LocalDate and LocalTime objects, which keeps
+     * each Repeatable small and lets date checks work on plain integers. Times are kept to the minute.
+     */
     protected String description;
-    protected Boolean isWeekly;
-    protected LocalDate date;
-    protected LocalTime time;
+    protected Recurrence recurrence;
+    protected int epochDay;
+    protected short minuteOfDay;
 
     /**
      * Constructor for Repeatable.
@@ -32,9 +46,9 @@ public abstract class Repeatable {
         requireAllNonNull(description, date, time);
         checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS_DESCRIPTION);
         this.description = description;
-        this.date = date;
-        this.time = time;
-        this.isWeekly = false;
+        this.epochDay = Math.toIntExact(date.toEpochDay());
+        this.minuteOfDay = (short) (time.toSecondOfDay() / 60);
+        this.recurrence = Recurrence.ONCE;
     }
 
     /**
@@ -45,12 +59,23 @@ public abstract class Repeatable {
      * @param isWeekly isWeekly Status of the Repeatable
      */
     public Repeatable(String description, LocalDate date, LocalTime time, Boolean isWeekly) {
-        requireAllNonNull(description, date, time, isWeekly);
+        this(description, date, time, isWeekly ? Recurrence.WEEKLY : Recurrence.ONCE);
+    }
+
+    /**
+     * Constructor for Repeatable.
+     * @param description Description of the Repeatable.
+     * @param date Date of the Repeatable, which is the first date it may occur on.
+     * @param time Time of the Repeatable.
+     * @param recurrence How the Repeatable repeats from its date.
+     */
+    public Repeatable(String description, LocalDate date, LocalTime time, Recurrence recurrence) {
+        requireAllNonNull(description, date, time, recurrence);
         checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS_DESCRIPTION);
         this.description = description;
-        this.date = date;
-        this.time = time;
-        this.isWeekly = isWeekly;
+        this.epochDay = Math.toIntExact(date.toEpochDay());
+        this.minuteOfDay = (short) (time.toSecondOfDay() / 60);
+        this.recurrence = recurrence;
     }
 
     /**
@@ -67,8 +92,14 @@ public abstract class Repeatable {
      * @return A LocalDate representing the Repeatable's date.
      */
     public LocalDate getDate() {
-        assert this.date != null : "date should not be null!";
-        return this.date;
+        return DateUtil.dateOfEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the date of the Repeatable as a number of days from 1970-01-01.
+     */
+    public int getEpochDay() {
+        return epochDay;
     }
 
     /**
@@ -76,8 +107,15 @@ public abstract class Repeatable {
      * @return A LocalTime representing the Repeatable's time.
      */
     public LocalTime getTime() {
-        assert this.time != null : "time should not be null!";
-        return this.time;
+        assert this.minuteOfDay >= 0 && this.minuteOfDay < MINUTES_PER_DAY : "time should be within a day!";
+        return TimeUtil.timeOfMinute(minuteOfDay);
+    }
+
+    /**
+     * Returns the time of the Repeatable as a number of minutes from midnight.
+     */
+    public int getMinuteOfDay() {
+        return minuteOfDay;
     }
 
     /**
@@ -86,6 +124,69 @@ public abstract class Repeatable {
      */
     public abstract Boolean getIsWeekly();
 
+    /**
+     * Returns how the Repeatable repeats from its date.
+     * @return The Repeatable's {@code Recurrence}.
+     */
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * Returns true if the Repeatable occurs on the given date.
+     * @param dateToCheck The date to check.
+     * @return True if the Repeatable occurs on {@code dateToCheck}.
+     */
+    public boolean occursOn(LocalDate dateToCheck) {
+        long daysFromDate = dateToCheck.toEpochDay() - epochDay;
+
+        // the common cases are answered from the epoch day alone
+        if (recurrence == Recurrence.ONCE) {
+            return daysFromDate == 0;
+        } else if (recurrence == Recurrence.WEEKLY) {
+            return daysFromDate >= 0 && daysFromDate % 7 == 0;
+        }
+
+        return recurrence.occursOn(getDate(), dateToCheck);
+    }
+
+    /**
+     * Returns the first date on or after {@code from} on which the Repeatable occurs.
+     * @param from The earliest date to consider.
+     * @return The date of the next occurrence, or an empty {@code Optional} if there is none.
+     */
+    public Optional<LocalDate> getNextOccurrence(LocalDate from) {
+        return recurrence.getNextOccurrence(getDate(), from);
+    }
+
+    /**
+     * Returns the epoch day of the first date on or after the epoch day {@code fromEpochDay} on which the
+     * Repeatable occurs, or {@link #NO_OCCURRENCE} if there is none.
+     * The common recurrences are answered from the epoch day alone.
+     */
+    public long getNextOccurrenceEpochDay(long fromEpochDay) {
+        if (recurrence == Recurrence.ONCE) {
+            return epochDay >= fromEpochDay ? epochDay : NO_OCCURRENCE;
+        } else if (recurrence == Recurrence.WEEKLY) {
+            long weeksToFrom = Math.max(0, Math.floorDiv(fromEpochDay - epochDay + 6, 7));
+            return epochDay + weeksToFrom * 7;
+        }
+
+        return getNextOccurrence(DateUtil.dateOfEpochDay(Math.toIntExact(fromEpochDay)))
+                .map(LocalDate::toEpochDay)
+                .orElse(NO_OCCURRENCE);
+    }
+
+    /**
+     * Returns the dates on or after {@code from} on which the Repeatable occurs, in date order.
+     * The dates are worked out as the iterator is read.
+     * @param from The earliest date to consider.
+     * @return An iterator over the occurrences, which may be endless.
+     */
+    public Iterator<LocalDate> getOccurrences(LocalDate from) {
+        return recurrence.iterator(getDate(), from);
+    }
+
     /**
      * Returns true if a given string is a valid description.
      */
@@ -57,7 +57,7 @@ public class Deadline extends CompletableDeadline {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(description, isDone, by);
+        return Objects.hash(description, getIsDone(), getBy());
     }
 
     /**
@@ -67,6 +67,6 @@ public class Deadline extends CompletableDeadline {
      */
     @Override
     public String toString() {
-        return this.description + " (by: " + DateUtil.decodeDate(by) + ")";
+        return this.description + " (by: " + DateUtil.decodeDate(getBy()) + ")";
     }
 }
@@ -46,11 +46,11 @@ public class DeadlineWithProject extends CompletableDeadline {
 
     @Override
     public int hashCode() {
-        return Objects.hash(description, isDone, by, projectName);
+        return Objects.hash(description, getIsDone(), getBy(), projectName);
     }
 
     @Override
     public String toString() {
-        return this.description + " (by: " + DateUtil.decodeDate(by) + ") with project " + projectName;
+        return this.description + " (by: " + DateUtil.decodeDate(getBy()) + ") with project " + projectName;
     }
 }
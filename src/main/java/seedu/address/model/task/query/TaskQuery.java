@@ -0,0 +1,150 @@
+package seedu.address.model.task.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Describes a filter over the todos and deadlines of all projects.
+ * Every condition that is set must hold for a task to match. A task matches a due date condition only if it is a
+ * deadline due within the bounds. Text conditions are compared ignoring case.
+ */
+public class TaskQuery {
+
+    /**
+     * The kinds of tasks a {@code TaskQuery} can be limited to.
+     */
+    public enum TaskType {
+        TODO,
+        DEADLINE
+    }
+
+    private Boolean isDone;
+    private TaskType type;
+    private LocalDate dueFrom;
+    private LocalDate dueTo;
+    private final List<String> projectTerms = new ArrayList<>();
+    private final List<String> textTerms = new ArrayList<>();
+
+    public TaskQuery() {}
+
+    /**
+     * Copy constructor.
+     */
+    public TaskQuery(TaskQuery toCopy) {
+        setIsDone(toCopy.isDone);
+        setType(toCopy.type);
+        setDueFrom(toCopy.dueFrom);
+        setDueTo(toCopy.dueTo);
+        projectTerms.addAll(toCopy.projectTerms);
+        textTerms.addAll(toCopy.textTerms);
+    }
+
+    public void setIsDone(Boolean isDone) {
+        this.isDone = isDone;
+    }
+
+    public Optional<Boolean> getIsDone() {
+        return Optional.ofNullable(isDone);
+    }
+
+    public void setType(TaskType type) {
+        this.type = type;
+    }
+
+    public Optional<TaskType> getType() {
+        return Optional.ofNullable(type);
+    }
+
+    /**
+     * Sets the earliest due date (inclusive) of matching deadlines.
+     */
+    public void setDueFrom(LocalDate dueFrom) {
+        this.dueFrom = dueFrom;
+    }
+
+    public Optional<LocalDate> getDueFrom() {
+        return Optional.ofNullable(dueFrom);
+    }
+
+    /**
+     * Sets the latest due date (inclusive) of matching deadlines.
+     */
+    public void setDueTo(LocalDate dueTo) {
+        this.dueTo = dueTo;
+    }
+
+    public Optional<LocalDate> getDueTo() {
+        return Optional.ofNullable(dueTo);
+    }
+
+    /**
+     * Adds {@code term}, which must appear in the name of the project of matching tasks.
+     */
+    public void addProjectTerm(String term) {
+        requireNonNull(term);
+        projectTerms.add(term.toLowerCase(Locale.ROOT));
+    }
+
+    public List<String> getProjectTerms() {
+        return Collections.unmodifiableList(projectTerms);
+    }
+
+    /**
+     * Adds {@code term}, which must appear in the description of matching tasks.
+     */
+    public void addTextTerm(String term) {
+        requireNonNull(term);
+        textTerms.add(term.toLowerCase(Locale.ROOT));
+    }
+
+    public List<String> getTextTerms() {
+        return Collections.unmodifiableList(textTerms);
+    }
+
+    /**
+     * Compiles this query into a {@code TaskQueryPlan}. Later changes to this query do not affect the plan.
+     */
+    public TaskQueryPlan compile() {
+        return new TaskQueryPlan(new TaskQuery(this));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TaskQuery)) {
+            return false;
+        }
+
+        // state check
+        TaskQuery otherQuery = (TaskQuery) other;
+        return Objects.equals(isDone, otherQuery.isDone)
+                && type == otherQuery.type
+                && Objects.equals(dueFrom, otherQuery.dueFrom)
+                && Objects.equals(dueTo, otherQuery.dueTo)
+                && projectTerms.equals(otherQuery.projectTerms)
+                && textTerms.equals(otherQuery.textTerms);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isDone, type, dueFrom, dueTo, projectTerms, textTerms);
+    }
+
+    @Override
+    public String toString() {
+        return "done: " + isDone + ", type: " + type + ", due from: " + dueFrom + ", due to: " + dueTo
+                + ", project: " + projectTerms + ", text: " + textTerms;
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.model.task.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.project.Project;
+import seedu.address.model.search.SearchHit;
+import seedu.address.model.search.SearchHitType;
+import seedu.address.model.task.CompletableDeadline;
+import seedu.address.model.task.CompletableTodo;
+
+/**
+ * A {@code TaskQuery} compiled into the steps that find its matching tasks.
+ * Projects are filtered by name before their tasks are looked at. Lists that cannot contain matches are skipped,
+ * and due date bounds are looked up by binary search in the date-sorted deadlines of each project, so only the
+ * remaining conditions are checked task by task.
+ */
+public class TaskQueryPlan {
+
+    private static final String DONE_MARKER = " ✔";
+
+    private final Predicate<Project> projectFilter;
+    private final Predicate<String> descriptionFilter;
+    private final Boolean isDone;
+    private final boolean isScanningTodos;
+    private final boolean isScanningDeadlines;
+    private final LocalDate dueFrom;
+    private final LocalDate dueTo;
+
+    /**
+     * Compiles {@code query}, which must not be modified afterwards.
+     */
+    TaskQueryPlan(TaskQuery query) {
+        requireNonNull(query);
+
+        List<String> projectTerms = query.getProjectTerms();
+        List<String> textTerms = query.getTextTerms();
+        this.projectFilter = project -> containsAll(project.getProjectName().toString(), projectTerms);
+        this.descriptionFilter = description -> containsAll(description, textTerms);
+        this.isDone = query.getIsDone().orElse(null);
+        this.dueFrom = query.getDueFrom().orElse(null);
+        this.dueTo = query.getDueTo().orElse(null);
+
+        boolean hasDueBounds = dueFrom != null || dueTo != null;
+        boolean isEmptyRange = dueFrom != null && dueTo != null && dueFrom.isAfter(dueTo);
+        this.isScanningTodos = !hasDueBounds && query.getType().orElse(TaskQuery.TaskType.TODO)
+                == TaskQuery.TaskType.TODO;
+        this.isScanningDeadlines = !isEmptyRange && query.getType().orElse(TaskQuery.TaskType.DEADLINE)
+                == TaskQuery.TaskType.DEADLINE;
+    }
+
+    /**
+     * Returns true if the plan looks at the todos of projects at all.
+     */
+    boolean isScanningTodos() {
+        return isScanningTodos;
+    }
+
+    /**
+     * Returns true if the plan looks at the deadlines of projects at all.
+     */
+    boolean isScanningDeadlines() {
+        return isScanningDeadlines;
+    }
+
+    /**
+     * Returns the tasks of {@code projects} matching the query, lazily, ordered by project, then with deadlines
+     * before todos, then by their order in the project.
+     * Project indexes are relative to {@code projects}.
+     */
+    public Stream<SearchHit> execute(List<Project> projects) {
+        requireNonNull(projects);
+
+        return IntStream.range(0, projects.size())
+                .boxed()
+                .filter(i -> projectFilter.test(projects.get(i)))
+                .flatMap(i -> Stream.concat(
+                        deadlineHits(Index.fromZeroBased(i), projects.get(i)),
+                        todoHits(Index.fromZeroBased(i), projects.get(i))));
+    }
+
+    private Stream<SearchHit> deadlineHits(Index projectIndex, Project project) {
+        if (!isScanningDeadlines) {
+            return Stream.empty();
+        }
+
+        List<CompletableDeadline> deadlines = project.getSortedDeadlines();
+        int start = dueFrom == null ? 0 : firstDueOnOrAfter(deadlines, dueFrom);
+        int end = dueTo == null ? deadlines.size() : firstDueOnOrAfter(deadlines, dueTo.plusDays(1));
+        return IntStream.range(start, Math.max(start, end))
+                .filter(i -> matches(deadlines.get(i).getIsDone(), deadlines.get(i).getDescription()))
+                .mapToObj(i -> {
+                    CompletableDeadline deadline = deadlines.get(i);
+                    String text = deadline.getDescription() + " (by " + DateUtil.decodeDate(deadline.getBy()) + ")"
+                            + (deadline.getIsDone() ? DONE_MARKER : "");
+                    return new SearchHit(SearchHitType.DEADLINE, projectIndex, project.getProjectName(),
+                            Index.fromZeroBased(i), text);
+                });
+    }
+
+    private Stream<SearchHit> todoHits(Index projectIndex, Project project) {
+        if (!isScanningTodos) {
+            return Stream.empty();
+        }
+
+        List<CompletableTodo> todos = project.getSortedTodos();
+        return IntStream.range(0, todos.size())
+                .filter(i -> matches(todos.get(i).getIsDone(), todos.get(i).getDescription()))
+                .mapToObj(i -> {
+                    CompletableTodo todo = todos.get(i);
+                    String text = todo.getDescription() + (todo.getIsDone() ? DONE_MARKER : "");
+                    return new SearchHit(SearchHitType.TODO, projectIndex, project.getProjectName(),
+                            Index.fromZeroBased(i), text);
+                });
+    }
+
+    private boolean matches(boolean isTaskDone, String description) {
+        return (isDone == null || isDone == isTaskDone) && descriptionFilter.test(description);
+    }
+
+    /**
+     * Returns the position of the first deadline in {@code deadlines}, which are sorted by due date, that is due on
+     * or after {@code date}.
+     */
+    static int firstDueOnOrAfter(List<CompletableDeadline> deadlines, LocalDate date) {
+        int low = 0;
+        int high = deadlines.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (deadlines.get(middle).getBy().isBefore(date)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static boolean containsAll(String text, List<String> terms) {
+        String lowerCaseText = text.toLowerCase(Locale.ROOT);
+        return terms.stream().allMatch(lowerCaseText::contains);
+    }
+}
@@ -1,11 +1,16 @@
 package seedu.address.model.task.repeatable;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.DateUtil;
 import seedu.address.commons.util.TimeUtil;
+import seedu.address.model.task.Recurrence;
 import seedu.address.model.task.Repeatable;
 
 /**
@@ -13,6 +18,16 @@ import seedu.address.model.task.Repeatable;
  */
 public class Event extends Repeatable {
 
+    public static final String MESSAGE_CONSTRAINTS_END_TIME = "The end time of an event should be after its start "
+            + "time, on the same day.";
+
+    private static final short NO_END_TIME = -1;
+
+    /*
+     * Like the start time, the end time is kept to the minute, with NO_END_TIME standing for an event without one.
+     */
+    private short endMinuteOfDay = NO_END_TIME;
+
     /**
      * Constructor for Event.
      *
@@ -37,13 +52,61 @@ public class Event extends Repeatable {
     }
 
     /**
-     * Returns the isWeekly status of the Event.
+     * Constructor for an Event with an end time.
+     *
+     * @param description Description of the Event.
+     * @param date Date of the Event.
+     * @param time Start time of the Event.
+     * @param isWeekly isWeekly Status of the Event.
+     * @param endTime End time of the Event, which must be after {@code time}.
+     */
+    public Event(String description, LocalDate date, LocalTime time, Boolean isWeekly, LocalTime endTime) {
+        this(description, date, time, isWeekly ? Recurrence.WEEKLY : Recurrence.ONCE, requireNonNull(endTime));
+    }
+
+    /**
+     * Constructor for an Event that repeats as given by a {@code Recurrence}.
+     *
+     * @param description Description of the Event.
+     * @param date Date of the Event, which is the first date it may occur on.
+     * @param time Start time of the Event.
+     * @param recurrence How the Event repeats from its date.
+     * @param endTime End time of the Event, which must be after {@code time}, or null if the Event has none.
+     */
+    public Event(String description, LocalDate date, LocalTime time, Recurrence recurrence, LocalTime endTime) {
+        super(description, date, time, recurrence);
+        if (endTime != null) {
+            checkArgument(isValidEndTime(time, endTime), MESSAGE_CONSTRAINTS_END_TIME);
+            this.endMinuteOfDay = (short) (endTime.toSecondOfDay() / 60);
+        }
+    }
+
+    /**
+     * Returns true if {@code endTime} is a valid end time for an event starting at {@code time}.
+     */
+    public static boolean isValidEndTime(LocalTime time, LocalTime endTime) {
+        return endTime.isAfter(time);
+    }
+
+    /**
+     * Returns the end time of the Event, if it has one.
+     *
+     * @return An Optional containing the end time of the Event.
+     */
+    public Optional<LocalTime> getEndTime() {
+        if (endMinuteOfDay == NO_END_TIME) {
+            return Optional.empty();
+        }
+        return Optional.of(TimeUtil.timeOfMinute(endMinuteOfDay));
+    }
+
+    /**
+     * Returns the isWeekly status of the Event, which is true if the Event repeats every week without end.
      *
      * @return A Boolean representing the Event's isWeekly status.
      */
     public Boolean getIsWeekly() {
-        assert this.isWeekly != null;
-        return this.isWeekly;
+        return this.recurrence.isWeekly();
     }
 
     /**
@@ -64,15 +127,16 @@ public class Event extends Repeatable {
 
         Event otherEvent = (Event) other;
         return otherEvent.getDescription().equals(getDescription())
-                && otherEvent.getIsWeekly().equals(getIsWeekly())
+                && otherEvent.getRecurrence().equals(getRecurrence())
                 && otherEvent.getTime().equals(getTime())
-                && otherEvent.getDate().equals(getDate());
+                && otherEvent.getDate().equals(getDate())
+                && otherEvent.getEndTime().equals(getEndTime());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(description, isWeekly, date, time);
+        return Objects.hash(description, getRecurrence(), getDate(), getTime(), getEndTime());
     }
 
     /**
@@ -82,11 +146,16 @@ public class Event extends Repeatable {
      */
     @Override
     public String toString() {
-        if (!getIsWeekly()) {
-            return this.description + " (on: " + DateUtil.decodeDate(date) + " at:" + TimeUtil.decodeTime(time) + ")";
+        String endTime = getEndTime().map(time -> " to:" + TimeUtil.decodeTime(time)).orElse("");
+        if (!recurrence.isRepeating()) {
+            return this.description + " (on: " + DateUtil.decodeDate(getDate()) + " at:"
+                    + TimeUtil.decodeTime(getTime()) + endTime + ")";
+        } else if (!getIsWeekly()) {
+            return this.description + " (" + recurrence.describe(getDate()) + ", from: "
+                    + DateUtil.decodeDate(getDate()) + " at:" + TimeUtil.decodeTime(getTime()) + endTime + ")";
         }
 
-        return this.description + " (every " + DateUtil.decodeDateIntoDay(date) + " at:" + TimeUtil.decodeTime(time)
-                + ")";
+        return this.description + " (every " + DateUtil.decodeDateIntoDay(getDate()) + " at:"
+                + TimeUtil.decodeTime(getTime()) + endTime + ")";
     }
 }
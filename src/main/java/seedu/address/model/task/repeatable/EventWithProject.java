@@ -20,7 +20,7 @@ public class EventWithProject extends Repeatable {
      * @param projectName The project name to be associated with this event.
      */
     public EventWithProject(Repeatable repeatable, ProjectName projectName) {
-        super(repeatable.getDescription(), repeatable.getDate(), repeatable.getTime(), repeatable.getIsWeekly());
+        super(repeatable.getDescription(), repeatable.getDate(), repeatable.getTime(), repeatable.getRecurrence());
         this.projectName = projectName;
     }
 
@@ -30,8 +30,7 @@ public class EventWithProject extends Repeatable {
      * @return A Boolean representing the EventWithProject's isWeekly status.
      */
     public Boolean getIsWeekly() {
-        assert this.isWeekly != null;
-        return this.isWeekly;
+        return this.recurrence.isWeekly();
     }
 
     public ProjectName getProjectName() {
@@ -56,7 +55,7 @@ public class EventWithProject extends Repeatable {
 
         EventWithProject otherEvent = (EventWithProject) other;
         return otherEvent.getDescription().equals(getDescription())
-                && otherEvent.getIsWeekly().equals(getIsWeekly())
+                && otherEvent.getRecurrence().equals(getRecurrence())
                 && otherEvent.getTime().equals(getTime())
                 && otherEvent.getDate().equals(getDate());
     }
@@ -64,7 +63,7 @@ public class EventWithProject extends Repeatable {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(description, isWeekly, date, time, projectName);
+        return Objects.hash(description, getRecurrence(), getDate(), getTime(), projectName);
     }
 
     /**
@@ -74,12 +73,16 @@ public class EventWithProject extends Repeatable {
      */
     @Override
     public String toString() {
-        if (!getIsWeekly()) {
-            return this.description + " (on: " + DateUtil.decodeDate(date) + " at:" + TimeUtil.decodeTime(time)
-                    + ") with project " + projectName.toString();
+        if (!recurrence.isRepeating()) {
+            return this.description + " (on: " + DateUtil.decodeDate(getDate()) + " at:"
+                    + TimeUtil.decodeTime(getTime()) + ") with project " + projectName.toString();
+        } else if (!getIsWeekly()) {
+            return this.description + " (" + recurrence.describe(getDate()) + ", from: "
+                    + DateUtil.decodeDate(getDate()) + " at:" + TimeUtil.decodeTime(getTime()) + ") with project "
+                    + projectName.toString();
         }
 
-        return this.description + " (every " + DateUtil.decodeDateIntoDay(date) + " at:" + TimeUtil.decodeTime(time)
-                + ") with project " + projectName.toString();
+        return this.description + " (every " + DateUtil.decodeDateIntoDay(getDate()) + " at:"
+                + TimeUtil.decodeTime(getTime()) + ") with project " + projectName.toString();
     }
 }
@@ -1,41 +1,74 @@
 package seedu.address.model.task.repeatable;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import seedu.address.model.task.Repeatable;
 
 /**
  * A comparator for the repeatable class.
+ * Repeatables are ordered by their next occurrence relative to a fixed snapshot of the current date, then by
+ * description. The sort key of each repeatable is computed once and cached, so sorting does not read the
+ * system clock. A new comparator should be created when the date changes.
  */
 public class RepeatableComparator implements Comparator<Repeatable> {
-    @Override
-    public int compare(Repeatable r1, Repeatable r2) {
-        int compareDays = Integer.compare(daysTo(r1), daysTo(r2));
+    private static final long MINUTES_PER_DAY = 24 * 60;
 
-        if (compareDays != 0) {
-            return compareDays;
-        } else {
-            int compareTime = r1.getTime().compareTo(r2.getTime());
-            return compareTime != 0 ? compareTime : r1.getDescription().compareTo(r2.getDescription());
-        }
+    private final LocalDate today;
+    private final long todayEpochDay;
+    private final Map<Repeatable, Long> sortKeys = new IdentityHashMap<>();
+
+    /**
+     * Creates a {@code RepeatableComparator} that orders repeatables relative to {@code today}.
+     *
+     * @param today The date snapshot that the sort keys are computed against.
+     */
+    public RepeatableComparator(LocalDate today) {
+        requireNonNull(today);
+        this.today = today;
+        this.todayEpochDay = today.toEpochDay();
     }
 
-    private int daysTo(Repeatable repeatable) {
-        LocalDate today = LocalDate.now();
-        LocalDate date = repeatable.getDate();
+    /**
+     * Returns the date snapshot that the sort keys are computed against.
+     */
+    public LocalDate getToday() {
+        return today;
+    }
 
-        if (repeatable.getIsWeekly() && !date.isAfter(today)) {
-            int dayOfRepeatable = date.getDayOfWeek().getValue();
-            int dayOfToday = today.getDayOfWeek().getValue();
+    @Override
+    public int compare(Repeatable r1, Repeatable r2) {
+        int compareKeys = Long.compare(getSortKey(r1), getSortKey(r2));
+        return compareKeys != 0 ? compareKeys : r1.getDescription().compareTo(r2.getDescription());
+    }
 
-            if (dayOfRepeatable < dayOfToday) {
-                dayOfRepeatable += 7;
-            }
+    /**
+     * Removes the cached sort key of {@code repeatable}.
+     * Should be called once {@code repeatable} is no longer sorted with this comparator.
+     */
+    public void evict(Repeatable repeatable) {
+        sortKeys.remove(repeatable);
+    }
 
-            return dayOfRepeatable - dayOfToday;
-        } else {
-            return today.until(date).getDays();
+    /**
+     * Returns the sort key of {@code repeatable}, which orders by days to the next occurrence and then by time.
+     */
+    long getSortKey(Repeatable repeatable) {
+        Long sortKey = sortKeys.get(repeatable);
+        if (sortKey == null) {
+            sortKey = daysTo(repeatable) * MINUTES_PER_DAY + repeatable.getMinuteOfDay();
+            sortKeys.put(repeatable, sortKey);
         }
+        return sortKey;
+    }
+
+    private long daysTo(Repeatable repeatable) {
+        // repeatables that will not occur again are ordered by their first date, before all the others
+        long epochDay = repeatable.getNextOccurrenceEpochDay(todayEpochDay);
+        return (epochDay == Repeatable.NO_OCCURRENCE ? repeatable.getEpochDay() : epochDay) - todayEpochDay;
     }
 }
@@ -78,7 +78,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -89,7 +89,7 @@ public class SampleDataUtil {
      */
     public static Set<Role> getRoleSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Role::new)
+                .map(Role::of)
                 .collect(Collectors.toSet());
     }
 
@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import seedu.address.model.ColabFolder;
+import seedu.address.model.ReadOnlyColabFolder;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.project.Project;
+
+/**
+ * Merges the changes two writers made to the same CoLAB folder, one contact or project at a time.
+ * Records are matched by their identity, the name of the contact or project. Our changes since the common base are
+ * applied to their version of the folder, so their changes to other records are kept. If both writers changed the
+ * same record, our change wins. If we deleted a record that they changed, their change is kept.
+ * Our records are checked against the base by their version, so only the records we deleted are compared in full.
+ */
+class ColabFolderMerger {
+
+    private ColabFolderMerger() {}
+
+    /**
+     * Returns the folder with the changes from {@code base} to {@code ours} applied to {@code theirs}.
+     * Records keep their place in {@code theirs}, and the records we added come after them.
+     */
+    static ColabFolder merge(ReadOnlyColabFolder base, ReadOnlyColabFolder ours, ReadOnlyColabFolder theirs) {
+        requireAllNonNull(base, ours, theirs);
+
+        ColabFolder merged = new ColabFolder();
+        // contacts cannot be changed, so a contact is its own version
+        merged.setContacts(mergeRecords(base.getContactList(), ours.getContactList(), theirs.getContactList(),
+                Contact::getName, Contact::equals));
+        merged.setProjects(mergeRecords(base.getProjectsList(), ours.getProjectsList(), theirs.getProjectsList(),
+                Project::getProjectName, Project::isSameVersionAs));
+        return merged;
+    }
+
+    /**
+     * Returns the records of {@code theirs} with the changes from {@code base} to {@code ours} applied.
+     * {@code isSameVersion} tells if one of our records is unchanged from the base record, which it may only get
+     * wrong by finding a record changed when it is not.
+     */
+    private static <T, K> List<T> mergeRecords(List<T> base, List<T> ours, List<T> theirs,
+            Function<T, K> identityOf, BiPredicate<T, T> isSameVersion) {
+        Map<K, T> baseRecords = byIdentity(base, identityOf);
+        Map<K, T> mergedRecords = byIdentity(theirs, identityOf);
+
+        Set<K> ourIdentities = new HashSet<>();
+        for (T record : ours) {
+            K identity = identityOf.apply(record);
+            ourIdentities.add(identity);
+            T baseRecord = baseRecords.get(identity);
+            if (baseRecord == null || !isSameVersion.test(baseRecord, record)) {
+                mergedRecords.put(identity, record);
+            }
+        }
+
+        for (Map.Entry<K, T> baseRecord : baseRecords.entrySet()) {
+            K identity = baseRecord.getKey();
+            // their records were read from the file, so they can only be compared in full
+            if (!ourIdentities.contains(identity)
+                    && Objects.equals(baseRecord.getValue(), mergedRecords.get(identity))) {
+                mergedRecords.remove(identity);
+            }
+        }
+        return new ArrayList<>(mergedRecords.values());
+    }
+
+    private static <T, K> Map<K, T> byIdentity(List<T> records, Function<T, K> identityOf) {
+        Map<K, T> recordsByIdentity = new LinkedHashMap<>();
+        for (T record : records) {
+            recordsByIdentity.put(identityOf.apply(record), record);
+        }
+        return recordsByIdentity;
+    }
+}
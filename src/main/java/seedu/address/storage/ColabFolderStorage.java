@@ -45,4 +45,10 @@ public interface ColabFolderStorage {
      */
     void saveColabFolder(ReadOnlyColabFolder colabFolder, Path filePath) throws IOException;
 
+    /**
+     * Forgets what is kept about the data file in {@code filePath} since it was last read or saved, as it will not
+     * be saved again before it is read again.
+     */
+    void closeColabFolder(Path filePath);
+
 }
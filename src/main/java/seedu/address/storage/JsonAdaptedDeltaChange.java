@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.groupmate.Groupmate;
+import seedu.address.model.sync.ProjectDelta.Change;
+import seedu.address.model.sync.RecordKind;
+import seedu.address.model.task.CompletableDeadline;
+import seedu.address.model.task.CompletableTodo;
+import seedu.address.model.task.repeatable.Event;
+
+/**
+ * Jackson-friendly version of {@link Change}.
+ * Only the list of items of the kind of the change is written, and only if the items were not deleted.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedDeltaChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Delta change's %s field is missing!";
+
+    private final String kind;
+    private final String identity;
+    private final Map<String, Long> version = new HashMap<>();
+    private final String writer;
+    private final List<JsonAdaptedEvent> events = new ArrayList<>();
+    private final List<JsonAdaptedTodo> todos = new ArrayList<>();
+    private final List<JsonAdaptedDeadline> deadlines = new ArrayList<>();
+    private final List<JsonAdaptedGroupmate> groupmates = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedDeltaChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedDeltaChange(@JsonProperty("kind") String kind,
+                                  @JsonProperty("identity") String identity,
+                                  @JsonProperty("version") Map<String, Long> version,
+                                  @JsonProperty("writer") String writer,
+                                  @JsonProperty("events") List<JsonAdaptedEvent> events,
+                                  @JsonProperty("todos") List<JsonAdaptedTodo> todos,
+                                  @JsonProperty("deadlines") List<JsonAdaptedDeadline> deadlines,
+                                  @JsonProperty("groupmates") List<JsonAdaptedGroupmate> groupmates) {
+        this.kind = kind;
+        this.identity = identity;
+        if (version != null) {
+            this.version.putAll(version);
+        }
+        this.writer = writer;
+        if (events != null) {
+            this.events.addAll(events);
+        }
+        if (todos != null) {
+            this.todos.addAll(todos);
+        }
+        if (deadlines != null) {
+            this.deadlines.addAll(deadlines);
+        }
+        if (groupmates != null) {
+            this.groupmates.addAll(groupmates);
+        }
+    }
+
+    /**
+     * Converts a given {@code Change} into this class for Jackson use.
+     */
+    public JsonAdaptedDeltaChange(Change source) {
+        kind = source.getKind().name();
+        identity = source.getIdentity();
+        version.putAll(source.getVersion().getCounts());
+        writer = source.getWriter();
+        for (Object item : source.getItems()) {
+            switch (source.getKind()) {
+            case EVENT:
+                events.add(new JsonAdaptedEvent((Event) item));
+                break;
+            case TODO:
+                todos.add(new JsonAdaptedTodo((CompletableTodo) item));
+                break;
+            case DEADLINE:
+                deadlines.add(new JsonAdaptedDeadline((CompletableDeadline) item));
+                break;
+            default:
+                groupmates.add(new JsonAdaptedGroupmate((Groupmate) item));
+                break;
+            }
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code Change} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public Change toModelType() throws IllegalValueException {
+        RecordKind modelKind = JsonAdaptedSyncRecord.toRecordKind(kind);
+        if (identity == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "identity"));
+        }
+        if (writer == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "writer"));
+        }
+
+        final List<Object> items = new ArrayList<>();
+        for (JsonAdaptedEvent event : events) {
+            items.add(event.toModelType());
+        }
+        for (JsonAdaptedTodo todo : todos) {
+            items.add(todo.toModelType());
+        }
+        for (JsonAdaptedDeadline deadline : deadlines) {
+            items.add(deadline.toModelType());
+        }
+        for (JsonAdaptedGroupmate groupmate : groupmates) {
+            items.add(groupmate.toModelType());
+        }
+
+        try {
+            return new Change(modelKind, identity, JsonAdaptedSyncRecord.toVersionVector(version), writer, items);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Change.MESSAGE_CONSTRAINTS);
+        }
+    }
+}
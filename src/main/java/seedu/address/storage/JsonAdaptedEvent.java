@@ -11,6 +11,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.exceptions.TimeConversionException;
 import seedu.address.commons.util.DateUtil;
 import seedu.address.commons.util.TimeUtil;
+import seedu.address.model.task.Recurrence;
 import seedu.address.model.task.repeatable.Event;
 
 /**
@@ -21,20 +22,44 @@ class JsonAdaptedEvent {
     private final String date;
     private final String time;
     private final Boolean isWeekly;
+    private final String endTime;
+    private final JsonAdaptedRecurrence recurrence;
 
     /**
      * Constructs a {@code JsonAdaptedEvent} with the given {@code description}, {@code date},
-     * {@code time} and {@code isWeekly}.
+     * {@code time} and {@code isWeekly}, without an end time.
+     */
+    public JsonAdaptedEvent(String description, String date, String time, Boolean isWeekly) {
+        this(description, date, time, isWeekly, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedEvent} with the given {@code description}, {@code date},
+     * {@code time}, {@code isWeekly} and {@code endTime}. The end time may be null, as in files saved before events
+     * had end times.
+     */
+    public JsonAdaptedEvent(String description, String date, String time, Boolean isWeekly, String endTime) {
+        this(description, date, time, isWeekly, endTime, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedEvent} with the given {@code description}, {@code date},
+     * {@code time}, {@code isWeekly}, {@code endTime} and {@code recurrence}. The recurrence is only present for
+     * events that repeat other than every week without end, and takes the place of {@code isWeekly} when it is.
      */
     @JsonCreator
     public JsonAdaptedEvent(@JsonProperty("description")String description,
                             @JsonProperty("date") String date,
                             @JsonProperty("time") String time,
-                            @JsonProperty("isWeekly") Boolean isWeekly) {
+                            @JsonProperty("isWeekly") Boolean isWeekly,
+                            @JsonProperty("endTime") String endTime,
+                            @JsonProperty("recurrence") JsonAdaptedRecurrence recurrence) {
         this.description = description;
         this.date = date;
         this.time = time;
         this.isWeekly = isWeekly;
+        this.endTime = endTime;
+        this.recurrence = recurrence;
     }
 
     /**
@@ -45,6 +70,11 @@ class JsonAdaptedEvent {
         date = DateUtil.decodeDateForStorage(source.getDate());
         time = TimeUtil.decodeTime(source.getTime());
         isWeekly = source.getIsWeekly();
+        endTime = source.getEndTime().map(TimeUtil::decodeTime).orElse(null);
+        Recurrence sourceRecurrence = source.getRecurrence();
+        recurrence = sourceRecurrence.isRepeating() && !sourceRecurrence.isWeekly()
+                ? new JsonAdaptedRecurrence(sourceRecurrence)
+                : null;
     }
 
     /**
@@ -80,8 +110,24 @@ class JsonAdaptedEvent {
         if (isWeekly == null) {
             throw new IllegalValueException("Event isWeekly should not be null.");
         }
+        Recurrence modelRecurrence = recurrence != null
+                ? recurrence.toModelType()
+                : isWeekly ? Recurrence.WEEKLY : Recurrence.ONCE;
+
+        if (endTime == null) {
+            return new Event(description, encodedDate, encodedTime, modelRecurrence, null);
+        }
+        LocalTime encodedEndTime;
+        try {
+            encodedEndTime = TimeUtil.encodeTime(endTime);
+        } catch (TimeConversionException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+        if (!Event.isValidEndTime(encodedTime, encodedEndTime)) {
+            throw new IllegalValueException(Event.MESSAGE_CONSTRAINTS_END_TIME);
+        }
 
-        return new Event(description, encodedDate, encodedTime, isWeekly);
+        return new Event(description, encodedDate, encodedTime, modelRecurrence, encodedEndTime);
     }
 
 }
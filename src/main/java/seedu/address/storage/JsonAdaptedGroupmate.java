@@ -65,7 +65,7 @@ class JsonAdaptedGroupmate {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
 
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         final Set<Role> modelRoles = new HashSet<>(groupmateRoles);
         return new Groupmate(modelName, modelRoles);
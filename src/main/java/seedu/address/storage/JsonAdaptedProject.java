@@ -15,6 +15,7 @@ import seedu.address.model.project.GroupmateList;
 import seedu.address.model.project.Project;
 import seedu.address.model.project.ProjectName;
 import seedu.address.model.project.TodoList;
+import seedu.address.model.sync.SyncState;
 import seedu.address.model.task.CompletableDeadline;
 import seedu.address.model.task.CompletableTodo;
 import seedu.address.model.task.repeatable.Event;
@@ -31,17 +32,21 @@ class JsonAdaptedProject {
     private final List<JsonAdaptedTodo> todoList = new ArrayList<>();
     private final List<JsonAdaptedDeadline> deadlineList = new ArrayList<>();
     private final List<JsonAdaptedGroupmate> groupmateList = new ArrayList<>();
+    private final JsonAdaptedSyncState sync;
 
     /**
      * Constructs a {@code JsonAdaptedProject} with the given project details.
+     * Projects saved before they were synced have no sync state, and start as a new replica.
      */
     @JsonCreator
     public JsonAdaptedProject(@JsonProperty("projectName") String projectName,
                               @JsonProperty("events") List<JsonAdaptedEvent> eventList,
                               @JsonProperty("todos") List<JsonAdaptedTodo> todoList,
                               @JsonProperty("deadlines") List<JsonAdaptedDeadline> deadlineList,
-                              @JsonProperty("groupmates") List<JsonAdaptedGroupmate> groupmateList) {
+                              @JsonProperty("groupmates") List<JsonAdaptedGroupmate> groupmateList,
+                              @JsonProperty("sync") JsonAdaptedSyncState sync) {
         this.projectName = projectName;
+        this.sync = sync;
 
         if (eventList != null) {
             this.eventList.addAll(eventList);
@@ -74,6 +79,7 @@ class JsonAdaptedProject {
                 .map(JsonAdaptedDeadline::new).collect(Collectors.toList()));
         groupmateList.addAll(source.getGroupmates().stream()
                 .map(JsonAdaptedGroupmate::new).collect(Collectors.toList()));
+        sync = new JsonAdaptedSyncState(source.getSyncLog().getState());
     }
 
     /**
@@ -114,8 +120,9 @@ class JsonAdaptedProject {
             projectContacts.add(groupmate.toModelType());
         }
 
+        SyncState syncState = sync == null ? SyncState.newReplica() : sync.toModelType();
         return new Project(convertedProjectName, new EventList(projectEvents), new TodoList(projectTodos),
-                new DeadlineList(projectDeadlines), new GroupmateList(projectContacts));
+                new DeadlineList(projectDeadlines), new GroupmateList(projectContacts), syncState);
     }
 
 }
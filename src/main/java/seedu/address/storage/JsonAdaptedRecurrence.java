@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.DateConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.task.Recurrence;
+
+/**
+ * Jackson-friendly version of {@link Recurrence}.
+ */
+class JsonAdaptedRecurrence {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Recurrence's %s field is missing!";
+
+    private final String frequency;
+    private final Integer interval;
+    private final String until;
+    private final Integer count;
+    private final List<String> exceptions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedRecurrence} with the given recurrence details.
+     */
+    @JsonCreator
+    public JsonAdaptedRecurrence(@JsonProperty("frequency") String frequency,
+                                 @JsonProperty("interval") Integer interval,
+                                 @JsonProperty("until") String until,
+                                 @JsonProperty("count") Integer count,
+                                 @JsonProperty("exceptions") List<String> exceptions) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.until = until;
+        this.count = count;
+        if (exceptions != null) {
+            this.exceptions.addAll(exceptions);
+        }
+    }
+
+    /**
+     * Converts a given {@code Recurrence} into this class for Jackson use.
+     */
+    public JsonAdaptedRecurrence(Recurrence source) {
+        frequency = source.getFrequency().name();
+        interval = source.getInterval();
+        until = source.getUntil().map(DateUtil::decodeDateForStorage).orElse(null);
+        count = source.getCount().orElse(null);
+        source.getExceptions().forEach(date -> exceptions.add(DateUtil.decodeDateForStorage(date)));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted recurrence object into the model's {@code Recurrence} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted recurrence.
+     */
+    public Recurrence toModelType() throws IllegalValueException {
+        if (frequency == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "frequency"));
+        }
+        Recurrence.Frequency modelFrequency;
+        try {
+            modelFrequency = Recurrence.Frequency.valueOf(frequency);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+
+        if (interval == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "interval"));
+        }
+
+        LocalDate modelUntil = until == null ? null : encodeDate(until);
+        List<LocalDate> modelExceptions = new ArrayList<>();
+        for (String exception : exceptions) {
+            modelExceptions.add(encodeDate(exception));
+        }
+
+        if (!Recurrence.isValidRecurrence(modelFrequency, interval, modelUntil, count, modelExceptions)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        return new Recurrence(modelFrequency, interval, modelUntil, count, modelExceptions);
+    }
+
+    private static LocalDate encodeDate(String date) throws IllegalValueException {
+        try {
+            return DateUtil.encodeDate(date);
+        } catch (DateConversionException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+}
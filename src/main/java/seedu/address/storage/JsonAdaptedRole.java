@@ -46,7 +46,7 @@ class JsonAdaptedRole {
         if (!Role.isValidRoleName(roleName)) {
             throw new IllegalValueException(Role.MESSAGE_CONSTRAINTS);
         }
-        return new Role(roleName);
+        return Role.of(roleName);
     }
 
 }
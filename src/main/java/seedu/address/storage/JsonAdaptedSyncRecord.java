@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.sync.RecordKind;
+import seedu.address.model.sync.SyncRecord;
+import seedu.address.model.sync.VersionVector;
+
+/**
+ * Jackson-friendly version of {@link SyncRecord}.
+ */
+class JsonAdaptedSyncRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Sync record's %s field is missing!";
+    public static final String MESSAGE_INVALID_KIND = "Sync record's kind is not a kind of item that is synced.";
+
+    private final String kind;
+    private final String identity;
+    private final Map<String, Long> version = new HashMap<>();
+    private final String writer;
+    private final long stamp;
+    private final String fingerprint;
+    private final boolean deleted;
+
+    /**
+     * Constructs a {@code JsonAdaptedSyncRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedSyncRecord(@JsonProperty("kind") String kind,
+                                 @JsonProperty("identity") String identity,
+                                 @JsonProperty("version") Map<String, Long> version,
+                                 @JsonProperty("writer") String writer,
+                                 @JsonProperty("stamp") long stamp,
+                                 @JsonProperty("fingerprint") String fingerprint,
+                                 @JsonProperty("deleted") boolean deleted) {
+        this.kind = kind;
+        this.identity = identity;
+        if (version != null) {
+            this.version.putAll(version);
+        }
+        this.writer = writer;
+        this.stamp = stamp;
+        this.fingerprint = fingerprint;
+        this.deleted = deleted;
+    }
+
+    /**
+     * Converts a given {@code SyncRecord} into this class for Jackson use.
+     */
+    public JsonAdaptedSyncRecord(SyncRecord source) {
+        kind = source.getKind().name();
+        identity = source.getIdentity();
+        version.putAll(source.getVersion().getCounts());
+        writer = source.getWriter();
+        stamp = source.getStamp();
+        fingerprint = source.getFingerprint();
+        deleted = source.isDeleted();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted record object into the model's {@code SyncRecord} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted record.
+     */
+    public SyncRecord toModelType() throws IllegalValueException {
+        if (identity == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "identity"));
+        }
+        if (writer == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "writer"));
+        }
+        if (fingerprint == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "fingerprint"));
+        }
+        return new SyncRecord(toRecordKind(kind), identity, toVersionVector(version), writer, stamp, fingerprint,
+                deleted);
+    }
+
+    /**
+     * Converts the name of a {@code RecordKind} in a data file into the {@code RecordKind}.
+     *
+     * @throws IllegalValueException if {@code kind} is missing or is not the name of a {@code RecordKind}.
+     */
+    static RecordKind toRecordKind(String kind) throws IllegalValueException {
+        if (kind == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "kind"));
+        }
+        try {
+            return RecordKind.valueOf(kind);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_KIND);
+        }
+    }
+
+    /**
+     * Converts the counts of a version vector in a data file into the {@code VersionVector}.
+     *
+     * @throws IllegalValueException if a count is not positive.
+     */
+    static VersionVector toVersionVector(Map<String, Long> counts) throws IllegalValueException {
+        try {
+            return new VersionVector(counts);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(VersionVector.MESSAGE_CONSTRAINTS);
+        }
+    }
+}
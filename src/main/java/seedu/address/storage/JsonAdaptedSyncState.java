@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.sync.SyncRecord;
+import seedu.address.model.sync.SyncState;
+
+/**
+ * Jackson-friendly version of {@link SyncState}.
+ */
+class JsonAdaptedSyncState {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Sync state's %s field is missing!";
+
+    private final String replica;
+    private final long clock;
+    private final List<JsonAdaptedSyncRecord> records = new ArrayList<>();
+    private final Map<String, Long> received = new HashMap<>();
+    private final Map<String, Long> acknowledged = new HashMap<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSyncState} with the given sync state details.
+     */
+    @JsonCreator
+    public JsonAdaptedSyncState(@JsonProperty("replica") String replica,
+                                @JsonProperty("clock") long clock,
+                                @JsonProperty("records") List<JsonAdaptedSyncRecord> records,
+                                @JsonProperty("received") Map<String, Long> received,
+                                @JsonProperty("acknowledged") Map<String, Long> acknowledged) {
+        this.replica = replica;
+        this.clock = clock;
+        if (records != null) {
+            this.records.addAll(records);
+        }
+        if (received != null) {
+            this.received.putAll(received);
+        }
+        if (acknowledged != null) {
+            this.acknowledged.putAll(acknowledged);
+        }
+    }
+
+    /**
+     * Converts a given {@code SyncState} into this class for Jackson use.
+     */
+    public JsonAdaptedSyncState(SyncState source) {
+        replica = source.getReplicaId();
+        clock = source.getClock();
+        records.addAll(source.getRecords().stream().map(JsonAdaptedSyncRecord::new).collect(Collectors.toList()));
+        received.putAll(source.getReceived());
+        acknowledged.putAll(source.getAcknowledged());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted sync state object into the model's {@code SyncState} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted sync state.
+     */
+    public SyncState toModelType() throws IllegalValueException {
+        if (replica == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "replica"));
+        }
+
+        final List<SyncRecord> modelRecords = new ArrayList<>();
+        for (JsonAdaptedSyncRecord record : records) {
+            modelRecords.add(record.toModelType());
+        }
+        return new SyncState(replica, clock, modelRecords, received, acknowledged);
+    }
+}
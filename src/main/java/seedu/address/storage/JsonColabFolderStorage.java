@@ -3,26 +3,57 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ColabFolder;
+import seedu.address.model.ColabFolderSnapshot;
 import seedu.address.model.ReadOnlyColabFolder;
 
 /**
  * A class to access ColabFolder data stored as a json file on the hard disk.
+ * Several instances of the app may share a data file. Saves take an advisory lock on a lock file next to the data
+ * file, and stamp the data with a version one higher than the version in the file. If the file has been saved by
+ * another writer since this storage last read or saved it, the changes made here since then are merged into the
+ * data in the file, record by record, instead of overwriting it.
  */
 public class JsonColabFolderStorage implements ColabFolderStorage {
 
+    public static final String LOCK_FILE_SUFFIX = ".lock";
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String VERSION_FIELD = "version";
+
     private static final Logger logger = LogsCenter.getLogger(JsonColabFolderStorage.class);
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    // a file lock is held by the whole JVM, so saves within the JVM also take turns
+    private static final Object saveLock = new Object();
 
     private Path filePath;
 
+    // the state of every open data file as this storage last read or saved it, keyed by the absolute path of the file
+    private final Map<Path, SavedFolder> savedFolders = new ConcurrentHashMap<>();
+
     public JsonColabFolderStorage(Path filePath) {
         this.filePath = filePath;
     }
@@ -45,6 +76,12 @@ public class JsonColabFolderStorage implements ColabFolderStorage {
     public Optional<ReadOnlyColabFolder> readColabFolder(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        Optional<SavedFolder> savedFolder = readSavedFolder(filePath);
+        savedFolders.put(toKey(filePath), savedFolder.orElseGet(() -> new SavedFolder(0, new ColabFolder())));
+        return savedFolder.map(folder -> new ColabFolder(folder.base));
+    }
+
+    private Optional<SavedFolder> readSavedFolder(Path filePath) throws DataConversionException {
         Optional<JsonSerializableColabFolder> jsonColabFolder = JsonUtil.readJsonFile(
                 filePath, JsonSerializableColabFolder.class);
         if (jsonColabFolder.isEmpty()) {
@@ -52,7 +89,8 @@ public class JsonColabFolderStorage implements ColabFolderStorage {
         }
 
         try {
-            return Optional.of(jsonColabFolder.get().toModelType());
+            return Optional.of(new SavedFolder(jsonColabFolder.get().getVersion(),
+                    jsonColabFolder.get().toModelType()));
         } catch (IllegalValueException | NullPointerException e) {
             logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
             throw new DataConversionException(e);
@@ -66,6 +104,9 @@ public class JsonColabFolderStorage implements ColabFolderStorage {
 
     /**
      * Similar to {@link #saveColabFolder(ReadOnlyColabFolder)}.
+     * If the file was saved by another writer since this storage last read or saved it, the changes to
+     * {@code colabFolder} since then are merged into the data in the file. If this storage has never read or saved
+     * the file, {@code colabFolder} replaces the data in the file.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +114,126 @@ public class JsonColabFolderStorage implements ColabFolderStorage {
         requireNonNull(colabFolder);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableColabFolder(colabFolder), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path lockFilePath = filePath.resolveSibling(filePath.getFileName() + LOCK_FILE_SUFFIX);
+        synchronized (saveLock) {
+            try (FileChannel lockChannel = FileChannel.open(lockFilePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE); FileLock lock = lockChannel.lock()) {
+                long fileVersion = readVersion(filePath);
+                ReadOnlyColabFolder merged = mergeWithFile(colabFolder, filePath, fileVersion);
+
+                Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+                JsonUtil.saveJsonFile(new JsonSerializableColabFolder(merged, fileVersion + 1), tempFilePath);
+                replace(tempFilePath, filePath);
+
+                // a snapshot is never changed, so it can be kept as it is
+                ReadOnlyColabFolder base = colabFolder instanceof ColabFolderSnapshot
+                        ? colabFolder
+                        : new ColabFolder(colabFolder);
+                SavedFolder savedFolder = new SavedFolder(fileVersion + 1, base);
+                savedFolders.put(toKey(filePath), merged == colabFolder
+                        ? savedFolder
+                        : new SavedFolder(savedFolder.version, savedFolder.base, merged));
+            }
+        }
+    }
+
+    @Override
+    public void closeColabFolder(Path filePath) {
+        requireNonNull(filePath);
+        savedFolders.remove(toKey(filePath));
+    }
+
+    /**
+     * Returns the data to save in place of {@code colabFolder}, which is {@code colabFolder} itself unless the file
+     * holds changes from another writer.
+     */
+    private ReadOnlyColabFolder mergeWithFile(ReadOnlyColabFolder colabFolder, Path filePath, long fileVersion)
+            throws IOException {
+        SavedFolder savedFolder = savedFolders.get(toKey(filePath));
+        if (savedFolder == null) {
+            return colabFolder;
+        }
+
+        ReadOnlyColabFolder fileContent = savedFolder.fileContent;
+        if (fileVersion != savedFolder.version) {
+            logger.info(filePath + " was saved by another writer, merging changes");
+            try {
+                fileContent = readSavedFolder(filePath).map(folder -> folder.base).orElseGet(ColabFolder::new);
+            } catch (DataConversionException e) {
+                logger.warning("Could not read " + filePath + " to merge changes, overwriting it: " + e);
+                return colabFolder;
+            }
+        }
+
+        if (fileContent == savedFolder.base) {
+            return colabFolder;
+        }
+        return ColabFolderMerger.merge(savedFolder.base, colabFolder, fileContent);
+    }
+
+    /**
+     * Returns the version stamped on the data in {@code filePath}, reading only as far as the version.
+     * Returns 0 if the file does not exist or has no version.
+     */
+    static long readVersion(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(filePath.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return 0;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (fieldName.equals(VERSION_FIELD) && value == JsonToken.VALUE_NUMBER_INT) {
+                    return parser.getLongValue();
+                }
+                parser.skipChildren();
+            }
+        } catch (JsonProcessingException e) {
+            logger.warning("Could not read the version of " + filePath + ": " + e);
+        }
+        return 0;
     }
 
+    /**
+     * Moves {@code source} over {@code target} in one step where the file system allows it, so readers that do not
+     * take the lock see either the old or the new data.
+     */
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static Path toKey(Path filePath) {
+        return filePath.toAbsolutePath().normalize();
+    }
+
+    /**
+     * A data file as this storage last read or saved it.
+     */
+    private static class SavedFolder {
+        /** The version of the file. */
+        private final long version;
+        /** The data read from the file, or the data this storage saved to it. Changes are measured from here. */
+        private final ReadOnlyColabFolder base;
+        /** The data in the file, which differs from the base if the data saved was merged. */
+        private final ReadOnlyColabFolder fileContent;
+
+        SavedFolder(long version, ReadOnlyColabFolder base, ReadOnlyColabFolder fileContent) {
+            this.version = version;
+            this.base = base;
+            this.fileContent = fileContent;
+        }
+
+        SavedFolder(long version, ReadOnlyColabFolder base) {
+            this(version, base, base);
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.sync.ProjectDelta;
+
+/**
+ * A class to access the {@link ProjectDelta}s stored as json files on the hard disk.
+ */
+public class JsonProjectDeltaStorage implements ProjectDeltaStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonProjectDeltaStorage.class);
+
+    @Override
+    public Optional<ProjectDelta> readProjectDelta(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableProjectDelta> jsonDelta = JsonUtil.readJsonFile(
+                filePath, JsonSerializableProjectDelta.class);
+        if (jsonDelta.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonDelta.get().toModelType());
+        } catch (IllegalValueException | NullPointerException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveProjectDelta(ProjectDelta delta, Path filePath) throws IOException {
+        requireNonNull(delta);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableProjectDelta(delta), filePath);
+    }
+}
@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,22 +17,28 @@ import seedu.address.model.project.Project;
 
 /**
  * An Immutable ColabFolder that is serializable to JSON format.
+ * The version comes first in the file, so it can be read without reading the rest of the file.
  */
 @JsonRootName(value = "colab")
+@JsonPropertyOrder({"version", "contacts", "projects"})
 class JsonSerializableColabFolder {
 
     public static final String MESSAGE_DUPLICATE_CONTACTS = "Contact list contains duplicate contact(s).";
     public static final String MESSAGE_DUPLICATE_PROJECTS = "Project list contains duplicate project(s).";
 
+    private final long version;
     private final List<JsonAdaptedContact> contacts = new ArrayList<>();
     private final List<JsonAdaptedProject> projects = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableColabFolder} with the given contacts.
+     * Constructs a {@code JsonSerializableColabFolder} with the given version, contacts and projects.
+     * Files saved before versions were stamped have no version, which is taken as version 0.
      */
     @JsonCreator
-    public JsonSerializableColabFolder(@JsonProperty("contacts") List<JsonAdaptedContact> contacts,
+    public JsonSerializableColabFolder(@JsonProperty("version") long version,
+                                       @JsonProperty("contacts") List<JsonAdaptedContact> contacts,
                                        @JsonProperty("projects") List<JsonAdaptedProject> projects) {
+        this.version = version;
         this.contacts.addAll(contacts);
         this.projects.addAll(projects);
     }
@@ -40,12 +47,18 @@ class JsonSerializableColabFolder {
      * Converts a given {@code ReadOnlyColabFolder} into this class for Jackson use.
      *
      * @param source future changes to this will not affect the created {@code JsonSerializableColabFolder}.
+     * @param version the version the data is saved as.
      */
-    public JsonSerializableColabFolder(ReadOnlyColabFolder source) {
+    public JsonSerializableColabFolder(ReadOnlyColabFolder source, long version) {
+        this.version = version;
         contacts.addAll(source.getContactList().stream().map(JsonAdaptedContact::new).collect(Collectors.toList()));
         projects.addAll(source.getProjectsList().stream().map(JsonAdaptedProject::new).collect(Collectors.toList()));
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Converts this CoLAB folder into the model's {@code ColabFolder} object.
      *
@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.sync.ProjectDelta;
+import seedu.address.model.sync.ProjectDelta.Change;
+
+/**
+ * An Immutable ProjectDelta that is serializable to JSON format.
+ */
+@JsonRootName(value = "delta")
+class JsonSerializableProjectDelta {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Delta's %s field is missing!";
+
+    private final String projectName;
+    private final String replica;
+    private final long upTo;
+    private final Map<String, Long> received = new HashMap<>();
+    private final List<JsonAdaptedDeltaChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableProjectDelta} with the given delta details.
+     */
+    @JsonCreator
+    public JsonSerializableProjectDelta(@JsonProperty("projectName") String projectName,
+                                        @JsonProperty("replica") String replica,
+                                        @JsonProperty("upTo") long upTo,
+                                        @JsonProperty("received") Map<String, Long> received,
+                                        @JsonProperty("changes") List<JsonAdaptedDeltaChange> changes) {
+        this.projectName = projectName;
+        this.replica = replica;
+        this.upTo = upTo;
+        if (received != null) {
+            this.received.putAll(received);
+        }
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    /**
+     * Converts a given {@code ProjectDelta} into this class for Jackson use.
+     */
+    public JsonSerializableProjectDelta(ProjectDelta source) {
+        projectName = source.getProjectName().toString();
+        replica = source.getReplicaId();
+        upTo = source.getUpTo();
+        received.putAll(source.getReceived());
+        changes.addAll(source.getChanges().stream().map(JsonAdaptedDeltaChange::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this delta into the model's {@code ProjectDelta} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ProjectDelta toModelType() throws IllegalValueException {
+        if (projectName == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    ProjectName.class.getSimpleName()));
+        }
+        if (!ProjectName.isValidProjectName(projectName)) {
+            throw new IllegalValueException(ProjectName.MESSAGE_CONSTRAINTS);
+        }
+        if (replica == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "replica"));
+        }
+
+        final List<Change> modelChanges = new ArrayList<>();
+        for (JsonAdaptedDeltaChange change : changes) {
+            modelChanges.add(change.toModelType());
+        }
+        return new ProjectDelta(new ProjectName(projectName), replica, upTo, received, modelChanges);
+    }
+}
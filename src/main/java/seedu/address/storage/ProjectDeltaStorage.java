@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.sync.ProjectDelta;
+
+/**
+ * Represents a storage for the {@link ProjectDelta}s exchanged between replicas of a project.
+ */
+public interface ProjectDeltaStorage {
+
+    /**
+     * Returns the delta saved in {@code filePath}.
+     *
+     * @return A {@link ProjectDelta} or {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if the data in the file is not in the expected format.
+     * @throws IOException if there was any problem when reading from the file.
+     */
+    Optional<ProjectDelta> readProjectDelta(Path filePath) throws DataConversionException, IOException;
+
+    /**
+     * Saves {@code delta} to {@code filePath}.
+     *
+     * @param delta cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveProjectDelta(ProjectDelta delta, Path filePath) throws IOException;
+
+}
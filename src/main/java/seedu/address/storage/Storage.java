@@ -12,7 +12,7 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends ColabFolderStorage, UserPrefsStorage {
+public interface Storage extends ColabFolderStorage, UserPrefsStorage, ProjectDeltaStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
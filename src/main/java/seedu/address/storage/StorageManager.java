@@ -10,6 +10,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyColabFolder;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.sync.ProjectDelta;
 
 /**
  * Manages storage of ColabFolder data in local storage.
@@ -19,6 +20,7 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private ColabFolderStorage colabFolderStorage;
     private UserPrefsStorage userPrefsStorage;
+    private ProjectDeltaStorage projectDeltaStorage = new JsonProjectDeltaStorage();
 
     /**
      * Creates a {@code StorageManager} with the given {@code ColabFolderStorage} and {@code UserPrefStorage}.
@@ -75,4 +77,23 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         colabFolderStorage.saveColabFolder(colabFolder, filePath);
     }
+
+    @Override
+    public void closeColabFolder(Path filePath) {
+        colabFolderStorage.closeColabFolder(filePath);
+    }
+
+    // ================ ProjectDelta methods ==============================
+
+    @Override
+    public Optional<ProjectDelta> readProjectDelta(Path filePath) throws DataConversionException, IOException {
+        logger.fine("Attempting to read delta from file: " + filePath);
+        return projectDeltaStorage.readProjectDelta(filePath);
+    }
+
+    @Override
+    public void saveProjectDelta(ProjectDelta delta, Path filePath) throws IOException {
+        logger.fine("Attempting to write delta to file: " + filePath);
+        projectDeltaStorage.saveProjectDelta(delta, filePath);
+    }
 }
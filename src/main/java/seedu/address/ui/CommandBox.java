@@ -1,5 +1,9 @@
 package seedu.address.ui;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
@@ -8,11 +12,10 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commandhistory.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands entered while an earlier command is still running are queued and run in order after it.
  */
 public class CommandBox extends UiPart<Region> {
 
@@ -21,6 +24,8 @@ public class CommandBox extends UiPart<Region> {
 
     private final CommandHistory commandHistory = CommandHistory.getCommandHistory();
     private final CommandExecutor commandExecutor;
+    private final Queue<String> queuedCommands = new ArrayDeque<>();
+    private boolean isRunning;
 
     @FXML
     private TextField commandTextField;
@@ -76,13 +81,46 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
+        if (isRunning) {
+            queuedCommands.add(commandText);
             commandTextField.setText("");
-            commandHistory.addCommand(commandText);
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+            return;
         }
+        run(commandText);
+    }
+
+    /**
+     * Runs {@code commandText}, then the next queued command once it completes. If the command fails, the commands
+     * queued after it are not run, as they may depend on it, but are added to the command history so they can be
+     * brought back with UP. The failed command is put back in the command box unless the user has typed something
+     * else there in the meantime.
+     */
+    private void run(String commandText) {
+        isRunning = true;
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            isRunning = false;
+            if (error != null) {
+                queuedCommands.forEach(commandHistory::addCommand);
+                queuedCommands.clear();
+                if (commandTextField.getText().equals("")) {
+                    commandTextField.setText(commandText);
+                    commandTextField.end();
+                }
+                if (commandTextField.getText().equals(commandText)) {
+                    setStyleToIndicateCommandFailure();
+                }
+                return;
+            }
+
+            if (commandTextField.getText().equals(commandText)) {
+                commandTextField.setText("");
+            }
+            commandHistory.addCommand(commandText);
+            String nextCommand = queuedCommands.poll();
+            if (nextCommand != null) {
+                run(nextCommand);
+            }
+        });
     }
 
     /**
@@ -111,11 +149,13 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command and returns a future of the result, which fails with a {@code CommandException} or
+         * {@code ParseException} if the command cannot be executed. The future must be completed on the JavaFX
+         * Application Thread.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
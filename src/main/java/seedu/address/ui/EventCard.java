@@ -17,6 +17,7 @@ public class EventCard extends UiPart<Region> {
 
     public static final String MESSAGE_EVENT_NON_REPEATABLE = "%s, %s, %s";
     public static final String MESSAGE_EVENT_REPEATABLE = "Every %s, starting %s, %s";
+    public static final String MESSAGE_EVENT_RECURRING = "%s, starting %s, %s";
 
     private static final String FXML = "EventCard.fxml";
 
@@ -42,12 +43,17 @@ public class EventCard extends UiPart<Region> {
         id.setText(displayedIndex + ". ");
         eventDescription.setText(event.getDescription());
 
-        if (event.getIsWeekly()) {
+        String time = TimeUtil.decodeTime(event.getTime())
+                + event.getEndTime().map(endTime -> " - " + TimeUtil.decodeTime(endTime)).orElse("");
+        if (event.getRecurrence().isRepeating() && !event.getIsWeekly()) {
+            dateTime.setText(String.format(MESSAGE_EVENT_RECURRING, event.getRecurrence().describe(event.getDate()),
+                    DateUtil.decodeDate(event.getDate()), time));
+        } else if (event.getIsWeekly()) {
             dateTime.setText(String.format(MESSAGE_EVENT_REPEATABLE, DateUtil.decodeDateIntoDay(event.getDate()),
-                    DateUtil.decodeDate(event.getDate()), TimeUtil.decodeTime(event.getTime())));
+                    DateUtil.decodeDate(event.getDate()), time));
         } else {
             dateTime.setText(String.format(MESSAGE_EVENT_NON_REPEATABLE, DateUtil.decodeDateIntoDay(event.getDate()),
-                    DateUtil.decodeDate(event.getDate()), TimeUtil.decodeTime(event.getTime())));
+                    DateUtil.decodeDate(event.getDate()), time));
         }
     }
 
@@ -119,8 +119,8 @@ public class HelpPanel extends UiPart<Region> {
 
                 new CommandSyntax("addT", "addT PROJECT_INDEX d/DESCRIPTION"),
                 new CommandSyntax("updateT", "updateT PROJECT_INDEX i/TODO_INDEX d/DESCRIPTION"),
-                new CommandSyntax("deleteT", "deleteT PROJECT_INDEX i/TODO_INDEX"),
-                new CommandSyntax("markT", "markT PROJECT_INDEX i/TODO_INDEX")
+                new CommandSyntax("deleteT", "deleteT PROJECT_INDEX i/TODO_INDEXES"),
+                new CommandSyntax("markT", "markT PROJECT_INDEX i/TODO_INDEXES")
         );
     }
 
@@ -129,19 +129,23 @@ public class HelpPanel extends UiPart<Region> {
                 new CommandSyntax("addD", "addD PROJECT_INDEX d/DESCRIPTION by/DATE"),
                 new CommandSyntax("updateD",
                         "updateD PROJECT_INDEX i/DEADLINE_INDEX [d/DESCRIPTION] [by/DATE]"),
-                new CommandSyntax("deleteD", "deleteD PROJECT_INDEX i/DEADLINE_INDEX"),
-                new CommandSyntax("markD", "markD PROJECT_INDEX i/DEADLINE_INDEX")
+                new CommandSyntax("deleteD", "deleteD PROJECT_INDEX i/DEADLINE_INDEXES"),
+                new CommandSyntax("markD", "markD PROJECT_INDEX i/DEADLINE_INDEXES")
         );
     }
 
     private static ObservableList<CommandSyntax> getEventCommands() {
         return FXCollections.observableArrayList(
                 new CommandSyntax("addE",
-                        "addE PROJECT_INDEX d/DESCRIPTION on/DATE at/TIME w/REPEAT_WEEKLY"),
+                        "addE PROJECT_INDEX d/DESCRIPTION on/DATE at/TIME [end/END_TIME] w/REPEAT_WEEKLY"),
+                new CommandSyntax("addE",
+                        "addE PROJECT_INDEX d/DESCRIPTION on/DATE at/TIME [end/END_TIME] every/REPETITION "
+                                + "[until/END_DATE] [times/NUMBER_OF_TIMES] [except/SKIPPED_DATE]..."),
                 new CommandSyntax("updateE",
                         "updateE PROJECT_INDEX i/EVENT_INDEX [d/DESCRIPTION] [on/DATE] [at/TIME] "
-                                + "[w/REPEAT_WEEKLY]"),
-                new CommandSyntax("deleteE", "deleteE PROJECT_INDEX i/EVENT_INDEX")
+                                + "[end/END_TIME] [w/REPEAT_WEEKLY] [every/REPETITION [until/END_DATE] "
+                                + "[times/NUMBER_OF_TIMES] [except/SKIPPED_DATE]...]"),
+                new CommandSyntax("deleteE", "deleteE PROJECT_INDEX i/EVENT_INDEXES")
         );
     }
 
@@ -150,26 +154,43 @@ public class HelpPanel extends UiPart<Region> {
                 new CommandSyntax("addG", "addG PROJECT_INDEX n/NAME [r/ROLE]..."),
                 new CommandSyntax("updateG",
                         "updateG PROJECT_INDEX i/GROUPMATE_INDEX [n/NAME] [r/ROLE]..."),
-                new CommandSyntax("deleteG", "deleteG PROJECT_INDEX i/GROUPMATE_INDEX")
+                new CommandSyntax("deleteG", "deleteG PROJECT_INDEX i/GROUPMATE_INDEXES")
         );
     }
 
     private static ObservableList<CommandSyntax> getContactCommands() {
         return FXCollections.observableArrayList(
                 new CommandSyntax("addC", "addC n/NAME p/PHONE_NUMBER e/EMAIL a/ADDRESS [t/TAG]..."),
-                new CommandSyntax("findC", "findC KEYWORD [KEYWORD]..."),
+                new CommandSyntax("findC",
+                        "findC [[~]KEYWORD]... [n/NAME]... [p/PHONE]... [e/EMAIL]... [a/ADDRESS]... [t/TAG]..."),
+                new CommandSyntax("filterC", "filterC t/[!]TAG[|TAG]... [t/[!]TAG[|TAG]...]..."),
                 new CommandSyntax("updateC",
                         "updateC INDEX [n/NAME] [p/PHONE] [e/EMAIL] [a/ADDRESS] [t/TAG]..."),
-                new CommandSyntax("deleteC", "deleteC INDEX")
+                new CommandSyntax("deleteC", "deleteC INDEXES"),
+                new CommandSyntax("whois", "whois INDEX")
         );
     }
 
     private static ObservableList<CommandSyntax> getOtherCommands() {
         return FXCollections.observableArrayList(
                 new CommandSyntax("today", "today"),
+                new CommandSyntax("agenda", "agenda from/DATE to/DATE [pg/PAGE]"),
+                new CommandSyntax("week", "week [pg/PAGE]"),
+                new CommandSyntax("month", "month [pg/PAGE]"),
+                new CommandSyntax("find", "find TEXT"),
+                new CommandSyntax("upcoming", "upcoming [n/COUNT]"),
+                new CommandSyntax("overdue", "overdue"),
+                new CommandSyntax("clashes", "clashes [week|month]"),
+                new CommandSyntax("progress", "progress [asc|desc]"),
+                new CommandSyntax("tasks", "tasks [done:true|false] [type:todo|deadline] [due<DATE]... "
+                        + "[project:TEXT]... [text:TEXT]..."),
                 new CommandSyntax("contacts", "contacts"),
                 new CommandSyntax("undo", "undo"),
                 new CommandSyntax("redo", "redo"),
+                new CommandSyntax("batch", "batch COMMAND ; COMMAND [; COMMAND]..."),
+                new CommandSyntax("switch", "switch [f/DATA_FILE]"),
+                new CommandSyntax("exportDelta", "exportDelta PROJECT_INDEX f/DELTA_FILE [re/TEAMMATE_DELTA_FILE]"),
+                new CommandSyntax("importDelta", "importDelta f/DELTA_FILE"),
                 new CommandSyntax("help", "help"),
                 new CommandSyntax("clear", "clear"),
                 new CommandSyntax("exit", "exit")
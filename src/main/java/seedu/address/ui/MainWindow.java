@@ -6,9 +6,11 @@ import static seedu.address.commons.core.Messages.MESSAGE_WELCOME;
 import static seedu.address.logic.commands.HelpCommand.SHOWING_HELP_MESSAGE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
 
-import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -52,6 +54,7 @@ public class MainWindow extends UiPart<Stage> {
     private HelpPanel helpPanel;
     private TodayPanel todayPanel;
     private ProjectDisplayPanel projectDisplayPanel;
+    private StatusBarFooter statusBarFooter;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -133,7 +136,7 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getColabFolderFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getColabFolderFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -142,6 +145,9 @@ public class MainWindow extends UiPart<Stage> {
 
         projectDisplayPanel = new ProjectDisplayPanel();
         projectDisplayPanel.setMainWindow(this);
+
+        todayPanel = new TodayPanel(logic.getAgendaIndex());
+        todayPanel.getRoot().setId(TODAY_PANEL_ID);
     }
 
     /**
@@ -161,29 +167,53 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command and returns a future of the result. The UI is updated with the result on the JavaFX
+     * Application Thread once the data has been saved, and the returned future completes after that.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-
-            if (commandResult.hasUiCommand()) {
-                executeUiCommand(commandResult.getUiCommand());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> handled = new CompletableFuture<>();
+        logic.executeAsync(commandText).whenComplete((commandResult, error) -> Platform.runLater(() -> {
+            try {
+                handleCommandResult(commandResult, error);
+                handled.complete(commandResult);
+            } catch (CommandException | UiCommandException | ParseException e) {
+                logger.info("Invalid command: " + commandText);
+                setFeedbackToUser(e.getMessage());
+                handled.completeExceptionally(new CommandException(e.getMessage(), e));
+            } catch (RuntimeException e) {
+                // the command box waits for this future, so it must complete however the command fails
+                logger.warning("Unexpected error running command: " + commandText + " " + e);
+                setFeedbackToUser(e.toString());
+                handled.completeExceptionally(e);
             }
+        }));
+        return handled;
+    }
 
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+    private void handleCommandResult(CommandResult commandResult, Throwable error)
+            throws CommandException, UiCommandException, ParseException {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof CommandException) {
+            throw (CommandException) cause;
+        } else if (cause instanceof ParseException) {
+            throw (ParseException) cause;
+        } else if (cause != null) {
+            throw new CommandException(cause.getMessage(), cause);
+        }
 
-            logic.commitState(commandResult);
+        logger.info("Result: " + commandResult.getFeedbackToUser());
 
-            return commandResult;
-        } catch (CommandException | UiCommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            setFeedbackToUser(e.getMessage());
-            throw new CommandException(e.getMessage(), e);
+        if (commandResult.getFolderToOpen().isPresent()) {
+            statusBarFooter.setSaveLocation(logic.getColabFolderFilePath());
         }
+
+        if (commandResult.hasUiCommand()) {
+            executeUiCommand(commandResult.getUiCommand());
+        }
+
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
     }
 
     private void executeUiCommand(UiCommand uiCommand) throws UiCommandException {
@@ -199,6 +229,15 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay.setFeedbackToUser(message);
     }
 
+    /**
+     * Displays a notification in the {@code resultDisplay}, below the feedback to the last command.
+     *
+     * @param notification The notification to display.
+     */
+    public void showNotification(String notification) {
+        resultDisplay.appendNotification(notification);
+    }
+
     // Methods that change the UI
 
     /**
@@ -267,10 +306,11 @@ public class MainWindow extends UiPart<Stage> {
     public void displayToday() {
         sidePanel.clearButtonStyles();
         sidePanel.addTodayButtonStyle();
-        todayPanel = new TodayPanel(logic.getColabFolder(), LocalDate.now());
-        infoDisplayPlaceholder.getChildren().clear();
-        infoDisplayPlaceholder.getChildren().add(todayPanel.getRoot());
-        todayPanel.getRoot().setId(TODAY_PANEL_ID);
+        logic.refreshDate();
+        if (!infoDisplayPlaceholder.getChildren().contains(todayPanel.getRoot())) {
+            infoDisplayPlaceholder.getChildren().clear();
+            infoDisplayPlaceholder.getChildren().add(todayPanel.getRoot());
+        }
         sidePanel.clearSelection();
     }
 
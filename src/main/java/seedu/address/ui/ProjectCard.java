@@ -1,10 +1,13 @@
 package seedu.address.ui;
 
+import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectProgress;
 
 /**
  * An UI component that displays information of a {@code Project}.
@@ -12,6 +15,9 @@ import seedu.address.model.project.Project;
 public class ProjectCard extends UiPart<Region> {
 
     private static final String FXML = "ProjectListCard.fxml";
+    private static final String PROGRESS_FORMAT = "%1$d%% done, %2$d overdue";
+    private static final String NEXT_EVENT_FORMAT = "Next: %1$s on %2$s";
+    private static final String NO_NEXT_EVENT = "No upcoming events";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -29,6 +35,10 @@ public class ProjectCard extends UiPart<Region> {
     private Label name;
     @FXML
     private Label id;
+    @FXML
+    private Label progress;
+    @FXML
+    private Label nextEvent;
 
     /**
      * Creates a {@code ProjectCard} with the given {@code Project} and index to display.
@@ -38,6 +48,16 @@ public class ProjectCard extends UiPart<Region> {
         this.project = project;
         id.setText(displayedIndex + ". ");
         name.setText(project.getProjectName().projectName);
+
+        // the counts are kept up to date by the project, so redrawing the card does not go through its tasks
+        ProjectProgress projectProgress = project.getProgress();
+        progress.textProperty().bind(Bindings.createStringBinding(() -> String.format(PROGRESS_FORMAT,
+                projectProgress.getCompletionPercentage(), projectProgress.getOverdueDeadlineCount()),
+                projectProgress));
+        nextEvent.textProperty().bind(Bindings.createStringBinding(() -> projectProgress.getNextEvent()
+                .map(event -> String.format(NEXT_EVENT_FORMAT, event.getDescription(),
+                        DateUtil.decodeDate(event.getNextOccurrence(projectProgress.getToday()).get())))
+                .orElse(NO_NEXT_EVENT), projectProgress));
     }
 
     @Override
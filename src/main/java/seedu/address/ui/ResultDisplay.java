@@ -25,4 +25,12 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Shows {@code notification} below the text already displayed, so the feedback of the last command stays.
+     */
+    public void appendNotification(String notification) {
+        requireNonNull(notification);
+        resultDisplay.appendText(resultDisplay.getText().isEmpty() ? notification : "\n\n" + notification);
+    }
+
 }
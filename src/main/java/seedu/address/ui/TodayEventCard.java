@@ -17,6 +17,7 @@ public class TodayEventCard extends UiPart<Region> {
 
     public static final String MESSAGE_EVENT_NON_REPEATABLE = "%s, %s, %s";
     public static final String MESSAGE_EVENT_REPEATABLE = "Every %s, starting %s, %s";
+    public static final String MESSAGE_EVENT_RECURRING = "%s, starting %s, %s";
 
     private static final String FXML = "TodayEventCard.fxml";
 
@@ -42,7 +43,12 @@ public class TodayEventCard extends UiPart<Region> {
         eventDescription.setText(eventWithProject.getDescription());
         projectName.setText(eventWithProject.getProjectName().toString());
 
-        if (eventWithProject.getIsWeekly()) {
+        if (eventWithProject.getRecurrence().isRepeating() && !eventWithProject.getIsWeekly()) {
+            dateTime.setText(String.format(MESSAGE_EVENT_RECURRING,
+                    eventWithProject.getRecurrence().describe(eventWithProject.getDate()),
+                    DateUtil.decodeDate(eventWithProject.getDate()),
+                    TimeUtil.decodeTime(eventWithProject.getTime())));
+        } else if (eventWithProject.getIsWeekly()) {
             dateTime.setText(String.format(MESSAGE_EVENT_REPEATABLE,
                     DateUtil.decodeDateIntoDay(eventWithProject.getDate()),
                     DateUtil.decodeDate(eventWithProject.getDate()),
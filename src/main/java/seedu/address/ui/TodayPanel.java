@@ -3,33 +3,28 @@ package seedu.address.ui;
 import static seedu.address.commons.core.Messages.MESSAGE_NO_DEADLINES_TO_DISPLAY_TODAY;
 import static seedu.address.commons.core.Messages.MESSAGE_NO_EVENTS_TO_DISPLAY_TODAY;
 
-import java.time.LocalDate;
-import java.util.Comparator;
-
-import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.SortedList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import seedu.address.commons.util.DateUtil;
-import seedu.address.model.ReadOnlyColabFolder;
-import seedu.address.model.project.Project;
+import seedu.address.model.agenda.AgendaIndex;
+import seedu.address.model.agenda.AgendaPeriod;
 import seedu.address.model.task.deadline.DeadlineWithProject;
 import seedu.address.model.task.repeatable.EventWithProject;
 
 /**
  * Panel displaying today screen.
+ * The panel is bound to an {@code AgendaIndex} and stays up to date as the agenda changes.
  */
 public class TodayPanel extends UiPart<Region> {
     private static final String FXML = "TodayPanel.fxml";
 
-    private final LocalDate currentDate;
-    private final ObservableList<Project> projectsList;
-
     private final ListView<EventWithProject> eventsListView = new ListView<>();
     private final ListView<DeadlineWithProject> deadlinesListView = new ListView<>();
 
@@ -43,64 +38,48 @@ public class TodayPanel extends UiPart<Region> {
     /**
      * Creates a {@code TodayPanel}.
      *
-     * @param colabFolder CoLAB folder used to create today panel.
+     * @param agendaIndex Agenda that backs the today panel.
      */
-    public TodayPanel(ReadOnlyColabFolder colabFolder, LocalDate date) {
+    public TodayPanel(AgendaIndex agendaIndex) {
         super(FXML);
 
-        this.projectsList = colabFolder.getProjectsList();
-        this.currentDate = date;
-        this.date.setText(DateUtil.decodeDateWithDay(currentDate));
+        date.setText(DateUtil.decodeDateWithDay(agendaIndex.getDate()));
+        agendaIndex.dateProperty().addListener((observable, oldDate, newDate) ->
+                date.setText(DateUtil.decodeDateWithDay(newDate)));
 
-        initEventsSection();
-        initDeadlinesSection();
+        initEventsSection(agendaIndex.getEvents(AgendaPeriod.TODAY));
+        initDeadlinesSection(agendaIndex.getDeadlines(AgendaPeriod.TODAY));
     }
 
-    private void initDeadlinesSection() {
+    private void initDeadlinesSection(ObservableList<DeadlineWithProject> deadlines) {
         deadlinesListView.setCellFactory(listView -> new TodayDeadlineListViewCell());
-        ObservableList<DeadlineWithProject> observableList = FXCollections.observableArrayList();
-
-        for (Project project : projectsList) {
-            project.getDeadlinesOnDate(currentDate)
-                    .forEach(x -> observableList.add(new DeadlineWithProject(x, project.getProjectName())));
-        }
+        deadlinesListView.setItems(deadlines);
 
-        SortedList<DeadlineWithProject> sortedDeadlineList = new SortedList<>(observableList,
-                Comparator.comparing(DeadlineWithProject::getDescription));
+        Label noDeadlinesPlaceholder = new Label();
+        noDeadlinesPlaceholder.setText(MESSAGE_NO_DEADLINES_TO_DISPLAY_TODAY);
 
-        deadlinesListView.setItems(sortedDeadlineList);
-
-
-        if (observableList.isEmpty()) {
-            Label noDeadlinesPlaceholder = new Label();
-            noDeadlinesPlaceholder.setText(MESSAGE_NO_DEADLINES_TO_DISPLAY_TODAY);
-            deadlinesListViewPlaceholder.getChildren().add(noDeadlinesPlaceholder);
-        } else {
-            deadlinesListViewPlaceholder.getChildren().add(deadlinesListView);
-        }
+        bindPlaceholder(deadlinesListViewPlaceholder, deadlines, deadlinesListView, noDeadlinesPlaceholder);
     }
 
-    private void initEventsSection() {
+    private void initEventsSection(ObservableList<EventWithProject> events) {
         eventsListView.setCellFactory(listView -> new TodayEventListViewCell());
-        ObservableList<EventWithProject> observableList = FXCollections.observableArrayList();
+        eventsListView.setItems(events);
 
-        for (Project project : projectsList) {
-            project.getEventsOnDate(currentDate)
-                    .forEach(x -> observableList.add(new EventWithProject(x, project.getProjectName())));
-        }
-
-        SortedList<EventWithProject> sortedEventList = new SortedList<>(observableList,
-                Comparator.comparing(EventWithProject::getTime).thenComparing(EventWithProject::getDescription));
+        Label noEventsPlaceholder = new Label();
+        noEventsPlaceholder.setText(MESSAGE_NO_EVENTS_TO_DISPLAY_TODAY);
 
-        eventsListView.setItems(sortedEventList);
+        bindPlaceholder(eventsListViewPlaceholder, events, eventsListView, noEventsPlaceholder);
+    }
 
-        if (observableList.isEmpty()) {
-            Label noEventsPlaceholder = new Label();
-            noEventsPlaceholder.setText(MESSAGE_NO_EVENTS_TO_DISPLAY_TODAY);
-            eventsListViewPlaceholder.getChildren().add(noEventsPlaceholder);
-        } else {
-            eventsListViewPlaceholder.getChildren().add(eventsListView);
-        }
+    /**
+     * Shows {@code listView} in {@code placeholder} when {@code items} is non-empty, and {@code emptyLabel}
+     * otherwise.
+     */
+    private static void bindPlaceholder(StackPane placeholder, ObservableList<?> items, Node listView,
+                                        Node emptyLabel) {
+        Runnable update = () -> placeholder.getChildren().setAll(items.isEmpty() ? emptyLabel : listView);
+        update.run();
+        items.addListener((ListChangeListener<Object>) change -> update.run());
     }
 
     /**
@@ -1,6 +1,9 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.stage.Stage;
+import seedu.address.model.reminder.Reminder;
 
 /**
  * API of UI component
@@ -10,4 +13,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code reminders} to the user. */
+    void showReminders(List<Reminder> reminders);
+
 }
@@ -3,7 +3,10 @@ package seedu.address.ui;
 import java.awt.Taskbar;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import javax.imageio.ImageIO;
 
 import javafx.application.Platform;
@@ -15,6 +18,7 @@ import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.model.reminder.Reminder;
 
 /**
  * The manager of the UI component.
@@ -28,6 +32,7 @@ public class UiManager implements Ui {
 
     private Logic logic;
     private MainWindow mainWindow;
+    private final List<Reminder> pendingReminders = new ArrayList<>();
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
@@ -59,12 +64,26 @@ public class UiManager implements Ui {
             mainWindow.show(); // This should be called before creating other UI parts
             mainWindow.fillInnerParts();
             mainWindow.displayToday(); // Display today panel
+            if (!pendingReminders.isEmpty()) {
+                showReminders(new ArrayList<>(pendingReminders));
+                pendingReminders.clear();
+            }
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
         }
     }
 
+    @Override
+    public void showReminders(List<Reminder> reminders) {
+        // reminders may be due before the main window is shown, so they are kept until it is
+        if (mainWindow == null) {
+            pendingReminders.addAll(reminders);
+            return;
+        }
+        mainWindow.showNotification(reminders.stream().map(Reminder::toString).collect(Collectors.joining("\n")));
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,254 @@
+package seedu.address.api;
+
+import static java.time.Duration.ofMillis;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonColabFolderStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2021-03-01T10:00:00Z"), ZoneOffset.UTC);
+    private static final int THROUGHPUT_READERS = 8;
+    private static final int THROUGHPUT_READS_PER_READER = 250;
+    private static final int THROUGHPUT_WRITES = 50;
+    private static final long THROUGHPUT_TIMEOUT = 15000;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private ExecutorService modelThread;
+    private Logic logic;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        modelThread = Executors.newSingleThreadExecutor();
+        StorageManager storage = new StorageManager(
+                new JsonColabFolderStorage(temporaryFolder.resolve("colab.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(new ModelManager(getTypicalColabFolder(), new UserPrefs()), storage);
+        apiServer = new ApiServer(logic, modelThread, CLOCK, 0, 4);
+        apiServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+        logic.shutdown();
+        modelThread.shutdownNow();
+    }
+
+    @Test
+    public void getProjects_typicalFolder_projectsWithIndexes() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PROJECTS_PATH);
+
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        List<?> projects = JsonUtil.fromJsonString(response.body(), List.class);
+        assertEquals(logic.getColabFolder().getProjectsList().size(), projects.size());
+        Map<?, ?> firstProject = (Map<?, ?>) projects.get(0);
+        assertEquals(1, firstProject.get("index"));
+        assertEquals("CS2103T Team Project", firstProject.get("name"));
+        Map<?, ?> firstTodo = (Map<?, ?>) ((List<?>) firstProject.get("todos")).get(0);
+        assertEquals("Add unit tests", firstTodo.get("description"));
+        assertEquals(false, firstTodo.get("isDone"));
+    }
+
+    @Test
+    public void getContacts_typicalFolder_allContacts() throws Exception {
+        HttpResponse<String> response = get(ApiServer.CONTACTS_PATH);
+
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertEquals(logic.getColabFolder().getContactList().size(),
+                JsonUtil.fromJsonString(response.body(), List.class).size());
+    }
+
+    @Test
+    public void getAgenda_defaultRange_startsToday() throws Exception {
+        HttpResponse<String> response = get(ApiServer.AGENDA_PATH + "?limit=1");
+
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        List<?> entries = JsonUtil.fromJsonString(response.body(), List.class);
+        assertEquals(1, entries.size());
+        Map<?, ?> firstEntry = (Map<?, ?>) entries.get(0);
+        assertEquals("deadline", firstEntry.get("type"));
+        assertEquals("2021-03-01", firstEntry.get("date"));
+        assertEquals("Milestone v1.1", firstEntry.get("description"));
+    }
+
+    @Test
+    public void getAgenda_invalidParameters_badRequest() throws Exception {
+        assertError(get(ApiServer.AGENDA_PATH + "?from=01-03-2021"), ApiServer.STATUS_BAD_REQUEST,
+                String.format(ApiServer.MESSAGE_INVALID_DATE, "01-03-2021"));
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, get(ApiServer.AGENDA_PATH + "?limit=0").statusCode());
+        assertEquals(ApiServer.STATUS_BAD_REQUEST,
+                get(ApiServer.AGENDA_PATH + "?from=2021-03-02&to=2021-03-01").statusCode());
+    }
+
+    @Test
+    public void search_matchingText_hitsWithIndexes() throws Exception {
+        HttpResponse<String> response = get(ApiServer.SEARCH_PATH + "?q=milestone%20v1.3");
+
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        List<?> hits = JsonUtil.fromJsonString(response.body(), List.class);
+        assertEquals(1, hits.size());
+        Map<?, ?> hit = (Map<?, ?>) hits.get(0);
+        assertEquals("deadline", hit.get("type"));
+        assertEquals(1, hit.get("projectIndex"));
+        assertEquals(3, hit.get("itemIndex"));
+
+        assertError(get(ApiServer.SEARCH_PATH), ApiServer.STATUS_BAD_REQUEST, ApiServer.MESSAGE_MISSING_QUERY);
+    }
+
+    @Test
+    public void runCommand_validCommand_changesServedDataAndCanBeUndone() throws Exception {
+        int projectCount = logic.getColabFolder().getProjectsList().size();
+
+        HttpResponse<String> response = postCommand("addP n/API Project");
+
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertTrue(((String) JsonUtil.fromJsonString(response.body(), Map.class).get("feedback"))
+                .contains("API Project"));
+        assertEquals(projectCount + 1, JsonUtil.fromJsonString(get(ApiServer.PROJECTS_PATH).body(), List.class)
+                .size());
+
+        assertEquals(ApiServer.STATUS_OK, postCommand("undo").statusCode());
+        assertEquals(projectCount, JsonUtil.fromJsonString(get(ApiServer.PROJECTS_PATH).body(), List.class).size());
+    }
+
+    @Test
+    public void runCommand_invalidRequests_rejected() throws Exception {
+        assertError(postCommand("unknown"), ApiServer.STATUS_BAD_REQUEST, MESSAGE_UNKNOWN_COMMAND);
+        assertError(post("{\"command\": 1}", "application/json"), ApiServer.STATUS_BAD_REQUEST,
+                ApiServer.MESSAGE_INVALID_COMMAND_REQUEST);
+        assertError(post("not json", "application/json"), ApiServer.STATUS_BAD_REQUEST,
+                ApiServer.MESSAGE_INVALID_COMMAND_REQUEST);
+        // a web page can send plain text to any site without asking first
+        assertError(post("{\"command\": \"clear\"}", "text/plain"), ApiServer.STATUS_UNSUPPORTED_MEDIA_TYPE,
+                ApiServer.MESSAGE_JSON_REQUIRED);
+        assertEquals(ApiServer.STATUS_METHOD_NOT_ALLOWED, get(ApiServer.COMMANDS_PATH).statusCode());
+    }
+
+    /**
+     * Verifies that {@code THROUGHPUT_READERS} clients reading all projects while another client adds todos are
+     * served in less than {@code THROUGHPUT_TIMEOUT} milliseconds, and that every read sees a consistent state.
+     */
+    @Test
+    public void performanceTest() {
+        int todoCount = logic.getColabFolder().getProjectsList().get(0).getSortedTodos().size();
+        ExecutorService clients = Executors.newFixedThreadPool(THROUGHPUT_READERS + 1);
+
+        try {
+            assertTimeoutPreemptively(ofMillis(THROUGHPUT_TIMEOUT), () -> {
+                List<Future<?>> results = new ArrayList<>();
+                results.add(clients.submit(() -> {
+                    for (int i = 0; i < THROUGHPUT_WRITES; i++) {
+                        assertEquals(ApiServer.STATUS_OK, postCommand("addT 1 d/Throughput todo " + i).statusCode());
+                    }
+                    return null;
+                }));
+                for (int reader = 0; reader < THROUGHPUT_READERS; reader++) {
+                    results.add(clients.submit(() -> {
+                        for (int i = 0; i < THROUGHPUT_READS_PER_READER; i++) {
+                            List<?> projects = JsonUtil.fromJsonString(get(ApiServer.PROJECTS_PATH).body(), List.class);
+                            int servedTodoCount = ((List<?>) ((Map<?, ?>) projects.get(0)).get("todos")).size();
+                            assertTrue(servedTodoCount >= todoCount
+                                    && servedTodoCount <= todoCount + THROUGHPUT_WRITES);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> result : results) {
+                    result.get();
+                }
+            }, "Concurrent API requests exceeded time limit");
+        } finally {
+            clients.shutdownNow();
+        }
+
+        assertEquals(todoCount + THROUGHPUT_WRITES,
+                logic.getColabFolderSnapshot().getProjectsList().get(0).getSortedTodos().size());
+    }
+
+    @Test
+    public void handle_unknownPath_notFound() throws Exception {
+        assertEquals(ApiServer.STATUS_NOT_FOUND, get("/api/unknown").statusCode());
+        assertEquals(ApiServer.STATUS_NOT_FOUND, get(ApiServer.CONTACTS_PATH + "/1").statusCode());
+    }
+
+    @Test
+    public void handle_otherHost_forbidden() throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), apiServer.getPort())) {
+            PrintWriter request = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII);
+            request.print("GET " + ApiServer.CONTACTS_PATH + " HTTP/1.1\r\nHost: example.com\r\n"
+                    + "Connection: close\r\n\r\n");
+            request.flush();
+
+            BufferedReader response = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            assertTrue(response.readLine().contains(String.valueOf(ApiServer.STATUS_FORBIDDEN)));
+        }
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> postCommand(String command) throws Exception {
+        return post(JsonUtil.toJsonLine(Map.of("command", command)), "application/json");
+    }
+
+    private HttpResponse<String> post(String body, String contentType) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(ApiServer.COMMANDS_PATH))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + apiServer.getPort() + path);
+    }
+
+    private static void assertError(HttpResponse<String> response, int status, String error) throws IOException {
+        assertEquals(status, response.statusCode());
+        assertEquals(error, JsonUtil.fromJsonString(response.body(), Map.class).get("error"));
+    }
+}
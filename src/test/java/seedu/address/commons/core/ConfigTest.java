@@ -11,7 +11,10 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "API port : off\n"
+                + "Deadline reminders (minutes before) : [1440]\n"
+                + "Event reminders (minutes before) : [60]";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,32 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+public class DayRolloverSchedulerTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DayRolloverScheduler(null, () -> {}));
+        assertThrows(NullPointerException.class, () -> new DayRolloverScheduler(Clock.systemUTC(), null));
+    }
+
+    @Test
+    public void getDelayToNextDay_variousTimes_delayToMidnight() {
+        assertEquals(Duration.ofHours(24), delayAt(LocalDateTime.of(2021, 4, 5, 0, 0)));
+        assertEquals(Duration.ofMinutes(90), delayAt(LocalDateTime.of(2021, 4, 5, 22, 30)));
+        assertEquals(Duration.ofSeconds(1), delayAt(LocalDateTime.of(2021, 12, 31, 23, 59, 59)));
+    }
+
+    private static Duration delayAt(LocalDateTime dateTime) {
+        Clock clock = Clock.fixed(dateTime.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        return new DayRolloverScheduler(clock, () -> {}).getDelayToNextDay();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
@@ -64,4 +65,24 @@ public class DateUtilTest {
         LocalDate invalidDate = null;
         assertThrows(NullPointerException.class, () -> DateUtil.decodeDateForStorage(invalidDate));
     }
+
+    @Test
+    public void dateOfEpochDay_sameDay_sameInstance() {
+        LocalDate date = LocalDate.of(2021, 4, 5);
+        assertEquals(date, DateUtil.dateOfEpochDay((int) date.toEpochDay()));
+        assertSame(DateUtil.dateOfEpochDay((int) date.toEpochDay()), DateUtil.dateOfEpochDay((int) date.toEpochDay()));
+
+        // days before 1970
+        LocalDate oldDate = LocalDate.of(1969, 12, 31);
+        assertEquals(oldDate, DateUtil.dateOfEpochDay((int) oldDate.toEpochDay()));
+    }
+
+    @Test
+    public void dateOfEpochDay_farOffDay_correctDate() {
+        LocalDate farFutureDate = LocalDate.of(9999, 12, 31);
+        assertEquals(farFutureDate, DateUtil.dateOfEpochDay((int) farFutureDate.toEpochDay()));
+
+        LocalDate farPastDate = LocalDate.of(1, 1, 1);
+        assertEquals(farPastDate, DateUtil.dateOfEpochDay((int) farPastDate.toEpochDay()));
+    }
 }
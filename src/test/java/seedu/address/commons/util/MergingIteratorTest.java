@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class MergingIteratorTest {
+
+    @Test
+    public void next_sortedSources_mergedInOrder() {
+        MergingIterator<Integer> iterator = new MergingIterator<>(List.of(
+                List.of(1, 4, 7).iterator(),
+                List.<Integer>of().iterator(),
+                List.of(2, 3, 8, 9).iterator(),
+                List.of(5).iterator()), Comparator.naturalOrder());
+        assertEquals(List.of(1, 2, 3, 4, 5, 7, 8, 9), drain(iterator));
+    }
+
+    @Test
+    public void next_equalElements_orderedBySource() {
+        MergingIterator<String> iterator = new MergingIterator<>(List.of(
+                List.of("b1", "c1").iterator(),
+                List.of("a2", "b2").iterator()), Comparator.comparing(element -> element.charAt(0)));
+        assertEquals(List.of("a2", "b1", "b2", "c1"), drain(iterator));
+    }
+
+    @Test
+    public void next_unboundedSources_onlyReadsNeededElements() {
+        Iterator<Integer> evens = Stream.iterate(0, i -> i + 2).iterator();
+        Iterator<Integer> odds = Stream.iterate(1, i -> i + 2).iterator();
+        MergingIterator<Integer> iterator = new MergingIterator<>(List.of(evens, odds), Comparator.naturalOrder());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), iterator.next());
+        }
+    }
+
+    @Test
+    public void next_noSources_throwsNoSuchElementException() {
+        MergingIterator<Integer> iterator = new MergingIterator<>(List.of(), Comparator.naturalOrder());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    private static <T> List<T> drain(Iterator<T> iterator) {
+        List<T> elements = new ArrayList<>();
+        iterator.forEachRemaining(elements::add);
+        return elements;
+    }
+}
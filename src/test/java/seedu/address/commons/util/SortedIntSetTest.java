@@ -0,0 +1,70 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class SortedIntSetTest {
+
+    @Test
+    public void add_outOfOrder_keptSorted() {
+        SortedIntSet set = setOf(5, 1, 9, 3, 7, 1);
+        assertEquals(5, set.size());
+        assertEquals("[1, 3, 5, 7, 9]", set.toString());
+        assertFalse(set.add(3));
+    }
+
+    @Test
+    public void remove() {
+        SortedIntSet set = setOf(1, 2, 3);
+        assertTrue(set.remove(2));
+        assertFalse(set.remove(2));
+        assertFalse(set.contains(2));
+        assertEquals(setOf(1, 3), set);
+
+        set.remove(1);
+        set.remove(3);
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void setOperations() {
+        SortedIntSet first = setOf(1, 2, 4, 6, 8);
+        SortedIntSet second = setOf(2, 3, 4, 9);
+
+        assertEquals(setOf(2, 4), SortedIntSet.intersection(first, second));
+        assertEquals(setOf(1, 2, 3, 4, 6, 8, 9), SortedIntSet.union(first, second));
+        assertEquals(setOf(1, 6, 8), SortedIntSet.difference(first, second));
+        assertEquals(setOf(3, 9), SortedIntSet.difference(second, first));
+
+        // operations with an empty set
+        SortedIntSet empty = new SortedIntSet();
+        assertTrue(SortedIntSet.intersection(first, empty).isEmpty());
+        assertEquals(first, SortedIntSet.union(empty, first));
+        assertEquals(first, SortedIntSet.difference(first, empty));
+
+        // operands are not modified
+        assertEquals(setOf(1, 2, 4, 6, 8), first);
+    }
+
+    @Test
+    public void equals() {
+        SortedIntSet set = setOf(1, 2);
+
+        assertTrue(set.equals(setOf(2, 1)));
+        assertEquals(set.hashCode(), setOf(2, 1).hashCode());
+        assertFalse(set.equals(setOf(1)));
+        assertFalse(set.equals(null));
+        assertFalse(set.equals(1));
+    }
+
+    private static SortedIntSet setOf(int... values) {
+        SortedIntSet set = new SortedIntSet();
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.AddProjectCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.parser.CliSyntax;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyColabFolder;
+import seedu.address.storage.JsonColabFolderStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_FIRST = AddProjectCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_NAME + "First";
+    private static final String ADD_SECOND = AddProjectCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_NAME + "Second";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private JsonColabFolderStorage colabFolderStorage;
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        colabFolderStorage = new JsonColabFolderStorage(temporaryFolder.resolve("colab.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(new ModelManager(), new StorageManager(colabFolderStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(logic, -1));
+    }
+
+    @Test
+    public void run_commandsAndComments_oneLinePerCommand() throws Exception {
+        StringWriter output = new StringWriter();
+        int failedCount = run(new BatchRunner(logic, 0), output, "# set up", ADD_FIRST, "", "unknown", ADD_SECOND);
+
+        assertEquals(1, failedCount);
+        List<Map<?, ?>> lines = parse(output);
+        assertEquals(5, lines.size());
+        assertOutcome(lines.get(0), 2, BatchRunner.STATUS_OK);
+        assertOutcome(lines.get(1), 4, BatchRunner.STATUS_ERROR);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, lines.get(1).get("message"));
+        assertOutcome(lines.get(2), 5, BatchRunner.STATUS_OK);
+        assertOutcome(lines.get(3), 5, BatchRunner.STATUS_SAVED);
+        assertOutcome(lines.get(4), null, BatchRunner.STATUS_DONE);
+        assertEquals(String.format(BatchRunner.MESSAGE_DONE, 2, 1), lines.get(4).get("message"));
+        assertEquals(2, readSaved().getProjectsList().size());
+    }
+
+    @Test
+    public void run_checkpointInterval_savesAtCheckpoints() throws Exception {
+        StringWriter output = new StringWriter();
+        run(new BatchRunner(logic, 1), output, ADD_FIRST, ADD_SECOND);
+
+        List<String> statuses = parse(output).stream().map(line -> (String) line.get("status"))
+                .collect(Collectors.toList());
+        assertEquals(List.of(BatchRunner.STATUS_OK, BatchRunner.STATUS_SAVED, BatchRunner.STATUS_OK,
+                BatchRunner.STATUS_SAVED, BatchRunner.STATUS_DONE), statuses);
+    }
+
+    @Test
+    public void run_exitCommand_stopsEarly() throws Exception {
+        StringWriter output = new StringWriter();
+        run(new BatchRunner(logic, 0), output, ADD_FIRST, ExitCommand.COMMAND_WORD, ADD_SECOND);
+
+        assertEquals(1, readSaved().getProjectsList().size());
+    }
+
+    @Test
+    public void run_noSuccessfulCommands_notSaved() throws Exception {
+        StringWriter output = new StringWriter();
+        run(new BatchRunner(logic, 0), output, "unknown");
+
+        assertFalse(colabFolderStorage.readColabFolder().isPresent());
+        assertTrue(output.toString().contains(BatchRunner.STATUS_DONE));
+    }
+
+    private static int run(BatchRunner batchRunner, StringWriter output, String... commands) throws IOException {
+        BufferedReader input = new BufferedReader(new StringReader(String.join("\n", commands)));
+        return batchRunner.run(input, new PrintWriter(output));
+    }
+
+    private static List<Map<?, ?>> parse(StringWriter output) throws IOException {
+        List<Map<?, ?>> lines = new ArrayList<>();
+        for (String line : output.toString().split(System.lineSeparator())) {
+            lines.add(JsonUtil.fromJsonString(line, Map.class));
+        }
+        return lines;
+    }
+
+    private static void assertOutcome(Map<?, ?> outcome, Integer line, String status) {
+        assertEquals(line, outcome.get("line"));
+        assertEquals(status, outcome.get("status"));
+    }
+
+    private ReadOnlyColabFolder readSaved() throws Exception {
+        return colabFolderStorage.readColabFolder().get();
+    }
+}
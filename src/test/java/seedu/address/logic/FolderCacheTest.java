@@ -0,0 +1,74 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ResidentFolder;
+
+public class FolderCacheTest {
+
+    private static final Path FIRST = Paths.get("data", "first.json");
+    private static final Path SECOND = Paths.get("data", "second.json");
+    private static final Path THIRD = Paths.get("data", "third.json");
+
+    private final ResidentFolder folder = new ResidentFolder(getTypicalColabFolder());
+    private final long folderSize = folder.estimateSize();
+    private final List<Path> flushed = new ArrayList<>();
+
+    @Test
+    public void constructor_negativeBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FolderCache(-1, (path, folder) -> {}));
+    }
+
+    @Test
+    public void take_residentFolder_removedAndReturned() {
+        FolderCache cache = new FolderCache(folderSize, (path, folder) -> flushed.add(path));
+        cache.put(FIRST, folder);
+        assertEquals(folderSize, cache.getEstimatedSize());
+
+        // the same file given as an absolute path
+        Optional<ResidentFolder> taken = cache.take(FIRST.toAbsolutePath());
+        assertSame(folder, taken.get());
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getEstimatedSize());
+        assertEquals(Optional.empty(), cache.take(FIRST));
+        assertEquals(List.of(), flushed);
+    }
+
+    @Test
+    public void put_overBudget_leastRecentlyUsedFlushedAndEvicted() {
+        FolderCache cache = new FolderCache(2 * folderSize, (path, folder) -> flushed.add(path));
+        cache.put(FIRST, folder);
+        cache.put(SECOND, folder);
+        // taking and putting back a folder makes it the most recently used
+        cache.put(FIRST, cache.take(FIRST).get());
+
+        cache.put(THIRD, folder);
+        assertEquals(List.of(SECOND.toAbsolutePath()), flushed);
+        assertFalse(cache.contains(SECOND));
+        assertTrue(cache.contains(FIRST));
+        assertTrue(cache.contains(THIRD));
+        assertEquals(2 * folderSize, cache.getEstimatedSize());
+    }
+
+    @Test
+    public void put_folderOverBudgetOnItsOwn_evictedAtOnce() {
+        FolderCache cache = new FolderCache(folderSize - 1, (path, folder) -> flushed.add(path));
+        cache.put(FIRST, folder);
+
+        assertEquals(List.of(FIRST.toAbsolutePath()), flushed);
+        assertEquals(0, cache.size());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,15 +14,23 @@ import static seedu.address.testutil.TypicalContacts.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.AddContactCommand;
 import seedu.address.logic.commands.AddProjectCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteContactCommand;
+import seedu.address.logic.commands.SwitchFolderCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.ViewContactsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.CliSyntax;
@@ -73,6 +83,163 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ViewContactsCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void executeAsync_commandsSavedInOrder() throws Exception {
+        CompletableFuture<CommandResult> addFirst = logic.executeAsync(AddProjectCommand.COMMAND_WORD + " "
+                + CliSyntax.PREFIX_NAME + "First");
+        CompletableFuture<CommandResult> addSecond = logic.executeAsync(AddProjectCommand.COMMAND_WORD + " "
+                + CliSyntax.PREFIX_NAME + "Second");
+
+        // the model is changed before the futures complete, and the last save includes both projects
+        assertEquals(2, model.getFilteredProjectList().size());
+        addSecond.get();
+        assertTrue(addFirst.isDone());
+        logic.shutdown();
+        ReadOnlyColabFolder saved = new JsonColabFolderStorage(temporaryFolder.resolve("colab.json"))
+                .readColabFolder().get();
+        assertEquals(2, saved.getProjectsList().size());
+    }
+
+    @Test
+    public void executeWithoutSaving_savedOnlyBySave() throws Exception {
+        logic.executeWithoutSaving(AddProjectCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_NAME + "First");
+        JsonColabFolderStorage savedStorage = new JsonColabFolderStorage(temporaryFolder.resolve("colab.json"));
+        assertFalse(savedStorage.readColabFolder().isPresent());
+
+        logic.save();
+        assertEquals(1, savedStorage.readColabFolder().get().getProjectsList().size());
+    }
+
+    @Test
+    public void executeAsync_commandThatChangesData_committedBeforeSaved() throws Exception {
+        CompletableFuture<CommandResult> add = logic.executeAsync(AddProjectCommand.COMMAND_WORD + " "
+                + CliSyntax.PREFIX_NAME + "First");
+
+        // undone without waiting for the save, as another command may run while it is written
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, model.getFilteredProjectList().size());
+        add.join();
+    }
+
+    @Test
+    public void execute_batch_undoneAsOneCommand() throws Exception {
+        logic.execute(BatchCommand.COMMAND_WORD + " " + AddProjectCommand.COMMAND_WORD + " "
+                + CliSyntax.PREFIX_NAME + "First ; " + AddProjectCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_NAME
+                + "Second");
+        assertEquals(2, model.getFilteredProjectList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, model.getFilteredProjectList().size());
+    }
+
+    @Test
+    public void execute_switchToResidentFolder_historyKept() throws Exception {
+        Path firstPath = temporaryFolder.resolve("colab.json");
+        Path secondPath = temporaryFolder.resolve("second.json");
+        model.setColabFolderFilePath(firstPath);
+        logic.execute(AddProjectCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_NAME + "First");
+
+        // a folder without a file is opened empty, and saved once opened
+        logic.execute(SwitchFolderCommand.COMMAND_WORD + " f/" + secondPath);
+        assertEquals(0, model.getFilteredProjectList().size());
+        assertEquals(secondPath, logic.getColabFolderFilePath());
+        logic.execute(AddProjectCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_NAME + "Second");
+
+        logic.execute(SwitchFolderCommand.COMMAND_WORD + " f/" + firstPath);
+        assertEquals("First", model.getFilteredProjectList().get(0).getProjectName().toString());
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, model.getFilteredProjectList().size());
+
+        logic.shutdown();
+        ReadOnlyColabFolder saved = new JsonColabFolderStorage(secondPath).readColabFolder().get();
+        assertEquals(1, saved.getProjectsList().size());
+    }
+
+    @Test
+    public void execute_switchOverFolderCacheBudget_evictedFolderReadFromFile() throws Exception {
+        Path firstPath = temporaryFolder.resolve("colab.json");
+        model.setColabFolderFilePath(firstPath);
+        JsonColabFolderStorage colabFolderStorage = new JsonColabFolderStorage(firstPath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(colabFolderStorage, userPrefsStorage), 0);
+        logic.execute(AddProjectCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_NAME + "First");
+
+        logic.execute(SwitchFolderCommand.COMMAND_WORD + " f/" + temporaryFolder.resolve("second.json"));
+        logic.execute(SwitchFolderCommand.COMMAND_WORD + " f/" + firstPath);
+        assertEquals(1, model.getFilteredProjectList().size());
+        // the history of an evicted folder is dropped
+        assertThrows(CommandException.class, UndoCommand.MESSAGE_FAILURE, () ->
+                logic.execute(UndoCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void executeAsync_switchToFolderNotInMemory_readInBackground() throws Exception {
+        Path secondPath = temporaryFolder.resolve("second.json");
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        JsonColabFolderStorage colabFolderStorage = new JsonColabFolderStorage(temporaryFolder.resolve("colab.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(colabFolderStorage, userPrefsStorage),
+                LogicManager.DEFAULT_FOLDER_CACHE_BUDGET, modelTasks::add);
+        logic.execute(AddProjectCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_NAME + "First");
+
+        CompletableFuture<CommandResult> switchFolder = logic.executeAsync(SwitchFolderCommand.COMMAND_WORD + " f/"
+                + secondPath);
+        CompletableFuture<CommandResult> addSecond = logic.executeAsync(AddProjectCommand.COMMAND_WORD + " "
+                + CliSyntax.PREFIX_NAME + "Second");
+        // the folder is read on the writer thread, and the command entered meanwhile waits for it to open
+        assertEquals(1, model.getFilteredProjectList().size());
+        assertFalse(switchFolder.isDone());
+
+        modelTasks.take().run();
+        assertEquals(secondPath, logic.getColabFolderFilePath());
+        modelTasks.take().run();
+        switchFolder.get();
+        addSecond.get();
+        assertEquals(1, model.getFilteredProjectList().size());
+        assertEquals("Second", model.getFilteredProjectList().get(0).getProjectName().toString());
+    }
+
+    @Test
+    public void executeAsync_queuedCommandThrowsRuntimeException_futureFails() throws Exception {
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        model = new ModelManager() {
+            @Override
+            public void addProject(Project project) {
+                throw new IllegalStateException("dummy exception");
+            }
+        };
+        JsonColabFolderStorage colabFolderStorage = new JsonColabFolderStorage(temporaryFolder.resolve("colab.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(colabFolderStorage, userPrefsStorage),
+                LogicManager.DEFAULT_FOLDER_CACHE_BUDGET, modelTasks::add);
+
+        logic.executeAsync(SwitchFolderCommand.COMMAND_WORD + " f/" + temporaryFolder.resolve("second.json"));
+        CompletableFuture<CommandResult> add = logic.executeAsync(AddProjectCommand.COMMAND_WORD + " "
+                + CliSyntax.PREFIX_NAME + "First");
+        modelTasks.take().run();
+        modelTasks.take().run();
+
+        assertTrue(add.handle((unused, error) -> error).get() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void execute_switchToUnreadableFolder_throwsCommandException() throws Exception {
+        Path invalidPath = temporaryFolder.resolve("invalid.json");
+        FileUtil.writeToFile(invalidPath, "not a CoLAB folder");
+        logic.execute(AddProjectCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_NAME + "First");
+
+        assertThrows(CommandException.class, () -> logic.execute(SwitchFolderCommand.COMMAND_WORD + " f/"
+                + invalidPath));
+        assertEquals(1, model.getFilteredProjectList().size());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_failedFuture() {
+        CompletableFuture<CommandResult> result = logic.executeAsync("uicfhmowqewca");
+        assertThrows(ExecutionException.class, result::get);
+        assertTrue(result.handle((unused, error) -> error).join() instanceof ParseException);
+    }
+
     @Test
     public void execute_colabFolderStorageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonColabFolderIoExceptionThrowingStub
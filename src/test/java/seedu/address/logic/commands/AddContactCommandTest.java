@@ -9,6 +9,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,11 +24,21 @@ import seedu.address.model.ColabFolder;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyColabFolder;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.ResidentFolder;
+import seedu.address.model.agenda.AgendaEntry;
+import seedu.address.model.agenda.AgendaIndex;
+import seedu.address.model.agenda.AgendaRange;
+import seedu.address.model.agenda.EventClash;
 import seedu.address.model.colabfolderhistory.SavedState;
 import seedu.address.model.colabfolderhistory.exceptions.NoRedoableStateException;
 import seedu.address.model.colabfolderhistory.exceptions.NoUndoableStateException;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactQuery;
+import seedu.address.model.contact.ContactSearchResult;
+import seedu.address.model.contact.TagQuery;
 import seedu.address.model.project.Project;
+import seedu.address.model.search.SearchHit;
+import seedu.address.model.task.repeatable.Event;
 import seedu.address.testutil.ContactBuilder;
 
 public class AddContactCommandTest {
@@ -128,6 +142,21 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ResidentFolder switchColabFolder(Path colabFolderFilePath, ResidentFolder folder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyColabFolder publishSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyColabFolder getColabFolderSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasContact(Contact contact) {
             throw new AssertionError("This method should not be called.");
@@ -138,11 +167,26 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteContacts(List<Contact> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setContact(Contact target, Contact editedContact) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ContactSearchResult searchContacts(ContactQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Contact> searchContacts(TagQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Contact> getFilteredContactList() {
             throw new AssertionError("This method should not be called.");
@@ -153,6 +197,21 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredContactList(Predicate<Contact> predicate, Comparator<Contact> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Contact> getContactPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Comparator<Contact> getContactComparator() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasProject(Project project) {
             throw new AssertionError("This method should not be called.");
@@ -183,6 +242,61 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Project> getProjectPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<SearchHit> searchProjects(String query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<SearchHit> getMemberships(Contact contact) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<SearchHit> getUpcomingDeadlines(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<SearchHit> getOverdueDeadlines() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<EventClash> getEventClashes(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<EventClash> getEventClashes(AgendaRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<EventClash> getUpcomingEventClashes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AgendaIndex getAgendaIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Iterator<AgendaEntry> getAgenda(AgendaRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void refreshDate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public SavedState getUndoState() throws NoUndoableStateException {
             throw new AssertionError("This method should not be called.");
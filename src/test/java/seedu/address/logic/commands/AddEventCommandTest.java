@@ -20,6 +20,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.agenda.EventClash;
 import seedu.address.model.project.Project;
 import seedu.address.model.task.repeatable.Event;
 import seedu.address.testutil.EventBuilder;
@@ -47,6 +48,22 @@ public class AddEventCommandTest {
                 projectToEdit.getProjectName()), commandResult.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_clashingEvent_successWithWarning() throws Exception {
+        // the first project has a weekly meeting at 20:00 every Sunday from 31 Jan 2021
+        Event dinner = new EventBuilder().withDescription("Team dinner").withDate(LocalDate.of(2021, 3, 7))
+                .withTime(LocalTime.of(19, 0)).withEndTime(LocalTime.of(21, 0)).build();
+        CommandResult commandResult = new AddEventCommand(INDEX_SECOND, dinner).execute(model);
+        Project firstProject = model.getFilteredProjectList().get(INDEX_FIRST.getZeroBased());
+        Project secondProject = model.getFilteredProjectList().get(INDEX_SECOND.getZeroBased());
+
+        EventClash expectedClash = new EventClash(LocalDate.of(2021, 3, 7), secondProject.getProjectName(), dinner,
+                firstProject.getProjectName(), firstProject.getEvents().getEvent(0));
+        assertEquals(String.format(Messages.MESSAGE_ADD_EVENT_SUCCESS, dinner, secondProject.getProjectName())
+                + "\n" + String.format(ClashesCommand.MESSAGE_CLASH_WARNING, 1) + "\n" + expectedClash,
+                commandResult.getFeedbackToUser());
+    }
+
     @Test
     public void execute_invalidProjectIndex_throwsCommandException() {
         // Typical project list contains only 2 projects
@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ColabFolder;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.agenda.AgendaEntry;
+import seedu.address.model.agenda.AgendaRange;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.task.deadline.Deadline;
+import seedu.address.model.task.repeatable.Event;
+import seedu.address.testutil.ProjectBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AgendaCommand}.
+ */
+public class AgendaCommandTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2021, 4, 5);
+    private static final LocalTime MORNING = LocalTime.of(9, 0);
+    private static final AgendaRange RANGE = new AgendaRange(MONDAY, MONDAY.plusWeeks(5).minusDays(1));
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        ColabFolder colabFolder = new ColabFolder();
+        Project project = new ProjectBuilder().withName("Alpha").build();
+        for (int i = 0; i < AgendaCommand.PAGE_SIZE; i++) {
+            project.addEvent(new Event("Meeting " + i, MONDAY.plusDays(i % 7), MORNING, true));
+        }
+        project.addDeadline(new Deadline("Report", MONDAY.plusWeeks(4)));
+        colabFolder.addProject(project);
+
+        model = new ModelManager(colabFolder, new UserPrefs());
+        expectedModel = new ModelManager(new ColabFolder(colabFolder), new UserPrefs());
+    }
+
+    @Test
+    public void equals() {
+        AgendaCommand rangeCommand = new AgendaCommand(RANGE, 1);
+        AgendaCommand weekCommand = new AgendaCommand(AgendaCommand.Span.WEEK, 1);
+
+        // same values -> returns true
+        assertTrue(rangeCommand.equals(new AgendaCommand(RANGE, 1)));
+        assertTrue(weekCommand.equals(new AgendaCommand(AgendaCommand.Span.WEEK, 1)));
+
+        // different types -> returns false
+        assertFalse(rangeCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(rangeCommand.equals(null));
+
+        // different range, span or page -> returns false
+        assertFalse(rangeCommand.equals(new AgendaCommand(new AgendaRange(MONDAY, MONDAY), 1)));
+        assertFalse(rangeCommand.equals(new AgendaCommand(RANGE, 2)));
+        assertFalse(rangeCommand.equals(weekCommand));
+        assertFalse(weekCommand.equals(new AgendaCommand(AgendaCommand.Span.MONTH, 1)));
+    }
+
+    @Test
+    public void execute_emptyRange_emptyAgendaMessage() {
+        AgendaRange emptyRange = new AgendaRange(MONDAY.minusDays(7), MONDAY.minusDays(1));
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_EMPTY_AGENDA, "29 Mar 2021", "04 Apr 2021");
+        assertCommandSuccess(new AgendaCommand(emptyRange, 1), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_pages_entriesPaged() throws Exception {
+        String firstPage = new AgendaCommand(RANGE, 1).execute(model).getFeedbackToUser();
+        String[] firstLines = firstPage.split("\n");
+        assertEquals(String.format(AgendaCommand.MESSAGE_AGENDA_PAGE, "05 Apr 2021", "09 May 2021", 1),
+                firstLines[0]);
+        assertEquals(AgendaCommand.PAGE_SIZE + 2, firstLines.length);
+        assertEquals(String.format(AgendaCommand.MESSAGE_MORE_ENTRIES, 2), firstLines[firstLines.length - 1]);
+
+        // 5 weeks of 20 weekly events and a deadline, the last of which is on the last Sunday
+        String lastPage = new AgendaCommand(RANGE, 6).execute(model).getFeedbackToUser();
+        String[] lastLines = lastPage.split("\n");
+        assertEquals(2, lastLines.length);
+        Event lastEvent = new Event("Meeting 6", MONDAY.plusDays(6), MORNING, true);
+        assertEquals(AgendaEntry.ofEvent(lastEvent, RANGE.getEnd(), new ProjectName("Alpha")).toString(),
+                lastLines[1]);
+    }
+
+    @Test
+    public void execute_pageOutOfRange_throwsCommandException() {
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_INVALID_PAGE, 7, "05 Apr 2021", "09 May 2021");
+        assertCommandFailure(new AgendaCommand(RANGE, 7), model, expectedMessage);
+    }
+
+    @Test
+    public void getRange_spans_rangeFromToday() {
+        assertEquals(new AgendaRange(MONDAY, MONDAY.plusDays(6)), AgendaCommand.Span.WEEK.getRange(MONDAY));
+        assertEquals(new AgendaRange(MONDAY, LocalDate.of(2021, 5, 4)), AgendaCommand.Span.MONTH.getRange(MONDAY));
+    }
+}
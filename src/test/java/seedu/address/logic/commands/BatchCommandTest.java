@@ -0,0 +1,122 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ColabFolder;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.task.todo.Todo;
+
+public class BatchCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_noCommands_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchCommand(Collections.emptyList()));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_oneResult() throws Exception {
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(
+                new AddTodoCommand(INDEX_FIRST, new Todo("Write report")),
+                new AddTodoCommand(INDEX_FIRST, new Todo("Review report")),
+                new ProgressCommand(ProgressCommand.Order.DISPLAYED)));
+
+        CommandResult result = batchCommand.execute(model);
+
+        Project project = model.getFilteredProjectList().get(INDEX_FIRST.getZeroBased());
+        assertTrue(project.getTodos().hasTodo(new Todo("Write report")));
+        assertTrue(project.getTodos().hasTodo(new Todo("Review report")));
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(BatchCommand.MESSAGE_SUCCESS, 3)));
+        assertTrue(result.getFeedbackToUser().contains(String.format(Messages.MESSAGE_ADD_TODO_SUCCESS,
+                new Todo("Review report"), project.getProjectName())));
+        // the data changed, so the batch is a single entry of the history
+        assertFalse(result.isIgnoreHistory());
+    }
+
+    @Test
+    public void execute_onlyReadOnlyCommands_historyIgnored() throws Exception {
+        BatchCommand batchCommand = new BatchCommand(Collections.singletonList(
+                new ProgressCommand(ProgressCommand.Order.DISPLAYED)));
+
+        assertTrue(batchCommand.execute(model).isIgnoreHistory());
+    }
+
+    @Test
+    public void execute_commandFails_rolledBack() {
+        ColabFolder expectedColabFolder = new ColabFolder(model.getColabFolder());
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(
+                new AddTodoCommand(INDEX_FIRST, new Todo("Write report")),
+                new AddProjectCommand(new Project(new ProjectName("New project"))),
+                new AddTodoCommand(INDEX_FIRST, new Todo("Write report")),
+                new AddTodoCommand(INDEX_FIRST, new Todo("Never added"))));
+
+        assertThrows(CommandException.class, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 3,
+                Messages.MESSAGE_DUPLICATE_TODO), () -> batchCommand.execute(model));
+        assertEquals(expectedColabFolder, model.getColabFolder());
+    }
+
+    @Test
+    public void execute_commandFails_filtersRestored() {
+        Project firstProject = model.getFilteredProjectList().get(INDEX_FIRST.getZeroBased());
+        model.updateFilteredProjectList(project -> project.isSameProject(firstProject));
+        model.updateFilteredContactList(contact -> contact.getName().fullName.startsWith("A"),
+                Comparator.comparing(contact -> contact.getName().fullName));
+        List<Contact> expectedContacts = new ArrayList<>(model.getFilteredContactList());
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(
+                new ViewContactsCommand(),
+                new AddTodoCommand(INDEX_FIRST, new Todo("Write report")),
+                new AddTodoCommand(INDEX_FIRST, new Todo("Write report"))));
+
+        assertThrows(CommandException.class, () -> batchCommand.execute(model));
+        assertEquals(List.of(firstProject.getProjectName()), model.getFilteredProjectList().stream()
+                .map(Project::getProjectName).collect(Collectors.toList()));
+        assertEquals(expectedContacts, model.getFilteredContactList());
+    }
+
+    @Test
+    public void equals() {
+        AddProjectCommand addProjectCommand = new AddProjectCommand(new Project(new ProjectName("New project")));
+        BatchCommand batchCommand = new BatchCommand(Collections.singletonList(addProjectCommand));
+
+        // same values -> returns true
+        assertEquals(batchCommand, new BatchCommand(Collections.singletonList(addProjectCommand)));
+
+        // same object -> returns true
+        assertEquals(batchCommand, batchCommand);
+
+        // null -> returns false
+        assertNotEquals(batchCommand, null);
+
+        // different commands -> returns false
+        assertNotEquals(batchCommand, new BatchCommand(Collections.singletonList(new ExitCommand())));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.agenda.EventClash;
+import seedu.address.model.project.Project;
+import seedu.address.model.task.repeatable.Event;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ClashesCommand}.
+ */
+public class ClashesCommandTest {
+    // the only event of the typical projects that is not in the past is a weekly meeting at 20:00 on Sundays
+    private Model model = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ClashesCommand clashesCommand = new ClashesCommand(AgendaCommand.Span.WEEK);
+
+        // same object -> returns true
+        assertTrue(clashesCommand.equals(clashesCommand));
+
+        // same values -> returns true
+        assertTrue(clashesCommand.equals(new ClashesCommand(AgendaCommand.Span.WEEK)));
+
+        // different types -> returns false
+        assertFalse(clashesCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(clashesCommand.equals(null));
+
+        // different span -> returns false
+        assertFalse(clashesCommand.equals(new ClashesCommand(AgendaCommand.Span.MONTH)));
+        assertFalse(clashesCommand.equals(new ClashesCommand()));
+    }
+
+    @Test
+    public void execute_noClashes_noClashesMessage() {
+        assertCommandSuccess(new ClashesCommand(), model, ClashesCommand.MESSAGE_NO_CLASHES, expectedModel);
+    }
+
+    @Test
+    public void execute_weeklyClash_listedOnce() {
+        LocalDate today = model.getAgendaIndex().getDate();
+        LocalDate sunday = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        Event review = new EventBuilder().withDescription("Weekly review").withDate(sunday)
+                .withTime(LocalTime.of(19, 30)).withEndTime(LocalTime.of(20, 30)).withIsWeekly(true).build();
+        model.getFilteredProjectList().get(1).addEvent(review);
+        expectedModel.getFilteredProjectList().get(1).addEvent(review);
+
+        Project firstProject = model.getFilteredProjectList().get(0);
+        Project secondProject = model.getFilteredProjectList().get(1);
+        // the review starts first, so it is listed first
+        EventClash clash = new EventClash(sunday, secondProject.getProjectName(), review,
+                firstProject.getProjectName(), firstProject.getEvents().getEvent(0));
+        String expectedMessage = String.format(ClashesCommand.MESSAGE_CLASHES, 1) + "\n" + clash;
+
+        assertCommandSuccess(new ClashesCommand(), model, expectedMessage, expectedModel);
+        assertCommandSuccess(new ClashesCommand(AgendaCommand.Span.MONTH), model, expectedMessage, expectedModel);
+    }
+}
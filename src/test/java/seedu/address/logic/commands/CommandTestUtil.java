@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_WEEKLY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -59,12 +60,14 @@ public class CommandTestUtil {
     public static final String VALID_EVENT_DATE = " " + PREFIX_EVENT_DATE + "01-01-2020";
     public static final String VALID_EVENT_TIME = " " + PREFIX_EVENT_TIME + "1730";
     public static final String VALID_EVENT_WEEKLY = " " + PREFIX_EVENT_WEEKLY + "N";
+    public static final String VALID_EVENT_END_TIME = " " + PREFIX_EVENT_END_TIME + "1900";
     public static final String VALID_PROJECT_NAME = " " + PREFIX_NAME + "CS2103T team project";
     public static final String INVALID_DESCRIPTION = " " + PREFIX_DESCRIPTION + "";
     public static final String INVALID_DEADLINE_DATE = " " + PREFIX_DEADLINE_DATE + "01/01-2020";
     public static final String INVALID_EVENT_DATE = " " + PREFIX_EVENT_DATE + "01-01/2020";
     public static final String INVALID_EVENT_TIME = " " + PREFIX_EVENT_TIME + "17-30";
     public static final String INVALID_EVENT_WEEKLY = " " + PREFIX_EVENT_WEEKLY + "Maybe";
+    public static final String INVALID_EVENT_END_TIME = " " + PREFIX_EVENT_END_TIME + "1700"; // before 1730
     public static final String INVALID_PROJECT_NAME = " " + PREFIX_NAME + "   ";
 
 
@@ -8,6 +8,9 @@ import static seedu.address.logic.commands.CommandTestUtil.showContactAtIndex;
 import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD;
+
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -40,6 +43,22 @@ public class DeleteContactCommandTest {
         assertCommandSuccess(deleteContactCommand, model, expectedMessage, new ShowContactsUiCommand(), expectedModel);
     }
 
+    @Test
+    public void execute_multipleIndexesUnfilteredList_success() {
+        Contact firstContact = model.getFilteredContactList().get(INDEX_FIRST.getZeroBased());
+        Contact thirdContact = model.getFilteredContactList().get(INDEX_THIRD.getZeroBased());
+        DeleteContactCommand deleteContactCommand = new DeleteContactCommand(Arrays.asList(INDEX_FIRST, INDEX_THIRD));
+
+        String expectedMessage = String.format(DeleteContactCommand.MESSAGE_DELETE_CONTACT_SUCCESS,
+                firstContact + "\n" + thirdContact);
+
+        ModelManager expectedModel = new ModelManager(model.getColabFolder(), new UserPrefs());
+        expectedModel.deleteContact(firstContact);
+        expectedModel.deleteContact(thirdContact);
+
+        assertCommandSuccess(deleteContactCommand, model, expectedMessage, new ShowContactsUiCommand(), expectedModel);
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredContactList().size() + 1);
@@ -10,6 +10,9 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -67,6 +70,37 @@ public class DeleteTodoCommandTest {
                 new ViewProjectAndTodosUiCommand(INDEX_FIRST), expectedModel);
     }
 
+    @Test
+    public void execute_multipleIndexes_deletesEachTodo() throws Exception {
+        Project project = new ProjectBuilder().withName("Multiple").build();
+        for (String description : new String[] {"a", "b", "c", "d"}) {
+            project.addTodo(new TodoBuilder().withDescription(description).build());
+        }
+        model.setProject(projectToEdit, project);
+
+        DeleteTodoCommand deleteTodoCommand = new DeleteTodoCommand(INDEX_FIRST,
+                Arrays.asList(INDEX_FIRST, INDEX_THIRD, Index.fromOneBased(4)));
+        CommandResult result = deleteTodoCommand.execute(model);
+
+        assertEquals(String.format(MESSAGE_DELETE_TODO_SUCCESS, "1, 3, 4", project.getProjectName()),
+                result.getFeedbackToUser());
+        assertEquals(Collections.singletonList(new TodoBuilder().withDescription("b").build()),
+                model.getFilteredProjectList().get(INDEX_FIRST.getZeroBased()).getSortedTodos());
+    }
+
+    @Test
+    public void execute_oneInvalidIndex_nothingDeleted() {
+        model.setProject(projectToEdit, editedProject);
+        int todoCount = editedProject.getSortedTodos().size();
+
+        DeleteTodoCommand deleteTodoCommand = new DeleteTodoCommand(INDEX_FIRST,
+                Arrays.asList(INDEX_FIRST, Index.fromOneBased(todoCount + 1)));
+
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_TODO_DISPLAYED_INDEX, ()
+            -> deleteTodoCommand.execute(model));
+        assertEquals(todoCount, editedProject.getSortedTodos().size());
+    }
+
     @Test
     public void execute_invalidProjectIndex_throwsCommandException() {
         model.setProject(
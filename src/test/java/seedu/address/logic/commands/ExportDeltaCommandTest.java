@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.sync.ProjectDelta;
+import seedu.address.model.task.todo.Todo;
+import seedu.address.storage.JsonProjectDeltaStorage;
+
+/**
+ * Contains integration tests (interaction with the Model and storage) for {@code ExportDeltaCommand}.
+ */
+public class ExportDeltaCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+    private JsonProjectDeltaStorage deltaStorage = new JsonProjectDeltaStorage();
+
+    @Test
+    public void equals() {
+        Path deltaFile = Path.of("delta.json");
+        ExportDeltaCommand exportDeltaCommand = new ExportDeltaCommand(INDEX_FIRST, deltaFile);
+
+        // same object -> returns true
+        assertTrue(exportDeltaCommand.equals(exportDeltaCommand));
+
+        // same values -> returns true
+        assertTrue(exportDeltaCommand.equals(new ExportDeltaCommand(INDEX_FIRST, Path.of("delta.json"))));
+
+        // different types -> returns false
+        assertFalse(exportDeltaCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportDeltaCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(exportDeltaCommand.equals(new ExportDeltaCommand(INDEX_SECOND, deltaFile)));
+
+        // different file -> returns false
+        assertFalse(exportDeltaCommand.equals(new ExportDeltaCommand(INDEX_FIRST, Path.of("other.json"))));
+
+        // different teammate delta file -> returns false
+        assertFalse(exportDeltaCommand.equals(new ExportDeltaCommand(INDEX_FIRST, deltaFile, Path.of("reply.json"))));
+    }
+
+    @Test
+    public void execute_validIndex_deltaSaved() throws Exception {
+        Path deltaFile = testFolder.resolve("delta.json");
+        Project project = model.getFilteredProjectList().get(INDEX_FIRST.getZeroBased());
+        ProjectDelta expectedDelta = project.getSyncLog().exportDelta(project.getProjectName());
+
+        CommandResult result = new ExportDeltaCommand(INDEX_FIRST, deltaFile).execute(model, deltaStorage);
+
+        assertEquals(String.format(ExportDeltaCommand.MESSAGE_SUCCESS, expectedDelta.getChanges().size(),
+                project.getProjectName(), deltaFile), result.getFeedbackToUser());
+        assertTrue(result.isIgnoreHistory());
+        assertEquals(expectedDelta, deltaStorage.readProjectDelta(deltaFile).get());
+    }
+
+    @Test
+    public void execute_teammateDelta_onlyChangesTeammateMissedSaved() throws Exception {
+        Project project = model.getFilteredProjectList().get(INDEX_FIRST.getZeroBased());
+        Project teammateProject = new Project(project.getProjectName());
+        teammateProject.getSyncLog().importDelta(project.getSyncLog().exportDelta(project.getProjectName()));
+        Path teammateDeltaFile = testFolder.resolve("reply.json");
+        deltaStorage.saveProjectDelta(teammateProject.getSyncLog().exportDelta(project.getProjectName()),
+                teammateDeltaFile);
+        project.getSyncLog().importDelta(deltaStorage.readProjectDelta(teammateDeltaFile).get());
+        project.addTodo(new Todo("Write tests"));
+
+        Path deltaFile = testFolder.resolve("delta.json");
+        new ExportDeltaCommand(INDEX_FIRST, deltaFile, teammateDeltaFile).execute(model, deltaStorage);
+        ProjectDelta delta = deltaStorage.readProjectDelta(deltaFile).get();
+        assertEquals(1, delta.getChanges().size());
+        assertEquals("Write tests", delta.getChanges().get(0).getIdentity());
+    }
+
+    @Test
+    public void execute_teammateDeltaForOtherProject_throwsCommandException() throws Exception {
+        Project project = model.getFilteredProjectList().get(INDEX_FIRST.getZeroBased());
+        ProjectName otherName = new ProjectName("Other project");
+        Path teammateDeltaFile = testFolder.resolve("reply.json");
+        deltaStorage.saveProjectDelta(new Project(otherName).getSyncLog().exportDelta(otherName), teammateDeltaFile);
+
+        ExportDeltaCommand exportDeltaCommand = new ExportDeltaCommand(INDEX_FIRST, testFolder.resolve("delta.json"),
+                teammateDeltaFile);
+        assertThrows(CommandException.class, String.format(ExportDeltaCommand.MESSAGE_OTHER_PROJECT,
+                teammateDeltaFile, otherName, project.getProjectName()), () ->
+                exportDeltaCommand.execute(model, deltaStorage));
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredProjectList().size() + 1);
+        ExportDeltaCommand exportDeltaCommand = new ExportDeltaCommand(outOfBoundIndex,
+                testFolder.resolve("delta.json"));
+
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX, () ->
+                exportDeltaCommand.execute(model, deltaStorage));
+    }
+
+    @Test
+    public void execute_withoutDeltaStorage_throwsCommandException() {
+        ExportDeltaCommand exportDeltaCommand = new ExportDeltaCommand(INDEX_FIRST, testFolder.resolve("delta.json"));
+        assertThrows(CommandException.class, ExportDeltaCommand.MESSAGE_DELTA_STORAGE_NEEDED, () ->
+                exportDeltaCommand.execute(model));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+import static seedu.address.testutil.TypicalContacts.ALICE;
+import static seedu.address.testutil.TypicalContacts.BENSON;
+import static seedu.address.testutil.TypicalContacts.DANIEL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.uicommands.ShowContactsUiCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.TagQuery;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterContactCommand}.
+ */
+public class FilterContactCommandTest {
+    private Model model = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        TagQuery firstQuery = new TagQuery(List.of(List.of("friends")), List.of());
+        TagQuery secondQuery = new TagQuery(List.of(), List.of("friends"));
+
+        FilterContactCommand filterFirstCommand = new FilterContactCommand(firstQuery);
+        FilterContactCommand filterSecondCommand = new FilterContactCommand(secondQuery);
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        assertTrue(filterFirstCommand.equals(new FilterContactCommand(firstQuery)));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(filterFirstCommand.equals(filterSecondCommand));
+    }
+
+    @Test
+    public void execute_tagConditions_contactsFiltered() {
+        TagQuery query = new TagQuery(List.of(List.of("friends")), List.of("owesMoney"));
+        FilterContactCommand command = new FilterContactCommand(query);
+        expectedModel.updateFilteredContactList(expectedModel.searchContacts(query)::contains);
+        assertCommandSuccess(command, model, MESSAGE_CONTACTS_LISTED_OVERVIEW, new ShowContactsUiCommand(),
+                expectedModel);
+        assertEquals(List.of(ALICE, DANIEL), model.getFilteredContactList());
+
+        new FilterContactCommand(new TagQuery(List.of(List.of("owesMoney", "unknown")), List.of())).execute(model);
+        assertEquals(List.of(BENSON), model.getFilteredContactList());
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.search.SearchHit;
+import seedu.address.model.search.SearchHitType;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindCommand}.
+ */
+public class FindCommandTest {
+    private Model model = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindCommand findFirstCommand = new FindCommand("first");
+        FindCommand findSecondCommand = new FindCommand("second");
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindCommand("first")));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatches_noMatchesMessage() {
+        String expectedMessage = String.format(FindCommand.MESSAGE_NO_MATCHES, "nothing like this");
+        assertCommandSuccess(new FindCommand("nothing like this"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_matchesAcrossLists_allHitsListed() {
+        List<SearchHit> hits = model.searchProjects("pitch");
+
+        // the CS2101 project has a pitch event, deadline and todo
+        assertEquals(3, hits.size());
+        assertEquals(List.of(SearchHitType.EVENT, SearchHitType.DEADLINE, SearchHitType.TODO),
+                hits.stream().map(SearchHit::getType).collect(Collectors.toList()));
+        hits.forEach(hit -> assertEquals(Index.fromOneBased(2), hit.getProjectIndex()));
+
+        StringBuilder expectedMessage = new StringBuilder(String.format(FindCommand.MESSAGE_MATCHES_FOUND, 3, "pitch"));
+        hits.forEach(hit -> expectedMessage.append("\n").append(hit));
+        assertCommandSuccess(new FindCommand("pitch"), model, expectedMessage.toString(), expectedModel);
+    }
+}
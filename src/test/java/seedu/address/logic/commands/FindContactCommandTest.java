@@ -6,12 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+import static seedu.address.testutil.TypicalContacts.ALICE;
+import static seedu.address.testutil.TypicalContacts.BENSON;
 import static seedu.address.testutil.TypicalContacts.CARL;
+import static seedu.address.testutil.TypicalContacts.DANIEL;
 import static seedu.address.testutil.TypicalContacts.ELLE;
 import static seedu.address.testutil.TypicalContacts.FIONA;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,7 +24,9 @@ import seedu.address.logic.uicommands.ShowContactsUiCommand;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.contact.NameContainsKeywordsPredicate;
+import seedu.address.model.contact.ContactField;
+import seedu.address.model.contact.ContactQuery;
+import seedu.address.model.contact.ContactSearchResult;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -30,19 +37,17 @@ public class FindContactCommandTest {
 
     @Test
     public void equals() {
-        NameContainsKeywordsPredicate firstPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("first"));
-        NameContainsKeywordsPredicate secondPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("second"));
+        ContactQuery firstQuery = new ContactQuery(Collections.singletonList("first"));
+        ContactQuery secondQuery = new ContactQuery(Collections.singletonList("second"));
 
-        FindContactCommand findFirstCommand = new FindContactCommand(firstPredicate);
-        FindContactCommand findSecondCommand = new FindContactCommand(secondPredicate);
+        FindContactCommand findFirstCommand = new FindContactCommand(firstQuery);
+        FindContactCommand findSecondCommand = new FindContactCommand(secondQuery);
 
         // same object -> returns true
         assertTrue(findFirstCommand.equals(findFirstCommand));
 
         // same values -> returns true
-        FindContactCommand findFirstCommandCopy = new FindContactCommand(firstPredicate);
+        FindContactCommand findFirstCommandCopy = new FindContactCommand(firstQuery);
         assertTrue(findFirstCommand.equals(findFirstCommandCopy));
 
         // different types -> returns false
@@ -58,9 +63,10 @@ public class FindContactCommandTest {
     @Test
     public void execute_zeroKeywords_noContactFound() {
         String expectedMessage = String.format(MESSAGE_CONTACTS_LISTED_OVERVIEW, 0);
-        NameContainsKeywordsPredicate predicate = preparePredicate(" ");
-        FindContactCommand command = new FindContactCommand(predicate);
-        expectedModel.updateFilteredContactList(predicate);
+        ContactQuery query = prepareQuery(" ");
+        FindContactCommand command = new FindContactCommand(query);
+        ContactSearchResult result = expectedModel.searchContacts(query);
+        expectedModel.updateFilteredContactList(result, result.getComparator());
         assertCommandSuccess(command, model, expectedMessage, new ShowContactsUiCommand(), expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredContactList());
     }
@@ -68,17 +74,30 @@ public class FindContactCommandTest {
     @Test
     public void execute_multipleKeywords_multipleContactsFound() {
         String expectedMessage = String.format(MESSAGE_CONTACTS_LISTED_OVERVIEW, 3);
-        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
-        FindContactCommand command = new FindContactCommand(predicate);
-        expectedModel.updateFilteredContactList(predicate);
+        ContactQuery query = prepareQuery("Kurz Elle Kunz");
+        FindContactCommand command = new FindContactCommand(query);
+        ContactSearchResult result = expectedModel.searchContacts(query);
+        expectedModel.updateFilteredContactList(result, result.getComparator());
         assertCommandSuccess(command, model, expectedMessage, new ShowContactsUiCommand(), expectedModel);
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredContactList());
     }
 
+    @Test
+    public void execute_fieldTerms_contactsRankedByRelevance() {
+        // Meier appears in the names of Benson and Daniel, and friends in the tags of Alice, Benson and Daniel
+        ContactQuery query = new ContactQuery(List.of("meier", "friends"), Map.of(ContactField.EMAIL, List.of("com")));
+        new FindContactCommand(query).execute(model);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ALICE), model.getFilteredContactList());
+
+        query = new ContactQuery(List.of(), Map.of(ContactField.TAG, List.of("friends", "owesMoney")));
+        new FindContactCommand(query).execute(model);
+        assertEquals(List.of(BENSON), model.getFilteredContactList());
+    }
+
     /**
-     * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
+     * Parses {@code userInput} into a {@code ContactQuery}.
      */
-    private NameContainsKeywordsPredicate preparePredicate(String userInput) {
-        return new NameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    private ContactQuery prepareQuery(String userInput) {
+        return new ContactQuery(Arrays.asList(userInput.split("\\s+")));
     }
 }
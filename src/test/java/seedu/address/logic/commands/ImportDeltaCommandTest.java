@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.uicommands.ViewProjectAndOverviewUiCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.sync.SyncLog;
+import seedu.address.model.task.todo.Todo;
+import seedu.address.storage.JsonProjectDeltaStorage;
+
+/**
+ * Contains integration tests (interaction with the Model and storage) for {@code ImportDeltaCommand}.
+ */
+public class ImportDeltaCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+    private JsonProjectDeltaStorage deltaStorage = new JsonProjectDeltaStorage();
+
+    /**
+     * Saves the changes to {@code project} to a delta file and returns its path.
+     */
+    private Path exportDelta(Project project) throws Exception {
+        Path deltaFile = testFolder.resolve("delta.json");
+        deltaStorage.saveProjectDelta(project.getSyncLog().exportDelta(project.getProjectName()), deltaFile);
+        return deltaFile;
+    }
+
+    @Test
+    public void equals() {
+        ImportDeltaCommand importDeltaCommand = new ImportDeltaCommand(Path.of("delta.json"));
+
+        // same object -> returns true
+        assertTrue(importDeltaCommand.equals(importDeltaCommand));
+
+        // same values -> returns true
+        assertTrue(importDeltaCommand.equals(new ImportDeltaCommand(Path.of("delta.json"))));
+
+        // different types -> returns false
+        assertFalse(importDeltaCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importDeltaCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importDeltaCommand.equals(new ImportDeltaCommand(Path.of("other.json"))));
+    }
+
+    @Test
+    public void execute_newProject_projectAdded() throws Exception {
+        Project teammateProject = new Project(new ProjectName("Hackathon"));
+        teammateProject.addTodo(new Todo("Pick a theme"));
+        Path deltaFile = exportDelta(teammateProject);
+        int projectCount = model.getFilteredProjectList().size();
+
+        CommandResult result = new ImportDeltaCommand(deltaFile).execute(model, deltaStorage);
+
+        assertEquals(projectCount + 1, model.getFilteredProjectList().size());
+        Project importedProject = model.getFilteredProjectList().stream()
+                .filter(project -> project.getProjectName().equals(teammateProject.getProjectName()))
+                .findFirst().get();
+        assertEquals(teammateProject, importedProject);
+        Index index = Index.fromZeroBased(model.getFilteredProjectList().indexOf(importedProject));
+        assertEquals(new CommandResult(String.format(ImportDeltaCommand.MESSAGE_SUCCESS,
+                teammateProject.getProjectName(), 1, 0, 0), new ViewProjectAndOverviewUiCommand(index)), result);
+    }
+
+    @Test
+    public void execute_existingProject_changesApplied() throws Exception {
+        Project project = model.getFilteredProjectList().get(INDEX_FIRST.getZeroBased());
+        Project teammateProject = new Project(project.getProjectName());
+        teammateProject.addTodo(new Todo("Pick a theme"));
+        int projectCount = model.getFilteredProjectList().size();
+        int todoCount = project.getTodos().size();
+
+        new ImportDeltaCommand(exportDelta(teammateProject)).execute(model, deltaStorage);
+
+        assertEquals(projectCount, model.getFilteredProjectList().size());
+        assertEquals(todoCount + 1, project.getTodos().size());
+        assertTrue(project.getTodos().hasTodo(new Todo("Pick a theme")));
+    }
+
+    @Test
+    public void execute_ownDelta_throwsCommandException() throws Exception {
+        Path deltaFile = exportDelta(model.getFilteredProjectList().get(INDEX_FIRST.getZeroBased()));
+        assertThrows(CommandException.class, SyncLog.MESSAGE_OWN_DELTA, () ->
+                new ImportDeltaCommand(deltaFile).execute(model, deltaStorage));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path deltaFile = testFolder.resolve("missing.json");
+        assertThrows(CommandException.class, String.format(ImportDeltaCommand.MESSAGE_DELTA_NOT_FOUND, deltaFile), ()
+                -> new ImportDeltaCommand(deltaFile).execute(model, deltaStorage));
+    }
+
+    @Test
+    public void execute_withoutDeltaStorage_throwsCommandException() {
+        assertThrows(CommandException.class, ImportDeltaCommand.MESSAGE_DELTA_STORAGE_NEEDED, () ->
+                new ImportDeltaCommand(Path.of("delta.json")).execute(model));
+    }
+}
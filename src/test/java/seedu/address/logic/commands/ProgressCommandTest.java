@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ProgressCommand}.
+ */
+public class ProgressCommandTest {
+    // all deadlines of the typical projects are in the past, and so is every event except a weekly one
+    private static final String CS2103T_PROGRESS = "CS2103T Team Project: 37% done (todos 1/4, deadlines 2/4, "
+            + "2 overdue), next event: ";
+    private static final String CS2101_PROGRESS = "CS2101 OP2: 20% done (todos 1/3, deadlines 0/2, 2 overdue), "
+            + "next event: none";
+
+    private Model model = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ProgressCommand ascendingCommand = new ProgressCommand(ProgressCommand.Order.ASCENDING);
+
+        // same object -> returns true
+        assertTrue(ascendingCommand.equals(ascendingCommand));
+
+        // same values -> returns true
+        assertTrue(ascendingCommand.equals(new ProgressCommand(ProgressCommand.Order.ASCENDING)));
+
+        // different types -> returns false
+        assertFalse(ascendingCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(ascendingCommand.equals(null));
+
+        // different order -> returns false
+        assertFalse(ascendingCommand.equals(new ProgressCommand(ProgressCommand.Order.DESCENDING)));
+    }
+
+    @Test
+    public void execute_noProjects_noProjectsMessage() {
+        model.updateFilteredProjectList(unused -> false);
+        expectedModel.updateFilteredProjectList(unused -> false);
+        assertCommandSuccess(new ProgressCommand(ProgressCommand.Order.DISPLAYED), model,
+                ProgressCommand.MESSAGE_NO_PROJECTS, expectedModel);
+    }
+
+    @Test
+    public void execute_ascending_leastDoneFirst() {
+        String feedback = new ProgressCommand(ProgressCommand.Order.ASCENDING).execute(model).getFeedbackToUser();
+        String[] lines = feedback.split("\n");
+
+        assertEquals(String.format(ProgressCommand.MESSAGE_PROGRESS, 2), lines[0]);
+        assertEquals("2. " + CS2101_PROGRESS, lines[1]);
+        assertTrue(lines[2].startsWith("1. " + CS2103T_PROGRESS));
+    }
+
+    @Test
+    public void execute_displayed_sidePanelOrder() {
+        String feedback = new ProgressCommand(ProgressCommand.Order.DISPLAYED).execute(model).getFeedbackToUser();
+        String[] lines = feedback.split("\n");
+
+        assertTrue(lines[1].startsWith("1. " + CS2103T_PROGRESS));
+        assertFalse(lines[1].endsWith("none"));
+        assertEquals("2. " + CS2101_PROGRESS, lines[2]);
+    }
+}
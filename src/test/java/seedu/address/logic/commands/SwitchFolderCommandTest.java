@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.uicommands.ShowTodayUiCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SwitchFolderCommand}.
+ */
+public class SwitchFolderCommandTest {
+    private static final Path OTHER_FOLDER = Paths.get("data", "other.json");
+
+    private Model model = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SwitchFolderCommand switchFolderCommand = new SwitchFolderCommand(OTHER_FOLDER);
+
+        // same object -> returns true
+        assertTrue(switchFolderCommand.equals(switchFolderCommand));
+
+        // same values -> returns true
+        assertTrue(switchFolderCommand.equals(new SwitchFolderCommand(Paths.get("data", "other.json"))));
+
+        // different types -> returns false
+        assertFalse(switchFolderCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(switchFolderCommand.equals(null));
+
+        // different folder -> returns false
+        assertFalse(switchFolderCommand.equals(new SwitchFolderCommand(Paths.get("data", "colab.json"))));
+        assertFalse(switchFolderCommand.equals(new SwitchFolderCommand()));
+    }
+
+    @Test
+    public void execute_otherFolder_folderToOpenSet() {
+        CommandResult expectedResult = new CommandResult(String.format(SwitchFolderCommand.MESSAGE_SUCCESS,
+                OTHER_FOLDER), new ShowTodayUiCommand()).setFolderToOpen(OTHER_FOLDER);
+        assertCommandSuccess(new SwitchFolderCommand(OTHER_FOLDER), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_openFolder_throwsCommandException() {
+        Path openFolder = model.getColabFolderFilePath().toAbsolutePath();
+        assertCommandFailure(new SwitchFolderCommand(openFolder), model,
+                SwitchFolderCommand.MESSAGE_FOLDER_ALREADY_OPEN);
+    }
+
+    @Test
+    public void execute_noFolder_recentFoldersListed() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.addRecentColabFolderFilePath(OTHER_FOLDER);
+        userPrefs.addRecentColabFolderFilePath(userPrefs.getColabFolderFilePath());
+        model.setUserPrefs(userPrefs);
+        expectedModel.setUserPrefs(userPrefs);
+
+        String expectedMessage = SwitchFolderCommand.MESSAGE_RECENT_FOLDERS
+                + "\n1. " + userPrefs.getColabFolderFilePath() + SwitchFolderCommand.MESSAGE_OPEN_FOLDER
+                + "\n2. " + OTHER_FOLDER;
+        assertCommandSuccess(new SwitchFolderCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.query.TaskQuery;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code TasksCommand}.
+ */
+public class TasksCommandTest {
+    private Model model = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        TaskQuery firstQuery = new TaskQuery();
+        firstQuery.setIsDone(true);
+        TaskQuery secondQuery = new TaskQuery();
+        secondQuery.addTextTerm("report");
+        TasksCommand firstCommand = new TasksCommand(firstQuery);
+        TasksCommand secondCommand = new TasksCommand(secondQuery);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new TasksCommand(new TaskQuery(firstQuery))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_queryModifiedAfterConstruction_commandUnchanged() {
+        TaskQuery query = new TaskQuery();
+        query.setIsDone(true);
+        TasksCommand command = new TasksCommand(query);
+
+        query.addTextTerm("nothing like this");
+        String expectedMessage = String.format(TasksCommand.MESSAGE_TASKS_FOUND, 4)
+                + "\nDeadline 1 of project 1 (CS2103T Team Project): Milestone v1.1 (by 01 Mar 2021) ✔"
+                + "\nDeadline 2 of project 1 (CS2103T Team Project): Milestone v1.2 (by 15 Mar 2021) ✔"
+                + "\nTodo 3 of project 1 (CS2103T Team Project): Finish add command ✔"
+                + "\nTodo 3 of project 2 (CS2101 OP2): Split Workload ✔";
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noMatches_noTasksMessage() {
+        TaskQuery query = new TaskQuery();
+        query.setDueFrom(LocalDate.of(2030, 1, 1));
+        assertCommandSuccess(new TasksCommand(query), model, TasksCommand.MESSAGE_NO_TASKS, expectedModel);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.deadline.Deadline;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code UpcomingCommand} and {@code OverdueCommand}.
+ */
+public class UpcomingCommandTest {
+    // every deadline of the typical projects is in the past
+    private Model model = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        UpcomingCommand upcomingCommand = new UpcomingCommand(3);
+
+        // same object -> returns true
+        assertTrue(upcomingCommand.equals(upcomingCommand));
+
+        // same values -> returns true
+        assertTrue(upcomingCommand.equals(new UpcomingCommand(3)));
+
+        // different types -> returns false
+        assertFalse(upcomingCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(upcomingCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(upcomingCommand.equals(new UpcomingCommand(4)));
+    }
+
+    @Test
+    public void execute_noUpcomingDeadlines_noUpcomingMessage() {
+        assertCommandSuccess(new UpcomingCommand(5), model, UpcomingCommand.MESSAGE_NO_UPCOMING, expectedModel);
+    }
+
+    @Test
+    public void execute_upcomingDeadlines_earliestListed() {
+        LocalDate today = model.getAgendaIndex().getDate();
+        model.getFilteredProjectList().get(1).addDeadline(new Deadline("Final pitch", today.plusDays(7)));
+        model.getFilteredProjectList().get(0).addDeadline(new Deadline("Final demo", today));
+        expectedModel.getFilteredProjectList().get(1).addDeadline(new Deadline("Final pitch", today.plusDays(7)));
+        expectedModel.getFilteredProjectList().get(0).addDeadline(new Deadline("Final demo", today));
+
+        String expectedMessage = String.format(UpcomingCommand.MESSAGE_UPCOMING, 1)
+                + "\nDeadline 5 of project 1 (CS2103T Team Project): Final demo (by "
+                + DateUtil.decodeDate(today) + ")";
+        assertCommandSuccess(new UpcomingCommand(1), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_overdue_undoneDeadlinesListed() {
+        String expectedMessage = String.format(OverdueCommand.MESSAGE_OVERDUE, 4)
+                + "\nDeadline 3 of project 1 (CS2103T Team Project): Milestone v1.3 (by 31 Mar 2021)"
+                + "\nDeadline 1 of project 2 (CS2101 OP2): Product Demo Internal Deadline (by 05 Apr 2021)"
+                + "\nDeadline 2 of project 2 (CS2101 OP2): Product Pitch Internal Deadline (by 08 Apr 2021)"
+                + "\nDeadline 4 of project 1 (CS2103T Team Project): Milestone v1.4 (by 12 Apr 2021)";
+        assertCommandSuccess(new OverdueCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -11,6 +11,8 @@ import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 
+import java.time.LocalTime;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.Messages;
@@ -67,6 +69,15 @@ public class UpdateEventCommandTest {
                 new ViewProjectAndOverviewUiCommand(INDEX_FIRST), expectedModel);
     }
 
+    @Test
+    public void execute_endTimeNotAfterTime_failure() {
+        UpdateEventCommand.UpdateEventDescriptor descriptor = new UpdateEventCommand.UpdateEventDescriptor();
+        descriptor.setEndTime(LocalTime.MIDNIGHT);
+        UpdateEventCommand updateEventCommand = new UpdateEventCommand(INDEX_FIRST, INDEX_FIRST, descriptor);
+
+        assertCommandFailure(updateEventCommand, model, Event.MESSAGE_CONSTRAINTS_END_TIME);
+    }
+
     /**
      * Edit filtered list where index is larger than size of filtered list,
      * but smaller than size of project list
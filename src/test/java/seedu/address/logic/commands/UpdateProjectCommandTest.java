@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -20,6 +21,9 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.project.Project;
 import seedu.address.model.project.ProjectName;
+import seedu.address.model.sync.ProjectDelta;
+import seedu.address.model.sync.SyncLog;
+import seedu.address.model.task.todo.Todo;
 
 public class UpdateProjectCommandTest {
 
@@ -43,6 +47,24 @@ public class UpdateProjectCommandTest {
                 new ViewProjectAndOverviewUiCommand(INDEX_FIRST), expectedModel);
     }
 
+    @Test
+    public void execute_projectSyncedWithTeammate_keepsSyncing() throws Exception {
+        Project project = model.getFilteredProjectList().get(INDEX_FIRST.getZeroBased());
+        Project teammateProject = new Project(project.getProjectName());
+        teammateProject.getSyncLog().importDelta(project.getSyncLog().exportDelta(project.getProjectName()));
+        teammateProject.addTodo(new Todo("Reply to teammate"));
+        ProjectDelta reply = teammateProject.getSyncLog().exportDelta(project.getProjectName(),
+                project.getSyncLog().getReplicaId());
+
+        new UpdateProjectCommand(INDEX_FIRST, new ProjectName("new project")).execute(model);
+        Project renamedProject = model.getFilteredProjectList().get(INDEX_FIRST.getZeroBased());
+
+        assertEquals(project.getSyncLog().getReplicaId(), renamedProject.getSyncLog().getReplicaId());
+        SyncLog.ImportResult result = renamedProject.getSyncLog().importDelta(reply);
+        assertEquals(0, result.getConflictCount());
+        assertEquals(1, result.getAppliedCount());
+    }
+
     @Test
     public void execute_filteredList_success() {
         showProjectAtIndex(model, INDEX_FIRST);
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.groupmate.Groupmate;
+import seedu.address.testutil.GroupmateBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code WhoisCommand}.
+ */
+public class WhoisCommandTest {
+
+    private Model model = new ModelManager(getTypicalColabFolder(), new UserPrefs());
+
+    @Test
+    public void execute_contactInProjects_projectsListed() {
+        Contact contact = model.getFilteredContactList().get(INDEX_FIRST.getZeroBased());
+        Groupmate groupmate = new GroupmateBuilder().withName(contact.getName().fullName).build();
+        Model expectedModel = new ModelManager(model.getColabFolder(), new UserPrefs());
+        model.getFilteredProjectList().get(1).addGroupmate(groupmate);
+        expectedModel.getFilteredProjectList().get(1).addGroupmate(groupmate);
+
+        String expectedMessage = String.format(WhoisCommand.MESSAGE_PROJECTS_FOUND, contact.getName(), 1)
+                + "\nGroupmate 1 of project 2 (CS2101 OP2): " + groupmate;
+        assertCommandSuccess(new WhoisCommand(INDEX_FIRST), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_contactInNoProjects_noProjectsMessage() {
+        Contact contact = model.getFilteredContactList().get(INDEX_SECOND.getZeroBased());
+        Model expectedModel = new ModelManager(model.getColabFolder(), new UserPrefs());
+
+        String expectedMessage = String.format(WhoisCommand.MESSAGE_NO_PROJECTS, contact.getName());
+        assertCommandSuccess(new WhoisCommand(INDEX_SECOND), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredContactList().size() + 1);
+
+        assertCommandFailure(new WhoisCommand(outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        WhoisCommand whoisFirstCommand = new WhoisCommand(INDEX_FIRST);
+        WhoisCommand whoisSecondCommand = new WhoisCommand(INDEX_SECOND);
+
+        // same object -> returns true
+        assertTrue(whoisFirstCommand.equals(whoisFirstCommand));
+
+        // same values -> returns true
+        assertTrue(whoisFirstCommand.equals(new WhoisCommand(INDEX_FIRST)));
+
+        // different types -> returns false
+        assertFalse(whoisFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(whoisFirstCommand.equals(null));
+
+        // different contact -> returns false
+        assertFalse(whoisFirstCommand.equals(whoisSecondCommand));
+    }
+}
@@ -5,11 +5,13 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PROJECT_DISPLA
 import static seedu.address.logic.commands.CommandTestUtil.INDEX_STANDALONE_ONE;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_DESCRIPTION;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_EVENT_DATE;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_EVENT_END_TIME;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_EVENT_TIME;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_EVENT_WEEKLY;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_INDEX_STANDALONE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_DATE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_END_TIME;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_TIME;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_WEEKLY;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
@@ -17,12 +19,14 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddEventCommand;
+import seedu.address.model.task.Recurrence;
 import seedu.address.model.task.repeatable.Event;
 import seedu.address.testutil.EventBuilder;
 
@@ -42,6 +46,57 @@ public class AddEventCommandParserTest {
                         + VALID_EVENT_DATE + VALID_EVENT_TIME + VALID_EVENT_WEEKLY,
                 new AddEventCommand(expectedProjectIndex, expectedEvent)
         );
+
+        // with end time
+        Event expectedEventWithEndTime = new EventBuilder(expectedEvent).withEndTime(LocalTime.of(19, 0)).build();
+        assertParseSuccess(parser, INDEX_STANDALONE_ONE + VALID_DESCRIPTION
+                        + VALID_EVENT_DATE + VALID_EVENT_TIME + VALID_EVENT_END_TIME + VALID_EVENT_WEEKLY,
+                new AddEventCommand(expectedProjectIndex, expectedEventWithEndTime)
+        );
+    }
+
+    @Test
+    public void parse_recurrence_success() {
+        Index expectedProjectIndex = Index.fromOneBased(1);
+        Recurrence recurrence = new Recurrence(Recurrence.Frequency.WEEKLY, 2, LocalDate.of(2020, 6, 30), 5,
+                List.of(LocalDate.of(2020, 1, 15), LocalDate.of(2020, 1, 29)));
+        Event expectedEvent = new EventBuilder().withDescription("CS2106 Tutorial")
+                .withDate(LocalDate.of(2020, 1, 1)).withTime(LocalTime.of(17, 30))
+                .withRecurrence(recurrence).build();
+
+        assertParseSuccess(parser, INDEX_STANDALONE_ONE + VALID_DESCRIPTION + VALID_EVENT_DATE + VALID_EVENT_TIME
+                        + " every/2 weeks until/30-06-2020 times/5 except/15-01-2020 except/29-01-2020",
+                new AddEventCommand(expectedProjectIndex, expectedEvent));
+
+        Event expectedMonthlyEvent = new EventBuilder(expectedEvent)
+                .withRecurrence(new Recurrence(Recurrence.Frequency.MONTHLY_BY_WEEKDAY, 1, null, null, List.of()))
+                .build();
+        assertParseSuccess(parser, INDEX_STANDALONE_ONE + VALID_DESCRIPTION + VALID_EVENT_DATE + VALID_EVENT_TIME
+                        + " every/Month by weekday",
+                new AddEventCommand(expectedProjectIndex, expectedMonthlyEvent));
+    }
+
+    @Test
+    public void parse_invalidRecurrence_failure() {
+        String validPrefix = INDEX_STANDALONE_ONE + VALID_DESCRIPTION + VALID_EVENT_DATE + VALID_EVENT_TIME;
+
+        // both weekly and repetition
+        assertParseFailure(parser, validPrefix + VALID_EVENT_WEEKLY + " every/day",
+                Messages.MESSAGE_PARSER_WEEKLY_AND_RECURRENCE);
+
+        // limits without repetition
+        assertParseFailure(parser, validPrefix + VALID_EVENT_WEEKLY + " times/3",
+                Messages.MESSAGE_PARSER_RECURRENCE_LIMITS);
+
+        // invalid repetitions
+        assertParseFailure(parser, validPrefix + " every/year", Messages.MESSAGE_PARSER_RECURRENCE_CONSTRAINTS);
+        assertParseFailure(parser, validPrefix + " every/0 days", Messages.MESSAGE_PARSER_RECURRENCE_CONSTRAINTS);
+        assertParseFailure(parser, validPrefix + " every/week by weekday",
+                Messages.MESSAGE_PARSER_RECURRENCE_CONSTRAINTS);
+
+        // invalid number of times
+        assertParseFailure(parser, validPrefix + " every/day times/0",
+                Messages.MESSAGE_PARSER_RECURRENCE_COUNT_CONSTRAINTS);
     }
 
     @Test
@@ -97,5 +152,10 @@ public class AddEventCommandParserTest {
         assertParseFailure(parser, INDEX_STANDALONE_ONE + VALID_DESCRIPTION
                 + VALID_EVENT_DATE + VALID_EVENT_TIME + INVALID_EVENT_WEEKLY,
                 Messages.MESSAGE_PARSER_WEEKLY_CONSTRAINTS);
+
+        // end time before time
+        assertParseFailure(parser, INDEX_STANDALONE_ONE + VALID_DESCRIPTION
+                + VALID_EVENT_DATE + VALID_EVENT_TIME + INVALID_EVENT_END_TIME + VALID_EVENT_WEEKLY,
+                Event.MESSAGE_CONSTRAINTS_END_TIME);
     }
 }
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_PARSER_DATE_CONSTRAINTS;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.model.agenda.AgendaRange;
+
+public class AgendaCommandParserTest {
+
+    private static final AgendaRange RANGE = new AgendaRange(LocalDate.of(2021, 8, 1), LocalDate.of(2021, 11, 30));
+
+    private AgendaCommandParser parser = new AgendaCommandParser();
+
+    @Test
+    public void parse_missingDates_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "from/01-08-2021", expectedMessage);
+        assertParseFailure(parser, "to/30-11-2021", expectedMessage);
+        assertParseFailure(parser, "soon from/01-08-2021 to/30-11-2021", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, "from/2021-08-01 to/30-11-2021", MESSAGE_PARSER_DATE_CONSTRAINTS);
+        assertParseFailure(parser, "from/30-11-2021 to/01-08-2021", AgendaRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "from/01-08-2021 to/30-11-2021 pg/0", AgendaCommandParser.MESSAGE_INVALID_PAGE);
+        assertParseFailure(parser, "from/01-08-2021 to/30-11-2021 pg/two", AgendaCommandParser.MESSAGE_INVALID_PAGE);
+    }
+
+    @Test
+    public void parse_validArgs_returnsAgendaCommand() {
+        assertParseSuccess(parser, "from/01-08-2021 to/30-11-2021", new AgendaCommand(RANGE, 1));
+        assertParseSuccess(parser, " to/30-11-2021 pg/3 from/01-08-2021 ", new AgendaCommand(RANGE, 3));
+    }
+
+    @Test
+    public void parse_shortcut_returnsAgendaCommand() throws Exception {
+        assertEquals(new AgendaCommand(AgendaCommand.Span.WEEK, 1), parser.parse(AgendaCommand.Span.WEEK, ""));
+        assertEquals(new AgendaCommand(AgendaCommand.Span.MONTH, 2), parser.parse(AgendaCommand.Span.MONTH, " pg/2"));
+    }
+}
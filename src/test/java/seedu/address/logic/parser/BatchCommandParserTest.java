@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddTodoCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.ProgressCommand;
+import seedu.address.model.task.todo.Todo;
+
+public class BatchCommandParserTest {
+
+    private BatchCommandParser parser = new BatchCommandParser(new ColabParser());
+
+    @Test
+    public void parse_validArgs_returnsBatchCommand() {
+        assertParseSuccess(parser, " progress asc ;progress desc", new BatchCommand(Arrays.asList(
+                new ProgressCommand(ProgressCommand.Order.ASCENDING),
+                new ProgressCommand(ProgressCommand.Order.DESCENDING))));
+    }
+
+    @Test
+    public void parse_escapedSeparator_keptInCommand() {
+        assertParseSuccess(parser, "addT 1 d/Buy snacks\\; drinks ; progress asc", new BatchCommand(Arrays.asList(
+                new AddTodoCommand(INDEX_FIRST, new Todo("Buy snacks; drinks")),
+                new ProgressCommand(ProgressCommand.Order.ASCENDING))));
+    }
+
+    @Test
+    public void parse_missingCommand_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, "progress ; ", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidCommand_throwsParseException() {
+        assertParseFailure(parser, "progress ; unknown",
+                String.format(BatchCommandParser.MESSAGE_INVALID_COMMAND, 2, MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void parse_commandNotAllowed_throwsParseException() {
+        assertParseFailure(parser, "progress ; undo", BatchCommandParser.MESSAGE_COMMAND_NOT_ALLOWED);
+        assertParseFailure(parser, "batch progress", BatchCommandParser.MESSAGE_COMMAND_NOT_ALLOWED);
+        assertParseFailure(parser, "progress ; switch f/data/other.json",
+                BatchCommandParser.MESSAGE_COMMAND_NOT_ALLOWED);
+        assertParseFailure(parser, "exportDelta 1 f/delta.json ; progress",
+                BatchCommandParser.MESSAGE_COMMAND_NOT_ALLOWED);
+        assertParseFailure(parser, "progress ; importDelta f/delta.json",
+                BatchCommandParser.MESSAGE_COMMAND_NOT_ALLOWED);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.commands.ClashesCommand;
+
+public class ClashesCommandParserTest {
+
+    private ClashesCommandParser parser = new ClashesCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsClashesCommand() {
+        assertParseSuccess(parser, "  ", new ClashesCommand());
+        assertParseSuccess(parser, " week ", new ClashesCommand(AgendaCommand.Span.WEEK));
+        assertParseSuccess(parser, "month", new ClashesCommand(AgendaCommand.Span.MONTH));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "year",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ClashesCommand.MESSAGE_USAGE));
+    }
+}
@@ -14,6 +14,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Arrays;
@@ -28,6 +29,9 @@ import seedu.address.logic.commands.AddDeadlineCommand;
 import seedu.address.logic.commands.AddEventCommand;
 import seedu.address.logic.commands.AddGroupmateCommand;
 import seedu.address.logic.commands.AddTodoCommand;
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.ClashesCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteContactCommand;
 import seedu.address.logic.commands.DeleteDeadlineCommand;
@@ -36,8 +40,17 @@ import seedu.address.logic.commands.DeleteGroupmateCommand;
 import seedu.address.logic.commands.DeleteProjectCommand;
 import seedu.address.logic.commands.DeleteTodoCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportDeltaCommand;
+import seedu.address.logic.commands.FilterContactCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindContactCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportDeltaCommand;
+import seedu.address.logic.commands.OverdueCommand;
+import seedu.address.logic.commands.ProgressCommand;
+import seedu.address.logic.commands.SwitchFolderCommand;
+import seedu.address.logic.commands.TasksCommand;
+import seedu.address.logic.commands.UpcomingCommand;
 import seedu.address.logic.commands.UpdateContactCommand;
 import seedu.address.logic.commands.UpdateContactCommand.UpdateContactDescriptor;
 import seedu.address.logic.commands.UpdateDeadlineCommand;
@@ -48,13 +61,17 @@ import seedu.address.logic.commands.ViewContactsCommand;
 import seedu.address.logic.commands.ViewOverviewCommand;
 import seedu.address.logic.commands.ViewTodayCommand;
 import seedu.address.logic.commands.ViewTodosCommand;
+import seedu.address.logic.commands.WhoisCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.agenda.AgendaRange;
 import seedu.address.model.contact.Contact;
-import seedu.address.model.contact.NameContainsKeywordsPredicate;
+import seedu.address.model.contact.ContactQuery;
+import seedu.address.model.contact.TagQuery;
 import seedu.address.model.groupmate.Groupmate;
 import seedu.address.model.project.ProjectName;
 import seedu.address.model.task.CompletableTodo;
 import seedu.address.model.task.deadline.Deadline;
+import seedu.address.model.task.query.TaskQuery;
 import seedu.address.model.task.repeatable.Event;
 import seedu.address.model.task.todo.Todo;
 import seedu.address.testutil.ContactBuilder;
@@ -129,6 +146,13 @@ public class ColabParserTest {
         assertEquals(new DeleteContactCommand(INDEX_FIRST), command);
     }
 
+    @Test
+    public void parseCommand_whois() throws Exception {
+        WhoisCommand command = (WhoisCommand) parser.parseCommand(
+                WhoisCommand.COMMAND_WORD + " " + INDEX_FIRST.getOneBased());
+        assertEquals(new WhoisCommand(INDEX_FIRST), command);
+    }
+
     @Test
     public void parseCommand_deleteP() throws Exception {
         Index projectIndex = Index.fromOneBased(1);
@@ -255,7 +279,87 @@ public class ColabParserTest {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
         FindContactCommand command = (FindContactCommand) parser.parseCommand(
                 FindContactCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
-        assertEquals(new FindContactCommand(new NameContainsKeywordsPredicate(keywords)), command);
+        assertEquals(new FindContactCommand(new ContactQuery(keywords)), command);
+    }
+
+    @Test
+    public void parseCommand_agenda() throws Exception {
+        AgendaRange range = new AgendaRange(LocalDate.of(2021, 8, 1), LocalDate.of(2021, 11, 30));
+        assertEquals(new AgendaCommand(range, 2),
+                parser.parseCommand(AgendaCommand.COMMAND_WORD + " from/01-08-2021 to/30-11-2021 pg/2"));
+        assertEquals(new AgendaCommand(AgendaCommand.Span.WEEK, 1),
+                parser.parseCommand(AgendaCommand.COMMAND_WORD_WEEK));
+        assertEquals(new AgendaCommand(AgendaCommand.Span.MONTH, 3),
+                parser.parseCommand(AgendaCommand.COMMAND_WORD_MONTH + " pg/3"));
+    }
+
+    @Test
+    public void parseCommand_filterContacts() throws Exception {
+        FilterContactCommand command = (FilterContactCommand) parser.parseCommand(
+                FilterContactCommand.COMMAND_WORD + " t/friends|family t/!owesMoney");
+        assertEquals(new FilterContactCommand(new TagQuery(List.of(List.of("friends", "family")),
+                List.of("owesMoney"))), command);
+    }
+
+    @Test
+    public void parseCommand_findAll() throws Exception {
+        FindCommand command = (FindCommand) parser.parseCommand(FindCommand.COMMAND_WORD + " weekly meeting");
+        assertEquals(new FindCommand("weekly meeting"), command);
+    }
+
+    @Test
+    public void parseCommand_upcomingAndOverdue() throws Exception {
+        assertEquals(new UpcomingCommand(3), parser.parseCommand(UpcomingCommand.COMMAND_WORD + " n/3"));
+        assertTrue(parser.parseCommand(OverdueCommand.COMMAND_WORD) instanceof OverdueCommand);
+    }
+
+    @Test
+    public void parseCommand_clashes() throws Exception {
+        assertEquals(new ClashesCommand(), parser.parseCommand(ClashesCommand.COMMAND_WORD));
+        assertEquals(new ClashesCommand(AgendaCommand.Span.WEEK),
+                parser.parseCommand(ClashesCommand.COMMAND_WORD + " " + AgendaCommand.COMMAND_WORD_WEEK));
+    }
+
+    @Test
+    public void parseCommand_progress() throws Exception {
+        assertEquals(new ProgressCommand(ProgressCommand.Order.DESCENDING),
+                parser.parseCommand(ProgressCommand.COMMAND_WORD + " desc"));
+    }
+
+    @Test
+    public void parseCommand_batch() throws Exception {
+        assertEquals(new BatchCommand(Arrays.asList(new ProgressCommand(ProgressCommand.Order.ASCENDING),
+                new ProgressCommand(ProgressCommand.Order.DESCENDING))),
+                parser.parseCommand(BatchCommand.COMMAND_WORD + " progress asc ; progress desc"));
+    }
+
+    @Test
+    public void parseCommand_switch() throws Exception {
+        assertEquals(new SwitchFolderCommand(), parser.parseCommand(SwitchFolderCommand.COMMAND_WORD));
+        assertEquals(new SwitchFolderCommand(Paths.get("data", "other.json")),
+                parser.parseCommand(SwitchFolderCommand.COMMAND_WORD + " f/data/other.json"));
+    }
+
+    @Test
+    public void parseCommand_exportDelta() throws Exception {
+        assertEquals(new ExportDeltaCommand(INDEX_FIRST, Paths.get("delta.json")),
+                parser.parseCommand(ExportDeltaCommand.COMMAND_WORD + " 1 f/delta.json"));
+    }
+
+    @Test
+    public void parseCommand_importDelta() throws Exception {
+        assertEquals(new ImportDeltaCommand(Paths.get("delta.json")),
+                parser.parseCommand(ImportDeltaCommand.COMMAND_WORD + " f/delta.json"));
+    }
+
+    @Test
+    public void parseCommand_tasks() throws Exception {
+        TaskQuery query = new TaskQuery();
+        query.setIsDone(false);
+        query.addTextTerm("report");
+        TasksCommand command = (TasksCommand) parser.parseCommand(
+                TasksCommand.COMMAND_WORD + " done:false text:report");
+        assertEquals(new TasksCommand(query), command);
     }
 
     @Test
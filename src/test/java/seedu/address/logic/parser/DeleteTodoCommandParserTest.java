@@ -8,6 +8,8 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -30,6 +32,16 @@ public class DeleteTodoCommandParserTest {
         assertParseSuccess(parser, userInput, command);
     }
 
+    @Test
+    public void parse_indexList_success() {
+        String userInput = INDEX_FIRST.getOneBased() + " " + PREFIX_INDEX + "3-4, 1";
+
+        DeleteTodoCommand command = new DeleteTodoCommand(INDEX_FIRST,
+                Arrays.asList(INDEX_FIRST, Index.fromOneBased(3), Index.fromOneBased(4)));
+
+        assertParseSuccess(parser, userInput, command);
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteTodoCommand.MESSAGE_USAGE);
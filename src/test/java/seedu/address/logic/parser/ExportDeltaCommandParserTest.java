@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportDeltaCommand;
+
+public class ExportDeltaCommandParserTest {
+
+    private ExportDeltaCommandParser parser = new ExportDeltaCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportDeltaCommand() {
+        assertParseSuccess(parser, " 1 f/ deltas/alice to bob.json ",
+                new ExportDeltaCommand(INDEX_FIRST, Paths.get("deltas", "alice to bob.json")));
+        assertParseSuccess(parser, " 1 f/alice-to-bob.json re/bob-to-alice.json",
+                new ExportDeltaCommand(INDEX_FIRST, Paths.get("alice-to-bob.json"), Paths.get("bob-to-alice.json")));
+    }
+
+    @Test
+    public void parse_invalidIndex_throwsParseException() {
+        assertParseFailure(parser, " a f/delta.json", MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
+        assertParseFailure(parser, " 0 f/delta.json", MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void parse_emptyFilePath_throwsParseException() {
+        assertParseFailure(parser, " 1 f/ ", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+
+    @Test
+    public void parse_missingParts_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportDeltaCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 1", expectedMessage);
+        assertParseFailure(parser, " f/delta.json", expectedMessage);
+    }
+}
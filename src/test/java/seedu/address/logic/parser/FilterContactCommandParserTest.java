@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterContactCommand;
+import seedu.address.model.contact.TagQuery;
+import seedu.address.model.tag.Tag;
+
+public class FilterContactCommandParserTest {
+
+    private FilterContactCommandParser parser = new FilterContactCommandParser();
+
+    @Test
+    public void parse_noConditions_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterContactCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, "friends", expectedMessage);
+        assertParseFailure(parser, "friends t/family", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidTagName_throwsParseException() {
+        assertParseFailure(parser, "t/", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "t/!", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "t/friends|", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "t/friends t/#family", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterContactCommand() {
+        FilterContactCommand expectedCommand = new FilterContactCommand(new TagQuery(
+                List.of(List.of("friends", "family"), List.of("colleagues")), List.of("owesMoney", "ex")));
+        assertParseSuccess(parser, "t/friends|family t/!owesMoney t/colleagues t/!ex", expectedCommand);
+
+        // whitespace around tags and separators
+        assertParseSuccess(parser, " t/ friends | family  t/ !owesMoney t/colleagues t/! ex ", expectedCommand);
+    }
+}
@@ -5,11 +5,14 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindContactCommand;
-import seedu.address.model.contact.NameContainsKeywordsPredicate;
+import seedu.address.model.contact.ContactField;
+import seedu.address.model.contact.ContactQuery;
 
 public class FindContactCommandParserTest {
 
@@ -21,15 +24,47 @@ public class FindContactCommandParserTest {
                 FindContactCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_emptyFieldTerm_throwsParseException() {
+        assertParseFailure(parser, "Alice t/", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindContactCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
         FindContactCommand expectedFindContactCommand =
-                new FindContactCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")));
+                new FindContactCommand(new ContactQuery(Arrays.asList("Alice", "Bob")));
         assertParseSuccess(parser, "Alice Bob", expectedFindContactCommand);
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindContactCommand);
     }
 
+    @Test
+    public void parse_fieldTerms_returnsFindCommand() {
+        // field terms only
+        FindContactCommand expectedFindContactCommand = new FindContactCommand(new ContactQuery(List.of(),
+                Map.of(ContactField.TAG, List.of("friends", "colleagues"), ContactField.EMAIL, List.of("gmail"))));
+        assertParseSuccess(parser, "t/friends e/gmail t/colleagues", expectedFindContactCommand);
+
+        // keywords and field terms
+        expectedFindContactCommand = new FindContactCommand(new ContactQuery(List.of("Alice"),
+                Map.of(ContactField.ADDRESS, List.of("jurong west"))));
+        assertParseSuccess(parser, "Alice a/jurong west", expectedFindContactCommand);
+    }
+
+    @Test
+    public void parse_fuzzyKeywords_returnsFindCommand() {
+        FindContactCommand expectedFindContactCommand = new FindContactCommand(new ContactQuery(List.of("Alice"),
+                List.of("jonh"), Map.of(ContactField.TAG, List.of("friends"))));
+        assertParseSuccess(parser, "~jonh Alice t/friends", expectedFindContactCommand);
+    }
+
+    @Test
+    public void parse_emptyFuzzyKeyword_throwsParseException() {
+        assertParseFailure(parser, "Alice ~", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindContactCommand.MESSAGE_USAGE));
+    }
+
 }
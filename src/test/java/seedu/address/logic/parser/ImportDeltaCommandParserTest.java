@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportDeltaCommand;
+
+public class ImportDeltaCommandParserTest {
+
+    private ImportDeltaCommandParser parser = new ImportDeltaCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportDeltaCommand() {
+        assertParseSuccess(parser, " f/ deltas/bob to alice.json ",
+                new ImportDeltaCommand(Paths.get("deltas", "bob to alice.json")));
+    }
+
+    @Test
+    public void parse_emptyFilePath_throwsParseException() {
+        assertParseFailure(parser, " f/ ", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportDeltaCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "delta.json", expectedMessage);
+    }
+}
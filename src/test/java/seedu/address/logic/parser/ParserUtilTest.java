@@ -15,6 +15,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.contact.Address;
 import seedu.address.model.contact.Email;
@@ -67,6 +68,24 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexes_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1,,3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1-"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("0-2"));
+        assertThrows(ParseException.class, String.format(ParserUtil.MESSAGE_INVALID_INDEX_RANGE, "5-3"), ()
+            -> ParserUtil.parseIndexes("1, 5-3"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_TOO_MANY_INDEXES, ()
+            -> ParserUtil.parseIndexes("1-" + Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void parseIndexes_validInput_sortedWithoutDuplicates() throws Exception {
+        assertEquals(Collections.singletonList(INDEX_FIRST), ParserUtil.parseIndexes(" 1 "));
+        assertEquals(Arrays.asList(INDEX_FIRST, Index.fromOneBased(3), Index.fromOneBased(4), Index.fromOneBased(5)),
+                ParserUtil.parseIndexes("5, 3-4 ,1,4"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseContactName((String) null));
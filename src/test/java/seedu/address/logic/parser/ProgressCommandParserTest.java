@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ProgressCommand;
+
+public class ProgressCommandParserTest {
+
+    private ProgressCommandParser parser = new ProgressCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsProgressCommand() {
+        assertParseSuccess(parser, "  ", new ProgressCommand(ProgressCommand.Order.DISPLAYED));
+        assertParseSuccess(parser, " asc ", new ProgressCommand(ProgressCommand.Order.ASCENDING));
+        assertParseSuccess(parser, "DESC", new ProgressCommand(ProgressCommand.Order.DESCENDING));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "completion",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProgressCommand.MESSAGE_USAGE));
+    }
+}
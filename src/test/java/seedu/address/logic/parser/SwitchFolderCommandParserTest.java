@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SwitchFolderCommand;
+
+public class SwitchFolderCommandParserTest {
+
+    private SwitchFolderCommandParser parser = new SwitchFolderCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSwitchFolderCommand() {
+        assertParseSuccess(parser, "", new SwitchFolderCommand());
+        assertParseSuccess(parser, " f/ data/team project.json ",
+                new SwitchFolderCommand(Paths.get("data", "team project.json")));
+    }
+
+    @Test
+    public void parse_emptyFilePath_throwsParseException() {
+        assertParseFailure(parser, " f/ ", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+
+    @Test
+    public void parse_preamble_throwsParseException() {
+        assertParseFailure(parser, "data/other.json",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchFolderCommand.MESSAGE_USAGE));
+    }
+}
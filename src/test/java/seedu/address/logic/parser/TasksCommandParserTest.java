@@ -0,0 +1,85 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.TasksCommand;
+import seedu.address.model.task.query.TaskQuery;
+
+public class TasksCommandParserTest {
+
+    private TasksCommandParser parser = new TasksCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsTasksCommandForAllTasks() {
+        assertParseSuccess(parser, "   ", new TasksCommand(new TaskQuery()));
+    }
+
+    @Test
+    public void parse_validArgs_returnsTasksCommand() {
+        TaskQuery query = new TaskQuery();
+        query.setIsDone(false);
+        query.setDueTo(LocalDate.of(2021, 5, 19));
+        query.addProjectTerm("CS2103");
+        query.addTextTerm("report");
+        TasksCommand expectedCommand = new TasksCommand(query);
+
+        assertParseSuccess(parser, "done:false due<20-05-2021 project:CS2103 text:report", expectedCommand);
+
+        // leading, trailing and multiple whitespaces
+        assertParseSuccess(parser, " \n done:FALSE \t due<=19-05-2021   project:CS2103 text:report \t",
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_dueBounds_tightestBoundsKept() {
+        TaskQuery query = new TaskQuery();
+        query.setDueFrom(LocalDate.of(2021, 4, 2));
+        query.setDueTo(LocalDate.of(2021, 4, 10));
+
+        assertParseSuccess(parser, "due>=01-04-2021 due>01-04-2021 due<=10-04-2021 due<=30-04-2021",
+                new TasksCommand(query));
+
+        TaskQuery exactQuery = new TaskQuery();
+        exactQuery.setDueFrom(LocalDate.of(2021, 4, 1));
+        exactQuery.setDueTo(LocalDate.of(2021, 4, 1));
+        assertParseSuccess(parser, "due:01-04-2021", new TasksCommand(exactQuery));
+    }
+
+    @Test
+    public void parse_type_returnsTasksCommand() {
+        TaskQuery query = new TaskQuery();
+        query.setType(TaskQuery.TaskType.DEADLINE);
+        assertParseSuccess(parser, "type:Deadline", new TasksCommand(query));
+    }
+
+    @Test
+    public void parse_invalidFilter_throwsParseException() {
+        String usage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, TasksCommand.MESSAGE_USAGE);
+
+        // unknown key
+        assertParseFailure(parser, "owner:me",
+                String.format(TasksCommandParser.MESSAGE_INVALID_FILTER, "owner:me", usage));
+
+        // no operator
+        assertParseFailure(parser, "report",
+                String.format(TasksCommandParser.MESSAGE_INVALID_FILTER, "report", usage));
+
+        // invalid done value
+        assertParseFailure(parser, "done:maybe",
+                String.format(TasksCommandParser.MESSAGE_INVALID_FILTER, "done:maybe", usage));
+
+        // comparison on a text filter
+        assertParseFailure(parser, "text<report",
+                String.format(TasksCommandParser.MESSAGE_INVALID_FILTER, "text<report", usage));
+
+        // invalid type
+        assertParseFailure(parser, "type:event",
+                String.format(TasksCommandParser.MESSAGE_INVALID_FILTER, "type:event", usage));
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.UpcomingCommand;
+
+public class UpcomingCommandParserTest {
+
+    private UpcomingCommandParser parser = new UpcomingCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsUpcomingCommand() {
+        assertParseSuccess(parser, "", new UpcomingCommand(UpcomingCommand.DEFAULT_COUNT));
+        assertParseSuccess(parser, " n/12 ", new UpcomingCommand(12));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, " n/0", UpcomingCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " n/three", UpcomingCommandParser.MESSAGE_INVALID_COUNT);
+    }
+
+    @Test
+    public void parse_preamble_throwsParseException() {
+        assertParseFailure(parser, "3",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingCommand.MESSAGE_USAGE));
+    }
+}
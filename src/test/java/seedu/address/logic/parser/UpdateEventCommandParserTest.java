@@ -13,6 +13,7 @@ import static seedu.address.logic.commands.CommandTestUtil.INVALID_EVENT_TIME;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_EVENT_WEEKLY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_DATE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_END_TIME;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_TIME;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_WEEKLY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_INDEX_ONE;
@@ -22,10 +23,12 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.UpdateEventCommand;
+import seedu.address.model.task.Recurrence;
 
 public class UpdateEventCommandParserTest {
 
@@ -144,5 +147,21 @@ public class UpdateEventCommandParserTest {
         expectedCommand = new UpdateEventCommand(INDEX_FIRST, INDEX_FIRST, descriptor);
 
         assertParseSuccess(parser, userInput, expectedCommand);
+
+        // end time
+        userInput = VALID_INDEX_ONE + " i/1" + VALID_EVENT_END_TIME;
+        descriptor = new UpdateEventCommand.UpdateEventDescriptor();
+        descriptor.setEndTime(LocalTime.of(19, 0));
+        expectedCommand = new UpdateEventCommand(INDEX_FIRST, INDEX_FIRST, descriptor);
+
+        assertParseSuccess(parser, userInput, expectedCommand);
+        // repetition
+        userInput = VALID_INDEX_ONE + " i/1 every/3 days until/01-02-2020";
+        descriptor = new UpdateEventCommand.UpdateEventDescriptor();
+        descriptor.setRecurrence(new Recurrence(Recurrence.Frequency.DAILY, 3, LocalDate.of(2020, 2, 1), null,
+                List.of()));
+        expectedCommand = new UpdateEventCommand(INDEX_FIRST, INDEX_FIRST, descriptor);
+
+        assertParseSuccess(parser, userInput, expectedCommand);
     }
 }
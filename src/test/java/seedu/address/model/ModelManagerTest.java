@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -10,13 +12,33 @@ import static seedu.address.testutil.TypicalContacts.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.colabfolderhistory.exceptions.NoUndoableStateException;
+import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.NameContainsKeywordsPredicate;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.TodoList;
+import seedu.address.model.task.CompletableTodo;
+import seedu.address.model.task.todo.Todo;
 import seedu.address.testutil.ColabFolderBuilder;
+import seedu.address.testutil.ContactBuilder;
+import seedu.address.testutil.GroupmateBuilder;
+import seedu.address.testutil.ProjectBuilder;
 
 public class ModelManagerTest {
 
@@ -72,6 +94,30 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getColabFolderFilePath());
     }
 
+    @Test
+    public void switchColabFolder_otherFolder_foldersAndHistoriesSwapped() {
+        Path firstPath = modelManager.getColabFolderFilePath();
+        Path secondPath = Paths.get("data", "second.json");
+        modelManager.addContact(ALICE);
+        modelManager.commitState(new CommandResult("Added Alice"));
+        modelManager.updateFilteredContactList(unused -> false);
+
+        ColabFolder secondFolder = new ColabFolderBuilder().withContact(BENSON).build();
+        ResidentFolder firstFolder = modelManager.switchColabFolder(secondPath, new ResidentFolder(secondFolder));
+        assertEquals(secondFolder, modelManager.getColabFolder());
+        assertEquals(secondFolder, new ColabFolder(modelManager.getColabFolderSnapshot()));
+        assertEquals(List.of(BENSON), modelManager.getFilteredContactList());
+        assertEquals(secondPath, modelManager.getColabFolderFilePath());
+        assertEquals(List.of(secondPath, firstPath), modelManager.getUserPrefs().getRecentColabFolderFilePaths());
+        // the new folder has a history of its own
+        assertThrows(NoUndoableStateException.class, modelManager::undo);
+
+        modelManager.switchColabFolder(firstPath, firstFolder);
+        assertEquals(List.of(ALICE), modelManager.getFilteredContactList());
+        modelManager.undo();
+        assertEquals(List.of(), modelManager.getFilteredContactList());
+    }
+
     @Test
     public void hasContact_nullContact_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasContact(null));
@@ -88,11 +134,111 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasContact(ALICE));
     }
 
+    @Test
+    public void setContact_nameChanged_groupmatesRenamed() {
+        Project project = new ProjectBuilder().withName("Alpha").build();
+        project.addGroupmate(new GroupmateBuilder().withName("Alice Pauline").withRoles("leader").build());
+        modelManager.addContact(ALICE);
+        modelManager.addProject(project);
+
+        Contact renamedAlice = new ContactBuilder(ALICE).withName("Alice Tan").build();
+        modelManager.setContact(ALICE, renamedAlice);
+        assertEquals(new GroupmateBuilder().withName("Alice Tan").withRoles("leader").build(),
+                project.getGroupmate(0));
+        assertEquals(1, modelManager.getMemberships(renamedAlice).size());
+        assertTrue(modelManager.getMemberships(ALICE).isEmpty());
+    }
+
     @Test
     public void getFilteredContactList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredContactList().remove(0));
     }
 
+    @Test
+    public void publishSnapshot_modelChangedLater_snapshotUnchanged() {
+        modelManager.addProject(new ProjectBuilder().withName("CS2103T").build());
+        Project project = modelManager.getFilteredProjectList().get(0);
+        project.addTodo(new Todo("Write tests"));
+        ReadOnlyColabFolder snapshot = modelManager.publishSnapshot();
+
+        project.markTodo(0);
+        modelManager.addContact(ALICE);
+
+        assertSame(snapshot, modelManager.getColabFolderSnapshot());
+        assertEquals(0, countDoneTodos(snapshot));
+        assertTrue(snapshot.getContactList().isEmpty());
+        assertEquals(1, countDoneTodos(modelManager.publishSnapshot()));
+    }
+
+    @Test
+    public void publishSnapshot_oneProjectChanged_otherProjectCopiesShared() {
+        modelManager.addProject(new ProjectBuilder().withName("CS2103T").build());
+        modelManager.addProject(new ProjectBuilder().withName("CS2101").build());
+        ReadOnlyColabFolder snapshot = modelManager.publishSnapshot();
+        assertSame(snapshot, modelManager.publishSnapshot());
+
+        modelManager.getFilteredProjectList().get(0).addTodo(new Todo("Write tests"));
+        ReadOnlyColabFolder nextSnapshot = modelManager.publishSnapshot();
+        assertNotSame(snapshot.getProjectsList().get(0), nextSnapshot.getProjectsList().get(0));
+        assertSame(snapshot.getProjectsList().get(1), nextSnapshot.getProjectsList().get(1));
+        assertEquals(0, snapshot.getProjectsList().get(0).getTodos().size());
+    }
+
+    @Test
+    public void getColabFolderSnapshot_concurrentReadersAndOneWriter_consistentSnapshots() throws Exception {
+        int readerCount = 8;
+        int projectCount = 50;
+        int todosPerProject = 4;
+        ExecutorService readers = Executors.newFixedThreadPool(readerCount);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < readerCount; i++) {
+            results.add(readers.submit(() -> {
+                int snapshotCount = 0;
+                long lastDoneCount = 0;
+                do {
+                    ReadOnlyColabFolder snapshot = modelManager.getColabFolderSnapshot();
+                    List<Project> projects = snapshot.getProjectsList();
+                    long doneCount = countDoneTodos(snapshot);
+
+                    // projects are published whole, and marking todos as done is never undone
+                    projects.forEach(project -> assertEquals(todosPerProject, project.getTodos().size()));
+                    assertTrue(doneCount >= lastDoneCount);
+                    assertEquals(doneCount, countDoneTodos(snapshot));
+                    lastDoneCount = doneCount;
+                    snapshotCount++;
+                } while (isWriting.get());
+                return snapshotCount;
+            }));
+        }
+
+        try {
+            for (int i = 0; i < projectCount; i++) {
+                TodoList todos = new TodoList();
+                for (int j = 0; j < todosPerProject; j++) {
+                    todos.addTodo(new Todo("Todo " + j));
+                }
+                modelManager.addProject(new ProjectBuilder().withName("Project " + i).withTodoList(todos).build());
+                modelManager.publishSnapshot();
+
+                Project project = modelManager.getFilteredProjectList().get(i);
+                for (int j = 0; j < todosPerProject; j++) {
+                    project.markTodo(j);
+                    modelManager.publishSnapshot();
+                }
+            }
+        } finally {
+            isWriting.set(false);
+            readers.shutdown();
+        }
+
+        for (Future<Integer> result : results) {
+            assertTrue(result.get(10, TimeUnit.SECONDS) > 0);
+        }
+        assertEquals(projectCount * todosPerProject, countDoneTodos(modelManager.getColabFolderSnapshot()));
+    }
+
     @Test
     public void equals() {
         ColabFolder colabFolder = new ColabFolderBuilder().withContact(ALICE).withContact(BENSON).build();
@@ -129,4 +275,30 @@ public class ModelManagerTest {
         differentUserPrefs.setColabFolderFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(colabFolder, differentUserPrefs)));
     }
+
+    private static long countDoneTodos(ReadOnlyColabFolder colabFolder) {
+        return colabFolder.getProjectsList().stream()
+                .flatMap(project -> project.getTodos().stream())
+                .filter(CompletableTodo::getIsDone)
+                .count();
+    }
+
+    @Test
+    public void constructor_fixedClock_everyPartAgreesOnToday() {
+        LocalDate today = LocalDate.of(2021, 3, 1);
+        Clock clock = Clock.fixed(today.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        ColabFolder colabFolder = new ColabFolderBuilder().withContact(new ProjectBuilder().build()).build();
+        ModelManager modelManager = new ModelManager(colabFolder, new UserPrefs(), clock);
+
+        assertEquals(today, modelManager.getAgendaIndex().getDate());
+        Project project = modelManager.getFilteredProjectList().get(0);
+        assertEquals(today, project.getEvents().getToday());
+        assertEquals(today, project.getProgress().getToday());
+
+        // a project made outside of the model
+        Project addedProject = new ProjectBuilder().withName("Added Project").build();
+        modelManager.addProject(addedProject);
+        assertEquals(today, addedProject.getEvents().getToday());
+        assertEquals(today, addedProject.getProgress().getToday());
+    }
 }
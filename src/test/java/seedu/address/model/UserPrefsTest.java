@@ -4,7 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -24,6 +27,48 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setColabFolderFilePath(null));
     }
 
+    @Test
+    public void addRecentColabFolderFilePath_pathAlreadyRecent_movedToFront() {
+        UserPrefs userPrefs = new UserPrefs();
+        Path first = Paths.get("data", "first.json");
+        Path second = Paths.get("data", "second.json");
+        userPrefs.addRecentColabFolderFilePath(first);
+        userPrefs.addRecentColabFolderFilePath(second);
+        assertEquals(List.of(second, first), userPrefs.getRecentColabFolderFilePaths());
+
+        userPrefs.addRecentColabFolderFilePath(first);
+        assertEquals(List.of(first, second), userPrefs.getRecentColabFolderFilePaths());
+    }
+
+    @Test
+    public void addRecentColabFolderFilePath_sameFileDifferentPath_replaced() {
+        UserPrefs userPrefs = new UserPrefs();
+        Path relative = Paths.get("data", "first.json");
+        Path absolute = Paths.get("data", ".", "first.json").toAbsolutePath();
+        userPrefs.addRecentColabFolderFilePath(relative);
+        userPrefs.addRecentColabFolderFilePath(Paths.get("data", "second.json"));
+
+        userPrefs.addRecentColabFolderFilePath(absolute);
+        assertEquals(List.of(absolute, Paths.get("data", "second.json")),
+                userPrefs.getRecentColabFolderFilePaths());
+    }
+
+    @Test
+    public void addRecentColabFolderFilePath_tooManyPaths_leastRecentDropped() {
+        UserPrefs userPrefs = new UserPrefs();
+        List<Path> expectedPaths = new ArrayList<>();
+        for (int i = 0; i <= UserPrefs.MAX_RECENT_COLAB_FOLDERS; i++) {
+            Path path = Paths.get("data", i + ".json");
+            userPrefs.addRecentColabFolderFilePath(path);
+            expectedPaths.add(0, path);
+        }
+
+        assertEquals(expectedPaths.subList(0, UserPrefs.MAX_RECENT_COLAB_FOLDERS),
+                userPrefs.getRecentColabFolderFilePaths());
+        assertThrows(UnsupportedOperationException.class, () ->
+                userPrefs.getRecentColabFolderFilePaths().add(Paths.get("data", "test.json")));
+    }
+
     @Test
     public void equals() {
         UserPrefs testUserPref = new UserPrefs();
@@ -51,6 +96,10 @@ public class UserPrefsTest {
         differentUserPrefs2.setColabFolderFilePath(Paths.get("data" , "test.json"));
         assertNotEquals(differentUserPrefs2, testUserPref);
 
+        // different recentColabFolderFilePaths -> returns false
+        UserPrefs differentUserPrefs3 = new UserPrefs();
+        differentUserPrefs3.addRecentColabFolderFilePath(Paths.get("data" , "test.json"));
+        assertNotEquals(differentUserPrefs3, testUserPref);
     }
 
     @Test
@@ -0,0 +1,133 @@
+package seedu.address.model.agenda;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ColabFolder;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.task.deadline.Deadline;
+import seedu.address.model.task.repeatable.Event;
+import seedu.address.testutil.ProjectBuilder;
+
+public class AgendaIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2021, 4, 5); // a Monday
+    private static final LocalTime MORNING = LocalTime.of(9, 0);
+    private static final LocalTime EVENING = LocalTime.of(20, 0);
+
+    private ColabFolder colabFolder;
+    private AgendaIndex agendaIndex;
+
+    @BeforeEach
+    public void setUp() {
+        colabFolder = new ColabFolder();
+        agendaIndex = new AgendaIndex(colabFolder.getProjectsList(), TODAY);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AgendaIndex(null, TODAY));
+        assertThrows(NullPointerException.class, () -> new AgendaIndex(colabFolder.getProjectsList(), null));
+    }
+
+    @Test
+    public void constructor_emptyFolder_emptyAgenda() {
+        for (AgendaPeriod period : AgendaPeriod.values()) {
+            assertTrue(agendaIndex.getEvents(period).isEmpty());
+            assertTrue(agendaIndex.getDeadlines(period).isEmpty());
+        }
+    }
+
+    @Test
+    public void addProject_withItems_indexesProject() {
+        Project project = new ProjectBuilder().withName("Alpha").build();
+        project.addEvent(new Event("Standup", TODAY, MORNING, false));
+        project.addEvent(new Event("Lecture", TODAY.minusWeeks(3).plusDays(1), EVENING, true));
+        project.addDeadline(new Deadline("Report", TODAY.plusDays(3)));
+        colabFolder.addProject(project);
+
+        assertEquals(1, agendaIndex.getEvents(AgendaPeriod.TODAY).size());
+        assertEquals("Standup", agendaIndex.getEvents(AgendaPeriod.TODAY).get(0).getDescription());
+        assertEquals(1, agendaIndex.getEvents(AgendaPeriod.TOMORROW).size());
+        assertEquals("Lecture", agendaIndex.getEvents(AgendaPeriod.TOMORROW).get(0).getDescription());
+        assertEquals(2, agendaIndex.getEvents(AgendaPeriod.THIS_WEEK).size());
+        assertTrue(agendaIndex.getDeadlines(AgendaPeriod.TODAY).isEmpty());
+        assertEquals(1, agendaIndex.getDeadlines(AgendaPeriod.THIS_WEEK).size());
+        assertEquals(new ProjectName("Alpha"),
+                agendaIndex.getDeadlines(AgendaPeriod.THIS_WEEK).get(0).getProjectName());
+    }
+
+    @Test
+    public void modifyProject_afterIndexing_agendaUpdated() {
+        Project project = new ProjectBuilder().withName("Alpha").build();
+        colabFolder.addProject(project);
+        assertTrue(agendaIndex.getEvents(AgendaPeriod.TODAY).isEmpty());
+
+        project.addEvent(new Event("Late meeting", TODAY, EVENING, false));
+        project.addEvent(new Event("Early meeting", TODAY, MORNING, false));
+        assertEquals(2, agendaIndex.getEvents(AgendaPeriod.TODAY).size());
+        assertEquals("Early meeting", agendaIndex.getEvents(AgendaPeriod.TODAY).get(0).getDescription());
+
+        project.deleteEvent(0);
+        assertEquals(1, agendaIndex.getEvents(AgendaPeriod.TODAY).size());
+        assertEquals("Late meeting", agendaIndex.getEvents(AgendaPeriod.TODAY).get(0).getDescription());
+
+        project.addDeadline(new Deadline("Submit", TODAY));
+        project.markDeadline(0);
+        assertTrue(agendaIndex.getDeadlines(AgendaPeriod.TODAY).get(0).getIsDone());
+    }
+
+    @Test
+    public void removeProject_afterIndexing_entriesRemoved() {
+        Project alpha = new ProjectBuilder().withName("Alpha").build();
+        Project beta = new ProjectBuilder().withName("Beta").build();
+        alpha.addEvent(new Event("Meeting", TODAY, MORNING, false));
+        beta.addEvent(new Event("Meeting", TODAY, MORNING, false));
+        colabFolder.addProject(alpha);
+        colabFolder.addProject(beta);
+        assertEquals(2, agendaIndex.getEvents(AgendaPeriod.TODAY).size());
+
+        colabFolder.removeProject(alpha);
+        assertEquals(1, agendaIndex.getEvents(AgendaPeriod.TODAY).size());
+        assertEquals(new ProjectName("Beta"), agendaIndex.getEvents(AgendaPeriod.TODAY).get(0).getProjectName());
+
+        // removed projects are no longer tracked
+        alpha.addEvent(new Event("Another meeting", TODAY, EVENING, false));
+        assertEquals(1, agendaIndex.getEvents(AgendaPeriod.TODAY).size());
+    }
+
+    @Test
+    public void resetData_replacesAllProjects_agendaRebuilt() {
+        Project project = new ProjectBuilder().withName("Alpha").build();
+        project.addDeadline(new Deadline("Submit", TODAY));
+        ColabFolder newData = new ColabFolder();
+        newData.addProject(project);
+
+        colabFolder.resetData(newData);
+        assertEquals(1, agendaIndex.getDeadlines(AgendaPeriod.TODAY).size());
+
+        colabFolder.resetData(new ColabFolder());
+        assertTrue(agendaIndex.getDeadlines(AgendaPeriod.TODAY).isEmpty());
+    }
+
+    @Test
+    public void setDate_newDate_agendaRecomputed() {
+        Project project = new ProjectBuilder().withName("Alpha").build();
+        project.addDeadline(new Deadline("Submit", TODAY.plusDays(1)));
+        colabFolder.addProject(project);
+        assertTrue(agendaIndex.getDeadlines(AgendaPeriod.TODAY).isEmpty());
+
+        agendaIndex.setDate(TODAY.plusDays(1));
+        assertEquals(TODAY.plusDays(1), agendaIndex.getDate());
+        assertEquals(1, agendaIndex.getDeadlines(AgendaPeriod.TODAY).size());
+        assertTrue(agendaIndex.getDeadlines(AgendaPeriod.TOMORROW).isEmpty());
+    }
+}
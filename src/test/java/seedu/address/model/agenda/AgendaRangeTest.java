@@ -0,0 +1,101 @@
+package seedu.address.model.agenda;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.task.Recurrence;
+import seedu.address.model.task.deadline.Deadline;
+import seedu.address.model.task.repeatable.Event;
+import seedu.address.testutil.ProjectBuilder;
+
+public class AgendaRangeTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2021, 4, 5);
+    private static final LocalTime MORNING = LocalTime.of(9, 0);
+    private static final LocalTime EVENING = LocalTime.of(20, 0);
+
+    @Test
+    public void constructor_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AgendaRange(MONDAY, MONDAY.minusDays(1)));
+        assertTrue(AgendaRange.isValidRange(MONDAY, MONDAY));
+        assertFalse(AgendaRange.isValidRange(MONDAY.plusDays(1), MONDAY));
+    }
+
+    @Test
+    public void iterator_weeklyEvent_expandedWithinRange() {
+        Project project = new ProjectBuilder().withName("Alpha").build();
+        project.addEvent(new Event("Lecture", MONDAY.minusWeeks(5), MORNING, true));
+        project.addEvent(new Event("Kickoff", MONDAY.minusDays(1), MORNING, false));
+
+        List<AgendaEntry> entries = drain(new AgendaRange(MONDAY, MONDAY.plusWeeks(3).minusDays(1))
+                .iterator(List.of(project)));
+        ProjectName alpha = new ProjectName("Alpha");
+        Event lecture = new Event("Lecture", MONDAY, MORNING, true);
+        assertEquals(List.of(
+                AgendaEntry.ofEvent(lecture, MONDAY, alpha),
+                AgendaEntry.ofEvent(lecture, MONDAY.plusWeeks(1), alpha),
+                AgendaEntry.ofEvent(lecture, MONDAY.plusWeeks(2), alpha)), entries);
+    }
+
+    @Test
+    public void iterator_multipleProjects_mergedInTimeOrder() {
+        Project alpha = new ProjectBuilder().withName("Alpha").build();
+        alpha.addEvent(new Event("Standup", MONDAY, EVENING, true));
+        alpha.addDeadline(new Deadline("Report", MONDAY.plusDays(1)));
+        Project beta = new ProjectBuilder().withName("Beta").build();
+        beta.addEvent(new Event("Meeting", MONDAY, MORNING, false));
+        beta.addEvent(new Event("Review", MONDAY.plusDays(1), MORNING, false));
+        beta.addDeadline(new Deadline("Slides", MONDAY.plusDays(8)));
+
+        List<String> descriptions = new ArrayList<>();
+        new AgendaRange(MONDAY, MONDAY.plusDays(7)).iterator(List.of(alpha, beta))
+                .forEachRemaining(entry -> descriptions.add(entry.getDescription()));
+        // deadlines come before the events of the same day
+        assertEquals(List.of("Meeting", "Standup", "Report", "Review", "Standup"), descriptions);
+    }
+
+    @Test
+    public void iterator_recurringEvent_followsRecurrence() {
+        Project project = new ProjectBuilder().withName("Alpha").build();
+        Recurrence everyTwoDays = new Recurrence(Recurrence.Frequency.DAILY, 2, null, 4,
+                List.of(MONDAY.plusDays(2)));
+        project.addEvent(new Event("Run", MONDAY.minusDays(2), MORNING, everyTwoDays, null));
+
+        List<LocalDate> dates = new ArrayList<>();
+        new AgendaRange(MONDAY, MONDAY.plusWeeks(2)).iterator(List.of(project))
+                .forEachRemaining(entry -> dates.add(entry.getDate()));
+        // the 3rd time is skipped, and it repeats no more after the 4th
+        assertEquals(List.of(MONDAY, MONDAY.plusDays(4)), dates);
+    }
+
+    @Test
+    public void iterator_longRange_entriesProducedLazily() {
+        Project project = new ProjectBuilder().withName("Alpha").build();
+        project.addEvent(new Event("Lecture", MONDAY, MORNING, true));
+
+        // a range of thousands of years only creates the entries that are read
+        Iterator<AgendaEntry> entries = new AgendaRange(MONDAY, LocalDate.of(9999, 12, 31))
+                .iterator(List.of(project));
+        assertEquals(MONDAY, entries.next().getDate());
+        assertEquals(MONDAY.plusWeeks(1), entries.next().getDate());
+        assertTrue(entries.hasNext());
+    }
+
+    private static List<AgendaEntry> drain(Iterator<AgendaEntry> iterator) {
+        List<AgendaEntry> entries = new ArrayList<>();
+        iterator.forEachRemaining(entries::add);
+        return entries;
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model.agenda;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.ColabFolder;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.search.SearchHit;
+import seedu.address.model.search.SearchHitType;
+import seedu.address.model.task.deadline.Deadline;
+import seedu.address.testutil.ProjectBuilder;
+
+public class DeadlineQueueTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2021, 4, 5);
+
+    private ColabFolder colabFolder;
+    private DeadlineQueue deadlineQueue;
+    private Project alpha;
+    private Project beta;
+
+    @BeforeEach
+    public void setUp() {
+        colabFolder = new ColabFolder();
+        deadlineQueue = new DeadlineQueue(colabFolder.getProjectsList());
+
+        alpha = new ProjectBuilder().withName("Alpha").build();
+        alpha.addDeadline(new Deadline("Submit draft", TODAY.minusDays(2)));
+        alpha.addDeadline(new Deadline("Submit report", TODAY.plusDays(3)));
+        alpha.addDeadline(new Deadline("Submit proposal", TODAY.minusDays(5), true));
+        beta = new ProjectBuilder().withName("Beta").build();
+        beta.addDeadline(new Deadline("Book room", TODAY));
+        beta.addDeadline(new Deadline("Print slides", TODAY.plusDays(1)));
+        colabFolder.addProject(alpha);
+        colabFolder.addProject(beta);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DeadlineQueue(null));
+    }
+
+    @Test
+    public void getUpcoming_deadlinesAcrossProjects_earliestFirst() {
+        List<SearchHit> expectedHits = List.of(
+                new SearchHit(SearchHitType.DEADLINE, Index.fromOneBased(2), new ProjectName("Beta"),
+                        Index.fromOneBased(1), "Book room (by 05 Apr 2021)"),
+                new SearchHit(SearchHitType.DEADLINE, Index.fromOneBased(2), new ProjectName("Beta"),
+                        Index.fromOneBased(2), "Print slides (by 06 Apr 2021)"));
+        assertEquals(expectedHits, deadlineQueue.getUpcoming(TODAY, 2, colabFolder.getProjectsList()));
+
+        assertEquals(List.of("Book room", "Print slides", "Submit report"), descriptionsOf(
+                deadlineQueue.getUpcoming(TODAY, 10, colabFolder.getProjectsList())));
+    }
+
+    @Test
+    public void getOverdue_doneDeadlinesExcluded() {
+        List<SearchHit> hits = deadlineQueue.getOverdue(TODAY, colabFolder.getProjectsList());
+        assertEquals(List.of("Submit draft"), descriptionsOf(hits));
+        // the done proposal sorts before the draft in the project
+        assertEquals(Index.fromOneBased(2), hits.get(0).getItemIndex().get());
+    }
+
+    @Test
+    public void getOverdue_newDay_deadlinesBecomeOverdue() {
+        assertEquals(List.of("Submit draft", "Book room"), descriptionsOf(
+                deadlineQueue.getOverdue(TODAY.plusDays(1), colabFolder.getProjectsList())));
+        assertEquals(4, deadlineQueue.size());
+    }
+
+    @Test
+    public void deadlinesModified_queueUpdated() {
+        beta.markDeadline(0);
+        alpha.deleteDeadline(1);
+        alpha.addDeadline(new Deadline("Review report", TODAY.plusDays(2)));
+
+        assertEquals(List.of("Print slides", "Review report", "Submit report"), descriptionsOf(
+                deadlineQueue.getUpcoming(TODAY, 10, colabFolder.getProjectsList())));
+        assertTrue(deadlineQueue.getOverdue(TODAY, colabFolder.getProjectsList()).isEmpty());
+
+        colabFolder.removeProject(alpha);
+        assertEquals(1, deadlineQueue.size());
+    }
+
+    @Test
+    public void getUpcoming_projectNotShown_skipped() {
+        List<SearchHit> hits = deadlineQueue.getUpcoming(TODAY, 1, Collections.singletonList(alpha));
+        assertEquals(List.of("Submit report"), descriptionsOf(hits));
+        assertEquals(Index.fromOneBased(1), hits.get(0).getProjectIndex());
+    }
+
+    private static List<String> descriptionsOf(List<SearchHit> hits) {
+        return hits.stream()
+                .map(hit -> hit.getText().substring(0, hit.getText().indexOf(" (by ")))
+                .collect(Collectors.toList());
+    }
+}
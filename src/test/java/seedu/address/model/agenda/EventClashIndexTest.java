@@ -0,0 +1,181 @@
+package seedu.address.model.agenda;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ColabFolder;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.task.Recurrence;
+import seedu.address.model.task.repeatable.Event;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.ProjectBuilder;
+
+public class EventClashIndexTest {
+
+    // a Monday
+    private static final LocalDate MONDAY = LocalDate.of(2021, 4, 5);
+    private static final ProjectName ALPHA_NAME = new ProjectName("Alpha");
+    private static final ProjectName BETA_NAME = new ProjectName("Beta");
+
+    private ColabFolder colabFolder;
+    private EventClashIndex clashIndex;
+    private Project alpha;
+    private Project beta;
+
+    @BeforeEach
+    public void setUp() {
+        colabFolder = new ColabFolder();
+        clashIndex = new EventClashIndex(colabFolder.getProjectsList());
+        alpha = new ProjectBuilder().withName("Alpha").build();
+        beta = new ProjectBuilder().withName("Beta").build();
+        colabFolder.addProject(alpha);
+        colabFolder.addProject(beta);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new EventClashIndex(null));
+    }
+
+    @Test
+    public void getClashes_overlappingOneOffEvents_clashFound() {
+        Event meeting = event("Meeting", MONDAY, 10, 0, 11, 0, false);
+        Event consultation = event("Consultation", MONDAY, 10, 30, 12, 0, false);
+        Event lunch = event("Lunch", MONDAY, 12, 0, 13, 0, false);
+        alpha.addEvent(meeting);
+        beta.addEvent(consultation);
+        beta.addEvent(lunch);
+
+        assertEquals(Collections.singletonList(new EventClash(MONDAY, ALPHA_NAME, meeting, BETA_NAME, consultation)),
+                clashIndex.getClashes(meeting));
+
+        // events that only touch do not clash
+        assertTrue(clashIndex.getClashes(lunch).isEmpty());
+    }
+
+    @Test
+    public void getClashes_eventsWithoutEndTime_clashAtSameStart() {
+        Event standup = new EventBuilder().withDescription("Standup").withDate(MONDAY)
+                .withTime(LocalTime.of(9, 0)).build();
+        Event call = new EventBuilder().withDescription("Call").withDate(MONDAY).withTime(LocalTime.of(9, 0)).build();
+        Event workshop = event("Workshop", MONDAY, 8, 0, 9, 0, false);
+        alpha.addEvent(standup);
+        beta.addEvent(call);
+        beta.addEvent(workshop);
+
+        assertEquals(Collections.singletonList(new EventClash(MONDAY, ALPHA_NAME, standup, BETA_NAME, call)),
+                clashIndex.getClashes(standup));
+    }
+
+    @Test
+    public void getClashes_weeklyEvents_clashFromLaterStart() {
+        Event lecture = event("Lecture", MONDAY, 14, 0, 16, 0, true);
+        Event tutorial = event("Tutorial", MONDAY.plusWeeks(2), 15, 0, 16, 0, true);
+        Event pastTalk = event("Talk", MONDAY.minusWeeks(1), 15, 0, 16, 0, false);
+        Event futureTalk = event("Talk", MONDAY.plusWeeks(5), 13, 0, 14, 30, false);
+        alpha.addEvent(lecture);
+        beta.addEvent(tutorial);
+        beta.addEvent(pastTalk);
+        beta.addEvent(futureTalk);
+
+        assertEquals(Arrays.asList(
+                new EventClash(MONDAY.plusWeeks(2), ALPHA_NAME, lecture, BETA_NAME, tutorial),
+                new EventClash(MONDAY.plusWeeks(5), ALPHA_NAME, lecture, BETA_NAME, futureTalk)),
+                clashIndex.getClashes(lecture));
+
+        // the weekly lecture has not started yet on the date of the past talk
+        assertTrue(clashIndex.getClashes(pastTalk).isEmpty());
+    }
+
+    @Test
+    public void getClashes_modifiedProjects_indexUpdated() {
+        Event meeting = event("Meeting", MONDAY, 10, 0, 11, 0, false);
+        Event review = event("Review", MONDAY, 10, 0, 10, 30, false);
+        alpha.addEvent(meeting);
+        beta.addEvent(review);
+        assertEquals(1, clashIndex.getClashes(meeting).size());
+
+        Event movedReview = event("Review", MONDAY, 11, 0, 11, 30, false);
+        beta.setEvent(0, movedReview);
+        assertTrue(clashIndex.getClashes(meeting).isEmpty());
+
+        colabFolder.removeProject(alpha);
+        assertEquals(1, clashIndex.size());
+        assertTrue(clashIndex.getClashes(meeting).isEmpty());
+    }
+
+    @Test
+    public void getClashes_range_everyPairListedOnce() {
+        Event lecture = event("Lecture", MONDAY, 14, 0, 16, 0, true);
+        Event tutorial = event("Tutorial", MONDAY, 15, 0, 17, 0, true);
+        Event lab = event("Lab", MONDAY.plusDays(7), 15, 30, 16, 30, false);
+        alpha.addEvent(lecture);
+        beta.addEvent(tutorial);
+        beta.addEvent(lab);
+
+        AgendaRange twoWeeks = new AgendaRange(MONDAY, MONDAY.plusDays(13));
+        assertEquals(Arrays.asList(
+                new EventClash(MONDAY, ALPHA_NAME, lecture, BETA_NAME, tutorial),
+                new EventClash(MONDAY.plusDays(7), ALPHA_NAME, lecture, BETA_NAME, lab),
+                new EventClash(MONDAY.plusDays(7), BETA_NAME, tutorial, BETA_NAME, lab)),
+                clashIndex.getClashes(twoWeeks));
+
+        // no events on the days in the range
+        assertTrue(clashIndex.getClashes(new AgendaRange(MONDAY.plusDays(1), MONDAY.plusDays(6))).isEmpty());
+    }
+
+    @Test
+    public void getUpcomingClashes_laterEvents_found() {
+        Event meeting = event("Meeting", MONDAY.plusYears(1), 10, 0, 11, 0, false);
+        Event review = event("Review", MONDAY.plusYears(1), 10, 30, 11, 30, false);
+        Event pastMeeting = event("Meeting", MONDAY.minusDays(1), 10, 0, 11, 0, false);
+        Event pastReview = event("Review", MONDAY.minusDays(1), 10, 0, 11, 0, false);
+        alpha.addEvent(meeting);
+        alpha.addEvent(pastMeeting);
+        beta.addEvent(review);
+        beta.addEvent(pastReview);
+
+        assertEquals(Collections.singletonList(
+                new EventClash(MONDAY.plusYears(1), ALPHA_NAME, meeting, BETA_NAME, review)),
+                clashIndex.getUpcomingClashes(MONDAY));
+    }
+
+    @Test
+    public void getClashes_recurringEvents_clashesOnCommonDates() {
+        Recurrence weekdays = new Recurrence(Recurrence.Frequency.DAILY, 1, null, 5, List.of());
+        Event standup = new Event("Standup", MONDAY, LocalTime.of(9, 0), weekdays, LocalTime.of(9, 30));
+        Event wednesdayTalk = event("Talk", MONDAY.plusDays(2), 9, 15, 10, 0, false);
+        Event nextMondayTalk = event("Talk", MONDAY.plusWeeks(1), 9, 0, 10, 0, false);
+        Event fridayCall = event("Call", MONDAY.plusDays(4).minusWeeks(2), 8, 30, 9, 15, true);
+        alpha.addEvent(standup);
+        beta.addEvent(wednesdayTalk);
+        beta.addEvent(nextMondayTalk);
+        beta.addEvent(fridayCall);
+
+        assertEquals(Arrays.asList(
+                new EventClash(MONDAY.plusDays(2), ALPHA_NAME, standup, BETA_NAME, wednesdayTalk),
+                new EventClash(MONDAY.plusDays(4), ALPHA_NAME, standup, BETA_NAME, fridayCall)),
+                clashIndex.getClashes(standup));
+
+        // the standup has stopped repeating by the next Monday
+        assertTrue(clashIndex.getClashes(nextMondayTalk).isEmpty());
+        assertEquals(2, clashIndex.getUpcomingClashes(MONDAY).size());
+    }
+
+    private static Event event(String description, LocalDate date, int startHour, int startMinute, int endHour,
+            int endMinute, boolean isWeekly) {
+        return new Event(description, date, LocalTime.of(startHour, startMinute), isWeekly,
+                LocalTime.of(endHour, endMinute));
+    }
+}
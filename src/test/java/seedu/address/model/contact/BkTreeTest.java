@@ -0,0 +1,67 @@
+package seedu.address.model.contact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private BkTree tree;
+
+    @BeforeEach
+    public void setUp() {
+        tree = new BkTree();
+        tree.add("john");
+        tree.add("joan");
+        tree.add("jon");
+        tree.add("jonathan");
+        tree.add("mary");
+    }
+
+    @Test
+    public void distance() {
+        assertEquals(0, BkTree.distance("john", "john"));
+        assertEquals(1, BkTree.distance("jon", "john"));
+        assertEquals(2, BkTree.distance("jonh", "john"));
+        assertEquals(4, BkTree.distance("", "mary"));
+        assertEquals(3, BkTree.distance("kitten", "sitting"));
+    }
+
+    @Test
+    public void search_withinDistance_returnsWordsWithDistances() {
+        assertEquals(Map.of("john", 1, "joan", 1, "jon", 0), tree.search("jon", 1));
+        assertEquals(Map.of("john", 2, "joan", 2, "jon", 1), tree.search("jonh", 2));
+        assertEquals(Map.of(), tree.search("peter", 2));
+    }
+
+    @Test
+    public void add_duplicateWord_ignored() {
+        tree.add("john");
+        assertEquals(5, tree.size());
+    }
+
+    @Test
+    public void remove_word_noLongerFound() {
+        tree.remove("jon");
+        assertEquals(4, tree.size());
+        assertEquals(Map.of("john", 1, "joan", 1), tree.search("jon", 1));
+
+        // words can be added back after being removed
+        tree.add("jon");
+        assertEquals(Map.of("john", 1, "joan", 1, "jon", 0), tree.search("jon", 1));
+    }
+
+    @Test
+    public void remove_mostWords_remainingWordsStillFound() {
+        tree.remove("john");
+        tree.remove("joan");
+        tree.remove("jon");
+        tree.remove("missing");
+        assertEquals(2, tree.size());
+        assertEquals(Map.of("jonathan", 0), tree.search("jonathan", 2));
+        assertEquals(Map.of("mary", 1), tree.search("mar", 1));
+    }
+}
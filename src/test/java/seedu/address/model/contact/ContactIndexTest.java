@@ -0,0 +1,124 @@
+package seedu.address.model.contact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalContacts.ALICE;
+import static seedu.address.testutil.TypicalContacts.BENSON;
+import static seedu.address.testutil.TypicalContacts.CARL;
+import static seedu.address.testutil.TypicalContacts.DANIEL;
+import static seedu.address.testutil.TypicalContacts.ELLE;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ContactBuilder;
+
+public class ContactIndexTest {
+
+    private ContactIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new ContactIndex();
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+    }
+
+    @Test
+    public void tokenize_mixedText_lowerCaseAlphanumericTokens() {
+        assertEquals(List.of("alice", "example", "com"), ContactIndex.tokenize("Alice@Example.com"));
+        assertEquals(List.of("123", "jurong", "west", "08", "111"),
+                ContactIndex.tokenize("123, Jurong West #08-111"));
+        assertEquals(List.of(), ContactIndex.tokenize(" -_ "));
+    }
+
+    @Test
+    public void search_keywords_matchesAnyFieldIgnoringCase() {
+        ContactSearchResult result = index.search(new ContactQuery(List.of("PAULINE", "heinz")));
+        assertEquals(2, result.size());
+        assertTrue(result.test(ALICE));
+        assertTrue(result.test(CARL));
+        assertFalse(result.test(BENSON));
+    }
+
+    @Test
+    public void search_fieldTerms_intersected() {
+        ContactSearchResult result = index.search(new ContactQuery(List.of(),
+                Map.of(ContactField.TAG, List.of("friends"), ContactField.ADDRESS, List.of("clementi ave"))));
+        assertEquals(1, result.size());
+        assertTrue(result.test(BENSON));
+
+        // term tokens must all appear in the field
+        result = index.search(new ContactQuery(List.of(), Map.of(ContactField.ADDRESS, List.of("clementi street"))));
+        assertEquals(0, result.size());
+    }
+
+    @Test
+    public void search_nameMatch_ranksAboveOtherFields() {
+        Contact friendsInName = new ContactBuilder().withName("Friends Forever").withEmail("ff@example.com")
+                .withTags().build();
+        index.add(friendsInName);
+        ContactSearchResult result = index.search(new ContactQuery(List.of("friends")));
+        assertEquals(3, result.size());
+        assertTrue(result.getComparator().compare(friendsInName, ALICE) < 0);
+    }
+
+    @Test
+    public void search_fuzzyKeywords_rankedByEditDistance() {
+        index.add(DANIEL);
+        index.add(ELLE);
+
+        // "meir" is one edit from "meier" and two from "meyer"
+        ContactSearchResult result = index.search(new ContactQuery(List.of(), List.of("MEIR"), Map.of()));
+        assertEquals(3, result.size());
+        assertTrue(result.test(BENSON));
+        assertTrue(result.test(DANIEL));
+        assertTrue(result.getComparator().compare(BENSON, ELLE) < 0);
+        assertEquals(result.getScore(BENSON), result.getScore(DANIEL));
+
+        // exact matches rank above fuzzy ones
+        result = index.search(new ContactQuery(List.of(), List.of("meyer"), Map.of()));
+        assertTrue(result.getComparator().compare(ELLE, BENSON) < 0);
+    }
+
+    @Test
+    public void search_fuzzyKeywordsWithinBound_onlyCloseNamesMatched() {
+        // short tokens must match exactly
+        assertEquals(0, index.search(new ContactQuery(List.of(), List.of("al"), Map.of())).size());
+
+        // "krz" is one edit from "kurz", but "kz" is two
+        assertTrue(index.search(new ContactQuery(List.of(), List.of("krz"), Map.of())).test(CARL));
+        assertEquals(0, index.search(new ContactQuery(List.of(), List.of("kz"), Map.of())).size());
+
+        // fuzzy keywords only look at names
+        assertEquals(0, index.search(new ContactQuery(List.of(), List.of("freinds"), Map.of())).size());
+    }
+
+    @Test
+    public void search_fuzzyKeywordsAndFieldTerms_intersected() {
+        ContactSearchResult result = index.search(new ContactQuery(List.of(), List.of("bensn"),
+                Map.of(ContactField.TAG, List.of("friends"))));
+        assertEquals(1, result.size());
+        assertTrue(result.test(BENSON));
+
+        result = index.search(new ContactQuery(List.of(), List.of("carll"),
+                Map.of(ContactField.TAG, List.of("friends"))));
+        assertEquals(0, result.size());
+    }
+
+    @Test
+    public void remove_contact_noLongerFound() {
+        index.remove(ALICE);
+        assertFalse(index.search(new ContactQuery(List.of("alice"))).test(ALICE));
+        assertFalse(index.search(new ContactQuery(List.of(), List.of("alise"), Map.of())).test(ALICE));
+        assertTrue(index.search(new ContactQuery(List.of("friends"))).test(BENSON));
+
+        index.clear();
+        assertEquals(0, index.search(new ContactQuery(List.of("friends"))).size());
+    }
+}
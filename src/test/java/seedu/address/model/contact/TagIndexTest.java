@@ -0,0 +1,73 @@
+package seedu.address.model.contact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalContacts.ALICE;
+import static seedu.address.testutil.TypicalContacts.BENSON;
+import static seedu.address.testutil.TypicalContacts.CARL;
+import static seedu.address.testutil.TypicalContacts.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ContactBuilder;
+
+public class TagIndexTest {
+
+    private TagIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new TagIndex();
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+        index.add(DANIEL);
+    }
+
+    @Test
+    public void search_allClauses_intersected() {
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), search(List.of(List.of("friends")), List.of()));
+        assertEquals(Set.of(BENSON), search(List.of(List.of("friends"), List.of("OWESMONEY")), List.of()));
+        assertEquals(Set.of(), search(List.of(List.of("friends"), List.of("unknown")), List.of()));
+    }
+
+    @Test
+    public void search_tagsInClause_united() {
+        Contact colleague = new ContactBuilder().withName("Colleague").withTags("colleagues").build();
+        index.add(colleague);
+        assertEquals(Set.of(BENSON, colleague), search(List.of(List.of("owesMoney", "colleagues")), List.of()));
+    }
+
+    @Test
+    public void search_excludedTags_removed() {
+        assertEquals(Set.of(ALICE, DANIEL), search(List.of(List.of("friends")), List.of("owesMoney")));
+
+        // excluded tags only
+        assertEquals(Set.of(CARL), search(List.of(), List.of("friends")));
+    }
+
+    @Test
+    public void remove_contact_noLongerFound() {
+        index.remove(BENSON);
+        assertEquals(Set.of(), search(List.of(List.of("owesMoney")), List.of()));
+        assertEquals(Set.of(ALICE, DANIEL), search(List.of(List.of("friends")), List.of()));
+
+        // removing most contacts compacts the ids without losing the rest
+        index.remove(ALICE);
+        index.remove(CARL);
+        index.remove(CARL);
+        assertEquals(Set.of(DANIEL), search(List.of(List.of("friends")), List.of()));
+        index.add(ALICE);
+        assertEquals(Set.of(ALICE, DANIEL), search(List.of(List.of("friends")), List.of()));
+
+        index.clear();
+        assertEquals(Set.of(), search(List.of(), List.of()));
+    }
+
+    private Set<Contact> search(List<List<String>> clauses, List<String> excludedTags) {
+        return Set.copyOf(index.search(new TagQuery(clauses, excludedTags)));
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -129,6 +130,22 @@ public class UniqueContactListTest {
         assertEquals(expectedUniqueContactList, uniqueContactList);
     }
 
+    @Test
+    public void removeAll_contactDoesNotExist_throwsContactNotFoundException() {
+        uniqueContactList.add(ALICE);
+        assertThrows(ContactNotFoundException.class, () -> uniqueContactList.removeAll(List.of(ALICE, BOB)));
+        assertTrue(uniqueContactList.contains(ALICE));
+    }
+
+    @Test
+    public void removeAll_existingContacts_removesContacts() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.add(BOB);
+        uniqueContactList.removeAll(List.of(ALICE, BOB));
+        UniqueContactList expectedUniqueContactList = new UniqueContactList();
+        assertEquals(expectedUniqueContactList, uniqueContactList);
+    }
+
     @Test
     public void setContacts_nullUniqueContactList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueContactList.setContacts((UniqueContactList) null));
@@ -201,4 +218,35 @@ public class UniqueContactListTest {
         assertNotEquals(hashcode1, hashcode4);
         assertNotEquals(hashcode3, hashcode4);
     }
+
+    @Test
+    public void search_afterModifications_indexUpdated() {
+        ContactQuery query = new ContactQuery(List.of("alice", "bob"));
+        uniqueContactList.add(ALICE);
+        assertTrue(uniqueContactList.search(query).test(ALICE));
+
+        uniqueContactList.setContact(ALICE, BOB);
+        assertFalse(uniqueContactList.search(query).test(ALICE));
+        assertTrue(uniqueContactList.search(query).test(BOB));
+
+        uniqueContactList.setContacts(Collections.singletonList(ALICE));
+        assertEquals(1, uniqueContactList.search(query).size());
+        assertTrue(uniqueContactList.search(query).test(ALICE));
+
+        uniqueContactList.remove(ALICE);
+        assertEquals(0, uniqueContactList.search(query).size());
+    }
+
+    @Test
+    public void search_fuzzyAfterModifications_indexUpdated() {
+        ContactQuery query = new ContactQuery(List.of(), List.of("alcie"), Map.of());
+        uniqueContactList.add(ALICE);
+        assertTrue(uniqueContactList.search(query).test(ALICE));
+
+        uniqueContactList.setContact(ALICE, BOB);
+        assertEquals(0, uniqueContactList.search(query).size());
+
+        uniqueContactList.setContacts(Collections.singletonList(ALICE));
+        assertTrue(uniqueContactList.search(query).test(ALICE));
+    }
 }
@@ -0,0 +1,150 @@
+package seedu.address.model.membership;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.ALICE;
+import static seedu.address.testutil.TypicalContacts.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.ColabFolder;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.groupmate.Groupmate;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.search.SearchHit;
+import seedu.address.model.search.SearchHitType;
+import seedu.address.testutil.ContactBuilder;
+import seedu.address.testutil.GroupmateBuilder;
+import seedu.address.testutil.ProjectBuilder;
+
+public class MembershipIndexTest {
+
+    private ColabFolder colabFolder;
+    private MembershipIndex membershipIndex;
+    private Project alpha;
+    private Project beta;
+
+    @BeforeEach
+    public void setUp() {
+        colabFolder = new ColabFolder();
+        membershipIndex = new MembershipIndex(colabFolder.getContactList(), colabFolder.getProjectsList());
+        colabFolder.addContact(ALICE);
+        colabFolder.addContact(BENSON);
+
+        alpha = new ProjectBuilder().withName("Alpha").build();
+        beta = new ProjectBuilder().withName("Beta").build();
+        alpha.addGroupmate(new GroupmateBuilder().withName("Zed").build());
+        alpha.addGroupmate(new GroupmateBuilder().withName("alice pauline").withRoles("leader").build());
+        beta.addGroupmate(new GroupmateBuilder().withName("Alice Pauline").build());
+        colabFolder.addProject(alpha);
+        colabFolder.addProject(beta);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MembershipIndex(null, FXCollections.observableArrayList()));
+        assertThrows(NullPointerException.class, () -> new MembershipIndex(FXCollections.observableArrayList(), null));
+    }
+
+    @Test
+    public void getMemberships_groupmatesWithSameName_orderedByProject() {
+        Groupmate alphaAlice = alpha.getGroupmate(0);
+        Groupmate betaAlice = beta.getGroupmate(0);
+        List<SearchHit> expectedHits = Arrays.asList(
+                new SearchHit(SearchHitType.GROUPMATE, Index.fromOneBased(1), new ProjectName("Alpha"),
+                        Index.fromOneBased(1), alphaAlice.toString()),
+                new SearchHit(SearchHitType.GROUPMATE, Index.fromOneBased(2), new ProjectName("Beta"),
+                        Index.fromOneBased(1), betaAlice.toString()));
+        assertEquals(expectedHits, membershipIndex.getMemberships(ALICE, colabFolder.getProjectsList()));
+
+        assertTrue(membershipIndex.getMemberships(BENSON, colabFolder.getProjectsList()).isEmpty());
+    }
+
+    @Test
+    public void getMemberships_projectNotShown_excluded() {
+        List<SearchHit> hits = membershipIndex.getMemberships(ALICE, Collections.singletonList(beta));
+        assertEquals(1, hits.size());
+        assertEquals(Index.fromOneBased(1), hits.get(0).getProjectIndex());
+    }
+
+    @Test
+    public void getMemberships_groupmatesModified_indexUpdated() {
+        beta.deleteGroupmate(0);
+        beta.addGroupmate(new GroupmateBuilder().withName("Benson Meier").build());
+        colabFolder.removeProject(alpha);
+
+        assertTrue(membershipIndex.getMemberships(ALICE, colabFolder.getProjectsList()).isEmpty());
+        assertEquals(1, membershipIndex.getMemberships(BENSON, colabFolder.getProjectsList()).size());
+    }
+
+    @Test
+    public void getMemberships_earlierGroupmateAddedAndDeleted_groupmateIndexUpdated() {
+        alpha.addGroupmate(new GroupmateBuilder().withName("Aaron").build());
+        assertEquals(Index.fromOneBased(2),
+                membershipIndex.getMemberships(ALICE, colabFolder.getProjectsList()).get(0).getItemIndex().get());
+
+        alpha.deleteGroupmate(0);
+        assertEquals(Index.fromOneBased(1),
+                membershipIndex.getMemberships(ALICE, colabFolder.getProjectsList()).get(0).getItemIndex().get());
+    }
+
+    @Test
+    public void getContacts_groupmate_contactsWithSameName() {
+        assertEquals(Collections.singleton(ALICE), membershipIndex.getContacts(beta.getGroupmate(0)));
+        assertTrue(membershipIndex.getContacts(alpha.getGroupmate(1)).isEmpty());
+
+        colabFolder.removeContact(ALICE);
+        assertTrue(membershipIndex.getContacts(beta.getGroupmate(0)).isEmpty());
+    }
+
+    @Test
+    public void renameGroupmates_nameChanged_groupmatesRenamed() {
+        Contact renamedAlice = new ContactBuilder(ALICE).withName("Alice Tan").build();
+        colabFolder.setContact(ALICE, renamedAlice);
+
+        assertEquals(2, membershipIndex.renameGroupmates(ALICE, renamedAlice));
+        assertEquals(new GroupmateBuilder().withName("Alice Tan").withRoles("leader").build(),
+                alpha.getGroupmate(0));
+        assertEquals(new GroupmateBuilder().withName("Alice Tan").build(), beta.getGroupmate(0));
+        assertEquals(2, membershipIndex.getMemberships(renamedAlice, colabFolder.getProjectsList()).size());
+    }
+
+    @Test
+    public void renameGroupmates_nameUnchanged_nothingRenamed() {
+        Contact updatedAlice = new ContactBuilder(ALICE).withPhone("91234567").build();
+        colabFolder.setContact(ALICE, updatedAlice);
+
+        assertEquals(0, membershipIndex.renameGroupmates(ALICE, updatedAlice));
+    }
+
+    @Test
+    public void renameGroupmates_oldNameShared_nothingRenamed() {
+        Contact otherAlice = new ContactBuilder(ALICE).withName("ALICE PAULINE").build();
+        colabFolder.addContact(otherAlice);
+        Contact renamedAlice = new ContactBuilder(ALICE).withName("Alice Tan").build();
+        colabFolder.setContact(ALICE, renamedAlice);
+
+        assertEquals(0, membershipIndex.renameGroupmates(ALICE, renamedAlice));
+        assertEquals("Alice Pauline", beta.getGroupmate(0).getName().fullName);
+    }
+
+    @Test
+    public void renameGroupmates_newNameTakenInProject_groupmateSkipped() {
+        beta.addGroupmate(new GroupmateBuilder().withName("Alice Tan").build());
+        Contact renamedAlice = new ContactBuilder(ALICE).withName("Alice Tan").build();
+        colabFolder.setContact(ALICE, renamedAlice);
+
+        assertEquals(1, membershipIndex.renameGroupmates(ALICE, renamedAlice));
+        assertEquals(2, beta.getGroupmates().size());
+        assertEquals(2, membershipIndex.getMemberships(renamedAlice, colabFolder.getProjectsList()).size());
+    }
+}
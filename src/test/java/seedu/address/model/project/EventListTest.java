@@ -6,9 +6,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -51,4 +56,64 @@ public class EventListTest {
         assertEquals(eventList, eventListCopy);
         assertFalse(eventList == eventListCopy);
     }
+
+    @Test
+    public void refreshSortOrder_dateChanged_eventsResorted() {
+        LocalDate today = LocalDate.of(2021, 4, 5);
+        MutableClock clock = new MutableClock(today);
+        Event weekly = new Event("Weekly", today, LocalTime.of(9, 0), true);
+        Event tomorrow = new Event("Tomorrow", today.plusDays(1), LocalTime.of(17, 30), false);
+        EventList eventList = new EventList(List.of(tomorrow, weekly), clock);
+        assertEquals(List.of(weekly, tomorrow), eventList.getSortedEventList());
+
+        // same day, order unchanged
+        assertFalse(eventList.refreshSortOrder());
+
+        clock.setDate(today.plusDays(1));
+        assertTrue(eventList.refreshSortOrder());
+        assertEquals(List.of(tomorrow, weekly), eventList.getSortedEventList());
+    }
+
+    @Test
+    public void getCopy_withClock_copyKeepsClock() {
+        LocalDate today = LocalDate.of(2021, 4, 5);
+        MutableClock clock = new MutableClock(today);
+        Event weekly = new Event("Weekly", today, LocalTime.of(9, 0), true);
+        Event tomorrow = new Event("Tomorrow", today.plusDays(1), LocalTime.of(17, 30), false);
+        EventList eventListCopy = new EventList(List.of(tomorrow, weekly), clock).getCopy();
+
+        clock.setDate(today.plusDays(1));
+        assertTrue(eventListCopy.refreshSortOrder());
+        assertEquals(List.of(tomorrow, weekly), eventListCopy.getSortedEventList());
+    }
+
+    /**
+     * A {@code Clock} whose current date can be changed.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDate date) {
+            setDate(date);
+        }
+
+        void setDate(LocalDate date) {
+            instant = date.atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
 }
@@ -0,0 +1,139 @@
+package seedu.address.model.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import seedu.address.model.task.CompletableDeadline;
+import seedu.address.model.task.CompletableTodo;
+import seedu.address.model.task.deadline.Deadline;
+import seedu.address.model.task.repeatable.Event;
+import seedu.address.model.task.repeatable.RepeatableComparator;
+import seedu.address.model.task.todo.Todo;
+import seedu.address.testutil.ProjectBuilder;
+
+public class ProjectProgressTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2021, 4, 5);
+
+    private final ObservableList<CompletableTodo> todos = FXCollections.observableArrayList();
+    private final ObservableList<CompletableDeadline> deadlines = FXCollections.observableArrayList();
+    private final ObservableList<Event> events = FXCollections.observableArrayList();
+    private ProjectProgress progress;
+    private int notificationCount;
+
+    @BeforeEach
+    public void setUp() {
+        todos.addAll(new Todo("Write report", true), new Todo("Review report"));
+        deadlines.addAll(new Deadline("Submit draft", TODAY.minusDays(1), true),
+                new Deadline("Submit proposal", TODAY.minusDays(1)),
+                new Deadline("Submit report", TODAY));
+        progress = new ProjectProgress(todos, deadlines,
+                new SortedList<>(events, new RepeatableComparator(TODAY)), TODAY);
+        progress.addListener(observable -> notificationCount++);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ProjectProgress(null, deadlines, events, TODAY));
+        assertThrows(NullPointerException.class, () -> new ProjectProgress(todos, deadlines, events, null));
+    }
+
+    @Test
+    public void constructor_existingTasks_counted() {
+        assertEquals(2, progress.getTodoCount());
+        assertEquals(1, progress.getDoneTodoCount());
+        assertEquals(3, progress.getDeadlineCount());
+        assertEquals(1, progress.getDoneDeadlineCount());
+        assertEquals(1, progress.getOverdueDeadlineCount());
+        assertEquals(40, progress.getCompletionPercentage());
+    }
+
+    @Test
+    public void listsChanged_countsUpdated() {
+        todos.add(new Todo("Buy snacks", true));
+        todos.remove(0);
+        assertEquals(2, progress.getTodoCount());
+        assertEquals(1, progress.getDoneTodoCount());
+
+        // a task marked as done in place is replaced by itself
+        CompletableDeadline proposal = deadlines.get(1);
+        proposal.markAsDone();
+        deadlines.set(1, proposal);
+        assertEquals(2, progress.getDoneDeadlineCount());
+        assertEquals(0, progress.getOverdueDeadlineCount());
+
+        deadlines.clear();
+        assertEquals(0, progress.getDeadlineCount());
+        assertEquals(0, progress.getDoneDeadlineCount());
+        assertEquals(4, notificationCount);
+    }
+
+    @Test
+    public void setToday_dateChanged_overdueRecounted() {
+        progress.setToday(TODAY.plusDays(1));
+        assertEquals(2, progress.getOverdueDeadlineCount());
+        assertEquals(1, notificationCount);
+
+        // same date, nothing recounted
+        progress.setToday(TODAY.plusDays(1));
+        assertEquals(1, notificationCount);
+
+        progress.setToday(TODAY.minusDays(1));
+        assertEquals(0, progress.getOverdueDeadlineCount());
+    }
+
+    @Test
+    public void getCompletionPercentage_noTasks_zero() {
+        todos.clear();
+        deadlines.clear();
+        assertEquals(0, progress.getCompletionPercentage());
+    }
+
+    @Test
+    public void getNextEvent_pastAndUpcomingEvents_firstUpcomingEvent() {
+        assertEquals(Optional.empty(), progress.getNextEvent());
+
+        Event past = new Event("Kickoff", TODAY.minusDays(3), LocalTime.of(9, 0), false);
+        Event weekly = new Event("Standup", TODAY.minusDays(5), LocalTime.of(9, 0), true);
+        Event upcoming = new Event("Demo", TODAY.plusDays(1), LocalTime.of(14, 0), false);
+        events.addAll(List.of(upcoming, past, weekly));
+
+        // the weekly standup next occurs in 2 days, after the demo
+        assertEquals(Optional.of(upcoming), progress.getNextEvent());
+
+        events.remove(upcoming);
+        assertEquals(Optional.of(weekly), progress.getNextEvent());
+
+        events.remove(weekly);
+        assertEquals(Optional.empty(), progress.getNextEvent());
+    }
+
+    @Test
+    public void project_taskMarkedAsDone_progressUpdated() {
+        Project project = new ProjectBuilder().withName("Alpha").build();
+        project.addTodo(new Todo("Write report"));
+        project.addDeadline(new Deadline("Submit report", LocalDate.now().minusDays(1)));
+        assertEquals(1, project.getProgress().getOverdueDeadlineCount());
+
+        project.markTodo(0);
+        project.markDeadline(0);
+        assertEquals(1, project.getProgress().getDoneTodoCount());
+        assertEquals(1, project.getProgress().getDoneDeadlineCount());
+        assertEquals(0, project.getProgress().getOverdueDeadlineCount());
+        assertEquals(100, project.getProgress().getCompletionPercentage());
+
+        // copies keep their own counts
+        assertEquals(100, project.getCopy().getProgress().getCompletionPercentage());
+    }
+}
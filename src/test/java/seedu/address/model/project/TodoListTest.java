@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -62,6 +63,26 @@ public class TodoListTest {
         assertEquals(todoList.getSortedTodos().size(), 0);
     }
 
+    @Test
+    public void deleteTodos_multipleIndexes_deletesTodosAtSortedIndexes() {
+        TodoList todoList = new TodoList(Arrays.asList(new Todo("d"), new Todo("b"), new Todo("a"), new Todo("c")));
+
+        // sorted as a, b, c, d, and every index refers to that order
+        todoList.deleteTodos(Arrays.asList(0, 2, 2));
+
+        assertEquals(Arrays.asList(new Todo("b"), new Todo("d")), todoList.getSortedTodos());
+    }
+
+    @Test
+    public void markAsDone_multipleIndexes_marksTodosAtSortedIndexes() {
+        TodoList todoList = new TodoList(Arrays.asList(new Todo("c"), new Todo("a"), new Todo("b")));
+
+        todoList.markAsDone(Arrays.asList(0, 2));
+
+        assertEquals(Arrays.asList(new Todo("a", true), new Todo("b"), new Todo("c", true)),
+                todoList.getSortedTodos());
+    }
+
     @Test void markAsDone_success() {
         Todo todo = new Todo("Test Description");
         ArrayList<CompletableTodo> todos = new ArrayList<>();
@@ -0,0 +1,201 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ColabFolder;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.task.deadline.Deadline;
+import seedu.address.model.task.repeatable.Event;
+import seedu.address.testutil.ProjectBuilder;
+
+public class ReminderServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2021, 4, 5);
+    private static final List<Duration> DEADLINE_LEAD_TIMES = List.of(Duration.ofDays(1));
+    private static final List<Duration> EVENT_LEAD_TIMES = List.of(Duration.ofMinutes(30));
+
+    private final MutableClock clock = new MutableClock(TODAY.atTime(9, 0));
+    private final List<Reminder> reminders = Collections.synchronizedList(new ArrayList<>());
+
+    private ColabFolder colabFolder;
+    private ReminderService reminderService;
+    private Project alpha;
+    private Deadline report;
+    private Event standup;
+
+    @BeforeEach
+    public void setUp() {
+        colabFolder = new ColabFolder();
+        report = new Deadline("Submit report", TODAY.plusDays(2));
+        standup = new Event("Standup", TODAY, LocalTime.of(10, 0), true);
+        alpha = new ProjectBuilder().withName("Alpha").build();
+        alpha.addDeadline(report);
+        alpha.addEvent(standup);
+        Project beta = new ProjectBuilder().withName("Beta").build();
+        beta.addDeadline(new Deadline("Book room", TODAY));
+        beta.addDeadline(new Deadline("Print slides", TODAY.plusDays(1), true));
+        colabFolder.addProject(alpha);
+        colabFolder.addProject(beta);
+
+        reminderService = new ReminderService(colabFolder.getProjectsList(), clock, DEADLINE_LEAD_TIMES,
+                EVENT_LEAD_TIMES, reminders::addAll);
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new ReminderService(null, clock, DEADLINE_LEAD_TIMES,
+                EVENT_LEAD_TIMES, reminders::addAll));
+        assertThrows(NullPointerException.class, () -> new ReminderService(colabFolder.getProjectsList(), clock,
+                DEADLINE_LEAD_TIMES, EVENT_LEAD_TIMES, null));
+        assertThrows(IllegalArgumentException.class, ReminderService.MESSAGE_INVALID_LEAD_TIME, () ->
+                new ReminderService(colabFolder.getProjectsList(), clock, List.of(Duration.ofMinutes(-1)),
+                        EVENT_LEAD_TIMES, reminders::addAll));
+    }
+
+    @Test
+    public void getPendingCount_typicalProjects_doneAndMissedNotPending() {
+        // the report deadline and the next standup
+        assertEquals(2, reminderService.getPendingCount());
+    }
+
+    @Test
+    public void runDueReminders_leadTimesReached_remindersInOrder() {
+        clock.set(TODAY.atTime(9, 29));
+        reminderService.runDueReminders();
+        assertEquals(List.of(), reminders);
+
+        clock.set(TODAY.atTime(9, 30));
+        reminderService.runDueReminders();
+        assertEquals(List.of(Reminder.ofEvent(standup, TODAY, new ProjectName("Alpha"))), reminders);
+
+        reminders.clear();
+        clock.set(TODAY.plusDays(2).atStartOfDay());
+        reminderService.runDueReminders();
+        assertEquals(List.of(Reminder.ofDeadline(report, new ProjectName("Alpha"))), reminders);
+    }
+
+    @Test
+    public void runDueReminders_repeatingEventStarted_nextOccurrenceReminded() {
+        clock.set(TODAY.plusDays(7).atTime(9, 29));
+        reminderService.runDueReminders();
+        reminders.clear();
+
+        clock.set(TODAY.plusDays(7).atTime(9, 30));
+        reminderService.runDueReminders();
+        assertEquals(List.of(Reminder.ofEvent(standup, TODAY.plusDays(7), new ProjectName("Alpha"))), reminders);
+    }
+
+    @Test
+    public void markDeadline_pendingReminder_cancelled() {
+        alpha.markDeadline(0);
+        assertEquals(1, reminderService.getPendingCount());
+
+        clock.set(TODAY.plusDays(2).atStartOfDay());
+        reminderService.runDueReminders();
+        assertEquals(List.of(Reminder.ofEvent(standup, TODAY, new ProjectName("Alpha"))), reminders);
+    }
+
+    @Test
+    public void addDeadline_afterStart_remindedIfLeadTimeNotPassed() {
+        Deadline slides = new Deadline("Print slides", TODAY.plusDays(1));
+        alpha.addDeadline(slides);
+        // already due within the lead time, so only reminded of if it was there when the service started
+        alpha.addDeadline(new Deadline("Book room", TODAY));
+        assertEquals(3, reminderService.getPendingCount());
+
+        clock.set(TODAY.plusDays(1).atStartOfDay());
+        reminderService.runDueReminders();
+        assertEquals(List.of(Reminder.ofEvent(standup, TODAY, new ProjectName("Alpha")),
+                Reminder.ofDeadline(slides, new ProjectName("Alpha"))), reminders);
+    }
+
+    @Test
+    public void removeProject_pendingReminders_cancelled() {
+        colabFolder.removeProject(alpha);
+        assertEquals(0, reminderService.getPendingCount());
+
+        colabFolder.addProject(alpha);
+        assertEquals(2, reminderService.getPendingCount());
+    }
+
+    @Test
+    public void start_missedReminder_handedToHandler() throws Exception {
+        CompletableFuture<List<Reminder>> handled = new CompletableFuture<>();
+        ReminderService startedService = new ReminderService(colabFolder.getProjectsList(), clock,
+                DEADLINE_LEAD_TIMES, EVENT_LEAD_TIMES, handled::complete);
+
+        startedService.start();
+        try {
+            assertEquals(List.of(Reminder.ofDeadline(new Deadline("Book room", TODAY), new ProjectName("Beta"))),
+                    handled.get(5, TimeUnit.SECONDS));
+        } finally {
+            startedService.stop();
+        }
+    }
+
+    @Test
+    public void runDueReminders_thousandsOfDeadlines_onlyDueOnesReminded() {
+        Project gamma = new ProjectBuilder().withName("Gamma").build();
+        for (int i = 0; i < 5000; i++) {
+            gamma.addDeadline(new Deadline("Task " + i, TODAY.plusDays(2 + i % 100)));
+        }
+        colabFolder.addProject(gamma);
+        assertEquals(5002, reminderService.getPendingCount());
+
+        clock.set(TODAY.plusDays(2).atStartOfDay());
+        reminderService.runDueReminders();
+        // the standup, the report and the 50 tasks due on the same day as the report
+        assertEquals(52, reminders.size());
+        // the next standup is now pending
+        assertEquals(5002 - 52 + 1, reminderService.getPendingCount());
+    }
+
+    /**
+     * A {@code Clock} in UTC whose time is set by the test.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime dateTime) {
+            set(dateTime);
+        }
+
+        void set(LocalDateTime dateTime) {
+            instant = dateTime.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
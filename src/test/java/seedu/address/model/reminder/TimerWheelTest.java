@@ -0,0 +1,99 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TimerWheelTest {
+
+    @Test
+    public void constructor_wheelSizeNotPowerOfTwo_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel<String>(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel<String>(6, 0));
+    }
+
+    @Test
+    public void schedule_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TimerWheel<String>(4, 0).schedule(1, null));
+    }
+
+    @Test
+    public void advanceTo_tasksWithinOneTurn_dueInTickOrder() {
+        TimerWheel<String> wheel = new TimerWheel<>(8, 100);
+        wheel.schedule(103, "third");
+        wheel.schedule(101, "first");
+        wheel.schedule(102, "second");
+
+        assertEquals(List.of(), wheel.advanceTo(100));
+        assertEquals(List.of("first"), wheel.advanceTo(101));
+        assertEquals(List.of("second", "third"), wheel.advanceTo(103));
+        assertEquals(0, wheel.size());
+        assertEquals(103, wheel.getCurrentTick());
+    }
+
+    @Test
+    public void advanceTo_taskMoreThanOneTurnAway_waitsForItsTurn() {
+        TimerWheel<String> wheel = new TimerWheel<>(4, 0);
+        wheel.schedule(2, "soon");
+        wheel.schedule(10, "later");
+
+        // ticks 2 and 10 share a bucket
+        assertEquals(List.of("soon"), wheel.advanceTo(6));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(), wheel.advanceTo(9));
+        assertEquals(List.of("later"), wheel.advanceTo(10));
+    }
+
+    @Test
+    public void advanceTo_jumpOverSeveralTurns_allDueTasksInTickOrder() {
+        TimerWheel<String> wheel = new TimerWheel<>(4, 0);
+        wheel.schedule(9, "third");
+        wheel.schedule(1, "first");
+        wheel.schedule(6, "second");
+        wheel.schedule(30, "not due");
+
+        assertEquals(List.of("first", "second", "third"), wheel.advanceTo(20));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("not due"), wheel.advanceTo(30));
+    }
+
+    @Test
+    public void schedule_pastTick_dueAtNextTick() {
+        TimerWheel<String> wheel = new TimerWheel<>(4, 50);
+        wheel.schedule(12, "late");
+
+        assertEquals(List.of("late"), wheel.advanceTo(51));
+    }
+
+    @Test
+    public void cancel_waitingTask_neverDue() {
+        TimerWheel<String> wheel = new TimerWheel<>(4, 0);
+        TimerWheel.Timeout<String> timeout = wheel.schedule(3, "cancelled");
+        wheel.schedule(3, "kept");
+
+        wheel.cancel(timeout);
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("kept"), wheel.advanceTo(3));
+
+        // cancelling a task that is already due does nothing
+        wheel.cancel(timeout);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void advanceTo_manyTasks_onlyDueTasksRemoved() {
+        TimerWheel<Integer> wheel = new TimerWheel<>(16, 0);
+        for (int i = 1; i <= 10000; i++) {
+            wheel.schedule(i, i);
+        }
+
+        List<Integer> dueTasks = wheel.advanceTo(100);
+        assertEquals(100, dueTasks.size());
+        assertTrue(dueTasks.stream().allMatch(task -> task <= 100));
+        assertEquals(9900, wheel.size());
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.ColabFolder;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.task.deadline.Deadline;
+import seedu.address.model.task.repeatable.Event;
+import seedu.address.model.task.todo.Todo;
+import seedu.address.testutil.GroupmateBuilder;
+import seedu.address.testutil.ProjectBuilder;
+
+public class GlobalSearchIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2021, 4, 5);
+    private static final LocalTime TIME = LocalTime.of(9, 0);
+
+    private ColabFolder colabFolder;
+    private GlobalSearchIndex searchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        colabFolder = new ColabFolder();
+        searchIndex = new GlobalSearchIndex(colabFolder.getProjectsList());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new GlobalSearchIndex(null));
+    }
+
+    @Test
+    public void search_itemsOfAllTypes_hitsOrderedByProjectAndType() {
+        Project alpha = new ProjectBuilder().withName("Report Writing").build();
+        Project beta = new ProjectBuilder().withName("Beta").build();
+        beta.addTodo(new Todo("Proofread report"));
+        beta.addDeadline(new Deadline("Submit report", DATE));
+        beta.addEvent(new Event("Report review", DATE, TIME, false));
+        beta.addGroupmate(new GroupmateBuilder().withName("Reporter Rex").build());
+        beta.addTodo(new Todo("Buy snacks"));
+        colabFolder.addProject(alpha);
+        colabFolder.addProject(beta);
+
+        ProjectName betaName = new ProjectName("Beta");
+        List<SearchHit> expectedHits = Arrays.asList(
+                new SearchHit(SearchHitType.PROJECT, Index.fromOneBased(1), new ProjectName("Report Writing"),
+                        null, "Report Writing"),
+                new SearchHit(SearchHitType.GROUPMATE, Index.fromOneBased(2), betaName, Index.fromOneBased(1),
+                        "Reporter Rex"),
+                new SearchHit(SearchHitType.EVENT, Index.fromOneBased(2), betaName, Index.fromOneBased(1),
+                        "Report review"),
+                new SearchHit(SearchHitType.DEADLINE, Index.fromOneBased(2), betaName, Index.fromOneBased(1),
+                        "Submit report"),
+                // todos are sorted by description, so "Buy snacks" comes first
+                new SearchHit(SearchHitType.TODO, Index.fromOneBased(2), betaName, Index.fromOneBased(2),
+                        "Proofread report"));
+        assertEquals(expectedHits, searchIndex.search("rEpOrT", colabFolder.getProjectsList()));
+    }
+
+    @Test
+    public void ofUnchanging_projectChangedAfterwards_indexNotSubscribed() {
+        Project project = new ProjectBuilder().withName("Alpha").build();
+        project.addTodo(new Todo("Draft slides"));
+        colabFolder.addProject(project);
+        GlobalSearchIndex unchangingIndex = GlobalSearchIndex.ofUnchanging(colabFolder.getProjectsList());
+        assertEquals(1, unchangingIndex.search("slides", colabFolder.getProjectsList()).size());
+
+        // the index adds no listeners, so it does not see changes and is not kept alive by the project
+        project.addTodo(new Todo("Print slides"));
+        assertEquals(1, unchangingIndex.search("slides", colabFolder.getProjectsList()).size());
+    }
+
+    @Test
+    public void search_modifiedProject_indexUpdated() {
+        Project project = new ProjectBuilder().withName("Alpha").build();
+        colabFolder.addProject(project);
+        assertTrue(searchIndex.search("slides", colabFolder.getProjectsList()).isEmpty());
+
+        project.addTodo(new Todo("Draft slides"));
+        project.addTodo(new Todo("Review slides"));
+        project.deleteTodo(0);
+
+        List<SearchHit> hits = searchIndex.search("slides", colabFolder.getProjectsList());
+        assertEquals(1, hits.size());
+        assertEquals("Review slides", hits.get(0).getText());
+        assertEquals(Index.fromOneBased(1), hits.get(0).getItemIndex().get());
+    }
+
+    @Test
+    public void search_removedProject_noLongerFound() {
+        Project project = new ProjectBuilder().withName("Alpha").build();
+        colabFolder.addProject(project);
+        colabFolder.removeProject(project);
+        assertTrue(searchIndex.search("alpha", colabFolder.getProjectsList()).isEmpty());
+
+        // removed projects are no longer tracked
+        project.addTodo(new Todo("Alpha todo"));
+        assertTrue(searchIndex.search("alpha", FXCollections.observableArrayList(project)).isEmpty());
+    }
+
+    @Test
+    public void search_itemsAddedAndRemoved_hitIndexesFollowList() {
+        Project project = new ProjectBuilder().withName("Alpha").build();
+        colabFolder.addProject(project);
+        project.addTodo(new Todo("First notes"));
+        project.addTodo(new Todo("Second notes"));
+        assertEquals(2, searchIndex.search("notes", colabFolder.getProjectsList()).size());
+
+        project.deleteTodo(0);
+        List<SearchHit> hits = searchIndex.search("notes", colabFolder.getProjectsList());
+        assertEquals(1, hits.size());
+        assertEquals(Index.fromOneBased(1), hits.get(0).getItemIndex().get());
+
+        project.addTodo(new Todo("Third notes"));
+        hits = searchIndex.search("third", colabFolder.getProjectsList());
+        assertEquals(1, hits.size());
+        int expected = project.getSortedTodos().indexOf(project.getSortedTodos().stream()
+                .filter(todo -> todo.getDescription().equals("Third notes")).findFirst().get());
+        assertEquals(Index.fromZeroBased(expected), hits.get(0).getItemIndex().get());
+    }
+
+    @Test
+    public void search_shownProjectsChanged_projectIndexesFollowList() {
+        Project alpha = new ProjectBuilder().withName("Alpha").build();
+        Project beta = new ProjectBuilder().withName("Beta").build();
+        colabFolder.addProject(alpha);
+        colabFolder.addProject(beta);
+        ObservableList<Project> shownProjects = FXCollections.observableArrayList(alpha, beta);
+        assertEquals(Index.fromOneBased(2), searchIndex.search("beta", shownProjects).get(0).getProjectIndex());
+
+        shownProjects.remove(alpha);
+        assertEquals(Index.fromOneBased(1), searchIndex.search("beta", shownProjects).get(0).getProjectIndex());
+    }
+
+    @Test
+    public void search_projectNotShown_excludedFromHits() {
+        Project alpha = new ProjectBuilder().withName("Alpha").build();
+        Project beta = new ProjectBuilder().withName("Beta").build();
+        alpha.addTodo(new Todo("Meeting notes"));
+        beta.addTodo(new Todo("Meeting notes"));
+        colabFolder.addProject(alpha);
+        colabFolder.addProject(beta);
+
+        List<SearchHit> hits = searchIndex.search("notes", FXCollections.observableArrayList(beta));
+        assertEquals(1, hits.size());
+        assertEquals(Index.fromOneBased(1), hits.get(0).getProjectIndex());
+        assertEquals(new ProjectName("Beta"), hits.get(0).getProjectName());
+    }
+}
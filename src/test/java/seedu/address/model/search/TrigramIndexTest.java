@@ -0,0 +1,69 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private TrigramIndex<String> index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new TrigramIndex<>();
+        index.add("a", "Project Report");
+        index.add("b", "Team meeting");
+        index.add("c", "Report bugs");
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null, "text"));
+        assertThrows(NullPointerException.class, () -> index.add("d", null));
+    }
+
+    @Test
+    public void search_substring_returnsMatchingItems() {
+        assertEquals(new HashSet<>(Arrays.asList("a", "c")), new HashSet<>(index.search("REPORT")));
+        assertEquals(Collections.singletonList("b"), index.search("m meet"));
+    }
+
+    @Test
+    public void search_trigramsNotConsecutive_returnsEmptyList() {
+        // "ort" and "rep" are both in "Project Report", but "ortrep" is not
+        assertTrue(index.search("ortrep").isEmpty());
+        assertTrue(index.search("xyz").isEmpty());
+    }
+
+    @Test
+    public void search_shortQuery_returnsMatchingItems() {
+        assertEquals(new HashSet<>(Arrays.asList("a", "c")), new HashSet<>(index.search("t ")));
+        assertEquals(3, index.search("").size());
+    }
+
+    @Test
+    public void add_existingItem_textReplaced() {
+        index.add("a", "Slides");
+        assertEquals(3, index.size());
+        assertEquals(Collections.singletonList("c"), index.search("report"));
+        assertEquals(Collections.singletonList("a"), index.search("slide"));
+    }
+
+    @Test
+    public void remove_existingItem_noLongerFound() {
+        index.remove("c");
+        assertEquals(2, index.size());
+        assertEquals(Collections.singletonList("a"), index.search("report"));
+
+        // removing an item that is not in the index does nothing
+        index.remove("c");
+        assertEquals(2, index.size());
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentSortedMapTest {
+
+    private final PersistentSortedMap<Integer, String> empty = PersistentSortedMap.empty();
+
+    @Test
+    public void put_existingMap_originalUnchanged() {
+        PersistentSortedMap<Integer, String> original = empty.put(1, "one").put(2, "two");
+        PersistentSortedMap<Integer, String> changed = original.put(2, "deux").put(3, "three").remove(1);
+
+        assertEquals(List.of("one", "two"), original.values());
+        assertEquals(List.of("deux", "three"), changed.values());
+        assertNull(changed.get(1));
+    }
+
+    @Test
+    public void remove_missingKey_sameMap() {
+        PersistentSortedMap<Integer, String> map = empty.put(1, "one");
+        assertSame(map, map.remove(2));
+    }
+
+    @Test
+    public void valuesAfter_keysInOrder() {
+        PersistentSortedMap<Integer, String> map = empty;
+        for (int i = 10; i > 0; i--) {
+            map = map.put(i, String.valueOf(i));
+        }
+
+        assertEquals(List.of("8", "9", "10"), map.valuesAfter(7));
+        assertEquals(List.of(), map.valuesAfter(10));
+        assertEquals(10, map.valuesAfter(0).size());
+    }
+
+    @Test
+    public void putAndRemove_manyKeys_sameAsTreeMap() {
+        Random random = new Random(2103);
+        Map<Integer, String> expected = new TreeMap<>();
+        PersistentSortedMap<Integer, String> map = empty;
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(1000);
+            if (random.nextBoolean()) {
+                expected.put(key, "value " + i);
+                map = map.put(key, "value " + i);
+            } else {
+                expected.remove(key);
+                map = map.remove(key);
+            }
+        }
+
+        assertEquals(new ArrayList<>(expected.values()), map.values());
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+}
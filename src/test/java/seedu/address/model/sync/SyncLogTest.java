@@ -0,0 +1,256 @@
+package seedu.address.model.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.sync.SyncLog.ImportResult;
+import seedu.address.model.task.todo.Todo;
+import seedu.address.testutil.DeadlineBuilder;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.GroupmateBuilder;
+
+public class SyncLogTest {
+
+    private static final ProjectName NAME = new ProjectName("CS2103T");
+
+    private final Project alice = new Project(NAME);
+    private final Project bob = new Project(NAME);
+
+    /**
+     * Sends the changes of {@code from} to {@code to} and returns the outcome.
+     */
+    private static ImportResult send(Project from, Project to) {
+        return to.getSyncLog().importDelta(from.getSyncLog().exportDelta(NAME, to.getSyncLog().getReplicaId()));
+    }
+
+    /**
+     * Asserts that {@code actual} shows the same items as {@code expected}, which may have been added in another
+     * order.
+     */
+    private static void assertSameItems(Project expected, Project actual) {
+        assertEquals(new ArrayList<>(expected.getSortedEvents()), new ArrayList<>(actual.getSortedEvents()));
+        assertEquals(new ArrayList<>(expected.getSortedTodos()), new ArrayList<>(actual.getSortedTodos()));
+        assertEquals(new ArrayList<>(expected.getSortedDeadlines()), new ArrayList<>(actual.getSortedDeadlines()));
+        assertEquals(new ArrayList<>(expected.getSortedGroupmates()),
+                new ArrayList<>(actual.getSortedGroupmates()));
+    }
+
+    private static int indexOfTodo(Project project, String description) {
+        for (int i = 0; i < project.getSortedTodos().size(); i++) {
+            if (project.getSortedTodos().get(i).getDescription().equals(description)) {
+                return i;
+            }
+        }
+        throw new AssertionError(description + " not found");
+    }
+
+    @Test
+    public void importDelta_ownDelta_throwsIllegalArgumentException() {
+        alice.addTodo(new Todo("Write report"));
+        assertThrows(IllegalArgumentException.class, SyncLog.MESSAGE_OWN_DELTA, () -> send(alice, alice));
+    }
+
+    @Test
+    public void exportDelta_newReplica_containsEveryItem() {
+        alice.addTodo(new Todo("Write report"));
+        alice.addEvent(new EventBuilder().build());
+        alice.addDeadline(new DeadlineBuilder().build());
+        alice.addGroupmate(new GroupmateBuilder().build());
+
+        ProjectDelta delta = alice.getSyncLog().exportDelta(NAME);
+        assertEquals(4, delta.getChanges().size());
+        assertEquals(alice.getSyncLog().getReplicaId(), delta.getReplicaId());
+    }
+
+    @Test
+    public void importDelta_newReplica_converges() {
+        alice.addTodo(new Todo("Write report"));
+        alice.addEvent(new EventBuilder().build());
+        alice.addDeadline(new DeadlineBuilder().build());
+        alice.addGroupmate(new GroupmateBuilder().withRoles("Leader").build());
+
+        assertEquals(new ImportResult(4, 0, 0), send(alice, bob));
+        assertSameItems(alice, bob);
+
+        // bob's records are sent back, but alice has seen them all
+        assertEquals(new ImportResult(0, 0, 4), send(bob, alice));
+        assertSameItems(alice, bob);
+    }
+
+    @Test
+    public void exportDelta_afterAcknowledgement_onlyContainsNewChanges() {
+        for (int i = 0; i < 50; i++) {
+            alice.addTodo(new Todo("Todo " + i));
+        }
+        send(alice, bob);
+        // alice learns which of her changes bob received
+        send(bob, alice);
+
+        alice.markTodo(indexOfTodo(alice, "Todo 7"));
+        ProjectDelta delta = alice.getSyncLog().exportDelta(NAME, bob.getSyncLog().getReplicaId());
+        assertEquals(1, delta.getChanges().size());
+        assertEquals("Todo 7", delta.getChanges().get(0).getIdentity());
+
+        assertEquals(new ImportResult(1, 0, 0), bob.getSyncLog().importDelta(delta));
+        assertSameItems(alice, bob);
+    }
+
+    @Test
+    public void exportDelta_otherReplicaAcknowledged_containsChangesTargetMissed() {
+        Project carol = new Project(NAME);
+        alice.addTodo(new Todo("Write report"));
+        send(alice, carol);
+        send(carol, alice);
+        alice.addTodo(new Todo("Write tests"));
+        send(alice, bob);
+        send(bob, alice);
+
+        // carol acknowledged less than bob, so she is still sent the change bob already has
+        ProjectDelta toCarol = alice.getSyncLog().exportDelta(NAME, carol.getSyncLog().getReplicaId());
+        assertEquals(1, toCarol.getChanges().size());
+        assertEquals("Write tests", toCarol.getChanges().get(0).getIdentity());
+        assertEquals(0, alice.getSyncLog().exportDelta(NAME, bob.getSyncLog().getReplicaId()).getChanges().size());
+        assertEquals(2, alice.getSyncLog().exportDelta(NAME).getChanges().size());
+    }
+
+    @Test
+    public void getCopy_copyChanged_originalRecordsKept() {
+        alice.addTodo(new Todo("Write report"));
+        Project copy = alice.getCopy();
+        assertTrue(copy.isSameVersionAs(alice));
+
+        copy.addTodo(new Todo("Write tests"));
+        assertFalse(copy.isSameVersionAs(alice));
+        assertTrue(alice.getSyncLog().getRecord(RecordKind.TODO, "Write tests").isEmpty());
+        assertTrue(copy.getSyncLog().getRecord(RecordKind.TODO, "Write tests").isPresent());
+        assertTrue(copy.getSyncLog().getRecord(RecordKind.TODO, "Write report").isPresent());
+    }
+
+    @Test
+    public void settle_contentWithSameStringHash_changeRecorded() {
+        // "Aa" and "BB" have the same String#hashCode
+        alice.addGroupmate(new GroupmateBuilder().withName("Alex").withRoles("Aa").build());
+        SyncRecord before = alice.getSyncLog().getRecord(RecordKind.GROUPMATE, "Alex").get();
+        Project copy = alice.getCopy();
+
+        alice.setGroupmate(0, new GroupmateBuilder().withName("Alex").withRoles("BB").build());
+        SyncRecord after = alice.getSyncLog().getRecord(RecordKind.GROUPMATE, "Alex").get();
+        assertNotEquals(before.getFingerprint(), after.getFingerprint());
+        assertTrue(after.getStamp() > before.getStamp());
+        assertFalse(alice.isSameVersionAs(copy));
+    }
+
+    @Test
+    public void importDelta_delete_keptAsTombstone() {
+        alice.addTodo(new Todo("Write report"));
+        send(alice, bob);
+        send(bob, alice);
+
+        alice.deleteTodo(indexOfTodo(alice, "Write report"));
+        assertTrue(alice.getSyncLog().getRecord(RecordKind.TODO, "Write report").get().isDeleted());
+
+        send(alice, bob);
+        assertEquals(0, bob.getTodos().size());
+        assertTrue(bob.getSyncLog().getRecord(RecordKind.TODO, "Write report").get().isDeleted());
+    }
+
+    @Test
+    public void importDelta_staleDelta_doesNotUndoDelete() {
+        alice.addTodo(new Todo("Write report"));
+        ProjectDelta staleDelta = alice.getSyncLog().exportDelta(NAME);
+        send(alice, bob);
+
+        bob.deleteTodo(indexOfTodo(bob, "Write report"));
+        assertEquals(new ImportResult(0, 0, 1), bob.getSyncLog().importDelta(staleDelta));
+        assertEquals(0, bob.getTodos().size());
+    }
+
+    @Test
+    public void importDelta_concurrentChanges_resolvedTheSameOnBothSides() {
+        alice.addTodo(new Todo("Write report"));
+        alice.addTodo(new Todo("Book room"));
+        send(alice, bob);
+        send(bob, alice);
+
+        alice.markTodo(indexOfTodo(alice, "Write report"));
+        bob.deleteTodo(indexOfTodo(bob, "Write report"));
+        bob.markTodo(indexOfTodo(bob, "Book room"));
+
+        ProjectDelta fromAlice = alice.getSyncLog().exportDelta(NAME);
+        ProjectDelta fromBob = bob.getSyncLog().exportDelta(NAME);
+        ImportResult bobResult = bob.getSyncLog().importDelta(fromAlice);
+        ImportResult aliceResult = alice.getSyncLog().importDelta(fromBob);
+
+        assertEquals(1, bobResult.getConflictCount());
+        assertEquals(1, aliceResult.getConflictCount());
+        assertSameItems(alice, bob);
+        assertTrue(alice.getSyncLog().getRecord(RecordKind.TODO, "Write report").get().getVersion()
+                .equals(bob.getSyncLog().getRecord(RecordKind.TODO, "Write report").get().getVersion()));
+    }
+
+    @Test
+    public void importDelta_sameItemAddedOnBothSides_converges() {
+        alice.addDeadline(new DeadlineBuilder().withByDate(LocalDate.of(2021, 4, 1)).build());
+        bob.addDeadline(new DeadlineBuilder().withByDate(LocalDate.of(2021, 4, 8)).build());
+
+        send(alice, bob);
+        send(bob, alice);
+        assertSameItems(alice, bob);
+        assertEquals(1, alice.getDeadlines().size());
+    }
+
+    @Test
+    public void getCopy_changeToCopy_doesNotChangeOriginal() {
+        alice.addTodo(new Todo("Write report"));
+        Project copy = alice.getCopy();
+        assertEquals(alice.getSyncLog().getReplicaId(), copy.getSyncLog().getReplicaId());
+
+        copy.addTodo(new Todo("Book room"));
+        assertTrue(copy.getSyncLog().getRecord(RecordKind.TODO, "Book room").isPresent());
+        assertFalse(alice.getSyncLog().getRecord(RecordKind.TODO, "Book room").isPresent());
+    }
+
+    @Test
+    public void constructor_savedState_recordsUntrackedChanges() {
+        alice.addTodo(new Todo("Write report"));
+        SyncState state = alice.getSyncLog().getState();
+
+        // the todo was deleted and another added outside of the log, such as by editing the data file
+        Project edited = new Project(NAME);
+        edited.addTodo(new Todo("Book room"));
+        SyncLog log = new SyncLog(edited.getEvents(), edited.getTodos(), edited.getDeadlines(),
+                edited.getGroupmates(), state);
+
+        assertEquals(state.getReplicaId(), log.getReplicaId());
+        assertTrue(log.getRecord(RecordKind.TODO, "Write report").get().isDeleted());
+        assertFalse(log.getRecord(RecordKind.TODO, "Book room").get().isDeleted());
+        assertNotEquals(state, log.getState());
+    }
+
+    @Test
+    public void importDelta_largeProject_deltaOnlyHoldsChanges() {
+        for (int i = 0; i < 2000; i++) {
+            alice.addTodo(new Todo("Todo " + i));
+        }
+        send(alice, bob);
+        send(bob, alice);
+
+        alice.addTodo(new Todo("Todo new"));
+        alice.deleteTodo(indexOfTodo(alice, "Todo 1999"));
+        ProjectDelta delta = alice.getSyncLog().exportDelta(NAME, bob.getSyncLog().getReplicaId());
+        assertEquals(2, delta.getChanges().size());
+
+        assertEquals(new ImportResult(2, 0, 0), bob.getSyncLog().importDelta(delta));
+        assertSameItems(alice, bob);
+    }
+}
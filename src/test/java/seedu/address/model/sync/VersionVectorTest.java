@@ -0,0 +1,64 @@
+package seedu.address.model.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.sync.VersionVector.Ordering;
+
+public class VersionVectorTest {
+
+    private static final VersionVector A1 = VersionVector.EMPTY.with("a", 1);
+    private static final VersionVector A2 = A1.with("a", 2);
+    private static final VersionVector A1B1 = A1.with("b", 1);
+
+    @Test
+    public void constructor_nonPositiveCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionVector(Map.of("a", 0L)));
+        assertThrows(IllegalArgumentException.class, () -> new VersionVector(Map.of("a", -1L)));
+    }
+
+    @Test
+    public void get() {
+        assertEquals(2, A2.get("a"));
+        assertEquals(0, A2.get("b"));
+    }
+
+    @Test
+    public void with_countNotHigher_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> A2.with("a", 2));
+        assertThrows(IllegalArgumentException.class, () -> A2.with("a", 1));
+    }
+
+    @Test
+    public void merge() {
+        assertEquals(new VersionVector(Map.of("a", 2L, "b", 1L)), A2.merge(A1B1));
+        assertEquals(A2, A2.merge(VersionVector.EMPTY));
+    }
+
+    @Test
+    public void compareTo() {
+        assertEquals(Ordering.EQUAL, A1.compareTo(VersionVector.EMPTY.with("a", 1)));
+        assertEquals(Ordering.EQUAL, VersionVector.EMPTY.compareTo(VersionVector.EMPTY));
+        assertEquals(Ordering.BEFORE, A1.compareTo(A2));
+        assertEquals(Ordering.BEFORE, VersionVector.EMPTY.compareTo(A1));
+        assertEquals(Ordering.AFTER, A1B1.compareTo(A1));
+        assertEquals(Ordering.CONCURRENT, A2.compareTo(A1B1));
+        assertEquals(Ordering.CONCURRENT, A1B1.compareTo(A2));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(A1.equals(A1));
+        assertTrue(A1.equals(new VersionVector(Map.of("a", 1L))));
+        assertFalse(A1.equals(null));
+        assertFalse(A1.equals(1));
+        assertFalse(A1.equals(A2));
+        assertFalse(A1.equals(A1B1));
+    }
+}
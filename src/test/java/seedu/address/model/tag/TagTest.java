@@ -1,6 +1,7 @@
 package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -50,4 +51,10 @@ public class TagTest {
         assertFalse(Tag.isValidTagName("_-_"));
     }
 
+    @Test
+    public void of_sameTagName_returnsSameInstance() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("a"));
+        assertSame(Tag.of("friends"), Tag.of(new String("friends")));
+    }
+
 }
@@ -0,0 +1,135 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.task.Recurrence.Frequency;
+
+public class RecurrenceTest {
+
+    // a Monday
+    private static final LocalDate MONDAY = LocalDate.of(2021, 4, 5);
+
+    @Test
+    public void constructor_invalidRecurrence_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Recurrence(Frequency.ONCE, 1, null, 3,
+                Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> new Recurrence(Frequency.DAILY, 0, null, null,
+                Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> new Recurrence(Frequency.WEEKLY, 1, null, 0,
+                Collections.emptyList()));
+    }
+
+    @Test
+    public void occursOn_daily() {
+        Recurrence everyTwoDays = recurrence(Frequency.DAILY, 2, null, null);
+
+        assertTrue(everyTwoDays.occursOn(MONDAY, MONDAY));
+        assertTrue(everyTwoDays.occursOn(MONDAY, MONDAY.plusDays(2)));
+        assertFalse(everyTwoDays.occursOn(MONDAY, MONDAY.plusDays(3)));
+        // before the start
+        assertFalse(everyTwoDays.occursOn(MONDAY, MONDAY.minusDays(2)));
+    }
+
+    @Test
+    public void occursOn_weeklyWithCount() {
+        Recurrence fortnightly = recurrence(Frequency.WEEKLY, 2, null, 3);
+
+        assertTrue(fortnightly.occursOn(MONDAY, MONDAY.plusWeeks(4)));
+        assertFalse(fortnightly.occursOn(MONDAY, MONDAY.plusWeeks(1)));
+        // the fourth time
+        assertFalse(fortnightly.occursOn(MONDAY, MONDAY.plusWeeks(6)));
+    }
+
+    @Test
+    public void occursOn_monthlyByDate_clampedToEndOfMonth() {
+        LocalDate endOfJanuary = LocalDate.of(2021, 1, 31);
+        Recurrence monthly = recurrence(Frequency.MONTHLY_BY_DATE, 1, null, null);
+
+        assertTrue(monthly.occursOn(endOfJanuary, LocalDate.of(2021, 2, 28)));
+        assertTrue(monthly.occursOn(endOfJanuary, LocalDate.of(2021, 3, 31)));
+        assertTrue(monthly.occursOn(endOfJanuary, LocalDate.of(2021, 4, 30)));
+        assertFalse(monthly.occursOn(endOfJanuary, LocalDate.of(2021, 3, 28)));
+    }
+
+    @Test
+    public void occursOn_monthlyByWeekday() {
+        // the 2nd Tuesday of April
+        LocalDate secondTuesday = LocalDate.of(2021, 4, 13);
+        Recurrence monthly = recurrence(Frequency.MONTHLY_BY_WEEKDAY, 1, null, null);
+
+        assertTrue(monthly.occursOn(secondTuesday, LocalDate.of(2021, 5, 11)));
+        assertTrue(monthly.occursOn(secondTuesday, LocalDate.of(2021, 6, 8)));
+        assertFalse(monthly.occursOn(secondTuesday, LocalDate.of(2021, 5, 13)));
+
+        // the 5th Monday of March falls on the last Monday of April
+        LocalDate fifthMonday = LocalDate.of(2021, 3, 29);
+        assertTrue(monthly.occursOn(fifthMonday, LocalDate.of(2021, 4, 26)));
+    }
+
+    @Test
+    public void getNextOccurrence() {
+        Recurrence daily = new Recurrence(Frequency.DAILY, 1, MONDAY.plusDays(3), null,
+                Collections.singletonList(MONDAY.plusDays(1)));
+
+        assertEquals(Optional.of(MONDAY), daily.getNextOccurrence(MONDAY, MONDAY.minusDays(5)));
+        // skipped date
+        assertEquals(Optional.of(MONDAY.plusDays(2)), daily.getNextOccurrence(MONDAY, MONDAY.plusDays(1)));
+        // after the end date
+        assertEquals(Optional.empty(), daily.getNextOccurrence(MONDAY, MONDAY.plusDays(4)));
+
+        assertEquals(Optional.of(MONDAY), Recurrence.ONCE.getNextOccurrence(MONDAY, MONDAY));
+        assertEquals(Optional.empty(), Recurrence.ONCE.getNextOccurrence(MONDAY, MONDAY.plusDays(1)));
+    }
+
+    @Test
+    public void iterator_limitedRecurrence_listsEveryOccurrence() {
+        Recurrence monthly = recurrence(Frequency.MONTHLY_BY_DATE, 2, null, 3);
+        List<LocalDate> occurrences = new ArrayList<>();
+        Iterator<LocalDate> iterator = monthly.iterator(MONDAY, MONDAY.plusDays(1));
+        iterator.forEachRemaining(occurrences::add);
+
+        assertEquals(Arrays.asList(MONDAY.plusMonths(2), MONDAY.plusMonths(4)), occurrences);
+    }
+
+    @Test
+    public void describe() {
+        assertEquals("Every day", recurrence(Frequency.DAILY, 1, null, null).describe(MONDAY));
+        assertEquals("Every 2 weeks on Monday", recurrence(Frequency.WEEKLY, 2, null, null).describe(MONDAY));
+        assertEquals("Every month on the 2nd Tuesday, until 31 Dec 2021, 5 times",
+                recurrence(Frequency.MONTHLY_BY_WEEKDAY, 1, LocalDate.of(2021, 12, 31), 5)
+                        .describe(LocalDate.of(2021, 4, 13)));
+        assertEquals("Every 3 months on day 5, except 05 Jul 2021",
+                new Recurrence(Frequency.MONTHLY_BY_DATE, 3, null, null,
+                        Collections.singletonList(LocalDate.of(2021, 7, 5))).describe(MONDAY));
+    }
+
+    @Test
+    public void equals() {
+        Recurrence daily = recurrence(Frequency.DAILY, 1, null, null);
+
+        assertEquals(daily, recurrence(Frequency.DAILY, 1, null, null));
+        assertNotEquals(daily, recurrence(Frequency.DAILY, 2, null, null));
+        assertNotEquals(daily, recurrence(Frequency.DAILY, 1, null, 2));
+        assertNotEquals(daily, Recurrence.WEEKLY);
+        assertTrue(Recurrence.WEEKLY.isWeekly());
+        assertFalse(recurrence(Frequency.WEEKLY, 1, MONDAY, null).isWeekly());
+    }
+
+    private static Recurrence recurrence(Frequency frequency, int interval, LocalDate until, Integer count) {
+        return new Recurrence(frequency, interval, until, count, Collections.emptyList());
+    }
+}
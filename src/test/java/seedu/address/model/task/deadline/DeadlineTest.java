@@ -112,4 +112,14 @@ public class DeadlineTest {
         deadline.setDescription(description);
         assertEquals(description, deadline.getDescription());
     }
+
+    @Test
+    public void isDueOn_variousDates_success() {
+        LocalDate date = LocalDate.of(2021, 4, 5);
+        Deadline deadline = new Deadline("Report", date);
+
+        assertTrue(deadline.isDueOn(date));
+        assertFalse(deadline.isDueOn(date.plusDays(1)));
+        assertFalse(deadline.isDueOn(date.minusYears(1)));
+    }
 }
@@ -0,0 +1,111 @@
+package seedu.address.model.task.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProjects.getTypicalProjects;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectName;
+import seedu.address.model.search.SearchHit;
+import seedu.address.model.search.SearchHitType;
+import seedu.address.model.task.CompletableDeadline;
+
+public class TaskQueryPlanTest {
+
+    private static final ProjectName CS2103T_NAME = new ProjectName("CS2103T Team Project");
+    private static final ProjectName CS2101_NAME = new ProjectName("CS2101 OP2");
+
+    private final List<Project> projects = getTypicalProjects();
+
+    @Test
+    public void execute_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TaskQuery().compile().execute(null));
+    }
+
+    @Test
+    public void execute_emptyQuery_allTasksInStableOrder() {
+        List<SearchHit> hits = new TaskQuery().compile().execute(projects).collect(Collectors.toList());
+
+        // 4 deadlines and 4 todos in the first project, then 2 deadlines and 3 todos in the second
+        assertEquals(13, hits.size());
+        assertEquals(SearchHitType.DEADLINE, hits.get(0).getType());
+        assertEquals(SearchHitType.TODO, hits.get(4).getType());
+        assertEquals(Index.fromOneBased(2), hits.get(8).getProjectIndex());
+        assertEquals(SearchHitType.DEADLINE, hits.get(8).getType());
+    }
+
+    @Test
+    public void execute_doneAndDueBounds_matchingDeadlinesOnly() {
+        TaskQuery query = new TaskQuery();
+        query.setIsDone(false);
+        query.setDueTo(LocalDate.of(2021, 4, 5));
+
+        List<SearchHit> expectedHits = Arrays.asList(
+                new SearchHit(SearchHitType.DEADLINE, Index.fromOneBased(1), CS2103T_NAME, Index.fromOneBased(3),
+                        "Milestone v1.3 (by 31 Mar 2021)"),
+                new SearchHit(SearchHitType.DEADLINE, Index.fromOneBased(2), CS2101_NAME, Index.fromOneBased(1),
+                        "Product Demo Internal Deadline (by 05 Apr 2021)"));
+        assertEquals(expectedHits, query.compile().execute(projects).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void execute_projectAndTextTerms_matchingTodosOnly() {
+        TaskQuery query = new TaskQuery();
+        query.setType(TaskQuery.TaskType.TODO);
+        query.addProjectTerm("cs2101");
+        query.addTextTerm("WORKLOAD");
+
+        List<SearchHit> expectedHits = Arrays.asList(
+                new SearchHit(SearchHitType.TODO, Index.fromOneBased(2), CS2101_NAME, Index.fromOneBased(3),
+                        "Split Workload ✔"));
+        assertEquals(expectedHits, query.compile().execute(projects).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void compile_dueBoundsOrType_listsSkipped() {
+        TaskQuery query = new TaskQuery();
+        assertTrue(query.compile().isScanningTodos());
+        assertTrue(query.compile().isScanningDeadlines());
+
+        // todos have no due date
+        query.setDueFrom(LocalDate.of(2021, 4, 1));
+        assertFalse(query.compile().isScanningTodos());
+        assertTrue(query.compile().isScanningDeadlines());
+
+        // no date is in an empty range
+        query.setDueTo(LocalDate.of(2021, 3, 1));
+        assertFalse(query.compile().isScanningDeadlines());
+        assertTrue(query.compile().execute(projects).findAny().isEmpty());
+
+        TaskQuery todoQuery = new TaskQuery();
+        todoQuery.setType(TaskQuery.TaskType.TODO);
+        assertFalse(todoQuery.compile().isScanningDeadlines());
+    }
+
+    @Test
+    public void firstDueOnOrAfter() {
+        List<CompletableDeadline> deadlines = projects.get(0).getSortedDeadlines();
+
+        // before all deadlines
+        assertEquals(0, TaskQueryPlan.firstDueOnOrAfter(deadlines, LocalDate.of(2021, 1, 1)));
+
+        // on a due date
+        assertEquals(1, TaskQueryPlan.firstDueOnOrAfter(deadlines, LocalDate.of(2021, 3, 15)));
+
+        // between due dates
+        assertEquals(2, TaskQueryPlan.firstDueOnOrAfter(deadlines, LocalDate.of(2021, 3, 16)));
+
+        // after all deadlines
+        assertEquals(4, TaskQueryPlan.firstDueOnOrAfter(deadlines, LocalDate.of(2021, 5, 1)));
+    }
+}
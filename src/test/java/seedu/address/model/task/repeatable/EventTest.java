@@ -3,14 +3,17 @@ package seedu.address.model.task.repeatable;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.task.Repeatable;
 import seedu.address.model.task.deadline.Deadline;
 import seedu.address.testutil.EventBuilder;
 
@@ -108,6 +111,10 @@ public class EventTest {
         // different isWeekly -> returns false
         editedTutorial = new EventBuilder(TUTORIAL).withIsWeekly(false).build();
         assertNotEquals(editedTutorial, TUTORIAL);
+
+        // different end time -> returns false
+        editedTutorial = new EventBuilder(TUTORIAL).withEndTime(LocalTime.of(23, 59)).build();
+        assertNotEquals(editedTutorial, TUTORIAL);
     }
 
     @Test
@@ -129,4 +136,76 @@ public class EventTest {
         // objects are unequal according to equals(): _should_ be distinct
         assertNotEquals(hashcode1, hashcode3);
     }
+
+    @Test
+    public void occursOn_variousDates_success() {
+        LocalDate date = LocalDate.of(2021, 4, 5);
+        Event event = new Event("Meeting", date, LocalTime.of(9, 0), false);
+        Event weeklyEvent = new Event("Lecture", date, LocalTime.of(9, 0), true);
+
+        assertTrue(event.occursOn(date));
+        assertFalse(event.occursOn(date.plusWeeks(1)));
+        assertTrue(weeklyEvent.occursOn(date));
+        assertTrue(weeklyEvent.occursOn(date.plusWeeks(52)));
+        assertFalse(weeklyEvent.occursOn(date.plusDays(1)));
+        assertFalse(weeklyEvent.occursOn(date.minusWeeks(1)));
+    }
+
+    @Test
+    public void getNextOccurrence_variousDates_success() {
+        LocalDate date = LocalDate.of(2021, 4, 5);
+        Event event = new Event("Meeting", date, LocalTime.of(9, 0), false);
+        Event weeklyEvent = new Event("Lecture", date, LocalTime.of(9, 0), true);
+
+        assertEquals(date, event.getNextOccurrence(date.minusDays(3)).get());
+        assertTrue(event.getNextOccurrence(date.plusDays(1)).isEmpty());
+        assertEquals(date.plusWeeks(1), weeklyEvent.getNextOccurrence(date.plusDays(1)).get());
+        assertEquals(date.plusWeeks(3), weeklyEvent.getNextOccurrence(date.plusWeeks(3)).get());
+    }
+
+    @Test
+    public void getNextOccurrenceEpochDay_variousDates_success() {
+        LocalDate date = LocalDate.of(2021, 4, 5);
+        long epochDay = date.toEpochDay();
+        Event event = new Event("Meeting", date, LocalTime.of(9, 0), false);
+        Event weeklyEvent = new Event("Lecture", date, LocalTime.of(9, 0), true);
+
+        assertEquals(epochDay, event.getNextOccurrenceEpochDay(epochDay - 3));
+        assertEquals(Repeatable.NO_OCCURRENCE, event.getNextOccurrenceEpochDay(epochDay + 1));
+        assertEquals(epochDay, weeklyEvent.getNextOccurrenceEpochDay(epochDay));
+        assertEquals(epochDay + 7, weeklyEvent.getNextOccurrenceEpochDay(epochDay + 1));
+        assertEquals(epochDay + 21, weeklyEvent.getNextOccurrenceEpochDay(epochDay + 21));
+    }
+
+    @Test
+    public void getDateAndTime_calledTwice_sameInstances() {
+        assertSame(TUTORIAL.getDate(), TUTORIAL.getDate());
+        assertSame(TUTORIAL.getTime(), TUTORIAL.getTime());
+    }
+
+    @Test
+    public void getTime_timeWithSeconds_keptToTheMinute() {
+        Event event = new Event("Meeting", LocalDate.of(2021, 4, 5), LocalTime.of(23, 59, 30), false);
+        assertEquals(LocalTime.of(23, 59), event.getTime());
+    }
+
+    @Test
+    public void constructor_endTimeNotAfterTime_throwsIllegalArgumentException() {
+        LocalDate validDate = LocalDate.of(2020, 1, 1);
+        LocalTime validTime = LocalTime.of(17, 30);
+
+        assertThrows(NullPointerException.class, () -> new Event("test", validDate, validTime, false, null));
+        assertThrows(IllegalArgumentException.class, () -> new Event("test", validDate, validTime, false,
+                validTime));
+        assertThrows(IllegalArgumentException.class, () -> new Event("test", validDate, validTime, false,
+                LocalTime.of(9, 0)));
+    }
+
+    @Test
+    public void getEndTime_success() {
+        Event event = new Event("Meeting", LocalDate.of(2021, 4, 5), LocalTime.of(10, 0), false,
+                LocalTime.of(11, 30));
+        assertEquals(Optional.of(LocalTime.of(11, 30)), event.getEndTime());
+        assertEquals(Optional.empty(), LAB.getEndTime());
+    }
 }
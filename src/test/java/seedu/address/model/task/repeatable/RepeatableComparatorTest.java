@@ -0,0 +1,67 @@
+package seedu.address.model.task.repeatable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+public class RepeatableComparatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2021, 4, 5); // a Monday
+    private static final LocalTime MORNING = LocalTime.of(9, 0);
+    private static final LocalTime EVENING = LocalTime.of(20, 0);
+
+    private final RepeatableComparator comparator = new RepeatableComparator(TODAY);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RepeatableComparator(null));
+    }
+
+    @Test
+    public void compare_differentDates_earlierDateFirst() {
+        Event today = new Event("Today", TODAY, EVENING, false);
+        Event nextMonth = new Event("Next month", TODAY.plusMonths(1), MORNING, false);
+        Event nextYear = new Event("Next year", TODAY.plusYears(1), MORNING, false);
+
+        assertTrue(comparator.compare(today, nextMonth) < 0);
+        assertTrue(comparator.compare(nextMonth, nextYear) < 0);
+        assertTrue(comparator.compare(nextYear, today) > 0);
+    }
+
+    @Test
+    public void compare_sameDate_earlierTimeThenDescriptionFirst() {
+        Event morning = new Event("Morning", TODAY, MORNING, false);
+        Event evening = new Event("Evening", TODAY, EVENING, false);
+        Event anotherMorning = new Event("Another morning", TODAY, MORNING, false);
+
+        assertTrue(comparator.compare(morning, evening) < 0);
+        assertTrue(comparator.compare(anotherMorning, morning) < 0);
+        assertEquals(0, comparator.compare(morning, new Event("Morning", TODAY, MORNING, false)));
+    }
+
+    @Test
+    public void compare_weeklyEvent_orderedByNextOccurrence() {
+        // started on a Wednesday three weeks ago, so it next occurs in two days
+        Event weekly = new Event("Weekly", TODAY.minusWeeks(3).plusDays(2), MORNING, true);
+        Event tomorrow = new Event("Tomorrow", TODAY.plusDays(1), MORNING, false);
+        Event inThreeDays = new Event("In three days", TODAY.plusDays(3), MORNING, false);
+
+        assertTrue(comparator.compare(tomorrow, weekly) < 0);
+        assertTrue(comparator.compare(weekly, inThreeDays) < 0);
+    }
+
+    @Test
+    public void compare_differentSnapshots_orderedRelativeToSnapshot() {
+        // started on a Tuesday last week, so it next occurs tomorrow
+        Event weekly = new Event("Weekly", TODAY.minusWeeks(1).plusDays(1), MORNING, true);
+        Event inThreeDays = new Event("In three days", TODAY.plusDays(3), MORNING, false);
+
+        assertTrue(comparator.compare(weekly, inThreeDays) < 0);
+        assertTrue(new RepeatableComparator(TODAY.plusDays(2)).compare(inThreeDays, weekly) < 0);
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static java.time.Duration.ofMillis;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
+import static seedu.address.testutil.TypicalContacts.ALICE;
+import static seedu.address.testutil.TypicalContacts.BENSON;
+import static seedu.address.testutil.TypicalContacts.HOON;
+import static seedu.address.testutil.TypicalContacts.IDA;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ColabFolder;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.project.Project;
+import seedu.address.model.task.todo.Todo;
+import seedu.address.testutil.ContactBuilder;
+import seedu.address.testutil.ProjectBuilder;
+
+public class ColabFolderMergerTest {
+
+    private static final long MERGE_TIMEOUT = 2000;
+
+    private final ColabFolder base = getTypicalColabFolder();
+    private final ColabFolder ours = new ColabFolder(base);
+    private final ColabFolder theirs = new ColabFolder(base);
+
+    @Test
+    public void merge_differentRecordsChanged_allChangesKept() {
+        ours.addContact(HOON);
+        ours.removeContact(ALICE);
+        Contact editedBenson = new ContactBuilder(BENSON).withPhone("99999999").build();
+        theirs.setContact(BENSON, editedBenson);
+        theirs.addContact(IDA);
+
+        List<Contact> expectedContacts = new ArrayList<>(theirs.getContactList());
+        expectedContacts.remove(ALICE);
+        expectedContacts.add(HOON);
+        assertEquals(expectedContacts, ColabFolderMerger.merge(base, ours, theirs).getContactList());
+    }
+
+    @Test
+    public void merge_sameRecordChanged_ourChangeKept() {
+        Contact ourBenson = new ContactBuilder(BENSON).withPhone("11111111").build();
+        ours.setContact(BENSON, ourBenson);
+        theirs.setContact(BENSON, new ContactBuilder(BENSON).withPhone("22222222").build());
+
+        ColabFolder expected = new ColabFolder(base);
+        expected.setContact(BENSON, ourBenson);
+        assertEquals(expected, ColabFolderMerger.merge(base, ours, theirs));
+    }
+
+    @Test
+    public void merge_recordDeletedByUsChangedByThem_theirChangeKept() {
+        ours.removeContact(BENSON);
+        theirs.setContact(BENSON, new ContactBuilder(BENSON).withPhone("22222222").build());
+
+        assertEquals(theirs, ColabFolderMerger.merge(base, ours, theirs));
+    }
+
+    @Test
+    public void merge_projectsChangedByBoth_changedProjectsKept() {
+        Project ourProject = ours.getProjectsList().get(0).getCopy();
+        ourProject.addTodo(new Todo("Write tests"));
+        ours.setProject(ours.getProjectsList().get(0), ourProject);
+        Project theirProject = new ProjectBuilder().withName("CS2105").build();
+        theirs.addProject(theirProject);
+
+        ColabFolder expected = new ColabFolder(base);
+        expected.setProject(expected.getProjectsList().get(0), ourProject);
+        expected.addProject(theirProject);
+        assertEquals(expected, ColabFolderMerger.merge(base, ours, theirs));
+    }
+
+    @Test
+    public void merge_projectCopiedByUsChangedByThem_theirChangeKept() {
+        Project theirProject = theirs.getProjectsList().get(0).getCopy();
+        theirProject.addTodo(new Todo("Write tests"));
+        theirs.setProject(theirs.getProjectsList().get(0), theirProject);
+        // copying the folder again keeps the versions of its projects
+        ColabFolder ourCopy = new ColabFolder(ours);
+
+        assertEquals(theirs, ColabFolderMerger.merge(base, ourCopy, theirs));
+    }
+
+    @Test
+    public void merge_thousandsOfContacts_fewChangesMerged() {
+        ColabFolder largeBase = new ColabFolder();
+        for (int i = 0; i < 20000; i++) {
+            largeBase.addContact(new ContactBuilder().withName("Contact " + i).build());
+        }
+        ColabFolder largeOurs = new ColabFolder(largeBase);
+        largeOurs.addContact(HOON);
+        ColabFolder largeTheirs = new ColabFolder(largeBase);
+        largeTheirs.addContact(IDA);
+
+        assertTimeoutPreemptively(ofMillis(MERGE_TIMEOUT), () -> {
+            ColabFolder merged = ColabFolderMerger.merge(largeBase, largeOurs, largeTheirs);
+            assertEquals(20002, merged.getContactList().size());
+        });
+    }
+}
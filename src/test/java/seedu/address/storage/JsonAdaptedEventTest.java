@@ -5,10 +5,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.task.Recurrence;
 import seedu.address.model.task.repeatable.Event;
 import seedu.address.testutil.EventBuilder;
 
@@ -77,4 +79,42 @@ public class JsonAdaptedEventTest {
         assertThrows(IllegalValueException.class, event::toModelType);
     }
 
+    @Test
+    public void toModelType_validEndTime_returnsEvent() throws Exception {
+        Event meeting = new EventBuilder(TUTORIAL).withEndTime(LocalTime.of(18, 45)).build();
+        assertEquals(meeting, new JsonAdaptedEvent(meeting).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidEndTime_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_DESCRIPTION, VALID_DATE_STRING, VALID_TIME_STRING,
+                VALID_IS_WEEKLY, INVALID_TIME_STRING);
+        assertThrows(IllegalValueException.class, event::toModelType);
+
+        // end time before the start time
+        JsonAdaptedEvent endsEarly = new JsonAdaptedEvent(VALID_DESCRIPTION, VALID_DATE_STRING, VALID_TIME_STRING,
+                VALID_IS_WEEKLY, "09:00");
+        assertThrows(IllegalValueException.class, Event.MESSAGE_CONSTRAINTS_END_TIME, endsEarly::toModelType);
+    }
+
+    @Test
+    public void toModelType_recurringEvent_returnsEvent() throws Exception {
+        Recurrence recurrence = new Recurrence(Recurrence.Frequency.MONTHLY_BY_WEEKDAY, 2, LocalDate.of(2021, 12, 31),
+                null, List.of(LocalDate.of(2021, 3, 5)));
+        Event event = new EventBuilder(TUTORIAL).withRecurrence(recurrence).build();
+        assertEquals(event, new JsonAdaptedEvent(event).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidRecurrence_throwsIllegalValueException() {
+        JsonAdaptedRecurrence onceWithCount = new JsonAdaptedRecurrence("ONCE", 1, null, 3, null);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_DESCRIPTION, VALID_DATE_STRING, VALID_TIME_STRING,
+                VALID_IS_WEEKLY, null, onceWithCount);
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, event::toModelType);
+
+        JsonAdaptedRecurrence unknownFrequency = new JsonAdaptedRecurrence("YEARLY", 1, null, null, null);
+        JsonAdaptedEvent yearlyEvent = new JsonAdaptedEvent(VALID_DESCRIPTION, VALID_DATE_STRING, VALID_TIME_STRING,
+                VALID_IS_WEEKLY, null, unknownFrequency);
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, yearlyEvent::toModelType);
+    }
 }
@@ -6,6 +6,7 @@ import static seedu.address.storage.JsonAdaptedProject.MISSING_FIELD_MESSAGE_FOR
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.project.Project;
 import seedu.address.model.project.ProjectName;
+import seedu.address.model.task.todo.Todo;
 import seedu.address.testutil.ProjectBuilder;
 
 public class JsonAdaptedProjectTest {
@@ -40,11 +42,29 @@ public class JsonAdaptedProjectTest {
         assertEquals(VALID_PROJECT, project.toModelType());
     }
 
+    @Test
+    public void toModelType_syncedProject_keepsSyncState() throws Exception {
+        Project project = new ProjectBuilder().build();
+        project.addTodo(new Todo("Write report"));
+        Project restoredProject = new JsonAdaptedProject(project).toModelType();
+        assertEquals(project.getSyncLog().getState(), restoredProject.getSyncLog().getState());
+    }
+
+    @Test
+    public void toModelType_invalidSyncRecordKind_throwsIllegalValueException() {
+        JsonAdaptedSyncRecord record = new JsonAdaptedSyncRecord("NOTE", "Write report", Map.of("a", 1L), "a", 1,
+                "", false);
+        JsonAdaptedProject project =
+                new JsonAdaptedProject(VALID_DESCRIPTION, VALID_EVENT_LIST, VALID_TODO_LIST, VALID_DEADLINE_LIST,
+                        VALID_GROUPMATE_LIST, new JsonAdaptedSyncState("a", 1, List.of(record), null, null));
+        assertThrows(IllegalValueException.class, JsonAdaptedSyncRecord.MESSAGE_INVALID_KIND, project::toModelType);
+    }
+
     @Test
     public void toModelType_validParameters_success() {
         JsonAdaptedProject project =
                 new JsonAdaptedProject(VALID_DESCRIPTION, VALID_EVENT_LIST, VALID_TODO_LIST,
-                        VALID_DEADLINE_LIST, VALID_GROUPMATE_LIST);
+                        VALID_DEADLINE_LIST, VALID_GROUPMATE_LIST, null);
         assertDoesNotThrow(project::toModelType);
     }
 
@@ -52,7 +72,7 @@ public class JsonAdaptedProjectTest {
     public void toModelType_invalidDescription_throwsIllegalValueException() {
         JsonAdaptedProject project =
                 new JsonAdaptedProject(INVALID_DESCRIPTION, VALID_EVENT_LIST, VALID_TODO_LIST,
-                        VALID_DEADLINE_LIST, VALID_GROUPMATE_LIST);
+                        VALID_DEADLINE_LIST, VALID_GROUPMATE_LIST, null);
         String expectedMessage = ProjectName.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, project::toModelType);
     }
@@ -60,7 +80,7 @@ public class JsonAdaptedProjectTest {
     @Test
     public void toModelType_nullDescription_throwsIllegalValueException() {
         JsonAdaptedProject project = new JsonAdaptedProject(null, VALID_EVENT_LIST, VALID_TODO_LIST,
-                VALID_DEADLINE_LIST, VALID_GROUPMATE_LIST);
+                VALID_DEADLINE_LIST, VALID_GROUPMATE_LIST, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, ProjectName.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, project::toModelType);
     }
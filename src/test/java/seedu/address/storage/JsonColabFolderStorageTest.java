@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalColabFolder.getTypicalColabFolder;
 import static seedu.address.testutil.TypicalContacts.ALICE;
@@ -10,6 +11,7 @@ import static seedu.address.testutil.TypicalContacts.IDA;
 import static seedu.address.testutil.TypicalProjects.getCS2103TProject;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -105,6 +107,69 @@ public class JsonColabFolderStorageTest {
 
     }
 
+    @Test
+    public void saveColabFolder_savedTwice_versionIncreased() throws Exception {
+        Path filePath = testFolder.resolve("TempColabFolder.json");
+        JsonColabFolderStorage jsonColabFolderStorage = new JsonColabFolderStorage(filePath);
+
+        assertEquals(0, JsonColabFolderStorage.readVersion(filePath));
+        jsonColabFolderStorage.saveColabFolder(getTypicalColabFolder());
+        assertEquals(1, JsonColabFolderStorage.readVersion(filePath));
+        jsonColabFolderStorage.saveColabFolder(new ColabFolder());
+        assertEquals(2, JsonColabFolderStorage.readVersion(filePath));
+        assertTrue(Files.exists(testFolder.resolve("TempColabFolder.json" + JsonColabFolderStorage.LOCK_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void readVersion_fileWithoutVersion_zero() throws Exception {
+        assertEquals(0, JsonColabFolderStorage.readVersion(addToTestDataPathIfNotNull(
+                "invalidContactColabFolder.json")));
+        assertEquals(0, JsonColabFolderStorage.readVersion(addToTestDataPathIfNotNull(
+                "notJsonFormatColabFolder.json")));
+    }
+
+    @Test
+    public void saveColabFolder_fileSavedByOtherWriter_changesMerged() throws Exception {
+        Path filePath = testFolder.resolve("SharedColabFolder.json");
+        new JsonColabFolderStorage(filePath).saveColabFolder(getTypicalColabFolder());
+        JsonColabFolderStorage firstWriter = new JsonColabFolderStorage(filePath);
+        JsonColabFolderStorage secondWriter = new JsonColabFolderStorage(filePath);
+        ColabFolder firstFolder = new ColabFolder(firstWriter.readColabFolder().get());
+        ColabFolder secondFolder = new ColabFolder(secondWriter.readColabFolder().get());
+
+        firstFolder.addContact(HOON);
+        firstWriter.saveColabFolder(firstFolder);
+        secondFolder.removeContact(ALICE);
+        secondWriter.saveColabFolder(secondFolder);
+
+        ColabFolder expected = getTypicalColabFolder();
+        expected.removeContact(ALICE);
+        expected.addContact(HOON);
+        assertEquals(expected, new ColabFolder(new JsonColabFolderStorage(filePath).readColabFolder().get()));
+
+        // the second writer has not read the first writer's change, which is still kept on its next save
+        secondFolder.addContact(IDA);
+        secondWriter.saveColabFolder(secondFolder);
+        expected.addContact(IDA);
+        assertEquals(expected, new ColabFolder(new JsonColabFolderStorage(filePath).readColabFolder().get()));
+        assertEquals(4, JsonColabFolderStorage.readVersion(filePath));
+    }
+
+    @Test
+    public void closeColabFolder_fileSavedByOtherWriter_fileReplacedOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("SharedColabFolder.json");
+        new JsonColabFolderStorage(filePath).saveColabFolder(getTypicalColabFolder());
+        JsonColabFolderStorage firstWriter = new JsonColabFolderStorage(filePath);
+        ColabFolder firstFolder = new ColabFolder(firstWriter.readColabFolder().get());
+        new JsonColabFolderStorage(filePath).saveColabFolder(new ColabFolder());
+
+        // a closed file is treated as one that was never read, so there is nothing to merge from
+        firstWriter.closeColabFolder(filePath);
+        firstWriter.saveColabFolder(firstFolder);
+        assertEquals(getTypicalColabFolder(),
+                new ColabFolder(new JsonColabFolderStorage(filePath).readColabFolder().get()));
+    }
+
     @Test
     public void saveColabFolder_nullColabFolder_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveColabFolder(null, "SomeFile.json"));
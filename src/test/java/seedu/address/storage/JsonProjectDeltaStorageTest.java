@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProjects.getCS2103TProject;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.project.Project;
+import seedu.address.model.sync.ProjectDelta;
+
+public class JsonProjectDeltaStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final JsonProjectDeltaStorage storage = new JsonProjectDeltaStorage();
+
+    @Test
+    public void readProjectDelta_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.readProjectDelta(null));
+    }
+
+    @Test
+    public void readProjectDelta_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readProjectDelta(testFolder.resolve("NonExistentFile.json")).isPresent());
+    }
+
+    @Test
+    public void readProjectDelta_notJsonFormat_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("notJsonFormatDelta.json");
+        Files.writeString(filePath, "not json format!");
+        assertThrows(DataConversionException.class, () -> storage.readProjectDelta(filePath));
+    }
+
+    @Test
+    public void readProjectDelta_invalidKind_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("invalidKindDelta.json");
+        Files.writeString(filePath, "{ \"projectName\" : \"CS2103T\", \"replica\" : \"a\", \"upTo\" : 1, "
+                + "\"changes\" : [ { \"kind\" : \"NOTE\", \"identity\" : \"x\", \"version\" : { \"a\" : 1 }, "
+                + "\"writer\" : \"a\" } ] }");
+        assertThrows(DataConversionException.class, () -> storage.readProjectDelta(filePath));
+    }
+
+    @Test
+    public void readAndSaveProjectDelta_allInOrder_success() throws Exception {
+        Project project = getCS2103TProject();
+        ProjectDelta original = project.getSyncLog().exportDelta(project.getProjectName());
+        Path filePath = testFolder.resolve("delta.json");
+
+        storage.saveProjectDelta(original, filePath);
+        assertEquals(original, storage.readProjectDelta(filePath).get());
+
+        // a delta with no changes
+        Project emptyProject = new Project(project.getProjectName());
+        ProjectDelta emptyDelta = emptyProject.getSyncLog().exportDelta(project.getProjectName());
+        storage.saveProjectDelta(emptyDelta, filePath);
+        assertEquals(emptyDelta, storage.readProjectDelta(filePath).get());
+    }
+
+    @Test
+    public void saveProjectDelta_nullDelta_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                storage.saveProjectDelta(null, testFolder.resolve("delta.json")));
+    }
+}
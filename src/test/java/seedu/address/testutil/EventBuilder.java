@@ -3,6 +3,7 @@ package seedu.address.testutil;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
+import seedu.address.model.task.Recurrence;
 import seedu.address.model.task.repeatable.Event;
 
 /**
@@ -18,7 +19,8 @@ public class EventBuilder {
     private String description;
     private LocalDate date;
     private LocalTime time;
-    private Boolean isWeekly;
+    private Recurrence recurrence;
+    private LocalTime endTime;
 
     /**
      * Creates a {@code EventBuilder} with the default details.
@@ -27,7 +29,7 @@ public class EventBuilder {
         description = DEFAULT_DESCRIPTION;
         date = DEFAULT_DATE;
         time = DEFAULT_TIME;
-        isWeekly = DEFAULT_IS_WEEKLY;
+        recurrence = DEFAULT_IS_WEEKLY ? Recurrence.WEEKLY : Recurrence.ONCE;
     }
 
     /**
@@ -37,7 +39,8 @@ public class EventBuilder {
         description = eventToCopy.getDescription();
         date = eventToCopy.getDate();
         time = eventToCopy.getTime();
-        isWeekly = eventToCopy.getIsWeekly();
+        recurrence = eventToCopy.getRecurrence();
+        endTime = eventToCopy.getEndTime().orElse(null);
     }
 
     /**
@@ -68,7 +71,23 @@ public class EventBuilder {
      * Sets the {@code isWeekly} status of the {@code Event} that we are building.
      */
     public EventBuilder withIsWeekly(Boolean isWeekly) {
-        this.isWeekly = isWeekly;
+        this.recurrence = isWeekly ? Recurrence.WEEKLY : Recurrence.ONCE;
+        return this;
+    }
+
+    /**
+     * Sets the {@code recurrence} of the {@code Event} that we are building.
+     */
+    public EventBuilder withRecurrence(Recurrence recurrence) {
+        this.recurrence = recurrence;
+        return this;
+    }
+
+    /**
+     * Sets the {@code endTime} of the {@code Event} that we are building.
+     */
+    public EventBuilder withEndTime(LocalTime endTime) {
+        this.endTime = endTime;
         return this;
     }
 
@@ -78,7 +97,7 @@ public class EventBuilder {
      * @return {@code Event}.
      */
     public Event build() {
-        return new Event(description, date, time, isWeekly);
+        return new Event(description, date, time, recurrence, endTime);
     }
 
 }
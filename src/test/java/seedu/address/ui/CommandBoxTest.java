@@ -3,6 +3,7 @@ package seedu.address.ui;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,9 +34,9 @@ public class CommandBoxTest extends GuiUnitTest {
     public void setUp() {
         CommandBox commandBox = new CommandBox(commandText -> {
             if (commandText.equals(COMMAND_THAT_SUCCEEDS)) {
-                return new CommandResult("Command successful");
+                return CompletableFuture.completedFuture(new CommandResult("Command successful"));
             }
-            throw new CommandException("Command failed");
+            return CompletableFuture.failedFuture(new CommandException("Command failed"));
         });
         commandBoxHandle = new CommandBoxHandle(getChildNode(commandBox.getRoot(),
                 CommandBoxHandle.COMMAND_INPUT_FIELD_ID));
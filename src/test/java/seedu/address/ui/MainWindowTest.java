@@ -357,6 +357,9 @@ public class MainWindowTest extends GuiUnitTest {
         textInputControl.setText(command);
         guiRobot.pauseForHuman();
         guiRobot.interact(() -> guiRobot.push(KeyCode.ENTER));
+        // the UI is updated once the data is saved, which clears the command box or marks it as failed
+        guiRobot.waitForEvent(() -> textInputControl.getText().isEmpty()
+                || textInputControl.getStyleClass().contains(CommandBox.ERROR_STYLE_CLASS));
         guiRobot.pauseForHuman();
     }
 }
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import guitests.guihandles.TodayPanelHandle;
 import seedu.address.commons.exceptions.DateConversionException;
 import seedu.address.model.ReadOnlyColabFolder;
+import seedu.address.model.agenda.AgendaIndex;
 
 /**
  * Contains tests for the {@code TodayPanel}.
@@ -35,7 +36,7 @@ public class TodayPanelTest extends GuiUnitTest {
      */
     private void initUi(ReadOnlyColabFolder colabFolder, LocalDate date) {
         TodayPanel todayPanel =
-                new TodayPanel(colabFolder, date);
+                new TodayPanel(new AgendaIndex(colabFolder.getProjectsList(), date));
         uiPartExtension.setUiPart(todayPanel);
 
         todayPanelHandle = new TodayPanelHandle(todayPanel.getRoot());